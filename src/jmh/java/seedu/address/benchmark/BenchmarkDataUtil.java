@@ -0,0 +1,73 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates synthetic MakerManager data of a given size for the benchmarks.
+ */
+public class BenchmarkDataUtil {
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    /**
+     * Returns {@code count} enabled machines without any jobs.
+     */
+    public static List<Machine> getMachines(int count) {
+        List<Machine> machines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            machines.add(new Machine(new MachineName("Printer" + i), Collections.emptyList(),
+                    SampleDataUtil.getTagSet("lab"), MachineStatus.ENABLED));
+        }
+        return machines;
+    }
+
+    /**
+     * Returns {@code count} distinct owners.
+     */
+    public static List<Person> getOwners(int count) {
+        List<Person> owners = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            owners.add(new Person(new Name("Owner " + i), new Phone(String.format("9%07d", i)),
+                    new Email("owner" + i + "@example.com"), new Address("Blk " + i + " Maker Street"),
+                    SampleDataUtil.getTagSet("student")));
+        }
+        return owners;
+    }
+
+    /**
+     * Returns {@code count} uniquely named queued jobs spread round robin over {@code machines} and
+     * {@code owners}.
+     */
+    public static List<Job> getJobs(int count, List<Machine> machines, List<Person> owners) {
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            jobs.add(new Job(new JobName("Job" + i), machines.get(i % machines.size()),
+                    owners.get(i % owners.size()), PRIORITIES[i % PRIORITIES.length], 1 + (i % 8),
+                    new JobNote("Benchmark job " + i), SampleDataUtil.getTagSet("benchmark")));
+        }
+        return jobs;
+    }
+
+    /**
+     * Returns {@code count} uniquely named queued jobs spread over 10 machines and 100 owners.
+     */
+    public static List<Job> getJobs(int count) {
+        return getJobs(count, getMachines(10), getOwners(100));
+    }
+}
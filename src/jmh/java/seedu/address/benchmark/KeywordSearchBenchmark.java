@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.util.KeywordIndex;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+
+/**
+ * Compares filtering the job list by testing the text of every job against the keywords of {@code findJob}
+ * with filtering it by looking the keywords up in a {@code KeywordIndex}, and measures the index lookup alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int jobCount;
+
+    private final List<String> keywords = Arrays.asList("job4242", "missing");
+    private FilteredList<Job> filteredJobs;
+    private KeywordIndex<Job> index;
+
+    @Setup
+    public void setUp() {
+        ObservableList<Job> jobs = FXCollections.observableArrayList(BenchmarkDataUtil.getJobs(jobCount));
+        filteredJobs = new FilteredList<>(jobs);
+        index = new KeywordIndex<>(JobNameContainsKeywordsPredicate::getSearchedText);
+        index.track(jobs);
+    }
+
+    /**
+     * Filters the jobs by splitting the searched text of every job into words, as the find commands used to.
+     */
+    @Benchmark
+    public int filterByScanning() {
+        filteredJobs.setPredicate(new JobNameContainsKeywordsPredicate(keywords));
+        return filteredJobs.size();
+    }
+
+    /**
+     * Filters the jobs with a predicate that looks each job up in the posting sets of the keywords.
+     */
+    @Benchmark
+    public int filterFromIndex() {
+        filteredJobs.setPredicate(index.matchingAny(keywords));
+        return filteredJobs.size();
+    }
+
+    @Benchmark
+    public int findFromIndex() {
+        return index.findAny(keywords).size();
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.Priority;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Compares finding the most free machine by summing the jobs of every machine against reading it from the
+ * load index, and measures putting a job on the most free machine and taking it off again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MachinePlacementBenchmark {
+
+    private static final int JOBS_PER_MACHINE = 20;
+
+    @Param({"10", "100", "500"})
+    private int machineCount;
+
+    private AddressBook addressBook;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        List<Machine> machines = BenchmarkDataUtil.getMachines(machineCount);
+        addressBook = new AddressBook();
+        addressBook.setJobs(FXCollections.observableArrayList(BenchmarkDataUtil.getJobs(
+                machineCount * JOBS_PER_MACHINE, machines, BenchmarkDataUtil.getOwners(100))));
+        machines.forEach(addressBook::addMachine);
+        job = new Job(new JobName("PlacedJob"), new Machine(Machine.AUTO_ASSIGN_NAME),
+                BenchmarkDataUtil.getOwners(1).get(0), Priority.NORMAL, 2, new JobNote("Placed job"),
+                SampleDataUtil.getTagSet("benchmark"));
+    }
+
+    /**
+     * Finds the most free machine by scanning every machine, as {@code getMostFreeMachine} used to.
+     */
+    @Benchmark
+    public Machine mostFreeByScanning() {
+        float minimumTime = Float.MAX_VALUE;
+        Machine mostFreeMachine = null;
+        for (Machine machine : addressBook.getMachineList()) {
+            if (machine.getTotalDuration() < minimumTime) {
+                minimumTime = machine.getTotalDuration();
+                mostFreeMachine = machine;
+            }
+        }
+        return mostFreeMachine;
+    }
+
+    @Benchmark
+    public Machine mostFreeFromIndex() {
+        return addressBook.getMostFreeMachine();
+    }
+
+    /**
+     * Places a job on the most free machine and takes it off again, updating the index both times.
+     */
+    @Benchmark
+    public Machine placeAndRemoveJob() {
+        Machine mostFree = addressBook.getMostFreeMachine();
+        job.setMachine(new Machine(mostFree.getName().fullName));
+        addressBook.addJob(job);
+        addressBook.removeJob(job.getJobName());
+        return mostFree;
+    }
+}
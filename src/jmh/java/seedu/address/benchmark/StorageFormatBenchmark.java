@@ -0,0 +1,171 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.storage.XmlAdaptedPerson;
+import seedu.address.storage.XmlAdaptedTag;
+import seedu.address.storage.XmlIdentityMap;
+import seedu.address.storage.job.XmlAdaptedJob;
+import seedu.address.storage.job.XmlAdaptedTimeStamp;
+import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+import seedu.address.storage.machine.XmlAdaptedMachine;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+
+/**
+ * Compares loading the jobs and machines files in the format that embeds every job's machine and owner,
+ * and every machine's jobs, against the format that refers to them by name and id.
+ * The sizes of both pairs of files are printed when each trial is set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageFormatBenchmark {
+
+    private static final int MACHINE_COUNT = 10;
+
+    @Param({"1000", "10000"})
+    private int jobCount;
+
+    private Path legacyJobsFile;
+    private Path legacyMachinesFile;
+    private Path jobsFile;
+    private Path machinesFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Machine> placeholders = BenchmarkDataUtil.getMachines(MACHINE_COUNT);
+        List<Job> jobs = BenchmarkDataUtil.getJobs(jobCount, placeholders, BenchmarkDataUtil.getOwners(100));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobs(FXCollections.observableArrayList(jobs));
+        for (int i = 0; i < MACHINE_COUNT; i++) {
+            Machine placeholder = placeholders.get(i);
+            List<Job> machineJobs = jobs.stream().filter(job -> job.getMachine() == placeholder)
+                    .collect(Collectors.toList());
+            addressBook.addMachine(new Machine(placeholder.getName(), machineJobs, new HashSet<>(),
+                    placeholder.getStatus()));
+        }
+
+        legacyJobsFile = Files.createTempFile("legacyMakerManagerJobs", ".xml");
+        legacyMachinesFile = Files.createTempFile("legacyMakerManagerMachines", ".xml");
+        jobsFile = Files.createTempFile("makerManagerJobs", ".xml");
+        machinesFile = Files.createTempFile("makerManagerMachines", ".xml");
+        XmlUtil.saveDataToFile(legacyJobsFile, new LegacyJobs(addressBook));
+        XmlUtil.saveDataToFile(legacyMachinesFile, new LegacyMachines(addressBook));
+        XmlUtil.saveDataToFile(jobsFile, new XmlSerializableMakerManagerJobs(addressBook));
+        XmlUtil.saveDataToFile(machinesFile, new XmlSerializableMakerManagerMachines(addressBook));
+
+        System.out.println(String.format("%d jobs: embedded format %d + %d bytes, referencing format %d + %d bytes",
+                jobCount, Files.size(legacyJobsFile), Files.size(legacyMachinesFile), Files.size(jobsFile),
+                Files.size(machinesFile)));
+    }
+
+    /**
+     * Deletes both pairs of files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(legacyJobsFile);
+        Files.deleteIfExists(legacyMachinesFile);
+        Files.deleteIfExists(jobsFile);
+        Files.deleteIfExists(machinesFile);
+    }
+
+    @Benchmark
+    public AddressBook loadEmbedded() throws Exception {
+        return load(legacyJobsFile, legacyMachinesFile);
+    }
+
+    @Benchmark
+    public AddressBook loadReferencing() throws Exception {
+        return load(jobsFile, machinesFile);
+    }
+
+    /**
+     * Loads the jobs and then the machines the way {@code XmlAddressBookStorage} does.
+     */
+    private static AddressBook load(Path jobs, Path machines) throws Exception {
+        XmlIdentityMap identityMap = new XmlIdentityMap();
+        AddressBook addressBook = XmlUtil.getDataFromFile(jobs, XmlSerializableMakerManagerJobs.class)
+                .toModelType(identityMap);
+        addressBook.setMachines(XmlUtil.getDataFromFile(machines, XmlSerializableMakerManagerMachines.class)
+                .toModelType(identityMap).getMachineList());
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code job} adapted the way jobs were written before they referred to their machine and owner.
+     */
+    private static XmlAdaptedJob toEmbeddedJob(Job job) {
+        Machine machine = job.getMachine();
+        XmlAdaptedMachine adaptedMachine = new XmlAdaptedMachine(machine.getName().fullName, machine.getStatus(),
+                new ArrayList<>(), new HashSet<>());
+        return new XmlAdaptedJob(job.getJobName().fullName, adaptedMachine, new XmlAdaptedPerson(job.getOwner()),
+                new XmlAdaptedTimeStamp(job.getAddedTime()), new XmlAdaptedTimeStamp(job.getStartTime()),
+                job.getPriority(), job.getDuration(), job.getStatus(),
+                job.getTags().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()),
+                job.getJobNote().toString());
+    }
+
+    /**
+     * A jobs file in which every job embeds its machine and owner.
+     */
+    @XmlRootElement(name = "MakerManagerJobs")
+    public static class LegacyJobs {
+
+        @XmlElement
+        private List<XmlAdaptedJob> jobs = new ArrayList<>();
+
+        public LegacyJobs() {}
+
+        LegacyJobs(AddressBook addressBook) {
+            jobs = addressBook.getJobList().stream().map(StorageFormatBenchmark::toEmbeddedJob)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A machines file in which every machine embeds its jobs.
+     */
+    @XmlRootElement(name = "MakerManagerMachines")
+    public static class LegacyMachines {
+
+        @XmlElement
+        private List<XmlAdaptedMachine> machines = new ArrayList<>();
+
+        public LegacyMachines() {}
+
+        LegacyMachines(AddressBook addressBook) {
+            machines = addressBook.getMachineList().stream()
+                    .map(machine -> new XmlAdaptedMachine(machine.getName().fullName, machine.getStatus(),
+                            machine.getJobs().stream().map(StorageFormatBenchmark::toEmbeddedJob)
+                                    .collect(Collectors.toList()),
+                            new HashSet<>()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
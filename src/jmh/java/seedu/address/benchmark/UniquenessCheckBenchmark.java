@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.UniqueJobList;
+
+/**
+ * Compares the pairwise uniqueness check that {@code UniqueJobList#setJobs} used to run
+ * with the hash-based check it runs now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniquenessCheckBenchmark {
+
+    @Param({"1000", "5000", "20000"})
+    private int jobCount;
+
+    private List<Job> jobs;
+    private UniqueJobList uniqueJobList;
+
+    @Setup
+    public void setUp() {
+        jobs = BenchmarkDataUtil.getJobs(jobCount);
+        uniqueJobList = new UniqueJobList();
+    }
+
+    /**
+     * The nested loop that {@code UniqueJobList#jobsAreUnique} used before it was keyed on {@code JobName}.
+     */
+    @Benchmark
+    public boolean pairwise() {
+        for (int i = 0; i < jobs.size() - 1; i++) {
+            for (int j = i + 1; j < jobs.size(); j++) {
+                if (jobs.get(i).isSameJob(jobs.get(j))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean hashed() {
+        return uniqueJobList.jobsAreUnique(jobs);
+    }
+
+    @Benchmark
+    public UniqueJobList setJobs() {
+        uniqueJobList.setJobs(jobs);
+        return uniqueJobList;
+    }
+}
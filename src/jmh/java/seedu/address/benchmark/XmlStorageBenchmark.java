@@ -0,0 +1,89 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+
+/**
+ * Compares saving and loading the jobs file with a fresh {@code JAXBContext} for every call, as {@code XmlUtil}
+ * used to do, against the cached context and pooled marshallers it uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XmlStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int jobCount;
+
+    private XmlSerializableMakerManagerJobs jobs;
+    private Path file;
+
+    @Setup
+    public void setUp() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobs(FXCollections.observableArrayList(BenchmarkDataUtil.getJobs(jobCount)));
+        jobs = new XmlSerializableMakerManagerJobs(addressBook);
+        file = Files.createTempFile("makerManagerJobs", ".xml");
+        XmlUtil.saveDataToFile(file, jobs);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Saves the way {@code XmlUtil#saveDataToFile} did before its context cache.
+     */
+    @Benchmark
+    public Path coldSave() throws JAXBException {
+        Marshaller m = JAXBContext.newInstance(XmlSerializableMakerManagerJobs.class).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        m.marshal(jobs, file.toFile());
+        return file;
+    }
+
+    /**
+     * Saves through {@code XmlUtil}, reusing its cached context and a pooled marshaller.
+     */
+    @Benchmark
+    public Path warmSave() throws Exception {
+        XmlUtil.saveDataToFile(file, jobs);
+        return file;
+    }
+
+    /**
+     * Loads the way {@code XmlUtil#getDataFromFile} did before its context cache.
+     */
+    @Benchmark
+    public Object coldLoad() throws JAXBException {
+        return JAXBContext.newInstance(XmlSerializableMakerManagerJobs.class).createUnmarshaller()
+                .unmarshal(file.toFile());
+    }
+
+    @Benchmark
+    public XmlSerializableMakerManagerJobs warmLoad() throws Exception {
+        return XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerJobs.class);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -20,6 +21,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ModelThread;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -48,6 +50,7 @@ public class MainApp extends Application {
     protected Logic logic;
     protected Storage storage;
     protected Model model;
+    protected ModelThread modelThread;
     protected Config config;
     protected UserPrefs userPrefs;
 
@@ -64,8 +67,13 @@ public class MainApp extends Application {
         AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
         initLogging(config);
-        model = initModelManager(storage, userPrefs);
-        logic = new LogicManager(model);
+        if (config.isModelThreadEnabled()) {
+            modelThread = new ModelThread();
+            model = initModelManager(storage, userPrefs, modelThread);
+        } else {
+            model = initModelManager(storage, userPrefs, Platform::runLater);
+        }
+        logic = new LogicManager(model, modelThread);
         ui = new UiManager(logic, config, userPrefs);
         initEventsCenter();
     }
@@ -75,7 +83,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, Executor modelExecutor) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -92,7 +100,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, modelExecutor);
     }
 
     private void initLogging(Config config) {
@@ -179,19 +187,26 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        model.shutdown();
+        if (modelThread != null) {
+            modelThread.shutdown();
+        }
+        storage.shutdown();
+        EventsCenter.getInstance().shutdown();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.shutdown();
         Platform.exit();
         System.exit(0);
     }
 
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        ModelThread.runOnFxThread(this::stop);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,77 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * The clock the app reads the current time from, such as when jobs are added, started and finished, and when
+ * the status bar shows the last update.
+ *
+ * Tests can replace it with a fixed or offset clock to control the time the app sees.
+ * It is a static variable because manual dependency injection would require passing the clock all the way
+ * down from MainApp to every place a time stamp is made.
+ */
+public class AppClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static final Clock CURRENT = new CurrentClock();
+
+    private AppClock() {}
+
+    /**
+     * Sets the clock used to determine the current time.
+     */
+    public static void set(Clock clock) {
+        requireNonNull(clock);
+        AppClock.clock = clock;
+    }
+
+    /**
+     * Returns the clock currently in use.
+     */
+    public static Clock get() {
+        return clock;
+    }
+
+    /**
+     * Returns a clock that always reads the clock in use, even after it is replaced.
+     */
+    public static Clock current() {
+        return CURRENT;
+    }
+
+    /**
+     * Returns the current time in milliseconds since the epoch.
+     */
+    public static long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * A clock that reads whichever clock is in use at the time it is read.
+     */
+    private static class CurrentClock extends Clock {
+        @Override
+        public ZoneId getZone() {
+            return clock.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return clock.withZone(zone);
+        }
+
+        @Override
+        public long millis() {
+            return clock.millis();
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.instant();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log {@code Handler} that hands records to other handlers, such as a file and the console, on a background thread,
+ * so that logging does not hold up the calling thread on disk or console I/O.
+ *
+ * Records wait in a bounded ring buffer. When it is full, a record below {@code WARNING} is dropped under the
+ * {@code DROP} policy, and the number dropped is logged once there is room again; under the {@code BLOCK} policy, and
+ * for warnings and errors under either policy, the caller waits for room. Records are formatted on the background
+ * thread, but the class and method that logged each record are found on the calling thread, where they are known.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    public static final String THREAD_NAME = "log-writer";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private final List<Handler> targets;
+    private final OverflowPolicy policy;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    /** The number of records taken from the buffer that have been handed to every target */
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong acceptedCount = new AtomicLong();
+    /** Held while waiting for {@code written}, which the writer signals when a flush is waiting on it */
+    private final Lock flushLock = new ReentrantLock();
+    private final Condition written = flushLock.newCondition();
+    private final AtomicInteger waitingFlushCount = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records for {@code targets}, and starts its thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy policy, Handler... targets) {
+        requireNonNull(policy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The log buffer must hold at least one record");
+        }
+        this.targets = new ArrayList<>(Arrays.asList(targets));
+        this.policy = policy;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.writer = new Thread(this::writeRecords, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || isClosed || !isLoggable(record)) {
+            return;
+        }
+        // finds the caller now, as it cannot be found from the stack of the writer thread
+        record.getSourceClassName();
+
+        if (policy == OverflowPolicy.DROP && record.getLevel().intValue() < Level.WARNING.intValue()) {
+            if (buffer.offer(record)) {
+                acceptedCount.incrementAndGet();
+            } else {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+
+        try {
+            buffer.put(record);
+            acceptedCount.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands the buffered records to the targets until the handler is closed and the buffer is empty.
+     */
+    private void writeRecords() {
+        while (!isClosed || !buffer.isEmpty()) {
+            try {
+                LogRecord record = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    continue;
+                }
+                reportDropped();
+                write(record);
+                writtenCount.incrementAndGet();
+                signalWritten();
+            } catch (InterruptedException e) {
+                // woken up by close, so check whether the buffer is empty
+            }
+        }
+        reportDropped();
+        signalWritten();
+    }
+
+    /**
+     * Wakes up the flushes waiting for records to be written, if there are any.
+     */
+    private void signalWritten() {
+        if (waitingFlushCount.get() == 0) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            written.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Logs how many records were dropped since the last report, if any.
+     */
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord report = new LogRecord(Level.WARNING,
+                    dropped + " log records were dropped as the log buffer was full");
+            report.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            write(report);
+        }
+    }
+
+    /**
+     * Hands {@code record} to every target, reporting a target that fails to the error manager.
+     */
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Waits until the records published before this call have been handed to the targets, for at most
+     * {@code FLUSH_TIMEOUT_MILLIS}, then flushes them.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() != writer) {
+            awaitWritten(acceptedCount.get());
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Waits until {@code count} records have been written, the writer has stopped or the flush timeout has passed.
+     */
+    private void awaitWritten(long count) {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        flushLock.lock();
+        // counted before the written count is read, so that the writer signals every record from here on
+        waitingFlushCount.incrementAndGet();
+        try {
+            while (writer.isAlive() && writtenCount.get() < count && remainingNanos > 0) {
+                remainingNanos = written.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitingFlushCount.decrementAndGet();
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records, stops the thread and closes the targets.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records waiting to be written.
+     */
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Returns the number of records dropped that have not been reported in the log yet.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -18,6 +18,7 @@ public class Config {
     private String appTitle = "MakerManager";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean modelThreadEnabled = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -43,6 +44,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isModelThreadEnabled() {
+        return modelThreadEnabled;
+    }
+
+    public void setModelThreadEnabled(boolean modelThreadEnabled) {
+        this.modelThreadEnabled = modelThreadEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,12 +65,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && modelThreadEnabled == o.modelThreadEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, modelThreadEnabled);
     }
 
     @Override
@@ -70,6 +80,7 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nModel thread enabled : " + modelThreadEnabled);
         return sb.toString();
     }
 
@@ -1,21 +1,78 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import com.google.common.reflect.TypeToken;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Each handler is registered with a dispatch mode. Handlers on the {@code POSTING_THREAD} are called before
+ * {@link #post} returns, on the thread that posted the event. Handlers on the {@code FX_THREAD}, such as UI parts,
+ * are called on the FX thread: at once if the event was posted there, or later otherwise. Handlers on the
+ * {@code BACKGROUND} thread, meant for slow work such as I/O, are called one at a time, in the order their events
+ * were posted, so they do not hold up the posting thread. They must not read state that the posting thread may be
+ * changing. The handlers of each event type are looked up once and kept until a handler is registered or
+ * unregistered, so an event only reaches the handlers that subscribe to it.
+ *
+ * As with a single Guava {@code EventBus}, an event posted by a handler is only dispatched once the event being
+ * handled has reached every handler. The time each event type holds up the posting thread, the time each handler
+ * takes, and the number of events waiting for the background thread are recorded, and logged on {@link #shutdown}.
  */
 public class EventsCenter {
+
+    /**
+     * The thread a handler is called on.
+     */
+    public enum Dispatch {
+        POSTING_THREAD,
+        FX_THREAD,
+        BACKGROUND
+    }
+
+    public static final String BACKGROUND_THREAD_NAME = "event-dispatcher";
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    /** The registered handlers, in the order they were registered */
+    private final List<Registration> registrations = new ArrayList<>();
+    /** The handlers of each event type posted since a handler was last registered or unregistered */
+    private volatile Map<Class<?>, List<Registration>> registrationsByType = new ConcurrentHashMap<>();
+    /** The events posted on each thread that are waiting for the event being dispatched on it to reach every handler */
+    private final ThreadLocal<Queue<BaseEvent>> queuedEvents = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Boolean> isDispatching = ThreadLocal.withInitial(() -> false);
+
+    private final Map<Class<?>, LatencyHistogram> eventLatencies = new ConcurrentHashMap<>();
+    private final LatencyHistogram backgroundQueueWait = new LatencyHistogram("event queue wait");
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private ThreadPoolExecutor backgroundExecutor;
 
     private EventsCenter() {
-        eventBus = new EventBus();
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +82,279 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Drops every handler. Events already handed to the background thread are still delivered.
+     */
     public static void clearSubscribers() {
+        if (instance != null && instance.backgroundExecutor != null) {
+            instance.backgroundExecutor.shutdown();
+        }
         instance = null;
     }
 
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, Dispatch.POSTING_THREAD);
+    }
+
+    /**
+     * Registers the methods of {@code handler} annotated with {@code @Subscribe}, to be called on the thread
+     * given by {@code dispatch}.
+     */
+    public synchronized void registerHandler(Object handler, Dispatch dispatch) {
+        requireNonNull(handler);
+        requireNonNull(dispatch);
+        if (dispatch == Dispatch.BACKGROUND && backgroundExecutor == null) {
+            backgroundExecutor = createBackgroundExecutor();
+        }
+        registrations.add(new Registration(handler, dispatch));
+        registrationsByType = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Stops calling {@code handler}. An event already being dispatched, or already handed to the FX or background
+     * thread, may still reach it.
+     */
+    public synchronized void unregisterHandler(Object handler) {
+        requireNonNull(handler);
+        if (registrations.removeIf(registration -> registration.handler == handler)) {
+            registrationsByType = new ConcurrentHashMap<>();
+        }
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        requireNonNull(event);
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        Queue<BaseEvent> queue = queuedEvents.get();
+        queue.add(event);
+        if (isDispatching.get()) {
+            return this;
+        }
+
+        isDispatching.set(true);
+        try {
+            BaseEvent next;
+            while ((next = queue.poll()) != null) {
+                dispatch(next);
+            }
+        } finally {
+            isDispatching.set(false);
+            queue.clear();
+        }
         return this;
     }
 
+    /**
+     * Hands {@code event} to every handler subscribed to it, and records how long the posting thread was held up.
+     */
+    private void dispatch(BaseEvent event) {
+        long startNanos = System.nanoTime();
+        for (Registration registration : getRegistrations(event.getClass())) {
+            if (registration.dispatch == Dispatch.BACKGROUND) {
+                deliverInBackground(registration, event);
+            } else if (registration.dispatch == Dispatch.FX_THREAD && !Platform.isFxApplicationThread()) {
+                Platform.runLater(() -> registration.deliver(event));
+            } else {
+                registration.deliver(event);
+            }
+        }
+        getEventLatency(event.getClass()).recordSince(startNanos);
+    }
+
+    /**
+     * Returns the handlers subscribed to events of {@code eventType}, in the order they were registered.
+     */
+    private List<Registration> getRegistrations(Class<?> eventType) {
+        List<Registration> found = registrationsByType.get(eventType);
+        if (found != null) {
+            return found;
+        }
+        synchronized (this) {
+            return registrationsByType.computeIfAbsent(eventType, type -> Collections.unmodifiableList(
+                    registrations.stream().filter(registration -> registration.accepts(type))
+                            .collect(Collectors.toList())));
+        }
+    }
+
+    /**
+     * Queues {@code event} for {@code registration} on the background thread.
+     */
+    private void deliverInBackground(Registration registration, BaseEvent event) {
+        long queuedNanos = System.nanoTime();
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+        try {
+            backgroundExecutor.execute(() -> {
+                queueDepth.decrementAndGet();
+                backgroundQueueWait.recordSince(queuedNanos);
+                registration.deliver(event);
+            });
+        } catch (RejectedExecutionException ree) {
+            queueDepth.decrementAndGet();
+            logger.warning("Dropped " + event.getClass().getSimpleName() + " for " + registration.name
+                    + " as the event dispatcher has stopped");
+        }
+    }
+
+    /**
+     * Waits until the background thread has handled every event queued before this call.
+     */
+    public void flush() {
+        ThreadPoolExecutor executor;
+        synchronized (this) {
+            executor = backgroundExecutor;
+        }
+        if (executor == null || Thread.currentThread().getName().equals(BACKGROUND_THREAD_NAME)) {
+            return;
+        }
+        try {
+            executor.submit(() -> { }).get();
+        } catch (RejectedExecutionException | ExecutionException e) {
+            // the executor has stopped, so there is nothing left to wait for
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lets the background thread handle the events queued for it, then stops it and logs the metrics.
+     */
+    public void shutdown() {
+        ThreadPoolExecutor executor;
+        synchronized (this) {
+            executor = backgroundExecutor;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warning("Event dispatcher did not handle its queued events in time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        getSummary().forEach(logger::info);
+    }
+
+    /**
+     * Returns the time each event of type {@code eventType} held up the thread that posted it.
+     */
+    public LatencyHistogram getEventLatency(Class<?> eventType) {
+        return eventLatencies.computeIfAbsent(eventType,
+            type -> new LatencyHistogram("posting " + type.getSimpleName()));
+    }
+
+    /**
+     * Returns the time {@code handler} took to handle each event, or null if it is not registered.
+     */
+    public synchronized LatencyHistogram getHandlerLatency(Object handler) {
+        for (Registration registration : registrations) {
+            if (registration.handler == handler) {
+                return registration.latency;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time events waited for the background thread.
+     */
+    public LatencyHistogram getBackgroundQueueWait() {
+        return backgroundQueueWait;
+    }
+
+    /**
+     * Returns the number of events waiting for the background thread.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the largest number of events that have waited for the background thread at once.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * Returns a line for each event type posted and each registered handler that handled an event, then one for
+     * the background queue.
+     */
+    public synchronized List<String> getSummary() {
+        List<String> lines = new ArrayList<>();
+        eventLatencies.values().forEach(latency -> lines.add(latency.getSummary()));
+        for (Registration registration : registrations) {
+            if (registration.latency.getCount() > 0) {
+                lines.add(registration.latency.getSummary());
+            }
+        }
+        lines.add(String.format("%s, depth=%d, max depth=%d", backgroundQueueWait.getSummary(), getQueueDepth(),
+                getMaxQueueDepth()));
+        return lines;
+    }
+
+    /**
+     * Creates the single daemon thread that calls the background handlers, so that their events stay in order.
+     */
+    private static ThreadPoolExecutor createBackgroundExecutor() {
+        return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, BACKGROUND_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A registered handler, with its own {@code EventBus} so that the time it takes can be measured.
+     */
+    private static class Registration {
+        private final Object handler;
+        private final Dispatch dispatch;
+        private final String name;
+        private final EventBus eventBus;
+        private final LatencyHistogram latency;
+        private final List<Class<?>> subscribedTypes = new ArrayList<>();
+
+        Registration(Object handler, Dispatch dispatch) {
+            this.handler = handler;
+            this.dispatch = dispatch;
+            this.name = handler.getClass().getName();
+            this.eventBus = new EventBus(name);
+            this.latency = new LatencyHistogram("handling by " + handler.getClass().getSimpleName());
+            eventBus.register(handler);
+            findSubscribedTypes();
+        }
+
+        /**
+         * Collects the event types of the {@code @Subscribe} methods of the handler, as Guava finds them.
+         */
+        private void findSubscribedTypes() {
+            for (Class<?> type : TypeToken.of(handler.getClass()).getTypes().rawTypes()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                        subscribedTypes.add(method.getParameterTypes()[0]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns true if the handler has a method for events of {@code eventType}.
+         */
+        boolean accepts(Class<?> eventType) {
+            return subscribedTypes.stream().anyMatch(subscribed -> subscribed.isAssignableFrom(eventType));
+        }
+
+        /**
+         * Calls the handler's methods for {@code event} on the current thread.
+         */
+        void deliver(BaseEvent event) {
+            long startNanos = System.nanoTime();
+            eventBus.post(event);
+            latency.recordSince(startNanos);
+        }
+    }
 }
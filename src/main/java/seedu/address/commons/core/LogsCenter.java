@@ -16,15 +16,20 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are written to the console and file by an {@link AsyncLogHandler} on a background thread, so logging does
+ *   not hold up the calling thread on I/O. Messages that are costly to build should be passed as a
+ *   {@code Supplier}, e.g. {@code logger.fine(() -> "..." + job)}, so that they are only built if they are logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 8192;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -45,8 +50,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -62,39 +66,53 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, writing to the {@code consoleHandler} and {@code fileHandler}, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
             consoleHandler = createConsoleHandler();
+            try {
+                fileHandler = createFileHandler();
+                asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP,
+                        consoleHandler, fileHandler);
+            } catch (IOException e) {
+                asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP,
+                        consoleHandler);
+                logger.warning("Error adding file handler for logger.");
+            }
+            asyncHandler.setLevel(currentLogLevel);
         }
-        logger.addHandler(consoleHandler);
+        logger.addHandler(asyncHandler);
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Waits until the records logged so far are written to the console and log file.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    public static synchronized void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
+        }
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Writes the records still waiting to be written, then closes the console and log file.
+     * Records logged afterwards are not written.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+    public static synchronized void shutdown() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
         }
     }
 
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
+    }
+
     /**
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
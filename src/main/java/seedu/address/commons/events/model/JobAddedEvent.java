@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+
+/**
+ * Indicates that a job has been added to the model.
+ */
+public class JobAddedEvent extends BaseEvent {
+
+    public final Job job;
+
+    public JobAddedEvent(Job job) {
+        this.job = job;
+    }
+
+    @Override
+    public String toString() {
+        return "job added: " + job.getJobName();
+    }
+}
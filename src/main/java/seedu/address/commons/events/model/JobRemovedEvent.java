@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+
+/**
+ * Indicates that a job has been removed from the model.
+ */
+public class JobRemovedEvent extends BaseEvent {
+
+    public final Job job;
+
+    public JobRemovedEvent(Job job) {
+        this.job = job;
+    }
+
+    @Override
+    public String toString() {
+        return "job removed: " + job.getJobName();
+    }
+}
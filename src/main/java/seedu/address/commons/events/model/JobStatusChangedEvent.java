@@ -0,0 +1,26 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+
+/**
+ * Indicates that the status of a job has changed. The job is changed in place, so it already has the new status.
+ */
+public class JobStatusChangedEvent extends BaseEvent {
+
+    public final Job job;
+    public final Status oldStatus;
+    public final Status newStatus;
+
+    public JobStatusChangedEvent(Job job, Status oldStatus, Status newStatus) {
+        this.job = job;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "job " + job.getJobName() + " changed from " + oldStatus + " to " + newStatus;
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+
+/**
+ * Indicates that a job has been replaced by an edited copy of it.
+ */
+public class JobUpdatedEvent extends BaseEvent {
+
+    public final Job oldJob;
+    public final Job newJob;
+
+    public JobUpdatedEvent(Job oldJob, Job newJob) {
+        this.oldJob = oldJob;
+        this.newJob = newJob;
+    }
+
+    @Override
+    public String toString() {
+        return "job updated: " + oldJob.getJobName() + " to " + newJob.getJobName();
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.machine.Machine;
+
+/**
+ * Indicates that a machine has been replaced by an edited copy of it.
+ */
+public class MachineUpdatedEvent extends BaseEvent {
+
+    public final Machine oldMachine;
+    public final Machine newMachine;
+
+    public MachineUpdatedEvent(Machine oldMachine, Machine newMachine) {
+        this.oldMachine = oldMachine;
+        this.newMachine = newMachine;
+    }
+
+    @Override
+    public String toString() {
+        return "machine updated: " + oldMachine.getName() + " to " + newMachine.getName();
+    }
+}
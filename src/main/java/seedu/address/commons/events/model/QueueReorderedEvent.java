@@ -0,0 +1,23 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.job.Job;
+
+/**
+ * Indicates that two jobs have swapped places in the job list, and in their queue if they share one.
+ */
+public class QueueReorderedEvent extends BaseEvent {
+
+    public final Job job1;
+    public final Job job2;
+
+    public QueueReorderedEvent(Job job1, Job job2) {
+        this.job1 = job1;
+        this.job2 = job2;
+    }
+
+    @Override
+    public String toString() {
+        return "jobs swapped: " + job1.getJobName() + " and " + job2.getJobName();
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.commons.events.storage;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.storage.WriteBehindSaver.PreparedSave;
+
+/**
+ * Indicates that data, already converted to the form it is stored in, is ready to be saved to a file
+ */
+public class SaveRequestedEvent extends BaseEvent {
+
+    public final PreparedSave save;
+    public final Path file;
+
+    public SaveRequestedEvent(PreparedSave save, Path file) {
+        this.save = save;
+        this.file = file;
+    }
+
+    @Override
+    public String toString() {
+        return "save to " + file;
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A secondary index from the value of one attribute of some items, such as the status of a job, to the items
+ * having that value.
+ *
+ * Each value has a set of the items having it, so the items with a value can be found or counted without
+ * scanning every item. Items are told apart by identity, and each item remembers the value it was indexed under,
+ * so an item whose attribute has changed in place can be moved with {@link #reindex}.
+ */
+public class AttributeIndex<K, T> {
+
+    private final Function<T, K> keyOf;
+    private final Map<K, Set<T>> postings;
+    private final Map<T, K> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index of the value returned by {@code keyOf} for each item.
+     */
+    public AttributeIndex(Function<T, K> keyOf) {
+        this(keyOf, new HashMap<>());
+    }
+
+    /**
+     * Creates an empty index of the value returned by {@code keyOf} for each item, keeping the items of each value
+     * in {@code postings}, which must be empty.
+     */
+    public AttributeIndex(Function<T, K> keyOf, Map<K, Set<T>> postings) {
+        requireNonNull(keyOf);
+        requireNonNull(postings);
+        this.keyOf = keyOf;
+        this.postings = postings;
+    }
+
+    /**
+     * Adds {@code item} to the set of items having its current value.
+     * Does nothing if the item is already in the index.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (keys.containsKey(item)) {
+            return;
+        }
+
+        K key = keyOf.apply(item);
+        keys.put(item, key);
+        postingOf(key).add(item);
+    }
+
+    /**
+     * Takes {@code item} out of the index, if it is there.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        if (!keys.containsKey(item)) {
+            return;
+        }
+
+        postingOf(keys.remove(item)).remove(item);
+    }
+
+    /**
+     * Moves {@code item} to the set of items having its current value, after its attribute has changed in place.
+     * Does nothing if the item is not in the index.
+     */
+    public void reindex(T item) {
+        requireNonNull(item);
+        if (!keys.containsKey(item)) {
+            return;
+        }
+
+        K oldKey = keys.get(item);
+        K newKey = keyOf.apply(item);
+        if (Objects.equals(oldKey, newKey)) {
+            return;
+        }
+        postingOf(oldKey).remove(item);
+        keys.put(item, newKey);
+        postingOf(newKey).add(item);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    public void setAll(Iterable<? extends T> items) {
+        requireNonNull(items);
+        keys.clear();
+        postings.values().forEach(Set::clear);
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the items having the value {@code key}, as an unmodifiable set that follows the index.
+     */
+    public Set<T> find(K key) {
+        return Collections.unmodifiableSet(postingOf(key));
+    }
+
+    /**
+     * Returns the number of items having the value {@code key}.
+     */
+    public int count(K key) {
+        Set<T> posting = postings.get(key);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns the number of items in the index.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Returns the set of items having the value {@code key}, creating an empty one if there is none yet.
+     * Sets are kept once made, even when they become empty, so that views returned by {@link #find} stay live.
+     */
+    private Set<T> postingOf(K key) {
+        return postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+}
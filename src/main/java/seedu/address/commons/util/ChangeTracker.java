@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * Collects the keys of the entries of a list that were added, changed or removed, and whether the remaining entries
+ * were moved around, until the changes are taken.
+ *
+ * Keys are kept in the order they were first marked, so entries added at the end of the list one after another
+ * are in list order. An entry put back at the end after being removed, or put anywhere but the end, counts as
+ * moving the entries around. Until the changes are first taken, every entry counts as changed.
+ */
+public class ChangeTracker<K> {
+
+    private Set<K> changedKeys = new LinkedHashSet<>();
+    private Set<K> removedKeys = new HashSet<>();
+    private boolean isReordered = false;
+    private boolean isAllChanged = true;
+
+    /**
+     * Marks the entry with key {@code key} as added, changed or removed.
+     */
+    public void markChanged(K key) {
+        requireNonNull(key);
+        if (!isAllChanged) {
+            changedKeys.add(key);
+        }
+    }
+
+    /**
+     * Marks the entries taken out of and put in the list by {@code change}, whose keys are given by {@code keyOf}.
+     */
+    public <T> void markChanged(ListChangeListener.Change<? extends T> change, Function<? super T, K> keyOf) {
+        requireNonNull(keyOf);
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    markChanged(keyOf.apply(change.getList().get(i)));
+                }
+                markReordered();
+                continue;
+            }
+
+            List<? extends T> removed = change.getRemoved();
+            List<? extends T> added = change.getAddedSubList();
+            for (T entry : removed) {
+                K key = keyOf.apply(entry);
+                markChanged(key);
+                if (!isAllChanged) {
+                    removedKeys.add(key);
+                }
+            }
+            for (int i = 0; i < added.size(); i++) {
+                K key = keyOf.apply(added.get(i));
+                boolean isReplacedInPlace = i < removed.size() && keyOf.apply(removed.get(i)).equals(key);
+                boolean isAtEnd = change.getTo() == change.getList().size();
+                if (!isReplacedInPlace && (!isAtEnd || removedKeys.contains(key))) {
+                    markReordered();
+                }
+                markChanged(key);
+            }
+        }
+    }
+
+    /**
+     * Marks the entries of the list as moved around.
+     */
+    public void markReordered() {
+        isReordered = true;
+    }
+
+    /**
+     * Returns the changes collected since they were last taken, and starts collecting anew.
+     */
+    public Changes<K> take() {
+        Changes<K> changes = new Changes<>(changedKeys, isReordered, isAllChanged);
+        changedKeys = new LinkedHashSet<>();
+        removedKeys = new HashSet<>();
+        isReordered = false;
+        isAllChanged = false;
+        return changes;
+    }
+
+    /**
+     * The changes to a list taken from a {@code ChangeTracker}.
+     */
+    public static class Changes<K> {
+        private final Set<K> changedKeys;
+        private final boolean isReordered;
+        private final boolean isAllChanged;
+
+        private Changes(Set<K> changedKeys, boolean isReordered, boolean isAllChanged) {
+            this.changedKeys = Collections.unmodifiableSet(changedKeys);
+            this.isReordered = isReordered;
+            this.isAllChanged = isAllChanged;
+        }
+
+        /**
+         * Returns the keys of the entries added, changed or removed, in the order they were first marked.
+         * Empty if every entry counts as changed.
+         */
+        public Set<K> getChangedKeys() {
+            return changedKeys;
+        }
+
+        public boolean isReordered() {
+            return isReordered;
+        }
+
+        /**
+         * Returns true if every entry of the list counts as changed.
+         */
+        public boolean isAllChanged() {
+            return isAllChanged;
+        }
+    }
+}
@@ -2,9 +2,15 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +38,26 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns true if no two elements of {@code items} are the same according to {@code isSame}.
+     * Elements are first grouped by {@code identityKey}, and {@code isSame} is only applied within a group,
+     * so the check takes linear time instead of comparing every pair of elements.
+     * {@code isSame} must never hold for two elements whose keys are not equal.
+     */
+    public static <T, K> boolean elementsAreUnique(Collection<T> items, Function<? super T, K> identityKey,
+                                                   BiPredicate<? super T, ? super T> isSame) {
+        requireAllNonNull(items, identityKey, isSame);
+        Map<K, List<T>> itemsByKey = new HashMap<>();
+        for (T item : items) {
+            List<T> sameKeyItems = itemsByKey.computeIfAbsent(identityKey.apply(item), unused -> new ArrayList<>(1));
+            for (T other : sameKeyItems) {
+                if (isSame.test(other, item)) {
+                    return false;
+                }
+            }
+            sameKeyItems.add(item);
+        }
+        return true;
+    }
 }
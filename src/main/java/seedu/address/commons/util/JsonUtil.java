@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -14,6 +15,7 @@ import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -91,6 +93,19 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads a file holding a JSON array into a list of {@code classOfElement}.
+     * The elements are converted one at a time as the file is read, rather than the whole file being read first.
+     * @throws IOException if the file cannot be read or is not an array of such elements
+     */
+    public static <T> List<T> readJsonArrayFile(Path filePath, Class<T> classOfElement) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(classOfElement);
+
+        try (MappingIterator<T> elements = objectMapper.readerFor(classOfElement).readValues(filePath.toFile())) {
+            return elements.readAll();
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
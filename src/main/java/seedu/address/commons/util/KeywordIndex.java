@@ -0,0 +1,249 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from the words in the text of some items to the items containing them.
+ *
+ * The text of an item is split into words at whitespace, and words are matched ignoring case, in the same way as
+ * {@link StringUtil#containsWordIgnoreCase}. Each word has a posting set of the items containing it, so finding
+ * the items with a word is a single hash lookup instead of a scan that splits the text of every item.
+ * Items are told apart by identity, and each item remembers the words it was indexed under, so it can be taken
+ * out again even if its text has changed since. A word only has a posting set while some item contains it, so
+ * searching for words no item contains leaves the index as it was.
+ *
+ * An index can {@link #track} an {@code ObservableList}, so that it is kept in step as items are added to and
+ * removed from the list. Listeners of a list are called in the order they were added, so an index must track a
+ * list before any view of the list that reads the index, such as a {@code FilteredList} with a predicate from
+ * {@link #matchingAny}, is made.
+ */
+public class KeywordIndex<T> {
+
+    private final Function<T, Collection<String>> textsOf;
+    private final Map<String, Set<T>> postings = new HashMap<>();
+    private final Map<T, Set<String>> wordsOf = new IdentityHashMap<>();
+    /** The lists tracked, held on to because unmodifiable views only hold their listeners weakly */
+    private final List<ObservableList<? extends T>> trackedLists = new ArrayList<>();
+
+    /**
+     * Creates an empty index of the text returned by {@code textsOf} for each item.
+     */
+    public KeywordIndex(Function<T, Collection<String>> textsOf) {
+        requireNonNull(textsOf);
+        this.textsOf = textsOf;
+    }
+
+    /**
+     * Indexes every item of {@code list}, and keeps the index in step with the list from now on.
+     */
+    public void track(ObservableList<? extends T> list) {
+        requireNonNull(list);
+        trackedLists.add(list);
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Adds {@code item} to the posting set of each word in its text.
+     * Does nothing if the item is already in the index.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (wordsOf.containsKey(item)) {
+            return;
+        }
+
+        Set<String> words = wordsIn(textsOf.apply(item));
+        wordsOf.put(item, words);
+        for (String word : words) {
+            postingOf(word).add(item);
+        }
+    }
+
+    /**
+     * Takes {@code item} out of the index, if it is there.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        Set<String> words = wordsOf.remove(item);
+        if (words == null) {
+            return;
+        }
+
+        for (String word : words) {
+            Set<T> posting = postings.get(word);
+            posting.remove(item);
+            if (posting.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in the index.
+     */
+    public int size() {
+        return wordsOf.size();
+    }
+
+    /**
+     * Returns the number of words some item in the index contains.
+     */
+    int wordCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the items whose text contains {@code keyword}, as an unmodifiable set that follows the index.
+     */
+    public Set<T> find(String keyword) {
+        requireNonNull(keyword);
+        return new PostingView(normalize(keyword));
+    }
+
+    /**
+     * Returns the items whose text contains any of {@code keywords}: the union of their posting sets.
+     */
+    public Set<T> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            found.addAll(find(keyword));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the items whose text contains all of {@code keywords}: the intersection of their posting sets,
+     * found by checking the items of the smallest set against the others.
+     */
+    public Set<T> findAll(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (keywords.isEmpty()) {
+            return found;
+        }
+
+        List<Set<T>> sets = new ArrayList<>();
+        for (String keyword : keywords) {
+            sets.add(find(keyword));
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        for (T item : sets.get(0)) {
+            if (sets.stream().allMatch(set -> set.contains(item))) {
+                found.add(item);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns a predicate that is true for the items in the index whose text contains any of {@code keywords}.
+     * The predicate reads the index when it is tested, so it also holds for items indexed after it was made.
+     */
+    public Predicate<T> matchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<Set<T>> sets = new ArrayList<>();
+        for (String keyword : keywords) {
+            sets.add(find(keyword));
+        }
+        return item -> {
+            for (Set<T> set : sets) {
+                if (set.contains(item)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the posting set of {@code word}, creating an empty one if there is none yet.
+     */
+    private Set<T> postingOf(String word) {
+        return postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Returns the distinct words, in lower case, of {@code texts}.
+     */
+    private static Set<String> wordsIn(Collection<String> texts) {
+        Set<String> words = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String word : text.split("\\s+")) {
+                if (!word.isEmpty()) {
+                    words.add(normalize(word));
+                }
+            }
+        }
+        return words;
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The items containing a word, read from the posting set of the word each time, so that the view follows the
+     * index without keeping an empty posting set for a word no item contains.
+     */
+    private class PostingView extends AbstractSet<T> {
+        private final String word;
+
+        PostingView(String word) {
+            this.word = word;
+        }
+
+        @Override
+        public boolean contains(Object item) {
+            return posting().contains(item);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableSet(posting()).iterator();
+        }
+
+        @Override
+        public int size() {
+            return posting().size();
+        }
+
+        /**
+         * Returns the posting set of the word, or an empty set if no item contains it.
+         */
+        private Set<T> posting() {
+            return postings.getOrDefault(word, Collections.emptySet());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.commons.util;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A predicate that is true for the items whose text contains any of its keywords.
+ * A model that keeps a {@code KeywordIndex} of the same text can answer it from the index instead of testing
+ * every item.
+ */
+public interface KeywordsPredicate<T> extends Predicate<T> {
+
+    List<String> getKeywords();
+}
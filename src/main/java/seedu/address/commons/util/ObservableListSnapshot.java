@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Hands out read-only copies of an {@code ObservableList} and reuses the last copy until the list changes.
+ *
+ * Taking many snapshots of a list that rarely changes therefore only copies it once, and every one
+ * of those snapshots is the same instance. Note that the elements themselves are shared, not copied.
+ */
+public class ObservableListSnapshot<T> {
+
+    private final ObservableList<T> source;
+    private ObservableList<T> snapshot;
+
+    public ObservableListSnapshot(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener((ListChangeListener<T>) change -> snapshot = null);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the source list as it is now.
+     */
+    public ObservableList<T> get() {
+        if (snapshot == null) {
+            snapshot = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns true if {@code list} is a snapshot taken by {@link #get()} and the source list has not changed since.
+     */
+    public boolean isCurrent(List<T> list) {
+        return snapshot != null && list == snapshot;
+    }
+}
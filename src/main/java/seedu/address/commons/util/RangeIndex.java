@@ -0,0 +1,147 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A sorted index from a time, or any other {@code long} attribute of some items, to the items having it,
+ * for finding the items whose attribute lies in a range.
+ *
+ * The items are kept in a {@code TreeMap} by their attribute, so the items in a range are found in O(log n + k)
+ * for k items found, in the order of the attribute, instead of by checking every item. Items are told apart by
+ * identity, and each item remembers the value it was indexed under, so an item whose attribute has changed in place
+ * can be moved with {@link #reindex}. An item whose attribute is null, such as the finish time of a job that has
+ * not finished, is in the index but in no range.
+ */
+public class RangeIndex<T> {
+
+    private final Function<T, Long> keyOf;
+    private final NavigableMap<Long, Set<T>> postings = new TreeMap<>();
+    private final Map<T, Long> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty index of the value returned by {@code keyOf} for each item.
+     */
+    public RangeIndex(Function<T, Long> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Adds {@code item} under its current value.
+     * Does nothing if the item is already in the index.
+     */
+    public void add(T item) {
+        requireNonNull(item);
+        if (keys.containsKey(item)) {
+            return;
+        }
+
+        Long key = keyOf.apply(item);
+        keys.put(item, key);
+        if (key == null) {
+            return;
+        }
+        postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+    }
+
+    /**
+     * Takes {@code item} out of the index, if it is there.
+     */
+    public void remove(T item) {
+        requireNonNull(item);
+        if (!keys.containsKey(item)) {
+            return;
+        }
+
+        Long key = keys.remove(item);
+        if (key == null) {
+            return;
+        }
+
+        Set<T> posting = postings.get(key);
+        posting.remove(item);
+        if (posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    /**
+     * Moves {@code item} to its current value, after its attribute has changed in place.
+     * Does nothing if the item is not in the index.
+     */
+    public void reindex(T item) {
+        requireNonNull(item);
+        if (!keys.containsKey(item) || Objects.equals(keys.get(item), keyOf.apply(item))) {
+            return;
+        }
+        remove(item);
+        add(item);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code items}.
+     */
+    public void setAll(Iterable<? extends T> items) {
+        requireNonNull(items);
+        keys.clear();
+        postings.clear();
+        items.forEach(this::add);
+    }
+
+    /**
+     * Returns the items whose value is at least {@code from} and less than {@code to}, as an unmodifiable set that
+     * follows the index. Iterating over the set visits the items in the order of their values, and costs
+     * O(log n + k); testing whether an item is in the set is a single lookup.
+     */
+    public Set<T> findBetween(long from, long to) {
+        return new Range(from, to);
+    }
+
+    /**
+     * A view of the items whose values lie in {@code [from, to)}.
+     */
+    private class Range extends AbstractSet<T> {
+        private final long from;
+        private final long to;
+
+        Range(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        private NavigableMap<Long, Set<T>> postingsInRange() {
+            return from < to ? postings.subMap(from, true, to, false) : Collections.emptyNavigableMap();
+        }
+
+        @Override
+        public boolean contains(Object item) {
+            Long key = keys.get(item);
+            return key != null && from <= key && key < to;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return postingsInRange().values().stream().flatMap(Set::stream).iterator();
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (Set<T> posting : postingsInRange().values()) {
+                size += posting.size();
+            }
+            return size;
+        }
+    }
+}
@@ -3,22 +3,39 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamReader;
 
 import seedu.address.commons.core.LogsCenter;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is by far the most expensive step of a read or write, so one context is kept for
+ * each class. Marshallers and unmarshallers are not thread-safe; they are pooled per class and each one is used
+ * by a single thread at a time.
  */
 public class XmlUtil {
 
+    /** Maximum number of idle marshallers (and of idle unmarshallers) kept for each class */
+    private static final int MAX_POOLED_PER_CLASS = 4;
+
     private static final Logger logger = LogsCenter.getLogger(XmlUtil.class);
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Marshaller>> marshallers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<Unmarshaller>> unmarshallers = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -40,10 +57,15 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(classToConvert, c -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
 
-        return ((T) um.unmarshal(file.toFile()));
+        T data = (T) um.unmarshal(file.toFile());
+        release(pool, um);
+        return data;
     }
 
     /**
@@ -64,11 +86,78 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        Queue<Marshaller> pool = marshallers.computeIfAbsent(data.getClass(), c -> new ConcurrentLinkedQueue<>());
+        Marshaller m = pool.poll();
+        if (m == null) {
+            m = getContext(data.getClass()).createMarshaller();
+            m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        }
 
         m.marshal(data, file.toFile());
+        release(pool, m);
+    }
+
+    /**
+     * Returns {@code data} as a single line of xml without an xml declaration, so that it can be appended to a file
+     * holding a sequence of such elements.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml.
+     */
+    public static <T> String toXmlFragment(T data) throws JAXBException {
+        requireNonNull(data);
+
+        Marshaller m = getContext(data.getClass()).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        StringWriter writer = new StringWriter();
+        m.marshal(data, writer);
+        return writer.toString();
+    }
+
+    /**
+     * Returns the xml element at the current position of {@code reader} as an object of the specified type,
+     * and moves {@code reader} past the element.
+     *
+     * @throws JAXBException Thrown if the element does not have the correct format.
+     */
+    public static <T> T getDataFromReader(XMLStreamReader reader, Class<T> classToConvert) throws JAXBException {
+        requireNonNull(reader);
+        requireNonNull(classToConvert);
+
+        Queue<Unmarshaller> pool = unmarshallers.computeIfAbsent(classToConvert, c -> new ConcurrentLinkedQueue<>());
+        Unmarshaller um = pool.poll();
+        if (um == null) {
+            um = getContext(classToConvert).createUnmarshaller();
+        }
+
+        T data = um.unmarshal(reader, classToConvert).getValue();
+        release(pool, um);
+        return data;
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            logger.fine("Creating JAXB context for " + type.getSimpleName());
+            context = JAXBContext.newInstance(type);
+            JAXBContext existing = contexts.putIfAbsent(type, context);
+            if (existing != null) {
+                context = existing;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Returns {@code item} to {@code pool} for reuse, unless the pool is full.
+     * Only items that finished their work normally are returned, since a failure may leave them in a bad state.
+     */
+    private static <T> void release(Queue<T> pool, T item) {
+        if (pool.size() < MAX_POOLED_PER_CLASS) {
+            pool.offer(item);
+        }
     }
 
 }
@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} owned by the model thread, kept up to date on the UI thread.
+ *
+ * Whenever the source list changes, a copy of it is taken on the thread that changed it and handed to the
+ * UI thread, which replaces the contents of the mirror with it. Changes that arrive before the UI thread
+ * gets to the previous copy are coalesced, so the UI only ever applies the latest one.
+ */
+public class ListMirror<T> {
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror;
+    private final Executor uiExecutor;
+    private final AtomicReference<List<T>> pendingCopy = new AtomicReference<>();
+
+    public ListMirror(ObservableList<T> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a mirror of {@code source} whose updates are applied by {@code uiExecutor}.
+     */
+    public ListMirror(ObservableList<T> source, Executor uiExecutor) {
+        requireNonNull(source);
+        requireNonNull(uiExecutor);
+        this.source = source;
+        this.uiExecutor = uiExecutor;
+        mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> onSourceChanged());
+    }
+
+    /**
+     * Takes a copy of the source, and schedules it to be applied unless an earlier copy is still waiting.
+     */
+    private void onSourceChanged() {
+        if (pendingCopy.getAndSet(new ArrayList<>(source)) == null) {
+            uiExecutor.execute(this::applyPendingCopy);
+        }
+    }
+
+    /**
+     * Replaces the contents of the mirror with the latest copy of the source, if it has not been applied yet.
+     */
+    private void applyPendingCopy() {
+        List<T> copy = pendingCopy.getAndSet(null);
+        if (copy != null) {
+            mirror.setAll(copy);
+        }
+    }
+
+    /**
+     * Returns the mirror as an unmodifiable {@code ObservableList}, to be used from the UI thread only.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+}
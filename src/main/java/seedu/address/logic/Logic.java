@@ -7,6 +7,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
 
 /**
@@ -34,6 +35,9 @@ public interface Logic {
     /**Returns an unmodifiable view of the filtered list of jobs */
     ObservableList<Job> getFilteredJobList();
 
+    /** Returns an unmodifiable view of the queued jobs of the machine named {@code machineName}, in queue order */
+    ObservableList<Job> getJobQueue(MachineName machineName);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
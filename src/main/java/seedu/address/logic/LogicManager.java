@@ -1,9 +1,15 @@
 package seedu.address.logic;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LatencyHistogram;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -11,56 +17,190 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.model.person.Person;
 
 /**
  * The main LogicManager of the app.
+ *
+ * If created with a {@code ModelThread}, commands are executed on that thread and the lists handed to the UI are
+ * {@code ListMirror}s of the model's lists. Otherwise commands run on the calling thread, as before.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** Number of commands between two logged summaries of the command latency */
+    private static final int METRICS_LOG_INTERVAL = 100;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final ModelThread modelThread;
+    private final LatencyHistogram commandLatency = new LatencyHistogram("command latency");
+
+    private final ObservableList<Person> personList;
+    private final ObservableList<Machine> machineList;
+    private final ObservableList<Admin> adminList;
+    private final ObservableList<Job> jobList;
+    /** The job queue of each machine the UI has asked for, mirrored if commands run on the model thread */
+    private final Map<MachineName, ObservableList<Job>> jobQueues = new HashMap<>();
+    private final Executor uiExecutor;
 
     public LogicManager(Model model) {
+        this(model, null);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that executes commands on {@code modelThread}, or on the calling thread
+     * if {@code modelThread} is null.
+     */
+    public LogicManager(Model model, ModelThread modelThread) {
+        this(model, modelThread, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code LogicManager} that executes commands on {@code modelThread}, and whose list mirrors
+     * are updated by {@code uiExecutor}.
+     */
+    LogicManager(Model model, ModelThread modelThread, Executor uiExecutor) {
         this.model = model;
+        this.modelThread = modelThread;
+        this.uiExecutor = uiExecutor;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
+
+        if (modelThread == null) {
+            personList = model.getFilteredPersonList();
+            machineList = model.getFilteredMachineList();
+            adminList = model.getFilteredAdminList();
+            jobList = model.getFilteredJobList();
+        } else {
+            personList = new ListMirror<>(model.getFilteredPersonList(), uiExecutor).asUnmodifiableObservableList();
+            machineList = new ListMirror<>(model.getFilteredMachineList(), uiExecutor).asUnmodifiableObservableList();
+            adminList = new ListMirror<>(model.getFilteredAdminList(), uiExecutor).asUnmodifiableObservableList();
+            jobList = new ListMirror<>(model.getFilteredJobList(), uiExecutor).asUnmodifiableObservableList();
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        long startNanos = System.nanoTime();
         try {
-            Command command = addressBookParser.parseCommand(commandText);
-            return command.execute(model, history);
+            if (modelThread == null) {
+                return parseAndExecute(commandText);
+            }
+            return executeOnModelThread(commandText);
         } finally {
             history.add(commandText);
+            commandLatency.recordSince(startNanos);
+            if (commandLatency.getCount() % METRICS_LOG_INTERVAL == 0) {
+                logger.info(commandLatency.getSummary());
+            }
+        }
+    }
+
+    /**
+     * Parses and executes the command in a single model transaction, so that the lists it changes are saved and
+     * shown once each, after the command has finished.
+     */
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
+        Command command = addressBookParser.parseCommand(commandText);
+        ModelTransaction transaction = model.beginTransaction();
+        try {
+            return command.execute(model, history);
+        } finally {
+            transaction.close();
         }
     }
 
+    /**
+     * Executes the command on the model thread, and rethrows whatever the command throws on the calling thread.
+     */
+    private CommandResult executeOnModelThread(String commandText) throws CommandException, ParseException {
+        try {
+            return modelThread.call(() -> parseAndExecute(commandText));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException("Interrupted while waiting for the command to finish.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns the time taken by each command, measured from the moment it was entered.
+     */
+    public LatencyHistogram getCommandLatency() {
+        return commandLatency;
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return personList;
     }
 
     @Override
     public ObservableList<Machine> getFilteredMachineList() {
-        return model.getFilteredMachineList();
+        return machineList;
     }
 
     @Override
     public ObservableList<Admin> getFilteredAdminList() {
-        return model.getFilteredAdminList();
+        return adminList;
     }
 
     @Override
     public ObservableList<Job> getFilteredJobList() {
-        return model.getFilteredJobList();
+        return jobList;
+    }
+
+    /**
+     * Returns the job queue of the machine named {@code machineName}. The model keeps one queue per machine name,
+     * so the queue, or its mirror, is made once and shared by every card that shows the machine.
+     * To be called from the UI thread only, like the lists it returns.
+     */
+    @Override
+    public ObservableList<Job> getJobQueue(MachineName machineName) {
+        ObservableList<Job> queue = jobQueues.get(machineName);
+        if (queue == null) {
+            queue = createJobQueue(machineName);
+            jobQueues.put(machineName, queue);
+        }
+        return queue;
+    }
+
+    /**
+     * Returns the model's queue for {@code machineName}, or a mirror of it made on the model thread, where the
+     * queue is read and changed.
+     */
+    private ObservableList<Job> createJobQueue(MachineName machineName) {
+        if (modelThread == null) {
+            return model.getJobQueue(machineName);
+        }
+        try {
+            return modelThread.call(() -> new ListMirror<>(model.getJobQueue(machineName), uiExecutor)
+                    .asUnmodifiableObservableList());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading the job queue of " + machineName, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not read the job queue of " + machineName, e.getCause());
+        }
     }
 
     @Override
@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The single thread that owns the {@code Model} when the app runs with a model thread.
+ *
+ * All work that reads or changes the model is queued here and runs one task at a time, so the model never
+ * sees concurrent writers. The UI reads the model through {@link ListMirror}s that are updated on the FX thread.
+ */
+public class ModelThread implements Executor {
+
+    public static final String THREAD_NAME = "model-thread";
+
+    private static final Logger logger = LogsCenter.getLogger(ModelThread.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService executor;
+    private final LatencyHistogram queueWait = new LatencyHistogram("model queue wait");
+    private volatile Thread thread;
+
+    public ModelThread() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread modelThread = new Thread(runnable, THREAD_NAME);
+            modelThread.setDaemon(true);
+            thread = modelThread;
+            return modelThread;
+        });
+    }
+
+    /**
+     * Queues {@code task} to run on the model thread.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        long queuedAt = System.nanoTime();
+        executor.execute(() -> {
+            queueWait.recordSince(queuedAt);
+            task.run();
+        });
+    }
+
+    /**
+     * Runs {@code task} on the model thread and waits for its result.
+     * Runs {@code task} directly if called from the model thread itself.
+     *
+     * @throws ExecutionException if {@code task} throws; the cause is the exception thrown by the task.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public <T> T call(Callable<T> task) throws ExecutionException, InterruptedException {
+        requireNonNull(task);
+        if (isCurrentThread()) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new ExecutionException(e);
+            }
+        }
+
+        long queuedAt = System.nanoTime();
+        Future<T> result = executor.submit(() -> {
+            queueWait.recordSince(queuedAt);
+            return task.call();
+        });
+        return result.get();
+    }
+
+    /**
+     * Returns true if the calling thread is this model thread.
+     */
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Returns true if the calling thread is a model thread.
+     */
+    public static boolean isModelThread() {
+        return THREAD_NAME.equals(Thread.currentThread().getName());
+    }
+
+    /**
+     * Runs {@code action} on the FX thread if called from a model thread, or directly otherwise.
+     * For event handlers that touch the UI, since events raised by commands are handled on the raising thread.
+     */
+    public static void runOnFxThread(Runnable action) {
+        if (isModelThread()) {
+            Platform.runLater(action);
+        } else {
+            action.run();
+        }
+    }
+
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Lets queued tasks finish, then stops the thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!isCurrentThread() && !executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Model thread did not finish its queued tasks in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info(queueWait.getSummary());
+    }
+}
@@ -15,6 +15,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
 
 /**
@@ -27,7 +29,7 @@ public class AddJobCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds a job to the address book. "
             + "Parameters: "
             + PREFIX_NAME + "JOB NAME "
-            + PREFIX_MACHINE + "MACHINE NAME "
+            + PREFIX_MACHINE + "MACHINE NAME (or " + Machine.AUTO_ASSIGN_NAME + " for the most free machine) "
             + PREFIX_JOB_OWNER + "JOB OWNER NAME "
             + PREFIX_JOB_PRIORITY + "JOB PRIORITY "
             + PREFIX_JOB_DURATION + "JOB DURATION "
@@ -44,6 +46,7 @@ public class AddJobCommand extends Command {
 
 
     public static final String MESSAGE_SUCCESS = "New job added: %1$s";
+    public static final String MESSAGE_SUCCESS_AUTO_ASSIGNED = "New job added: %1$s, on machine %2$s";
     public static final String MESSAGE_FAILURE = "New job NOT added: %1$s";
     public static final String MESSAGE_DUPLICATE_JOB = "This job already exists in the address book";
 
@@ -65,12 +68,19 @@ public class AddJobCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_JOB);
         }
 
+        boolean isAutoAssigned = jobToAdd.getMachine().getName().fullName.equals(Machine.AUTO_ASSIGN_NAME);
         try {
             model.addJob(jobToAdd);
             model.commitAddressBook();
+            if (isAutoAssigned) {
+                return new CommandResult(String.format(MESSAGE_SUCCESS_AUTO_ASSIGNED, jobToAdd.getJobName(),
+                        jobToAdd.getMachine().getName()));
+            }
             return new CommandResult(String.format(MESSAGE_SUCCESS, jobToAdd.getJobName()));
         } catch (MachineNotFoundException mie) {
             return new CommandResult(String.format(MESSAGE_FAILURE, mie.getMessage()));
+        } catch (DuplicateJobException dje) {
+            throw new CommandException(MESSAGE_DUPLICATE_JOB);
         }
 
     }
@@ -2,29 +2,35 @@ package seedu.address.logic.commands.job;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.Job;
 
 /**
- * Finds and lists all jobs in address book whose name contains any of the argument keywords.
+ * Finds and lists all jobs in address book whose name, note or tags contain any of the argument keywords,
+ * or that match a structured filter on their status, priority, machine, owner, tags and added date.
  * Keyword matching is case insensitive.
  */
 public class FindJobCommand extends Command {
 
     public static final String COMMAND_WORD = "findJob";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all jobs whose names, notes or tags contain "
+            + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Jobs can also be filtered by status/, priority/, machine/, owner/, tag/, and added/, started/ and "
+            + "finished/ (yyyy-MM-dd, optionally after > >= < <=), with terms joined by AND (the default) or OR.\n"
+            + "Example: " + COMMAND_WORD + " status/QUEUED priority/URGENT OR machine/TYPrinter added/>2018-09-01";
 
-    private final JobNameContainsKeywordsPredicate predicate;
+    private final Predicate<Job> predicate;
 
-    public FindJobCommand(JobNameContainsKeywordsPredicate predicate) {
+    public FindJobCommand(Predicate<Job> predicate) {
         this.predicate = predicate;
     }
 
@@ -0,0 +1,103 @@
+package seedu.address.logic.commands.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.job.JobImportParser;
+import seedu.address.model.Model;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.machine.exceptions.MachineNotFoundException;
+
+/**
+ * Adds all the jobs in a CSV or JSON file to the address book, as a single change that is undone in one step.
+ */
+public class ImportJobsCommand extends Command {
+
+    public static final String COMMAND_WORD = "importJobs";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds all the jobs in a .csv or .json file. "
+            + "A .csv file starts with the header name,machine,owner,priority,duration,note,tags "
+            + "and has a job on each line after it, with its tags separated by spaces.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/semester_jobs.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d jobs imported from %2$s in %3$.2f s (%4$.0f rows per second)";
+    public static final String MESSAGE_CANNOT_READ = "Could not read %1$s";
+    public static final String MESSAGE_FAILURE = "No jobs imported from %1$s:\n%2$s";
+    public static final String MESSAGE_EXISTING_JOB = "Job %1$s already exists in the address book";
+    public static final String MESSAGE_MACHINE_NOT_FOUND = "A machine named in the file does not exist, "
+            + "or no machine can take the jobs to be auto assigned";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportJobsCommand.class);
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final Path file;
+
+    /**
+     * Creates an ImportJobsCommand to add the jobs in {@code file}
+     */
+    public ImportJobsCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        long start = System.nanoTime();
+
+        List<Job> jobs;
+        try {
+            jobs = new JobImportParser().parse(file);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ, file));
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, file, pe.getMessage()));
+        }
+
+        for (Job job : jobs) {
+            if (model.findJob(job.getJobName()) != null) {
+                throw new CommandException(String.format(MESSAGE_FAILURE, file,
+                        String.format(MESSAGE_EXISTING_JOB, job.getJobName())));
+            }
+        }
+
+        try {
+            model.addJobs(jobs);
+        } catch (DuplicateJobException dje) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, file, AddJobCommand.MESSAGE_DUPLICATE_JOB));
+        } catch (MachineNotFoundException mnfe) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, file, MESSAGE_MACHINE_NOT_FOUND));
+        }
+        model.commitAddressBook();
+
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        double rowsPerSecond = seconds > 0 ? jobs.size() / seconds : jobs.size();
+        logger.info(String.format("Imported %d jobs from %s at %.0f rows per second", jobs.size(), file,
+                rowsPerSecond));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, jobs.size(), file, seconds, rowsPerSecond));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportJobsCommand // instanceof handles nulls
+                && file.equals(((ImportJobsCommand) other).file));
+    }
+
+    @Override
+    public int hashCode() {
+        return file.hashCode();
+    }
+}
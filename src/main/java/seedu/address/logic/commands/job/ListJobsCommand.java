@@ -3,25 +3,70 @@ package seedu.address.logic.commands.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_JOBS;
 
+import java.util.Collections;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.job.query.JobQuery;
 
 /**
- * Lists all jobs in the address book to the user.
+ * Lists all jobs in the address book to the user, or the jobs added, started or finished in a range of dates.
  */
 public class ListJobsCommand extends Command {
 
     public static final String COMMAND_WORD = "listJobs";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all jobs, or the jobs added, started or "
+            + "finished between two dates, both included.\n"
+            + "Parameters: [added|started|finished] [from/yyyy-MM-dd] [to/yyyy-MM-dd]\n"
+            + "Example: " + COMMAND_WORD + " finished from/2018-09-01 to/2018-09-30";
+
     public static final String MESSAGE_SUCCESS = "Listed all jobs";
 
+    private final JobCondition range;
+
+    /**
+     * Creates a command that lists all jobs.
+     */
+    public ListJobsCommand() {
+        this.range = null;
+    }
+
+    /**
+     * Creates a command that lists the jobs meeting {@code range}, a condition on one of the times of a job.
+     */
+    public ListJobsCommand(JobCondition range) {
+        requireNonNull(range);
+        this.range = range;
+    }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredJobList(PREDICATE_SHOW_ALL_JOBS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (range == null) {
+            model.updateFilteredJobList(PREDICATE_SHOW_ALL_JOBS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        model.updateFilteredJobList(new JobQuery(Collections.singletonList(Collections.singletonList(range))));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_JOBS_LISTED_OVERVIEW, model.getFilteredJobList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListJobsCommand // instanceof handles nulls
+                && Objects.equals(range, ((ListJobsCommand) other).range)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(range);
     }
 }
@@ -13,15 +13,15 @@ import seedu.address.model.machine.MachineNameContainsKeywordsPredicate;
 
 
 /**
- * Finds and lists all machines in address book whose name contains any of the argument keywords.
+ * Finds and lists all machines in address book whose name or tags contain any of the argument keywords.
  * Keyword matching is case insensitive.
  */
 public class FindMachineCommand extends Command {
 
     public static final String COMMAND_WORD = "findMachine";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all machines whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all machines whose names or tags contain "
+            + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " machine1 machine2 machine3";
 
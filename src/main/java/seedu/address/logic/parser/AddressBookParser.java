@@ -26,6 +26,7 @@ import seedu.address.logic.commands.admin.RemoveAdminCommand;
 import seedu.address.logic.commands.admin.UpdatePasswordCommand;
 import seedu.address.logic.commands.job.AddJobCommand;
 import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.commands.job.ImportJobsCommand;
 import seedu.address.logic.commands.job.ListJobsCommand;
 import seedu.address.logic.commands.job.ManageJobCommand;
 import seedu.address.logic.commands.job.RequestDeletionCommand;
@@ -41,6 +42,8 @@ import seedu.address.logic.parser.admin.UpdatePasswordCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.job.AddJobCommandParser;
 import seedu.address.logic.parser.job.FindJobCommandParser;
+import seedu.address.logic.parser.job.ImportJobsCommandParser;
+import seedu.address.logic.parser.job.ListJobsCommandParser;
 import seedu.address.logic.parser.job.ManageJobCommandParser;
 import seedu.address.logic.parser.job.RequestDeletionCommandParser;
 import seedu.address.logic.parser.machine.AddMachineCommandParser;
@@ -144,8 +147,11 @@ public class AddressBookParser {
         case FindJobCommand.COMMAND_WORD:
             return new FindJobCommandParser().parse(arguments);
 
+        case ImportJobsCommand.COMMAND_WORD:
+            return new ImportJobsCommandParser().parse(arguments);
+
         case ListJobsCommand.COMMAND_WORD:
-            return new ListJobsCommand();
+            return new ListJobsCommandParser().parse(arguments);
 
         case ManageJobCommand.COMMAND_WORD:
             return new ManageJobCommandParser().parse(arguments);
@@ -18,4 +18,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_JOB_PRIORITY = new Prefix("pr/");
     public static final Prefix PREFIX_JOB_NOTE = new Prefix("jn/");
     public static final Prefix PREFIX_JOB_DURATION =  new Prefix("d/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 }
@@ -15,8 +15,10 @@ import seedu.address.model.job.JobNameContainsKeywordsPredicate;
 public class FindJobCommandParser implements Parser<FindJobCommand> {
 
     /**
-     * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns an FindCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the FindJobCommand
+     * and returns an FindJobCommand object for execution.
+     * Arguments that use the filter syntax of {@code JobQueryParser} are parsed as a filter, and any others
+     * as a list of keywords.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindJobCommand parse(String args) throws ParseException {
@@ -26,6 +28,10 @@ public class FindJobCommandParser implements Parser<FindJobCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
         }
 
+        if (JobQueryParser.isQuery(trimmedArgs)) {
+            return new FindJobCommand(new JobQueryParser().parse(trimmedArgs));
+        }
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         return new FindJobCommand(new JobNameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
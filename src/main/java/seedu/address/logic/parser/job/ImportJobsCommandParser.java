@@ -0,0 +1,42 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.job.ImportJobsCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportJobsCommand object
+ */
+public class ImportJobsCommandParser implements Parser<ImportJobsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportJobsCommand
+     * and returns an ImportJobsCommand object for execution.
+     * The file is only read when the command is executed.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportJobsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportJobsCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Paths.get(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportJobsCommand.MESSAGE_USAGE),
+                    ipe);
+        }
+        if (!JobImportParser.isSupported(file)) {
+            throw new ParseException(JobImportParser.MESSAGE_UNSUPPORTED_FILE);
+        }
+        return new ImportJobsCommand(file);
+    }
+}
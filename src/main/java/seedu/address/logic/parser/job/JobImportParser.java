@@ -0,0 +1,313 @@
+package seedu.address.logic.parser.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.JobOwner;
+import seedu.address.model.job.Priority;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads the jobs to be imported from a CSV or JSON file.
+ *
+ * A CSV file starts with a header naming its columns, in any order: {@code name}, {@code machine},
+ * {@code owner}, {@code priority}, {@code duration}, {@code note} and, optionally, {@code tags}, whose values are
+ * separated by spaces. A value containing commas can be put in double quotes, with {@code ""} for a quote.
+ * A JSON file is an array of objects with the same fields, where {@code tags} is an array.
+ *
+ * The file is read row by row, and the rows are then validated in parallel, as each row is checked on its own.
+ * The jobs are only returned if every row is valid, so that a file is imported in full or not at all.
+ */
+public class JobImportParser {
+
+    public static final String MESSAGE_UNSUPPORTED_FILE = "Jobs can only be imported from .csv or .json files";
+    public static final String MESSAGE_MISSING_COLUMN = "The file has no %1$s column";
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_MISSING_VALUE = "%1$s is missing";
+    public static final String MESSAGE_INVALID_DURATION = "Job duration should be a number of hours";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quote is not closed";
+    public static final String MESSAGE_DUPLICATE_NAME = "Job %1$s appears more than once";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more";
+
+    /** The number of invalid rows reported before the rest are only counted */
+    static final int MAX_REPORTED_ERRORS = 5;
+
+    private static final String COLUMN_NAME = "name";
+    private static final String COLUMN_MACHINE = "machine";
+    private static final String COLUMN_OWNER = "owner";
+    private static final String COLUMN_PRIORITY = "priority";
+    private static final String COLUMN_DURATION = "duration";
+    private static final String COLUMN_NOTE = "note";
+    private static final String COLUMN_TAGS = "tags";
+    private static final List<String> REQUIRED_COLUMNS = Arrays.asList(
+            COLUMN_NAME, COLUMN_MACHINE, COLUMN_OWNER, COLUMN_PRIORITY, COLUMN_DURATION, COLUMN_NOTE);
+
+    /**
+     * Returns true if jobs can be imported from {@code file}, judging by its extension.
+     */
+    public static boolean isSupported(Path file) {
+        return isCsv(file) || isJson(file);
+    }
+
+    private static boolean isCsv(Path file) {
+        return file.getFileName() != null && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv");
+    }
+
+    private static boolean isJson(Path file) {
+        return file.getFileName() != null && file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+    }
+
+    /**
+     * Reads and validates the jobs in {@code file}, in the order they appear.
+     * @throws IOException if the file cannot be read
+     * @throws ParseException if the file is not a supported format, or any of its rows is invalid
+     */
+    public List<Job> parse(Path file) throws IOException, ParseException {
+        requireNonNull(file);
+        List<ImportedJob> rows;
+        if (isCsv(file)) {
+            rows = readCsv(file);
+        } else if (isJson(file)) {
+            rows = readJson(file);
+        } else {
+            throw new ParseException(MESSAGE_UNSUPPORTED_FILE);
+        }
+        return validate(rows);
+    }
+
+    /**
+     * Reads the rows of a CSV file, numbering them from 1 after the header.
+     */
+    private static List<ImportedJob> readCsv(Path file) throws IOException, ParseException {
+        List<ImportedJob> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return rows;
+            }
+            Map<String, Integer> columns = readHeader(header);
+
+            String line;
+            int row = 0;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                rows.add(toImportedJob(row, line, columns));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the position of each column named in {@code header}.
+     */
+    private static Map<String, Integer> readHeader(String header) throws ParseException {
+        List<String> names = splitCsvLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Converts row {@code row} of a CSV file into an {@code ImportedJob}.
+     * A row that cannot be split is kept with its error, so that it is reported with the other invalid rows.
+     */
+    private static ImportedJob toImportedJob(int row, String line, Map<String, Integer> columns) {
+        ImportedJob job = new ImportedJob();
+        job.row = row;
+        List<String> values;
+        try {
+            values = splitCsvLine(line);
+        } catch (ParseException pe) {
+            job.error = pe.getMessage();
+            return job;
+        }
+
+        job.name = valueOf(values, columns, COLUMN_NAME);
+        job.machine = valueOf(values, columns, COLUMN_MACHINE);
+        job.owner = valueOf(values, columns, COLUMN_OWNER);
+        job.priority = valueOf(values, columns, COLUMN_PRIORITY);
+        job.duration = valueOf(values, columns, COLUMN_DURATION);
+        job.note = valueOf(values, columns, COLUMN_NOTE);
+        String tags = valueOf(values, columns, COLUMN_TAGS);
+        job.tags = tags == null || tags.trim().isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(tags.trim().split("\\s+"));
+        return job;
+    }
+
+    private static String valueOf(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= values.size() ? null : values.get(index);
+    }
+
+    /**
+     * Splits a line of a CSV file into its values.
+     * @throws ParseException if a quoted value is not closed on the same line
+     */
+    static List<String> splitCsvLine(String line) throws ParseException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted && c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                value.append('"');
+                i++;
+            } else if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (c == ',' && !isQuoted) {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Reads the rows of a JSON file, numbering them from 1.
+     */
+    private static List<ImportedJob> readJson(Path file) throws IOException {
+        List<ImportedJob> rows = JsonUtil.readJsonArrayFile(file, ImportedJob.class);
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).row = i + 1;
+        }
+        return rows;
+    }
+
+    /**
+     * Validates every row in parallel, and returns their jobs if all of them are valid.
+     */
+    private static List<Job> validate(List<ImportedJob> rows) throws ParseException {
+        Job[] jobs = new Job[rows.size()];
+        String[] errors = new String[rows.size()];
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            try {
+                jobs[i] = toJob(rows.get(i));
+            } catch (ParseException pe) {
+                errors[i] = String.format(MESSAGE_INVALID_ROW, rows.get(i).row, pe.getMessage());
+            }
+        });
+
+        Set<JobName> names = new HashSet<>();
+        for (int i = 0; i < jobs.length; i++) {
+            if (jobs[i] != null && !names.add(jobs[i].getJobName())) {
+                errors[i] = String.format(MESSAGE_INVALID_ROW, rows.get(i).row,
+                        String.format(MESSAGE_DUPLICATE_NAME, jobs[i].getJobName()));
+            }
+        }
+
+        List<String> invalidRows = Arrays.stream(errors).filter(error -> error != null).collect(Collectors.toList());
+        if (!invalidRows.isEmpty()) {
+            throw new ParseException(describeErrors(invalidRows));
+        }
+        return Arrays.asList(jobs);
+    }
+
+    /**
+     * Converts a row into a job, with the same checks as {@code addJob}.
+     */
+    private static Job toJob(ImportedJob row) throws ParseException {
+        if (row.error != null) {
+            throw new ParseException(row.error);
+        }
+
+        JobName name = ParserUtil.parseJobName(require(row.name, COLUMN_NAME));
+        Machine machine = ParserUtil.parseMachine(require(row.machine, COLUMN_MACHINE));
+        JobOwner owner = ParserUtil.parseJobOwner(require(row.owner, COLUMN_OWNER));
+        Priority priority = ParserUtil.parseJobPriority(require(row.priority, COLUMN_PRIORITY));
+        float duration;
+        try {
+            duration = ParserUtil.parseDuration(require(row.duration, COLUMN_DURATION));
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_DURATION, nfe);
+        }
+        JobNote note = ParserUtil.parseJobNote(require(row.note, COLUMN_NOTE));
+        Set<Tag> tags = ParserUtil.parseTags(row.tags == null ? Collections.emptyList() : row.tags);
+        return new Job(name, machine, owner, priority, duration, note, tags);
+    }
+
+    /**
+     * Returns {@code value} if it is not blank.
+     * @throws ParseException if {@code value} is missing or blank
+     */
+    private static String require(String value, String column) throws ParseException {
+        if (value == null || value.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_VALUE, column));
+        }
+        return value;
+    }
+
+    /**
+     * Lists the first few of {@code invalidRows}, one per line, and counts the rest.
+     */
+    private static String describeErrors(List<String> invalidRows) {
+        String described = String.join("\n", invalidRows.subList(0, Math.min(invalidRows.size(),
+                MAX_REPORTED_ERRORS)));
+        if (invalidRows.size() > MAX_REPORTED_ERRORS) {
+            described += "\n" + String.format(MESSAGE_MORE_ERRORS, invalidRows.size() - MAX_REPORTED_ERRORS);
+        }
+        return described;
+    }
+
+    /**
+     * A row of an import file, before it is validated.
+     * The fields are filled in from a CSV row, or by Jackson from a JSON object.
+     */
+    private static class ImportedJob {
+        private String name;
+        private String machine;
+        private String owner;
+        private String priority;
+        private String duration;
+        private String note;
+        private List<String> tags;
+
+        /** The position of the row in the file, counting from 1 */
+        @JsonIgnore
+        private int row;
+        /** Why the row could not be read, or null if it was read */
+        @JsonIgnore
+        private String error;
+    }
+}
@@ -0,0 +1,222 @@
+package seedu.address.logic.parser.job;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.job.query.JobQuery;
+
+/**
+ * Parses a structured job filter, such as {@code status/QUEUED priority/URGENT OR owner/"Alice Pauline"},
+ * into a {@code JobQuery}.
+ *
+ * A filter is a list of terms separated by whitespace. A term is either a field and a value, such as
+ * {@code machine/TYPrinter}, or a keyword that a job's name, note or tags must contain. Terms are joined by AND
+ * unless OR is written between them, and AND binds tighter than OR. A value with spaces can be put in double quotes.
+ * The times a job was added, started and finished are filtered by dates, given as {@code yyyy-MM-dd} in the time
+ * zone of the {@code AppClock}, optionally after one of {@code > >= < <=}; a date on its own matches the whole day.
+ */
+public class JobQueryParser {
+
+    public static final String MESSAGE_INVALID_DATE = "Dates should be given as yyyy-MM-dd, e.g. 2018-09-01";
+    public static final String MESSAGE_EMPTY_VALUE = "The field %1$s needs a value";
+
+    private static final String FIELD_STATUS = "status/";
+    private static final String FIELD_PRIORITY = "priority/";
+    private static final String FIELD_MACHINE = "machine/";
+    private static final String FIELD_OWNER = "owner/";
+    private static final String FIELD_TAG = "tag/";
+    private static final String FIELD_ADDED = "added/";
+    private static final String FIELD_STARTED = "started/";
+    private static final String FIELD_FINISHED = "finished/";
+    private static final String[] FIELDS = {
+        FIELD_STATUS, FIELD_PRIORITY, FIELD_MACHINE, FIELD_OWNER, FIELD_TAG, FIELD_ADDED, FIELD_STARTED, FIELD_FINISHED
+    };
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+
+    /** A term: a run of characters other than whitespace, where a quoted section may contain whitespace */
+    private static final Pattern TERM_FORMAT = Pattern.compile("(?:[^\\s\"]|\"[^\"]*\")+");
+
+    /**
+     * Returns true if {@code args} uses any field or operator of the filter syntax, rather than being
+     * a plain list of keywords.
+     */
+    public static boolean isQuery(String args) {
+        requireNonNull(args);
+        for (String term : args.trim().split("\\s+")) {
+            if (term.equals(OPERATOR_AND) || term.equals(OPERATOR_OR) || fieldOf(term) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a {@code JobQuery}.
+     * @throws ParseException if {@code args} is not a valid filter
+     */
+    public JobQuery parse(String args) throws ParseException {
+        requireNonNull(args);
+        List<List<JobCondition>> alternatives = new ArrayList<>();
+        List<JobCondition> alternative = new ArrayList<>();
+        boolean isOperatorPending = false;
+
+        Matcher matcher = TERM_FORMAT.matcher(args);
+        while (matcher.find()) {
+            String term = matcher.group();
+            if (term.equals(OPERATOR_AND) || term.equals(OPERATOR_OR)) {
+                if (alternative.isEmpty() || isOperatorPending) {
+                    throw invalidFormat();
+                }
+                if (term.equals(OPERATOR_OR)) {
+                    alternatives.add(alternative);
+                    alternative = new ArrayList<>();
+                }
+                isOperatorPending = true;
+                continue;
+            }
+            alternative.add(parseCondition(term));
+            isOperatorPending = false;
+        }
+
+        if (alternative.isEmpty()) {
+            throw invalidFormat();
+        }
+        alternatives.add(alternative);
+        return new JobQuery(alternatives);
+    }
+
+    /**
+     * Parses a single term into a {@code JobCondition}.
+     */
+    private static JobCondition parseCondition(String term) throws ParseException {
+        String field = fieldOf(term);
+        if (field == null) {
+            return JobCondition.keyword(unquote(term));
+        }
+
+        String value = unquote(term.substring(field.length())).trim();
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, field));
+        }
+
+        if (field.equals(FIELD_STATUS)) {
+            return JobCondition.status(parseStatus(value));
+        } else if (field.equals(FIELD_PRIORITY)) {
+            return JobCondition.priority(parsePriority(value));
+        } else if (field.equals(FIELD_MACHINE)) {
+            return JobCondition.machine(value);
+        } else if (field.equals(FIELD_OWNER)) {
+            return JobCondition.owner(value);
+        } else if (field.equals(FIELD_TAG)) {
+            return JobCondition.tag(value);
+        } else if (field.equals(FIELD_ADDED)) {
+            return parseTime(JobCondition.Field.ADDED, value);
+        } else if (field.equals(FIELD_STARTED)) {
+            return parseTime(JobCondition.Field.STARTED, value);
+        } else {
+            return parseTime(JobCondition.Field.FINISHED, value);
+        }
+    }
+
+    /**
+     * Parses a status, ignoring case.
+     */
+    private static Status parseStatus(String value) throws ParseException {
+        try {
+            return Status.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException iae) {
+            throw new ParseException(Status.MESSAGE_STATUS_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Parses a priority, ignoring case.
+     */
+    private static Priority parsePriority(String value) throws ParseException {
+        String upperCaseValue = value.toUpperCase(Locale.ROOT);
+        if (!Priority.isValidPriority(upperCaseValue)) {
+            throw new ParseException(Priority.MESSAGE_PRIORITY_CONSTRAINTS);
+        }
+        return Priority.valueOf(upperCaseValue);
+    }
+
+    /**
+     * Parses a date with an optional comparison, such as {@code >=2018-09-01}, into a condition on the time
+     * {@code field} of a job.
+     */
+    private static JobCondition parseTime(JobCondition.Field field, String value) throws ParseException {
+        String comparison = value.startsWith(">=") || value.startsWith("<=") ? value.substring(0, 2)
+                : value.startsWith(">") || value.startsWith("<") ? value.substring(0, 1)
+                : "";
+        LocalDate day = parseDate(value.substring(comparison.length()).trim());
+        long dayStart = startOf(day);
+        long dayEnd = startOf(day.plusDays(1));
+
+        if (comparison.equals(">")) {
+            return JobCondition.between(field, dayEnd, Long.MAX_VALUE);
+        } else if (comparison.equals(">=")) {
+            return JobCondition.between(field, dayStart, Long.MAX_VALUE);
+        } else if (comparison.equals("<")) {
+            return JobCondition.between(field, Long.MIN_VALUE, dayStart);
+        } else if (comparison.equals("<=")) {
+            return JobCondition.between(field, Long.MIN_VALUE, dayEnd);
+        } else {
+            return JobCondition.between(field, dayStart, dayEnd);
+        }
+    }
+
+    /**
+     * Parses a date given as {@code yyyy-MM-dd}.
+     */
+    static LocalDate parseDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(MESSAGE_INVALID_DATE, dtpe);
+        }
+    }
+
+    /**
+     * Returns the start of {@code day} in the time zone of the {@code AppClock}, in milliseconds since the epoch.
+     */
+    static long startOf(LocalDate day) {
+        return day.atStartOfDay(AppClock.get().getZone()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the field {@code term} starts with, ignoring case, or null if it does not start with a field.
+     */
+    private static String fieldOf(String term) {
+        String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        for (String field : FIELDS) {
+            if (lowerCaseTerm.startsWith(field)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static String unquote(String value) {
+        return value.replace("\"", "");
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE));
+    }
+}
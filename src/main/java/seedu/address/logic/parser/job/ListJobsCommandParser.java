@@ -0,0 +1,61 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.logic.commands.job.ListJobsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.query.JobCondition;
+
+/**
+ * Parses input arguments and creates a new ListJobsCommand object
+ */
+public class ListJobsCommandParser implements Parser<ListJobsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListJobsCommand
+     * and returns a ListJobsCommand object for execution.
+     * Without arguments, the command lists all jobs. The time of a job to list by is given in the preamble,
+     * and is the time it was added if there is no preamble.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListJobsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        String preamble = argMultimap.getPreamble().trim();
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+
+        if (preamble.isEmpty() && !from.isPresent() && !to.isPresent()) {
+            return new ListJobsCommand();
+        }
+
+        JobCondition.Field field = parseField(preamble);
+        long start = from.isPresent() ? JobQueryParser.startOf(JobQueryParser.parseDate(from.get().trim()))
+                : Long.MIN_VALUE;
+        long end = to.isPresent() ? JobQueryParser.startOf(JobQueryParser.parseDate(to.get().trim()).plusDays(1))
+                : Long.MAX_VALUE;
+        return new ListJobsCommand(JobCondition.between(field, start, end));
+    }
+
+    /**
+     * Parses the time of a job to list by.
+     */
+    private static JobCondition.Field parseField(String preamble) throws ParseException {
+        String field = preamble.toLowerCase(Locale.ROOT);
+        if (field.isEmpty() || field.equals("added")) {
+            return JobCondition.Field.ADDED;
+        } else if (field.equals("started")) {
+            return JobCondition.Field.STARTED;
+        } else if (field.equals("finished")) {
+            return JobCondition.Field.FINISHED;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListJobsCommand.MESSAGE_USAGE));
+    }
+}
@@ -44,7 +44,7 @@ public class AddMachineCommandParser implements Parser<AddMachineCommand> {
         }
 
         MachineName name = ParserUtil.parseMachineName(argMultimap.getValue(PREFIX_NAME).get());
-        if (name.fullName.equals("AUTO")) {
+        if (name.fullName.equals(Machine.AUTO_ASSIGN_NAME)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMachineCommand.MESSAGE_USAGE));
         }
         MachineStatus machineStatus = ParserUtil.parseMachineStatus(argMultimap.getValue(PREFIX_MACHINE_STATUS).get());
@@ -3,24 +3,34 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.mindrot.jbcrypt.BCrypt;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ChangeTracker;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.UniqueAdminList;
 import seedu.address.model.admin.Username;
+import seedu.address.model.job.AgingPolicy;
 import seedu.address.model.job.Job;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.QueueWaitStatistics;
+import seedu.address.model.job.Status;
 import seedu.address.model.job.UniqueJobList;
+import seedu.address.model.job.query.JobCondition;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
 import seedu.address.model.machine.UniqueMachineList;
+import seedu.address.model.machine.placement.PlacementContext;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -52,8 +62,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         admins = new UniqueAdminList();
-        machines = new UniqueMachineList();
         jobs = new UniqueJobList();
+        // the job list is the only store of jobs; machines show the jobs in it that are assigned to them
+        machines = new UniqueMachineList(jobs);
         adminSession = new AdminSession();
     }
 
@@ -124,6 +135,16 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Returns a read-only copy of the current state of this {@code AddressBook}.
+     * Lists that have not changed since the previous snapshot are shared with it rather than copied.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        ObservableList<Job> jobsSnapshot = jobs.snapshot();
+        return new AddressBookSnapshot(persons.snapshot(), admins.snapshot(), machines.snapshot(jobsSnapshot),
+            jobsSnapshot, jobs.getQueueOrder(), adminSession.getLoggedInAdmin());
+    }
+
     //======================== queue methods ================================//
 
     /**
@@ -135,6 +156,57 @@ public class AddressBook implements ReadOnlyAddressBook {
         machines.addJobToMachineList(targetMachine, jobToAdd);
     }
 
+    /**
+     * Removes a job from the chosen machine list
+     */
+    public void removeJobFromMachineList(Machine targetMachine, Job jobToRemove) {
+        requireAllNonNull(targetMachine, jobToRemove);
+        machines.removeJobFromMachineList(targetMachine, jobToRemove);
+    }
+
+    /**
+     * Returns the order in which the queued jobs of a machine are to be printed.
+     */
+    public Comparator<Job> getQueueOrder() {
+        return jobs.getQueueOrder();
+    }
+
+    //======================== change methods ================================//
+    // Used by storage to save only the jobs and machines that changed since the last save.
+
+    /**
+     * Returns the names of the jobs added, changed or removed since they were last taken.
+     */
+    public ChangeTracker.Changes<JobName> takeJobChanges() {
+        return jobs.takeChanges();
+    }
+
+    /**
+     * Returns the names of the machines added, changed or removed since they were last taken.
+     */
+    public ChangeTracker.Changes<MachineName> takeMachineChanges() {
+        return machines.takeChanges();
+    }
+
+    //======================== restore methods ================================//
+    // Used by VersionedAddressBook to put removed entries back where they were.
+
+    void insertPerson(int index, Person person) {
+        persons.add(index, person);
+    }
+
+    void insertAdmin(int index, Admin admin) {
+        admins.add(index, admin);
+    }
+
+    void insertMachine(int index, Machine machine) {
+        machines.add(index, machine);
+    }
+
+    void insertJob(int index, Job job) {
+        jobs.add(index, job);
+    }
+
     //======================== person methods ================================//
 
     /**
@@ -272,11 +344,35 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code target} must exist in the address book.
      * The Machine identity of {@code editedMachine} must not be the same as another existing
      * Machine in the address book.
+     * If the machine is renamed, its jobs are moved to the new name along with it.
      */
     public void updateMachine(Machine target, Machine editedMachine) {
         requireNonNull(editedMachine);
 
+        MachineName oldName = target.getName();
+        MachineName newName = editedMachine.getName();
+        List<Job> jobsToMove = oldName.equals(newName) ? Collections.emptyList() : jobs.getJobsOf(oldName);
         machines.setMachine(target, editedMachine);
+        for (Job job : jobsToMove) {
+            jobs.updateJob(job, moveJob(job, newName));
+        }
+    }
+
+    /**
+     * Returns a copy of {@code job} assigned to the machine named {@code machineName}.
+     */
+    private static Job moveJob(Job job, MachineName machineName) {
+        // like the machine given by the parser, the job's machine only carries the name
+        return new Job(job.getJobName(), new Machine(machineName.fullName), job.getOwner(), job.getAddedTime(),
+                job.getStartTime(), job.getFinishTime(), job.getPriority(), job.getStatus(), job.getDuration(),
+                job.getJobNote(), job.getTags());
+    }
+
+    /**
+     * Returns the machines, with the work waiting on them, for a {@code PlacementStrategy} to choose from.
+     */
+    public PlacementContext getPlacementContext() {
+        return machines;
     }
 
     /**
@@ -313,6 +409,37 @@ public class AddressBook implements ReadOnlyAddressBook {
         jobs.add(job);
     }
 
+    /**
+     * Adds all of {@code jobs} at once, then refreshes each of their machines once.
+     * None of the jobs may share a name with each other or with a job in the address book.
+     */
+    public void addJobs(List<Job> jobs) {
+        requireNonNull(jobs);
+        this.jobs.addAll(jobs);
+        refreshMachinesOf(jobs);
+    }
+
+    /**
+     * Removes all of {@code jobs} at once, then refreshes each of their machines once.
+     * Every one of them must be in the address book.
+     */
+    public void removeJobs(List<Job> jobs) {
+        requireNonNull(jobs);
+        this.jobs.removeAll(jobs);
+        refreshMachinesOf(jobs);
+    }
+
+    /**
+     * Tells the listeners of the machine list that the jobs of the machines of {@code changedJobs} have changed.
+     */
+    private void refreshMachinesOf(List<Job> changedJobs) {
+        changedJobs.stream()
+                .map(job -> machines.findMachine(job.getMachine().getName()))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(machines::refresh);
+    }
+
     /**
      * Removes a job if {@code job} does not exist in the list
      */
@@ -377,6 +504,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         jobs.restartJob(name);
     }
 
+    /**
+     * Pauses the job
+     */
+    public void pauseJob(JobName name) {
+        requireNonNull(name);
+        jobs.pauseJob(name);
+    }
+
     /**
      * Only admin can do this
      * Swaps the jobs with the given jobnames
@@ -402,6 +537,51 @@ public class AddressBook implements ReadOnlyAddressBook {
         jobs.requestDeletion(jobName);
     }
 
+    /**
+     * Sets the status of {@code job} to {@code status}, keeping the queue of its machine in step.
+     */
+    void setJobStatus(Job job, Status status) {
+        requireAllNonNull(job, status);
+        jobs.setJobStatus(job, status);
+    }
+
+    /**
+     * Queues jobs under {@code agingPolicy} from now on.
+     */
+    public void setAgingPolicy(AgingPolicy agingPolicy) {
+        requireNonNull(agingPolicy);
+        jobs.setAgingPolicy(agingPolicy);
+    }
+
+    /**
+     * Returns the statistics of how long the jobs waited to start, as of {@code now}, in milliseconds since the epoch.
+     */
+    public QueueWaitStatistics getQueueWaitStatistics(long now) {
+        return jobs.getQueueWaitStatistics(now);
+    }
+
+    /**
+     * Returns the jobs with the status {@code status}, as an unmodifiable set that follows the job list.
+     */
+    public Set<Job> getJobs(Status status) {
+        return jobs.getJobs(status);
+    }
+
+    /**
+     * Returns the number of jobs with the status {@code status}.
+     */
+    public int countJobs(Status status) {
+        return jobs.countJobs(status);
+    }
+
+    /**
+     * Returns the jobs meeting {@code condition}, as an unmodifiable set that follows the job list,
+     * or null if jobs are not indexed by the field of {@code condition}.
+     */
+    public Set<Job> findIndexedJobs(JobCondition condition) {
+        return jobs.findIndexedJobs(condition);
+    }
+
     //======================== get lists methods ===========================//
     @Override
     public ObservableList<Person> getPersonList() {
@@ -428,6 +608,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return jobs.asUnmodifiableObservableSortedList();
     }
 
+    /**
+     * Returns the queued jobs of the machine named {@code machineName}, in the order they are to be printed.
+     * The list is kept for as long as this address book, through undo and redo.
+     */
+    public ObservableList<Job> getJobQueue(MachineName machineName) {
+        return jobs.getQueue(machineName);
+    }
+
     @Override
     public AdminSession getAdminSession() {
         return adminSession;
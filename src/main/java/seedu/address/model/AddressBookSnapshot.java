@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.AdminSession;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable state of an {@code AddressBook}, as returned by {@link AddressBook#snapshot()}.
+ * Its lists may be shared with other snapshots of the same address book.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Admin> admins;
+    private final ObservableList<Machine> machines;
+    private final ObservableList<Job> jobs;
+    private final Comparator<Job> queueOrder;
+    private final Admin loggedInAdmin;
+
+    AddressBookSnapshot(ObservableList<Person> persons, ObservableList<Admin> admins,
+                        ObservableList<Machine> machines, ObservableList<Job> jobs, Comparator<Job> queueOrder,
+                        Admin loggedInAdmin) {
+        requireAllNonNull(persons, admins, machines, jobs, queueOrder);
+        this.persons = persons;
+        this.admins = admins;
+        this.machines = machines;
+        this.jobs = jobs;
+        this.queueOrder = queueOrder;
+        this.loggedInAdmin = loggedInAdmin;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Admin> getAdminList() {
+        return admins;
+    }
+
+    @Override
+    public ObservableList<Machine> getMachineList() {
+        return machines;
+    }
+
+    @Override
+    public ObservableList<Job> getJobList() {
+        return jobs;
+    }
+
+    @Override
+    public ObservableList<Job> getQueueList() {
+        return jobs.sorted(queueOrder);
+    }
+
+    /**
+     * Returns a new session holding the admin that was logged in when the snapshot was taken.
+     */
+    @Override
+    public AdminSession getAdminSession() {
+        AdminSession adminSession = new AdminSession();
+        adminSession.setLogin(loggedInAdmin);
+        return adminSession;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof AddressBookSnapshot // instanceof handles nulls
+            && persons.equals(((AddressBookSnapshot) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons";
+    }
+}
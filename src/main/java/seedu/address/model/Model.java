@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -31,6 +32,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a transaction, during which the change events of the model are held back.
+     * When the outermost transaction is closed, one event is raised for each list that changed.
+     */
+    ModelTransaction beginTransaction();
+
     // ============================== Person methods ======================================= //
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
@@ -56,6 +63,13 @@ public interface Model {
     // ============================== Job methods ======================================= //
 
     void addJob(Job job);
+
+    /**
+     * Adds all of {@code jobs} as one change, which is saved and shown once.
+     * None of the jobs may share a name with each other or with an existing job, and every machine must exist;
+     * otherwise no job is added.
+     */
+    void addJobs(List<Job> jobs);
     void deleteJob(JobName job);
     void updateJob(Job oldJob, Job updatedJob);
 
@@ -198,6 +212,12 @@ public interface Model {
     ObservableList<Job> getFilteredJobList();
     void updateFilteredJobList(Predicate<Job> predicate);
 
+    /**
+     * Returns the queued jobs of the machine named {@code machineName}, in the order they are to be printed,
+     * as an unmodifiable {@code ObservableList} that stays in step with the job list.
+     */
+    ObservableList<Job> getJobQueue(MachineName machineName);
+
 
     //================================= AddressBook methods ===================================//
     /**
@@ -242,4 +262,9 @@ public interface Model {
      */
     boolean isUndoLogin();
 
+    /**
+     * Stops the background work of the model, such as finishing jobs at their expected finish time.
+     */
+    void shutdown();
+
 }
@@ -3,30 +3,59 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
-
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.JobAddedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobRemovedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.JobUpdatedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
+import seedu.address.commons.events.model.MachineUpdatedEvent;
+import seedu.address.commons.events.model.QueueReorderedEvent;
+import seedu.address.commons.util.KeywordIndex;
+import seedu.address.commons.util.KeywordsPredicate;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Username;
+import seedu.address.model.job.AgingPolicy;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobCompletionScheduler;
 import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.QueueWaitStatistics;
 import seedu.address.model.job.Status;
-import seedu.address.model.job.exceptions.JobNotStartedException;
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.job.query.JobQuery;
 import seedu.address.model.machine.Machine;
 import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineNameContainsKeywordsPredicate;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
+import seedu.address.model.machine.placement.BatchPlacementContext;
+import seedu.address.model.machine.placement.LeastRemainingWorkStrategy;
+import seedu.address.model.machine.placement.PlacementStrategy;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 
@@ -41,19 +70,55 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Admin> filteredAdmins;
     private final FilteredList<Machine> filteredMachines;
     private final FilteredList<Job> filteredJobs;
+    private final JobCompletionScheduler jobCompletionScheduler;
+    private PlacementStrategy placementStrategy = new LeastRemainingWorkStrategy();
+    /** Indexes of the words searched by the find commands, made before the filtered lists that read them */
+    private final KeywordIndex<Person> personIndex;
+    private final KeywordIndex<Machine> machineIndex;
+    private final KeywordIndex<Job> jobIndex;
+    /** The lists changed during the current transaction, whose events are raised when it ends */
+    private final Set<ChangedList> pendingChanges = EnumSet.noneOf(ChangedList.class);
+    /** The events on single jobs and machines raised during the current transaction, in the order they happened */
+    private final List<BaseEvent> pendingDeltas = new ArrayList<>();
+    private int transactionDepth = 0;
 
+    /**
+     * The parts of the model that have an event raised when they change, in the order their events are raised.
+     */
+    private enum ChangedList {
+        ADDRESS_BOOK,
+        ADMINS,
+        MACHINES,
+        JOBS
+    }
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, Platform::runLater);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Changes the model makes on its own, such as finishing jobs, are run by {@code modelExecutor}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, Executor modelExecutor) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, modelExecutor);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs "
                 + userPrefs + "and initial admin");
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getMaxUndoHistoryDepth(),
+                userPrefs.getUndoHistoryBudgetBytes());
+        versionedAddressBook.setAgingPolicy(AgingPolicy.everyHours(userPrefs.getJobAgingHours()));
+        personIndex = new KeywordIndex<>(NameContainsKeywordsPredicate::getSearchedText);
+        personIndex.track(versionedAddressBook.getPersonList());
+        machineIndex = new KeywordIndex<>(MachineNameContainsKeywordsPredicate::getSearchedText);
+        machineIndex.track(versionedAddressBook.getMachineList());
+        jobIndex = new KeywordIndex<>(JobNameContainsKeywordsPredicate::getSearchedText);
+        jobIndex.track(versionedAddressBook.getJobList());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredMachines = new FilteredList<>(versionedAddressBook.getMachineList());
         filteredAdmins = new FilteredList<>(versionedAddressBook.getAdminList());
@@ -61,28 +126,8 @@ public class ModelManager extends ComponentManager implements Model {
         //TODO find a better way to change the data according to sorted jobs based on comparator
         indicateJobListChanged();
 
-        // Timer for auto print cleanup
-        // credit: https://dzone.com/articles/how-schedule-task-run-interval
-        TimerTask task = new TimerTask() {
-            @Override
-            public void run() {
-                for (Job job : versionedAddressBook.getJobList()) {
-                    try {
-                        if (job.getStatus() == Status.ONGOING && job.isFinished()) {
-                            finishJob(job);
-                        }
-                    } catch (JobNotStartedException e) {
-                        e.printStackTrace();
-                    }
-                }
-            }
-        };
-
-        Timer timer = new Timer();
-        long delay = 60000;
-        long intervalPeriod = 60000;
-        timer.scheduleAtFixedRate(task, delay, intervalPeriod);
-
+        jobCompletionScheduler = new JobCompletionScheduler(job -> modelExecutor.execute(() -> finishIfDue(job)));
+        jobCompletionScheduler.rescheduleAll(versionedAddressBook.getJobs(Status.ONGOING));
     }
 
     public ModelManager() {
@@ -92,6 +137,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
+        jobCompletionScheduler.rescheduleAll(versionedAddressBook.getJobs(Status.ONGOING));
         indicateAddressBookChanged();
     }
 
@@ -100,28 +146,123 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook;
     }
 
+    /**
+     * Holds back the change events of the model until the returned transaction, and every transaction begun
+     * inside it, is closed. The events on single jobs and machines are then raised in the order they happened,
+     * followed by a single event for each list that changed, however often it changed.
+     */
+    @Override
+    public ModelTransaction beginTransaction() {
+        transactionDepth++;
+        return new ModelTransaction() {
+            private boolean isClosed = false;
+
+            @Override
+            public void close() {
+                if (isClosed) {
+                    return;
+                }
+                isClosed = true;
+                endTransaction();
+            }
+        };
+    }
+
+    /**
+     * Ends a transaction, and raises the events held back if it was the outermost one.
+     */
+    private void endTransaction() {
+        transactionDepth--;
+        if (transactionDepth > 0 || (pendingChanges.isEmpty() && pendingDeltas.isEmpty())) {
+            return;
+        }
+
+        List<BaseEvent> deltas = new ArrayList<>(pendingDeltas);
+        pendingDeltas.clear();
+        List<ChangedList> changes = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        logger.fine("Raising the events of a transaction that changed " + changes);
+        deltas.forEach(this::raise);
+        changes.forEach(this::raiseChanged);
+    }
+
+    /**
+     * Raises {@code delta}, an event on a single job or machine, or holds it back until the current transaction
+     * ends. It is raised before the event of the list it changed.
+     */
+    private void indicateDelta(BaseEvent delta) {
+        if (transactionDepth > 0) {
+            pendingDeltas.add(delta);
+        } else {
+            raise(delta);
+        }
+    }
+
+    /**
+     * Raises a {@code JobStatusChangedEvent} if the status of {@code job} is no longer {@code oldStatus}.
+     */
+    private void indicateStatusChanged(Job job, Status oldStatus) {
+        if (job != null && job.getStatus() != oldStatus) {
+            indicateDelta(new JobStatusChangedEvent(job, oldStatus, job.getStatus()));
+        }
+    }
+
+    /**
+     * Returns the status of the job named {@code name}, or null if there is no such job.
+     */
+    private Status statusOf(JobName name) {
+        Job job = versionedAddressBook.findJob(name);
+        return job == null ? null : job.getStatus();
+    }
+
+    /**
+     * Raises the event for {@code changed}, or holds it back until the current transaction ends.
+     */
+    private void indicateChanged(ChangedList changed) {
+        if (transactionDepth > 0) {
+            pendingChanges.add(changed);
+        } else {
+            raiseChanged(changed);
+        }
+    }
+
+    /**
+     * Raises the event that {@code changed} has changed.
+     */
+    private void raiseChanged(ChangedList changed) {
+        if (changed == ChangedList.ADDRESS_BOOK) {
+            raise(new AddressBookChangedEvent(versionedAddressBook));
+        } else if (changed == ChangedList.ADMINS) {
+            raise(new AdminListChangedEvent(versionedAddressBook));
+        } else if (changed == ChangedList.MACHINES) {
+            raise(new MachineListChangedEvent(versionedAddressBook));
+        } else {
+            raise(new JobListChangedEvent(versionedAddressBook));
+        }
+    }
+
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        indicateChanged(ChangedList.ADDRESS_BOOK);
     }
 
     /** Raises an event to indicate the model has changed */
     private void indicateAdminListChanged() {
-        raise(new AdminListChangedEvent(versionedAddressBook));
+        indicateChanged(ChangedList.ADMINS);
     }
 
     /** Raises an event to indicate the model has changed */
     private void indicateMachineListChanged() {
-        raise(new MachineListChangedEvent(versionedAddressBook));
+        indicateChanged(ChangedList.MACHINES);
     }
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event to indicate the job list has changed.
+     * Machines show their jobs, so the machine list is counted as changed too.
+     */
     private void indicateJobListChanged() {
-        raise(new JobListChangedEvent(versionedAddressBook));
-        /**
-         * Since when job changes, it implicitly implies that machine list will change too
-         */
-        raise(new MachineListChangedEvent(versionedAddressBook));
+        indicateChanged(ChangedList.JOBS);
+        indicateChanged(ChangedList.MACHINES);
     }
 
     // ============================== Person methods ======================================= //
@@ -162,46 +303,91 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addJob(Job job) throws MachineNotFoundException {
         requireAllNonNull(job);
-        //TODO find another way to check if the printer exist before adding job
-        //TODO refactor after this is working
-        for (Machine m : filteredMachines) {
-            //TODO: Fix and reenable
-            /*
-            if (job.getMachine().getName().fullName.equals(new Machine("AUTO").getName().fullName)) {
-                Machine mostFree = getMostFreeMachine();
-                job.setMachine(mostFree);
-                versionedAddressBook.addJob(job);
-                versionedAddressBook.addJobToMachineList(mostFree, job);
-                indicateJobListChanged();
-                indicateMachineListChanged();
-                return;
+        if (job.getMachine().getName().fullName.equals(Machine.AUTO_ASSIGN_NAME)) {
+            Machine chosen = placementStrategy.choose(job, versionedAddressBook.getPlacementContext());
+            if (chosen == null) {
+                throw new MachineNotFoundException();
+            }
+            // like the machine given by the parser, the job's machine only carries the name
+            job.setMachine(new Machine(chosen.getName().fullName));
+        }
+
+        Machine machine = versionedAddressBook.findMachine(job.getMachine().getName());
+        if (machine == null) {
+            throw new MachineNotFoundException();
+        }
+        versionedAddressBook.addJob(job);
+        versionedAddressBook.addJobToMachineList(machine, job);
+        indicateDelta(new JobAddedEvent(job));
+        indicateJobListChanged();
+    }
+
+    /**
+     * Adds the jobs to the job list in one change. The machine of each job to be auto assigned is chosen first,
+     * one job at a time, so that each sees the work of the jobs before it. Nothing is changed unless every job
+     * can be added. Each machine is refreshed once.
+     */
+    @Override
+    public void addJobs(List<Job> jobs) throws MachineNotFoundException {
+        requireAllNonNull(jobs);
+        Set<JobName> names = new HashSet<>();
+        for (Job job : jobs) {
+            if (versionedAddressBook.findJob(job.getJobName()) != null || !names.add(job.getJobName())) {
+                throw new DuplicateJobException();
             }
-            */
-            if (job.getMachine().getName().fullName.equals(m.getName().fullName)) {
-                versionedAddressBook.addJob(job);
-                versionedAddressBook.addJobToMachineList(m, job);
-                indicateJobListChanged();
-                indicateMachineListChanged();
-                return;
+        }
+
+        BatchPlacementContext plan = new BatchPlacementContext(versionedAddressBook.getPlacementContext(),
+                versionedAddressBook.getQueueOrder());
+        Map<Job, Machine> chosenMachines = new IdentityHashMap<>();
+        for (Job job : jobs) {
+            if (!job.getMachine().getName().fullName.equals(Machine.AUTO_ASSIGN_NAME)) {
+                Machine machine = versionedAddressBook.findMachine(job.getMachine().getName());
+                if (machine == null) {
+                    throw new MachineNotFoundException();
+                }
+                plan.plan(machine, job);
+            }
+        }
+        for (Job job : jobs) {
+            if (job.getMachine().getName().fullName.equals(Machine.AUTO_ASSIGN_NAME)) {
+                Machine chosen = placementStrategy.choose(job, plan);
+                if (chosen == null) {
+                    throw new MachineNotFoundException();
+                }
+                plan.plan(chosen, job);
+                chosenMachines.put(job, chosen);
             }
         }
-        throw new MachineNotFoundException();
+
+        // like the machine given by the parser, the job's machine only carries the name
+        chosenMachines.forEach((job, chosen) -> job.setMachine(new Machine(chosen.getName().fullName)));
+        versionedAddressBook.addJobs(jobs);
+        logger.fine(() -> "Added " + jobs.size() + " jobs, " + chosenMachines.size() + " of them auto assigned");
+        jobs.forEach(job -> indicateDelta(new JobAddedEvent(job)));
+        indicateJobListChanged();
     }
 
     @Override
     public void deleteJob(JobName job) {
         requireAllNonNull(job);
+        Job removed = versionedAddressBook.findJob(job);
         versionedAddressBook.removeJob(job);
+        jobCompletionScheduler.unschedule(job);
+        if (removed != null) {
+            indicateDelta(new JobRemovedEvent(removed));
+        }
         indicateJobListChanged();
-        indicateMachineListChanged();
     }
 
     @Override
     public void updateJob(Job oldJob, Job updatedJob) {
         requireAllNonNull(oldJob, updatedJob);
         versionedAddressBook.updateJob(oldJob, updatedJob);
+        jobCompletionScheduler.unschedule(oldJob.getJobName());
+        jobCompletionScheduler.schedule(updatedJob);
+        indicateDelta(new JobUpdatedEvent(oldJob, updatedJob));
         indicateJobListChanged();
-        indicateMachineListChanged();
     }
 
     @Override
@@ -210,49 +396,111 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.findJob(name);
     }
 
+    /**
+     * Returns the jobs with the status {@code status}, as an unmodifiable set that follows the job list.
+     */
+    public Set<Job> getJobs(Status status) {
+        return versionedAddressBook.getJobs(status);
+    }
+
+    /**
+     * Returns the number of jobs with the status {@code status}.
+     */
+    public int countJobs(Status status) {
+        return versionedAddressBook.countJobs(status);
+    }
+
     @Override
     public void startJob(JobName name) {
         requireNonNull(name);
+        Status oldStatus = statusOf(name);
         versionedAddressBook.startJob(name);
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(name));
+        indicateStatusChanged(versionedAddressBook.findJob(name), oldStatus);
         indicateJobListChanged();
-        indicateMachineListChanged();
     }
 
     @Override
     public void cancelJob(JobName name) {
         requireAllNonNull();
+        Status oldStatus = statusOf(name);
         versionedAddressBook.cancelJob(name);
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(name));
+        indicateStatusChanged(versionedAddressBook.findJob(name), oldStatus);
         indicateJobListChanged();
-        indicateMachineListChanged();
 
     }
 
     @Override
     public void restartJob(JobName name) {
         requireAllNonNull();
+        Status oldStatus = statusOf(name);
         versionedAddressBook.restartJob(name);
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(name));
+        indicateStatusChanged(versionedAddressBook.findJob(name), oldStatus);
+        indicateJobListChanged();
+    }
+
+    /**
+     * Pauses the job named {@code name}, so it is no longer finished when its expected finish time passes.
+     */
+    public void pauseJob(JobName name) {
+        requireNonNull(name);
+        Status oldStatus = statusOf(name);
+        versionedAddressBook.pauseJob(name);
+        jobCompletionScheduler.unschedule(name);
+        indicateStatusChanged(versionedAddressBook.findJob(name), oldStatus);
         indicateJobListChanged();
-        indicateMachineListChanged();
     }
 
     @Override
     public void swapJobs(JobName jobName1, JobName jobName2) {
         versionedAddressBook.swapJobs(jobName1, jobName2);
-        versionedAddressBook.commit();
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(jobName1));
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(jobName2));
+        indicateDelta(new QueueReorderedEvent(versionedAddressBook.findJob(jobName1),
+                versionedAddressBook.findJob(jobName2)));
         indicateJobListChanged();
 
 
     }
 
+    /**
+     * Finishes {@code job} if it is still ongoing and past its expected finish time, or schedules it again if it is
+     * still ongoing but not yet due, as its deadline is no longer scheduled.
+     * The job may have been restarted or cancelled after its deadline was handed over to the model executor.
+     */
+    private void finishIfDue(Job job) {
+        if (job.getStatus() != Status.ONGOING || versionedAddressBook.findJob(job.getJobName()) != job) {
+            return;
+        }
+
+        if (job.getExpectedFinishTime() <= AppClock.millis()) {
+            finishJob(job);
+        } else {
+            jobCompletionScheduler.schedule(job);
+        }
+    }
+
+    /**
+     * Finishes {@code job}. Jobs are finished by their deadline rather than by a command, so the finish is
+     * committed here as a step of its own, which undo takes back like any other change of status.
+     */
     @Override
     public void finishJob(Job job) {
+        Status oldStatus = job.getStatus();
         versionedAddressBook.finishJob(job);
+        versionedAddressBook.commit();
+        indicateStatusChanged(job, oldStatus);
         indicateJobListChanged();
     }
 
     @Override
     public void requestDeletion(JobName jobName) {
+        Status oldStatus = statusOf(jobName);
         versionedAddressBook.requestDeletion(jobName);
+        jobCompletionScheduler.schedule(versionedAddressBook.findJob(jobName));
+        indicateStatusChanged(versionedAddressBook.findJob(jobName), oldStatus);
         indicateJobListChanged();
 
     }
@@ -282,8 +530,20 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateMachine(Machine target, Machine editedMachine) {
         requireAllNonNull(target, editedMachine);
+        List<Job> movedJobs = target.getName().equals(editedMachine.getName())
+                ? Collections.emptyList() : target.getJobs();
         versionedAddressBook.updateMachine(target, editedMachine);
+        indicateDelta(new MachineUpdatedEvent(target, editedMachine));
         indicateMachineListChanged();
+        if (!movedJobs.isEmpty()) {
+            // the jobs were replaced by copies on the new machine, so their deadlines have to follow them
+            for (Job job : movedJobs) {
+                Job moved = versionedAddressBook.findJob(job.getJobName());
+                jobCompletionScheduler.schedule(moved);
+                indicateDelta(new JobUpdatedEvent(job, moved));
+            }
+            indicateJobListChanged();
+        }
     }
 
     @Override
@@ -291,6 +551,21 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.getMostFreeMachine();
     }
 
+    /**
+     * Sets the strategy that chooses the machine for jobs added with the machine name {@code AUTO}.
+     */
+    public void setPlacementStrategy(PlacementStrategy placementStrategy) {
+        requireNonNull(placementStrategy);
+        this.placementStrategy = placementStrategy;
+    }
+
+    /**
+     * Returns the statistics of how long the jobs waited in their queues before they started, as of now.
+     */
+    public QueueWaitStatistics getQueueWaitStatistics() {
+        return versionedAddressBook.getQueueWaitStatistics(AppClock.millis());
+    }
+
     @Override
     public Machine findMachine(MachineName machineName) {
         requireNonNull(machineName);
@@ -365,7 +640,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(resolveKeywords(predicate, personIndex));
     }
 
     //=========== Filtered Machine List Accessors ============================================================
@@ -383,7 +658,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredMachineList(Predicate<Machine> predicate) {
         requireNonNull(predicate);
-        filteredMachines.setPredicate(predicate);
+        filteredMachines.setPredicate(resolveKeywords(predicate, machineIndex));
     }
 
 
@@ -412,10 +687,43 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredJobs);
     }
 
+    @Override
+    public ObservableList<Job> getJobQueue(MachineName machineName) {
+        requireNonNull(machineName);
+        return versionedAddressBook.getJobQueue(machineName);
+    }
+
     @Override
     public void updateFilteredJobList(Predicate<Job> predicate) {
         requireNonNull(predicate);
-        filteredJobs.setPredicate(predicate);
+        if (predicate instanceof JobQuery) {
+            JobQuery query = (JobQuery) predicate;
+            logger.fine("Planning job query: " + query);
+            filteredJobs.setPredicate(query.plan(this::findIndexedJobs));
+            return;
+        }
+        filteredJobs.setPredicate(resolveKeywords(predicate, jobIndex));
+    }
+
+    /**
+     * Returns the jobs meeting {@code condition} from the index of its field, or null if there is none.
+     */
+    private Set<Job> findIndexedJobs(JobCondition condition) {
+        if (condition.getField() == JobCondition.Field.KEYWORD) {
+            return jobIndex.find((String) condition.getKey());
+        }
+        return versionedAddressBook.findIndexedJobs(condition);
+    }
+
+    /**
+     * Returns {@code predicate}, unless it is a {@code KeywordsPredicate}, in which case it returns a predicate
+     * that looks the keywords up in {@code index} instead of searching the text of each item.
+     */
+    private static <T> Predicate<T> resolveKeywords(Predicate<T> predicate, KeywordIndex<T> index) {
+        if (!(predicate instanceof KeywordsPredicate)) {
+            return predicate;
+        }
+        return index.matchingAny(((KeywordsPredicate<T>) predicate).getKeywords());
     }
 
 
@@ -448,14 +756,43 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
-        indicateAddressBookChanged();
+        restoreVersion(versionedAddressBook::undo);
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
+        restoreVersion(versionedAddressBook::redo);
+    }
+
+    /**
+     * Moves the address book to another version with {@code restore}, then raises an event for each job that
+     * was added, removed, replaced or changed status on the way, followed by the events of the lists.
+     */
+    private void restoreVersion(Runnable restore) {
+        Map<JobName, Job> jobsBefore = new HashMap<>();
+        Map<Job, Status> statusesBefore = new IdentityHashMap<>();
+        for (Job job : versionedAddressBook.getJobList()) {
+            jobsBefore.put(job.getJobName(), job);
+            statusesBefore.put(job, job.getStatus());
+        }
+
+        restore.run();
+        jobCompletionScheduler.rescheduleAll(versionedAddressBook.getJobs(Status.ONGOING));
+
+        for (Job job : versionedAddressBook.getJobList()) {
+            Job before = jobsBefore.remove(job.getJobName());
+            if (before == null) {
+                indicateDelta(new JobAddedEvent(job));
+            } else if (before != job) {
+                indicateDelta(new JobUpdatedEvent(before, job));
+            } else {
+                indicateStatusChanged(job, statusesBefore.get(job));
+            }
+        }
+        jobsBefore.values().forEach(job -> indicateDelta(new JobRemovedEvent(job)));
         indicateAddressBookChanged();
+        indicateAdminListChanged();
+        indicateJobListChanged();
     }
 
     @Override
@@ -473,6 +810,11 @@ public class ModelManager extends ComponentManager implements Model {
         versionedAddressBook.adminLogoutCommit();
     }
 
+    @Override
+    public void shutdown() {
+        jobCompletionScheduler.shutdown();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
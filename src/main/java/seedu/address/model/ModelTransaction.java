@@ -0,0 +1,14 @@
+package seedu.address.model;
+
+/**
+ * A scope in which the change events of a {@code Model} are held back, to be raised once each when the outermost
+ * scope is closed. Meant to be used with try-with-resources around a single user action.
+ */
+public interface ModelTransaction extends AutoCloseable {
+
+    /**
+     * Ends the transaction. Closing a transaction more than once has no further effect.
+     */
+    @Override
+    void close();
+}
@@ -11,11 +11,19 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final long DEFAULT_SAVE_DEBOUNCE_MILLIS = 200;
+    public static final double DEFAULT_JOB_AGING_HOURS = 24;
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath;
     private Path makerManagerMachinesFilePath;
     private Path makerManagerAdminsFilePath;
     private Path makerManagerJobsFilePath;
+    private Path makerManagerJournalFilePath;
+    private int maxUndoHistoryDepth;
+    private long undoHistoryBudgetBytes;
+    private long saveDebounceMillis;
+    private double jobAgingHours;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -23,6 +31,11 @@ public class UserPrefs {
         this.makerManagerMachinesFilePath = Paths.get("data\\makerManagerMachines.xml");
         this.makerManagerAdminsFilePath = Paths.get("data\\makerManagerAdmins.xml");
         this.makerManagerJobsFilePath = Paths.get("data\\makerManagerJobs.xml");
+        this.makerManagerJournalFilePath = Paths.get("data\\makerManagerJournal.xml");
+        this.maxUndoHistoryDepth = VersionedAddressBook.DEFAULT_MAX_HISTORY_DEPTH;
+        this.undoHistoryBudgetBytes = VersionedAddressBook.DEFAULT_HISTORY_BUDGET_BYTES;
+        this.saveDebounceMillis = DEFAULT_SAVE_DEBOUNCE_MILLIS;
+        this.jobAgingHours = DEFAULT_JOB_AGING_HOURS;
     }
 
     public GuiSettings getGuiSettings() {
@@ -60,7 +73,46 @@ public class UserPrefs {
     public void setMakerManagerJobsFilePath(Path makerManagerJobsFilePath) {
         this.makerManagerJobsFilePath = makerManagerJobsFilePath;
     }
+    public Path getMakerManagerJournalFilePath() {
+        return makerManagerJournalFilePath;
+    }
+    public void setMakerManagerJournalFilePath(Path makerManagerJournalFilePath) {
+        this.makerManagerJournalFilePath = makerManagerJournalFilePath;
+    }
 
+    // ================================ undo history methods ============================== //
+    public int getMaxUndoHistoryDepth() {
+        return maxUndoHistoryDepth;
+    }
+    public void setMaxUndoHistoryDepth(int maxUndoHistoryDepth) {
+        this.maxUndoHistoryDepth = maxUndoHistoryDepth;
+    }
+    public long getUndoHistoryBudgetBytes() {
+        return undoHistoryBudgetBytes;
+    }
+    public void setUndoHistoryBudgetBytes(long undoHistoryBudgetBytes) {
+        this.undoHistoryBudgetBytes = undoHistoryBudgetBytes;
+    }
+
+    // ================================ storage methods =================================== //
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
+    // ================================ queue methods ===================================== //
+    /**
+     * Returns how many hours a queued job waits for its priority to be raised by one level,
+     * where 0 turns priority aging off.
+     */
+    public double getJobAgingHours() {
+        return jobAgingHours;
+    }
+    public void setJobAgingHours(double jobAgingHours) {
+        this.jobAgingHours = jobAgingHours;
+    }
 
     // ================================ others =========================================== //
 
@@ -1,67 +1,153 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ *
+ * Instead of copying the whole address book on every commit, each change made through this class is recorded
+ * as an {@code Edit} that knows how to undo and redo itself, and a commit groups the edits made since the
+ * previous commit. The history is bounded by a maximum number of commits and a rough memory budget; once
+ * either is exceeded the oldest commits are dropped and can no longer be undone.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final int DEFAULT_MAX_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_HISTORY_BUDGET_BYTES = 4L * 1024 * 1024;
+
+    /** Rough size of an edit that holds on to a single entity */
+    private static final long ENTITY_EDIT_SIZE = 64;
+    /** Rough size of an edit that holds on to an address book snapshot, excluding its lists */
+    private static final long SNAPSHOT_EDIT_SIZE = 128;
+    private static final long REFERENCE_SIZE = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
+    private final int maxHistoryDepth;
+    private final long historyBudgetBytes;
+    private final List<Commit> history;
+    private List<Edit> pendingEdits;
+    private long historySize;
+    private boolean isRecording;
+
     private int currentStatePointer;
     private int lastAdminLogoutPointer;
     private int lastAdminLoginPointer;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_MAX_HISTORY_DEPTH, DEFAULT_HISTORY_BUDGET_BYTES);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} that keeps at most {@code maxHistoryDepth} commits, and drops the
+     * oldest commits once the history is estimated to take up more than {@code historyBudgetBytes}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxHistoryDepth, long historyBudgetBytes) {
         super(initialState);
+        if (maxHistoryDepth < 1 || historyBudgetBytes < 1) {
+            throw new IllegalArgumentException("History depth and budget must be positive.");
+        }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        this.maxHistoryDepth = maxHistoryDepth;
+        this.historyBudgetBytes = historyBudgetBytes;
+        history = new ArrayList<>();
+        pendingEdits = new ArrayList<>();
+        historySize = 0;
         currentStatePointer = 0;
         lastAdminLogoutPointer = -1;
         lastAdminLoginPointer = -1;
+        isRecording = true;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit at the end of the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        addCommit();
         if (currentStatePointer == lastAdminLoginPointer) {
             lastAdminLoginPointer = -1;
         }
+        evictOldCommits();
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit at the end of the history.
+     * Undone states are removed from the history.
      */
     public void adminLoginCommit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
+        addCommit();
         lastAdminLoginPointer = currentStatePointer;
+        evictOldCommits();
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit at the end of the history.
+     * Undone states are removed from the history.
      */
     public void adminLogoutCommit() {
+        addCommit();
+        lastAdminLogoutPointer = currentStatePointer;
+        evictOldCommits();
+    }
+
+    /**
+     * Moves the pending edits into a new commit at the current position in the history.
+     */
+    private void addCommit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        Commit commit = new Commit(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        history.add(commit);
+        historySize += commit.estimatedSize;
         currentStatePointer++;
-        lastAdminLogoutPointer = currentStatePointer;
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        List<Commit> undoneCommits = history.subList(currentStatePointer, history.size());
+        undoneCommits.forEach(commit -> historySize -= commit.estimatedSize);
+        undoneCommits.clear();
     }
 
+    /**
+     * Drops the oldest commits until the history is within its depth and memory budget.
+     * The latest commit is always kept so that the command that was just executed can be undone.
+     */
+    private void evictOldCommits() {
+        int evicted = 0;
+        while (history.size() > maxHistoryDepth
+                || (historySize > historyBudgetBytes && history.size() > 1)) {
+            historySize -= history.remove(0).estimatedSize;
+            currentStatePointer--;
+            lastAdminLoginPointer = shiftAfterEviction(lastAdminLoginPointer);
+            lastAdminLogoutPointer = shiftAfterEviction(lastAdminLogoutPointer);
+            evicted++;
+        }
+        if (evicted > 0) {
+            logger.fine("Dropped " + evicted + " oldest state(s) from the undo history");
+        }
+    }
+
+    /**
+     * Returns the position of the state at {@code pointer} once the oldest commit is dropped,
+     * or -1 if that state was reached by the dropped commit (or there was no such state).
+     */
+    private static int shiftAfterEviction(int pointer) {
+        return pointer <= 1 ? -1 : pointer - 1;
+    }
 
     /**
      * Restores the address book to its previous state.
@@ -70,8 +156,9 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        rollBackPendingEdits();
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        replay(history.get(currentStatePointer)::undo);
     }
 
     /**
@@ -81,8 +168,43 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        rollBackPendingEdits();
+        replay(history.get(currentStatePointer)::redo);
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Discards the changes made since the last commit, as restoring a state from a full copy used to.
+     */
+    private void rollBackPendingEdits() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+        Commit uncommitted = new Commit(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        replay(uncommitted::undo);
+    }
+
+    /**
+     * Runs {@code change} without recording the edits it makes.
+     */
+    private void replay(Runnable change) {
+        isRecording = false;
+        try {
+            change.run();
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    private void record(Runnable undo, Runnable redo, long estimatedSize) {
+        if (isRecording) {
+            pendingEdits.add(new Edit(undo, redo, estimatedSize));
+        }
+    }
+
+    private void record(Runnable undo, Runnable redo) {
+        record(undo, redo, ENTITY_EDIT_SIZE);
     }
 
     /**
@@ -103,7 +225,7 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < history.size();
     }
 
     /**
@@ -126,6 +248,270 @@ public class VersionedAddressBook extends AddressBook {
         return (currentStatePointer == lastAdminLoginPointer);
     }
 
+    //======================== recorded changes ================================//
+
+    /**
+     * Records the change as a swap between snapshots of the whole address book.
+     * Lists that are not changed by {@code newData} are shared between the two snapshots.
+     */
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        if (!isRecording) {
+            super.resetData(newData);
+            return;
+        }
+
+        ReadOnlyAddressBook before = snapshot();
+        super.resetData(newData);
+        ReadOnlyAddressBook after = snapshot();
+        record(() -> super.resetData(before), () -> super.resetData(after), estimateSnapshotEditSize(before, after));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        record(() -> super.removePerson(p), () -> super.addPerson(p));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        super.updatePerson(target, editedPerson);
+        record(() -> super.updatePerson(editedPerson, target), () -> super.updatePerson(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = getPersonList().indexOf(key);
+        super.removePerson(key);
+        record(() -> insertPerson(index, key), () -> super.removePerson(key));
+    }
+
+    @Override
+    public void addAdmin(Admin toAdd) {
+        int index = getAdminList().size();
+        super.addAdmin(toAdd);
+        // the stored admin has a freshly hashed password, so it has to be looked up rather than reused
+        Admin added = findAdmin(toAdd.getUsername());
+        record(() -> super.removeAdmin(added), () -> insertAdmin(index, added));
+    }
+
+    @Override
+    public void addAdminWithoutRehash(Admin toAdd) {
+        super.addAdminWithoutRehash(toAdd);
+        record(() -> super.removeAdmin(toAdd), () -> super.addAdminWithoutRehash(toAdd));
+    }
+
+    @Override
+    public void removeAdmin(Admin toRemove) {
+        int index = getAdminList().indexOf(toRemove);
+        super.removeAdmin(toRemove);
+        record(() -> insertAdmin(index, toRemove), () -> super.removeAdmin(toRemove));
+    }
+
+    @Override
+    public void setLoggedInAdmin(Admin admin) {
+        recordSession(() -> super.setLoggedInAdmin(admin));
+    }
+
+    @Override
+    public void clearLogin() {
+        recordSession(super::clearLogin);
+    }
+
+    @Override
+    public void addMachine(Machine machine) {
+        super.addMachine(machine);
+        // the stored machine reads its jobs from the job list, so it has to be looked up rather than reused
+        Machine added = findMachine(machine.getName());
+        record(() -> super.removeMachine(added), () -> super.addMachine(added));
+    }
+
+    @Override
+    public void removeMachine(Machine toRemove) {
+        int index = getMachineList().indexOf(toRemove);
+        super.removeMachine(toRemove);
+        record(() -> insertMachine(index, toRemove), () -> super.removeMachine(toRemove));
+    }
+
+    @Override
+    public void updateMachine(Machine target, Machine editedMachine) {
+        super.updateMachine(target, editedMachine);
+        Machine updated = findMachine(editedMachine.getName());
+        record(() -> super.updateMachine(updated, target), () -> super.updateMachine(target, updated));
+    }
+
+    @Override
+    public void addJobToMachineList(Machine targetMachine, Job jobToAdd) {
+        super.addJobToMachineList(targetMachine, jobToAdd);
+        record(() -> super.removeJobFromMachineList(targetMachine, jobToAdd), () ->
+            super.addJobToMachineList(targetMachine, jobToAdd));
+    }
+
+    @Override
+    public void removeJobFromMachineList(Machine targetMachine, Job jobToRemove) {
+        super.removeJobFromMachineList(targetMachine, jobToRemove);
+        record(() -> super.addJobToMachineList(targetMachine, jobToRemove), () ->
+            super.removeJobFromMachineList(targetMachine, jobToRemove));
+    }
+
+    @Override
+    public void addJob(Job job) {
+        super.addJob(job);
+        record(() -> super.removeJob(job.getJobName()), () -> super.addJob(job));
+    }
+
+    @Override
+    public void addJobs(List<Job> jobs) {
+        List<Job> added = new ArrayList<>(jobs);
+        super.addJobs(added);
+        record(() -> super.removeJobs(added), () -> super.addJobs(added),
+                ENTITY_EDIT_SIZE + REFERENCE_SIZE * added.size());
+    }
+
+    @Override
+    public void removeJob(JobName name) {
+        Job removed = findJob(name);
+        int index = getJobList().indexOf(removed);
+        super.removeJob(name);
+        record(() -> insertJob(index, removed), () -> super.removeJob(name));
+    }
+
+    @Override
+    public void updateJob(Job oldJob, Job updatedJob) {
+        int index = getJobList().indexOf(findJob(oldJob.getJobName()));
+        super.updateJob(oldJob, updatedJob);
+        record(() -> replaceJob(updatedJob, index, oldJob), () -> replaceJob(oldJob, index, updatedJob));
+    }
+
+    /**
+     * Replaces {@code current} with {@code replacement} at {@code index} of the job list.
+     * Unlike {@code updateJob}, this accepts a replacement that is equal to {@code current}.
+     */
+    private void replaceJob(Job current, int index, Job replacement) {
+        super.removeJob(current.getJobName());
+        insertJob(index, replacement);
+    }
+
+    @Override
+    public void startJob(JobName name) {
+        recordJobState(name, () -> super.startJob(name));
+    }
+
+    @Override
+    public void cancelJob(JobName name) {
+        recordJobState(name, () -> super.cancelJob(name));
+    }
+
+    @Override
+    public void restartJob(JobName name) {
+        recordJobState(name, () -> super.restartJob(name));
+    }
+
+    @Override
+    public void pauseJob(JobName name) {
+        recordJobState(name, () -> super.pauseJob(name));
+    }
+
+    @Override
+    public void requestDeletion(JobName jobName) {
+        recordJobState(jobName, () -> super.requestDeletion(jobName));
+    }
+
+    @Override
+    public void swapJobs(JobName jobName1, JobName jobName2) {
+        super.swapJobs(jobName1, jobName2);
+        record(() -> super.swapJobs(jobName1, jobName2), () -> super.swapJobs(jobName1, jobName2));
+    }
+
+    @Override
+    public void finishJob(Job job) {
+        recordJobState(job.getJobName(), () -> super.finishJob(job));
+    }
+
+    /**
+     * Runs {@code change}, which updates the status of the job named {@code name} in place,
+     * and records the status, start time and finish time of the job before and after it.
+     */
+    private void recordJobState(JobName name, Runnable change) {
+        Job job = findJob(name);
+        if (job == null) {
+            change.run();
+            return;
+        }
+
+        Status statusBefore = job.getStatus();
+        TimeStamp startTimeBefore = job.getStartTime();
+        TimeStamp finishTimeBefore = job.getFinishTime();
+        change.run();
+        Status statusAfter = job.getStatus();
+        TimeStamp startTimeAfter = job.getStartTime();
+        TimeStamp finishTimeAfter = job.getFinishTime();
+        record(() -> restoreJobState(job, statusBefore, startTimeBefore, finishTimeBefore), () ->
+            restoreJobState(job, statusAfter, startTimeAfter, finishTimeAfter));
+    }
+
+    /**
+     * Puts back the status and times of {@code job}. The times are set first, so that the job list indexes the job
+     * under them when its status is set.
+     */
+    private void restoreJobState(Job job, Status status, TimeStamp startTime, TimeStamp finishTime) {
+        job.setStartTime(startTime);
+        job.setFinishTime(finishTime);
+        setJobStatus(job, status);
+    }
+
+    /**
+     * Runs {@code change}, which updates the admin session, and records the logged in admin before and after it.
+     */
+    private void recordSession(Runnable change) {
+        Admin adminBefore = currentlyLoggedIn();
+        change.run();
+        Admin adminAfter = currentlyLoggedIn();
+        record(() -> restoreSession(adminBefore), () -> restoreSession(adminAfter));
+    }
+
+    /**
+     * Logs in {@code admin}, or logs out if {@code admin} is null.
+     */
+    private void restoreSession(Admin admin) {
+        if (admin == null) {
+            super.clearLogin();
+        } else {
+            super.setLoggedInAdmin(admin);
+        }
+    }
+
+    /**
+     * Returns a rough estimate of the memory held by an edit between the two snapshots.
+     * Only lists that differ between the snapshots are counted, since unchanged lists are shared.
+     */
+    private static long estimateSnapshotEditSize(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+        long size = SNAPSHOT_EDIT_SIZE;
+        size += estimateListSize(before.getPersonList(), after.getPersonList());
+        size += estimateListSize(before.getAdminList(), after.getAdminList());
+        size += estimateListSize(before.getMachineList(), after.getMachineList());
+        size += estimateListSize(before.getJobList(), after.getJobList());
+        return size;
+    }
+
+    /**
+     * Returns the size of the references held by {@code before} and {@code after}, unless they are the same list.
+     */
+    private static long estimateListSize(List<?> before, List<?> after) {
+        if (before == after) {
+            return 0;
+        }
+        return (before.size() + after.size()) * REFERENCE_SIZE;
+    }
+
+    /**
+     * Returns the estimated memory held by the committed history, in bytes.
+     */
+    long getHistorySize() {
+        return historySize;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -141,11 +527,55 @@ public class VersionedAddressBook extends AddressBook {
         VersionedAddressBook otherVersionedAddressBook = (VersionedAddressBook) other;
 
         // state check
-        return super.equals(otherVersionedAddressBook) && addressBookStateList
-            .equals(otherVersionedAddressBook.addressBookStateList)
+        return super.equals(otherVersionedAddressBook)
+            && history.size() == otherVersionedAddressBook.history.size()
             && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * A change to the address book that can be undone and redone.
+     */
+    private static class Edit {
+        private final Runnable undo;
+        private final Runnable redo;
+        private final long estimatedSize;
+
+        Edit(Runnable undo, Runnable redo, long estimatedSize) {
+            this.undo = undo;
+            this.redo = redo;
+            this.estimatedSize = estimatedSize;
+        }
+    }
+
+    /**
+     * The edits made between two commits, in the order they were made.
+     */
+    private static class Commit {
+        private final List<Edit> edits;
+        private final long estimatedSize;
+
+        Commit(List<Edit> edits) {
+            this.edits = edits;
+            this.estimatedSize = edits.stream().mapToLong(edit -> edit.estimatedSize).sum();
+        }
+
+        /**
+         * Undoes the edits, latest first.
+         */
+        void undo() {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                edits.get(i).undo.run();
+            }
+        }
+
+        /**
+         * Redoes the edits in the order they were made.
+         */
+        void redo() {
+            edits.forEach(edit -> edit.redo.run());
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -7,6 +7,8 @@ import java.util.List;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ObservableListSnapshot;
 import seedu.address.model.admin.exceptions.AdminNotFoundException;
 import seedu.address.model.admin.exceptions.DuplicateAdminException;
 
@@ -16,6 +18,7 @@ import seedu.address.model.admin.exceptions.DuplicateAdminException;
 public class UniqueAdminList {
 
     private final ObservableList<Admin> internalList = FXCollections.observableArrayList();
+    private final ObservableListSnapshot<Admin> snapshots = new ObservableListSnapshot<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent admin
@@ -45,6 +48,9 @@ public class UniqueAdminList {
      */
     public void setAdmins(List<Admin> admins) {
         requireNonNull(admins);
+        if (snapshots.isCurrent(admins)) {
+            return;
+        }
         if (!adminsAreUnique(admins)) {
             throw new DuplicateAdminException();
         }
@@ -66,6 +72,19 @@ public class UniqueAdminList {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds the Admin to the list at {@code index}
+     * The admin must not exist in the list
+     */
+    public void add(int index, Admin toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateAdminException();
+        }
+
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Removes the equivalent admin from the list.
      * The admin must exist in the list.
@@ -93,19 +112,20 @@ public class UniqueAdminList {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns an unmodifiable copy of the list.
+     * Snapshots taken while the list is unchanged are the same instance, so they can be kept cheaply.
+     */
+    public ObservableList<Admin> snapshot() {
+        return snapshots.get();
+    }
+
 
     /**
      * Returns true if {@code admins} contains only unique admins
      */
     private boolean adminsAreUnique(List<Admin> admins) {
-        for (int i = 0; i < admins.size() - 1; i++) {
-            for (int j = i + 1; j < admins.size(); j++) {
-                if (admins.get(i).equals(admins.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return CollectionUtil.elementsAreUnique(admins, Admin::getUsername, Admin::equals);
     }
 
 }
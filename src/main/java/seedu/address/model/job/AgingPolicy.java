@@ -0,0 +1,89 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * How the priority of a queued job rises the longer it waits, so that a steady stream of urgent jobs cannot
+ * keep a normal job waiting forever.
+ *
+ * Every aging interval a job waits counts as one priority level: a normal job that has waited two intervals
+ * is queued as if it were an urgent job added just now. A job is therefore queued by its aged time, which is
+ * the time it was added plus one interval for each level it is below urgent. The aged time of a job does not
+ * change as time passes, so neither does the order of two jobs, and queues never need to be sorted again.
+ */
+public class AgingPolicy {
+
+    /** A policy under which jobs keep their priority however long they wait */
+    public static final AgingPolicy NONE = new AgingPolicy(0);
+
+    private static final double MILLIS_PER_HOUR = 60 * 60 * 1000;
+
+    private final long agingIntervalMillis;
+
+    /**
+     * Creates a policy that raises the priority of a job by one level for every {@code agingIntervalMillis}
+     * it waits. An interval that is not positive turns aging off.
+     */
+    public AgingPolicy(long agingIntervalMillis) {
+        this.agingIntervalMillis = Math.max(agingIntervalMillis, 0);
+    }
+
+    /**
+     * Returns a policy that raises the priority of a job by one level for every {@code agingIntervalHours}
+     * hours it waits, or {@code NONE} if {@code agingIntervalHours} is not positive.
+     */
+    public static AgingPolicy everyHours(double agingIntervalHours) {
+        return agingIntervalHours > 0 ? new AgingPolicy(Math.round(agingIntervalHours * MILLIS_PER_HOUR)) : NONE;
+    }
+
+    public boolean isEnabled() {
+        return agingIntervalMillis > 0;
+    }
+
+    public long getAgingIntervalMillis() {
+        return agingIntervalMillis;
+    }
+
+    /**
+     * Returns the time, in milliseconds since the epoch, at which an urgent job would be queued level with
+     * {@code job}. Returns the added time of {@code job} if aging is off.
+     */
+    public long getAgedTime(Job job) {
+        requireNonNull(job);
+        return job.getAddedTime().getTimeInMillis() + job.getPriority().ordinal() * agingIntervalMillis;
+    }
+
+    /**
+     * Returns the priority {@code job} is treated as having once it has waited until {@code now},
+     * given in milliseconds since the epoch.
+     */
+    public Priority getEffectivePriority(Job job, long now) {
+        requireNonNull(job);
+        Priority priority = job.getPriority();
+        if (!isEnabled()) {
+            return priority;
+        }
+
+        long waited = Math.max(now - job.getAddedTime().getTimeInMillis(), 0);
+        long levelsRaised = waited / agingIntervalMillis;
+        return Priority.values()[(int) Math.max(priority.ordinal() - levelsRaised, 0)];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AgingPolicy // instanceof handles nulls
+                && agingIntervalMillis == ((AgingPolicy) other).agingIntervalMillis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(agingIntervalMillis);
+    }
+
+    @Override
+    public String toString() {
+        return isEnabled() ? "Raise priority every " + agingIntervalMillis / MILLIS_PER_HOUR + " hours"
+                : "No priority aging";
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.job.exceptions.JobNotStartedException;
 import seedu.address.model.machine.Machine;
@@ -39,6 +40,8 @@ public class Job {
     private JobName name;
     private Machine machine;
     private TimeStamp startTime;
+    /** The time the job finished, or null if it has not finished */
+    private TimeStamp finishTime;
     private Person owner;
     private final TimeStamp addedTime;
 
@@ -74,6 +77,16 @@ public class Job {
      */
     public Job(JobName name, Machine machine, Person owner, TimeStamp addedTime, TimeStamp startTime, Priority priority,
                Status status, float duration, JobNote jobNote, Set<Tag> tags) {
+        this(name, machine, owner, addedTime, startTime, null, priority, status, duration, jobNote, tags);
+    }
+
+    /**
+     * Recovers a job object, with the time it finished, from the storage file.
+     * {@code finishTime} is null if the job has not finished.
+     */
+    public Job(JobName name, Machine machine, Person owner, TimeStamp addedTime, TimeStamp startTime,
+               TimeStamp finishTime, Priority priority, Status status, float duration, JobNote jobNote,
+               Set<Tag> tags) {
         requireAllNonNull(name, machine, owner, tags);
         this.name = name;
         this.machine = machine;
@@ -84,6 +97,7 @@ public class Job {
         this.duration = duration;
         this.jobNote = jobNote;
         this.startTime = startTime;
+        this.finishTime = finishTime;
         this.tags.addAll(tags);
     }
 
@@ -94,15 +108,21 @@ public class Job {
     public boolean isFinished() throws JobNotStartedException {
 
         if (this.status == ONGOING) {
-            TimeStamp current = new TimeStamp();
-            return TimeStamp.timeDifference(startTime, current) > hoursToMillis(this.duration);
+            return AppClock.millis() > getExpectedFinishTime();
         } else {
             throw new JobNotStartedException();
         }
     }
 
+    /**
+     * Returns the time at which the job is expected to finish, in milliseconds since the epoch
+     */
+    public long getExpectedFinishTime() {
+        return startTime.getTimeInMillis() + hoursToMillis(this.duration);
+    }
+
     private static long hoursToMillis(float hours) {
-        return (long) hours * 60 * 60 * 1000;
+        return (long) (hours * 60 * 60 * 1000);
     }
 
 
@@ -128,6 +148,7 @@ public class Job {
             this.status = ONGOING;
         }
         this.startTime = new TimeStamp();
+        this.finishTime = null;
     }
 
     /**
@@ -145,8 +166,12 @@ public class Job {
         this.status = Status.CANCELLED;
     }
 
+    /**
+     * Marks the job as finished, recording the time it finished.
+     */
     public void finishJob() {
         this.status = Status.FINISHED;
+        this.finishTime = new TimeStamp();
     }
 
     public void setJobNote(String jobNote) {
@@ -185,6 +210,21 @@ public class Job {
         return startTime;
     }
 
+    public void setStartTime(TimeStamp startTime) {
+        this.startTime = startTime;
+    }
+
+    /**
+     * Returns the time the job finished, or null if it has not finished.
+     */
+    public TimeStamp getFinishTime() {
+        return finishTime;
+    }
+
+    public void setFinishTime(TimeStamp finishTime) {
+        this.finishTime = finishTime;
+    }
+
     public Person getOwner() {
         return owner;
     }
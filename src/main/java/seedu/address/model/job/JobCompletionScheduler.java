@@ -0,0 +1,141 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Notifies a listener when ongoing jobs reach their expected finish time.
+ *
+ * Each ongoing job has at most one pending deadline, kept in the delay queue of a single background thread,
+ * so scheduling, cancelling and firing a deadline are all O(log n) in the number of ongoing jobs.
+ * The listener is called on the background thread; it is responsible for moving the work to wherever the
+ * model is updated.
+ *
+ * Deadlines are measured against a {@code Clock}, the {@code AppClock} unless another is given, so tests can move
+ * the time forward instead of waiting for it.
+ */
+public class JobCompletionScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(JobCompletionScheduler.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<JobName, Deadline> deadlines = new ConcurrentHashMap<>();
+    private final Consumer<Job> onDeadline;
+    private final Clock clock;
+
+    public JobCompletionScheduler(Consumer<Job> onDeadline) {
+        this(onDeadline, AppClock.current());
+    }
+
+    public JobCompletionScheduler(Consumer<Job> onDeadline, Clock clock) {
+        requireNonNull(onDeadline);
+        requireNonNull(clock);
+        this.onDeadline = onDeadline;
+        this.clock = clock;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "job-completion-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules {@code job} to be reported at its expected finish time if it is ongoing,
+     * replacing any deadline previously scheduled for a job of the same name.
+     */
+    public void schedule(Job job) {
+        requireNonNull(job);
+        unschedule(job.getJobName());
+        if (job.getStatus() != Status.ONGOING || executor.isShutdown()) {
+            return;
+        }
+
+        long delay = Math.max(0, job.getExpectedFinishTime() - clock.millis());
+        Deadline deadline = new Deadline(job);
+        deadlines.put(job.getJobName(), deadline);
+        deadline.future = executor.schedule(deadline, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the deadline of the job named {@code name}, if there is one.
+     */
+    public void unschedule(JobName name) {
+        requireNonNull(name);
+        Deadline deadline = deadlines.remove(name);
+        if (deadline != null) {
+            deadline.cancel();
+        }
+    }
+
+    /**
+     * Replaces all scheduled deadlines with those of the ongoing jobs in {@code jobs}.
+     */
+    public void rescheduleAll(Collection<Job> jobs) {
+        requireNonNull(jobs);
+        deadlines.values().forEach(Deadline::cancel);
+        deadlines.clear();
+        jobs.forEach(this::schedule);
+    }
+
+    /**
+     * Returns the number of jobs waiting for their deadline.
+     */
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Cancels all deadlines and stops the background thread.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        deadlines.clear();
+    }
+
+    /**
+     * The pending deadline of a single job.
+     */
+    private class Deadline implements Runnable {
+        private final Job job;
+        private volatile ScheduledFuture<?> future;
+
+        Deadline(Job job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            if (!deadlines.remove(job.getJobName(), this)) {
+                return;
+            }
+            try {
+                onDeadline.accept(job);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to complete job " + job.getJobName() + ": " + e);
+            }
+        }
+
+        void cancel() {
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+}
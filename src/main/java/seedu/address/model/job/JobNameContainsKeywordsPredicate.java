@@ -1,24 +1,47 @@
 package seedu.address.model.job;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordsPredicate;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code job}'s {@code JobName} matches any of the keywords given.
+ * Tests that a {@code job}'s {@code JobName}, note or one of its tags matches any of the keywords given.
  */
-public class JobNameContainsKeywordsPredicate implements Predicate<Job> {
+public class JobNameContainsKeywordsPredicate implements KeywordsPredicate<Job> {
     private final List<String> keywords;
 
     public JobNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of {@code job} that keywords are matched against: its name, its note and its tags.
+     */
+    public static List<String> getSearchedText(Job job) {
+        List<String> text = new ArrayList<>();
+        text.add(job.getJobName().fullName);
+        if (job.getJobNote() != null && job.getJobNote().toString() != null) {
+            text.add(job.getJobNote().toString());
+        }
+        for (Tag tag : job.getTags()) {
+            text.add(tag.tagName);
+        }
+        return text;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Job job) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(job.getJobName().fullName, keyword));
+        List<String> text = getSearchedText(job);
+        return keywords.stream().anyMatch(keyword -> text.stream()
+                .anyMatch(sentence -> StringUtil.containsWordIgnoreCase(sentence, keyword)));
     }
 
     @Override
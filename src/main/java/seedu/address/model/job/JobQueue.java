@@ -0,0 +1,304 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The jobs of one machine that are waiting to be printed or being printed, in the order they are to be printed:
+ * highest priority first, then the earliest added, then by name.
+ *
+ * The queue is kept in order as jobs are added, removed and swapped, so reading it never sorts it.
+ * Every job in the queue holds a place, and the places are kept sorted; a job is placed by binary search,
+ * and swapping two jobs exchanges their places.
+ *
+ * Under an {@code AgingPolicy}, jobs are queued by their aged time first, which never changes as time passes,
+ * so aging moves long-waiting jobs forward without the queue ever being sorted again.
+ *
+ * The queue also keeps a running total of the hours of work waiting in it, from its queued and ongoing jobs.
+ */
+public class JobQueue {
+
+    /** The order of jobs in a queue without aging, before any of them are swapped */
+    public static final Comparator<Job> QUEUE_ORDER = getQueueOrder(AgingPolicy.NONE);
+
+    private final ObservableList<Job> jobs = FXCollections.observableArrayList();
+    private final ObservableList<Job> unmodifiableJobs = FXCollections.unmodifiableObservableList(jobs);
+    /** The place of the job at each index of {@code jobs} */
+    private final List<Place> places = new ArrayList<>();
+    private final Map<JobName, Place> placesByName = new HashMap<>();
+    /** The duration counted in {@code remainingWork} for each queued or ongoing job */
+    private final Map<JobName, Float> countedWork = new HashMap<>();
+    private double remainingWork = 0;
+    private AgingPolicy agingPolicy;
+
+    public JobQueue() {
+        this(AgingPolicy.NONE);
+    }
+
+    public JobQueue(AgingPolicy agingPolicy) {
+        requireNonNull(agingPolicy);
+        this.agingPolicy = agingPolicy;
+    }
+
+    /**
+     * Returns the order of jobs in a queue under {@code agingPolicy}, before any of them are swapped.
+     */
+    public static Comparator<Job> getQueueOrder(AgingPolicy agingPolicy) {
+        requireNonNull(agingPolicy);
+        return (job1, job2) -> {
+            if (agingPolicy.isEnabled()) {
+                long agedTime1 = agingPolicy.getAgedTime(job1);
+                long agedTime2 = agingPolicy.getAgedTime(job2);
+                if (agedTime1 != agedTime2) {
+                    return Long.compare(agedTime1, agedTime2);
+                }
+            }
+            return compare(priorityRank(job1), job1.getAddedTime().getTimeInMillis(), job1.getJobName().fullName,
+                    priorityRank(job2), job2.getAddedTime().getTimeInMillis(), job2.getJobName().fullName);
+        };
+    }
+
+    /**
+     * Returns true if {@code job} belongs in the queue of its machine, that is if it has not been
+     * finished, cancelled or marked for deletion.
+     */
+    public static boolean isQueued(Job job) {
+        Status status = job.getStatus();
+        return status == Status.QUEUED || status == Status.ONGOING || status == Status.PAUSED;
+    }
+
+    /**
+     * Returns the rank of the priority of {@code job}, where a lower rank is printed first.
+     */
+    private static int priorityRank(Job job) {
+        // priorities are declared from the highest down
+        return job.getPriority().ordinal();
+    }
+
+    /**
+     * Compares two jobs, given as their priority ranks, added times and names, in queue order without aging.
+     */
+    private static int compare(int priorityRank1, long addedTime1, String name1,
+                               int priorityRank2, long addedTime2, String name2) {
+        if (priorityRank1 != priorityRank2) {
+            return Integer.compare(priorityRank1, priorityRank2);
+        }
+        if (addedTime1 != addedTime2) {
+            return Long.compare(addedTime1, addedTime2);
+        }
+        return name1.compareTo(name2);
+    }
+
+    /**
+     * Returns true if a job with the given name is in the queue.
+     */
+    public boolean contains(JobName name) {
+        requireNonNull(name);
+        return placesByName.containsKey(name);
+    }
+
+    /**
+     * Puts {@code toAdd} in its place in the queue.
+     * No job with the same name may already be in the queue.
+     */
+    public void add(Job toAdd) {
+        requireNonNull(toAdd);
+        assert !contains(toAdd.getJobName());
+
+        Place place = Place.of(toAdd, agingPolicy);
+        int index = Collections.binarySearch(places, place);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        places.add(index, place);
+        jobs.add(index, toAdd);
+        placesByName.put(toAdd.getJobName(), place);
+        countWork(toAdd);
+    }
+
+    /**
+     * Removes the job with the given name from the queue.
+     * Returns false if there is no such job in the queue.
+     */
+    public boolean remove(JobName name) {
+        requireNonNull(name);
+        Place place = placesByName.remove(name);
+        if (place == null) {
+            return false;
+        }
+
+        int index = indexOf(place);
+        places.remove(index);
+        jobs.remove(index);
+        uncountWork(name);
+        return true;
+    }
+
+    /**
+     * Counts the work of {@code job}, which is in the queue, again after its status has changed.
+     */
+    public void recount(Job job) {
+        requireNonNull(job);
+        assert contains(job.getJobName());
+        uncountWork(job.getJobName());
+        countWork(job);
+    }
+
+    /**
+     * Replaces the contents of the queue with {@code replacement}, put in queue order.
+     * {@code replacement} must not contain jobs with the same name.
+     */
+    public void setJobs(List<Job> replacement) {
+        requireNonNull(replacement);
+        List<Job> sorted = new ArrayList<>(replacement);
+        sorted.sort(getQueueOrder(agingPolicy));
+
+        places.clear();
+        placesByName.clear();
+        countedWork.clear();
+        remainingWork = 0;
+        for (Job job : sorted) {
+            Place place = Place.of(job, agingPolicy);
+            places.add(place);
+            placesByName.put(job.getJobName(), place);
+            countWork(job);
+        }
+        jobs.setAll(sorted);
+    }
+
+    /**
+     * Exchanges the places of the jobs with the given names.
+     * Both jobs must be in the queue.
+     */
+    public void swap(JobName name1, JobName name2) {
+        Place place1 = placesByName.get(name1);
+        Place place2 = placesByName.get(name2);
+        assert place1 != null && place2 != null;
+
+        int index1 = indexOf(place1);
+        int index2 = indexOf(place2);
+        Job job1 = jobs.get(index1);
+        jobs.set(index1, jobs.get(index2));
+        jobs.set(index2, job1);
+        placesByName.put(name1, place2);
+        placesByName.put(name2, place1);
+    }
+
+    /**
+     * Queues the jobs under {@code agingPolicy} from now on, putting the jobs already in the queue in their new
+     * order. Places given by swapping jobs are forgotten if the policy changes.
+     */
+    public void setAgingPolicy(AgingPolicy agingPolicy) {
+        requireNonNull(agingPolicy);
+        if (agingPolicy.equals(this.agingPolicy)) {
+            return;
+        }
+        this.agingPolicy = agingPolicy;
+        setJobs(new ArrayList<>(jobs));
+    }
+
+    public AgingPolicy getAgingPolicy() {
+        return agingPolicy;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Returns the total duration, in hours, of the queued and ongoing jobs in the queue.
+     */
+    public double getRemainingWork() {
+        // adding and taking away durations can leave a rounding error behind once every job is gone
+        return countedWork.isEmpty() ? 0 : remainingWork;
+    }
+
+    /**
+     * Adds the duration of {@code job} to the remaining work if it is queued or ongoing.
+     */
+    private void countWork(Job job) {
+        if (job.getStatus() == Status.QUEUED || job.getStatus() == Status.ONGOING) {
+            countedWork.put(job.getJobName(), job.getDuration());
+            remainingWork += job.getDuration();
+        }
+    }
+
+    /**
+     * Takes the duration counted for the job with the given name, if any, off the remaining work.
+     */
+    private void uncountWork(JobName name) {
+        Float duration = countedWork.remove(name);
+        if (duration != null) {
+            remainingWork -= duration;
+        }
+    }
+
+    /**
+     * Returns the queue as an unmodifiable {@code ObservableList}, which stays in order as the queue changes.
+     */
+    public ObservableList<Job> asUnmodifiableObservableList() {
+        return unmodifiableJobs;
+    }
+
+    /**
+     * Returns the index of {@code place} in {@code places}.
+     * Places that compare equal can only come from a job swapped into the place of a job that was later
+     * removed and added again, so they are told apart by identity.
+     */
+    private int indexOf(Place place) {
+        int index = Collections.binarySearch(places, place);
+        assert index >= 0;
+
+        int first = index;
+        while (first > 0 && places.get(first - 1).compareTo(place) == 0) {
+            first--;
+        }
+        for (int i = first; i < places.size() && places.get(i).compareTo(place) == 0; i++) {
+            if (places.get(i) == place) {
+                return i;
+            }
+        }
+        throw new AssertionError("Place of job is missing from the queue");
+    }
+
+    /**
+     * A place in a queue, made from the aged time, priority, added time and name of the job that was first put
+     * there. Without aging every place has the same aged time.
+     */
+    private static class Place implements Comparable<Place> {
+        private final long agedTime;
+        private final int priorityRank;
+        private final long addedTime;
+        private final String name;
+
+        private Place(long agedTime, int priorityRank, long addedTime, String name) {
+            this.agedTime = agedTime;
+            this.priorityRank = priorityRank;
+            this.addedTime = addedTime;
+            this.name = name;
+        }
+
+        static Place of(Job job, AgingPolicy agingPolicy) {
+            long agedTime = agingPolicy.isEnabled() ? agingPolicy.getAgedTime(job) : 0;
+            return new Place(agedTime, priorityRank(job), job.getAddedTime().getTimeInMillis(),
+                    job.getJobName().fullName);
+        }
+
+        @Override
+        public int compareTo(Place other) {
+            if (agedTime != other.agedTime) {
+                return Long.compare(agedTime, other.agedTime);
+            }
+            return compare(priorityRank, addedTime, name, other.priorityRank, other.addedTime, other.name);
+        }
+    }
+}
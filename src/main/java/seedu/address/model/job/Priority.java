@@ -28,10 +28,8 @@ public enum Priority {
      */
 
     public static int isHigherPriority(Priority priority1, Priority priority2) {
-        Integer priority1value = priority1 == URGENT ? 2 : priority1 == HIGH ? 1 : priority1 == NORMAL ? 0 : -1;
-        Integer priority2value = priority2 == URGENT ? 2 : priority2 == HIGH ? 1 : priority2 == NORMAL ? 0 : -1;
-
-        return priority1value > priority2value ? 1 : priority1value.equals(priority2value) ? 0 : -1;
+        // priorities are declared from the highest down
+        return Integer.compare(priority2.ordinal(), priority1.ordinal());
     }
 
 }
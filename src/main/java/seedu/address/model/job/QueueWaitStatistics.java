@@ -0,0 +1,95 @@
+package seedu.address.model.job;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The median, 95th percentile and longest time jobs waited in their queues before they started printing,
+ * in hours. Percentiles are taken by the nearest rank.
+ */
+public class QueueWaitStatistics {
+
+    private static final double MILLIS_PER_HOUR = 60 * 60 * 1000;
+
+    private final int count;
+    private final double median;
+    private final double percentile95;
+    private final double max;
+
+    private QueueWaitStatistics(int count, double median, double percentile95, double max) {
+        this.count = count;
+        this.median = median;
+        this.percentile95 = percentile95;
+        this.max = max;
+    }
+
+    /**
+     * Returns the statistics of the given waits, in hours.
+     */
+    public static QueueWaitStatistics of(double[] waits) {
+        requireNonNull(waits);
+        if (waits.length == 0) {
+            return new QueueWaitStatistics(0, 0, 0, 0);
+        }
+
+        double[] sorted = waits.clone();
+        Arrays.sort(sorted);
+        return new QueueWaitStatistics(sorted.length, percentile(sorted, 50), percentile(sorted, 95),
+                sorted[sorted.length - 1]);
+    }
+
+    /**
+     * Returns the statistics of the waits of {@code jobs} as of {@code now}, in milliseconds since the epoch.
+     * A job that has started waited until its start time, and a queued job has been waiting until {@code now}.
+     * Jobs that were cancelled or marked for deletion are left out, as it is not known whether they started.
+     */
+    public static QueueWaitStatistics of(List<Job> jobs, long now) {
+        requireNonNull(jobs);
+        List<Double> waits = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            long addedTime = job.getAddedTime().getTimeInMillis();
+            Status status = job.getStatus();
+            if (status == Status.QUEUED) {
+                waits.add(Math.max(now - addedTime, 0) / MILLIS_PER_HOUR);
+            } else if (status == Status.ONGOING || status == Status.PAUSED || status == Status.FINISHED) {
+                waits.add(Math.max(job.getStartTime().getTimeInMillis() - addedTime, 0) / MILLIS_PER_HOUR);
+            }
+        }
+        return of(waits.stream().mapToDouble(Double::doubleValue).toArray());
+    }
+
+    /**
+     * Returns the {@code percent} percentile of {@code sorted}, which must be sorted and not empty.
+     */
+    private static double percentile(double[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Returns the number of waits the statistics were taken over.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public double getPercentile95() {
+        return percentile95;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50 %.2f h, p95 %.2f h, max %.2f h over %d jobs", median, percentile95, max, count);
+    }
+}
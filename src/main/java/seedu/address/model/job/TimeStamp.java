@@ -1,53 +1,79 @@
 package seedu.address.model.job;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Date;
 
+import seedu.address.commons.core.AppClock;
+
 /**
- * Timestamp for modelling time
+ * Timestamp for modelling time, held as milliseconds since the epoch.
+ * Time stamps are immutable, so they can be shared and compared without copying.
  */
 public class TimeStamp {
-    private Calendar calendar;
+    private final long millis;
 
+    /**
+     * Creates a time stamp of the current time of the {@code AppClock}.
+     */
     public TimeStamp() {
-        this.calendar = Calendar.getInstance();
+        this(AppClock.millis());
     }
 
     public TimeStamp(long millis) {
-        this.calendar = Calendar.getInstance();
-        this.calendar.setTimeInMillis(millis);
+        this.millis = millis;
     }
 
     /**
-     * Return the calendar
-     *
-     * @return
+     * Returns a new calendar in the default time zone, set to this time.
      */
     public Calendar getCalendar() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
         return calendar;
     }
 
     public Date getDate() {
-        return this.getCalendar().getTime();
+        return new Date(millis);
+    }
+
+    public long getTimeInMillis() {
+        return millis;
     }
 
     public static boolean compareTime(TimeStamp time1, TimeStamp time2) {
-        return time1.getDate().getTime() <= time2.getDate().getTime();
+        return time1.millis <= time2.millis;
     }
 
     public static long timeDifference(TimeStamp time1, TimeStamp time2) {
-        return time2.getDate().getTime() - time1.getDate().getTime();
+        return time2.millis - time1.millis;
     }
 
     /**
-     * Shows the time
-     *
-     * @return
+     * Shows the time in the zone of the {@code AppClock}, as the day, month counted from 0, and the 12-hour time.
      */
     public String showTime() {
-        return this.getCalendar().get(Calendar.DAY_OF_MONTH) + "/" + this.getCalendar().get(Calendar.MONTH) + " " + this
-            .getCalendar().get(Calendar.HOUR) + ":" + this.getCalendar().get(Calendar.MINUTE) + ":" + this.getCalendar()
-            .get(Calendar.SECOND);
+        ZonedDateTime time = ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), AppClock.get().getZone());
+        return time.getDayOfMonth() + "/" + (time.getMonthValue() - 1) + " " + time.getHour() % 12 + ":"
+            + time.getMinute() + ":" + time.getSecond();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TimeStamp // instanceof handles nulls
+            && millis == ((TimeStamp) other).millis);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(millis);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(millis);
     }
 
 }
@@ -3,62 +3,215 @@ package seedu.address.model.job;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.AttributeIndex;
+import seedu.address.commons.util.ChangeTracker;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ObservableListSnapshot;
+import seedu.address.commons.util.RangeIndex;
 import seedu.address.model.job.exceptions.DuplicateJobException;
 import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.machine.MachineName;
 
 /**
- * A list of Jobs whose elements are not repeated
+ * A list of Jobs whose elements are not repeated.
+ * Jobs are identified by their {@code JobName}, so no two jobs in the list may share a name.
+ *
+ * Alongside the {@code ObservableList} shown by the UI, the list keeps a hash index from
+ * {@code JobName} to {@code Job} so that lookups by name do not have to scan every job.
+ * Every mutation of {@code internalList} must keep {@code jobsByName} in step. The position of each job in
+ * {@code internalList} is kept by name as well. Taking a job out of the middle of the list moves every job after it,
+ * so positions from there on are only renumbered the next time one of them is asked for.
+ * Secondary indexes by status, priority, machine and owner are kept in the same way, and are updated before
+ * {@code internalList} so that its listeners can read them. A job's status changes in place, so every change of
+ * status must go through this list, which moves the job in {@code jobsByStatus}. The status index is backed by an
+ * {@code EnumMap}, so the jobs of a status can be counted or iterated without looking at any other job.
+ * Sorted indexes of the times jobs were added, started and finished find the jobs in a range of times in
+ * O(log n + k). Starting and finishing a job change its times along with its status.
+ *
+ * Once the queue of a machine has been asked for, the list also keeps a {@code JobQueue} for every machine,
+ * holding its queued jobs in the order they are to be printed. From then on every change to a job or to the list
+ * must keep the queues in step as well, which costs a binary search and an array shift per change instead of
+ * a sort per read. The hours of work waiting in each queue are published in {@code remainingWork}.
+ * The queues, and the sorted view of the list, follow the {@code AgingPolicy} of the list.
  */
 public class UniqueJobList {
 
     private static final Logger logger = LogsCenter.getLogger(UniqueJobList.class);
     private final ObservableList<Job> internalList = FXCollections.observableArrayList();
-
+    private final ObservableListSnapshot<Job> snapshots = new ObservableListSnapshot<>(internalList);
+    private final Map<JobName, Job> jobsByName = new HashMap<>();
+    /** The position of each job in {@code internalList}, correct for the first {@code validPositions} jobs */
+    private final Map<JobName, Integer> positions = new HashMap<>();
+    private int validPositions = 0;
+    private final AttributeIndex<Status, Job> jobsByStatus =
+            new AttributeIndex<>(Job::getStatus, new EnumMap<>(Status.class));
+    private final AttributeIndex<Priority, Job> jobsByPriority = new AttributeIndex<>(Job::getPriority);
+    private final AttributeIndex<String, Job> jobsByMachine = new AttributeIndex<>(JobCondition::getMachineKey);
+    private final AttributeIndex<String, Job> jobsByOwner = new AttributeIndex<>(JobCondition::getOwnerKey);
+    private final RangeIndex<Job> jobsByAddedTime = new RangeIndex<>(job -> job.getAddedTime().getTimeInMillis());
+    private final RangeIndex<Job> jobsByStartedTime = new RangeIndex<>(JobCondition::getStartedTime);
+    private final RangeIndex<Job> jobsByFinishedTime = new RangeIndex<>(JobCondition::getFinishedTime);
+    /** The queue of each machine, or null if no queue has been asked for yet */
+    private Map<MachineName, JobQueue> queues;
+    private final ObservableMap<MachineName, Double> remainingWork = FXCollections.observableHashMap();
+    private AgingPolicy agingPolicy = AgingPolicy.NONE;
+    private SortedList<Job> sortedJobs;
+    private ObservableList<Job> unmodifiableSortedJobs;
+    private final ChangeTracker<JobName> changes = new ChangeTracker<>();
+
+    public UniqueJobList() {
+        internalList.addListener((ListChangeListener<Job>) change -> changes.markChanged(change, Job::getJobName));
+    }
 
     /**
      * Returns true if the list contains an equivalent job as the given argument.
      */
     public boolean contains(Job toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        Job existing = jobsByName.get(toCheck.getJobName());
+        return existing != null && existing.equals(toCheck);
+    }
 
+    /**
+     * Returns true if the list contains a job with the given name.
+     */
+    public boolean containsName(JobName name) {
+        requireNonNull(name);
+        return jobsByName.containsKey(name);
     }
 
     /**
      * Adds a job to the list.
-     * The jpb must not already exist in the list.
+     * No job with the same name may already exist in the list.
      */
     public void add(Job toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (jobsByName.containsKey(toAdd.getJobName())) {
             throw new DuplicateJobException();
         }
+        jobsByName.put(toAdd.getJobName(), toAdd);
+        index(toAdd);
+        appendPosition(toAdd);
         internalList.add(toAdd);
+        enqueue(toAdd);
+    }
+
+    /**
+     * Adds a job to the list at {@code index}.
+     * No job with the same name may already exist in the list.
+     */
+    public void add(int index, Job toAdd) {
+        requireNonNull(toAdd);
+        if (jobsByName.containsKey(toAdd.getJobName())) {
+            throw new DuplicateJobException();
+        }
+        jobsByName.put(toAdd.getJobName(), toAdd);
+        index(toAdd);
+        invalidatePositionsFrom(index);
+        internalList.add(index, toAdd);
+        enqueue(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as a single change of the list.
+     * No two of the jobs may share a name, and none of them may share a name with a job already in the list;
+     * otherwise nothing is added.
+     */
+    public void addAll(List<Job> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<JobName, Job> added = new HashMap<>();
+        for (Job job : toAdd) {
+            if (jobsByName.containsKey(job.getJobName()) || added.put(job.getJobName(), job) != null) {
+                throw new DuplicateJobException();
+            }
+        }
+
+        jobsByName.putAll(added);
+        toAdd.forEach(this::index);
+        int size = internalList.size();
+        for (int i = 0; i < toAdd.size(); i++) {
+            positions.put(toAdd.get(i).getJobName(), size + i);
+        }
+        if (validPositions == size) {
+            validPositions += toAdd.size();
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::enqueue);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list, as a single change of the list.
+     * Every one of the jobs must be in the list.
+     */
+    public void removeAll(List<Job> toRemove) {
+        requireAllNonNull(toRemove);
+        for (Job job : toRemove) {
+            if (jobsByName.get(job.getJobName()) != job) {
+                throw new JobNotFoundException();
+            }
+        }
+
+        Set<Job> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        int firstRemoved = internalList.size();
+        for (Job job : toRemove) {
+            firstRemoved = Math.min(firstRemoved, positionOf(job));
+        }
+        for (Job job : toRemove) {
+            jobsByName.remove(job.getJobName());
+            positions.remove(job.getJobName());
+            unindex(job);
+            removed.add(job);
+        }
+        invalidatePositionsFrom(firstRemoved);
+        internalList.removeAll(removed);
+        toRemove.forEach(this::dequeue);
     }
 
     /**
-     * Removes the equivalent job from the list.
+     * Removes the job with the given name from the list.
      * The job must exist in the list.
      */
     public void remove(JobName toRemoveName) {
         requireNonNull(toRemoveName);
-        Job toRemove = findJob(toRemoveName);
-        if (!internalList.remove(toRemove)) {
+        Job toRemove = jobsByName.get(toRemoveName);
+        if (toRemove == null) {
             throw new JobNotFoundException();
         }
+        int position = positionOf(toRemove);
+        jobsByName.remove(toRemoveName);
+        positions.remove(toRemoveName);
+        unindex(toRemove);
+        invalidatePositionsFrom(position);
+        internalList.remove(position);
+        dequeue(toRemove);
     }
 
     public void setJobs(UniqueJobList replacement) {
         requireNonNull(replacement);
+        jobsByName.clear();
+        jobsByName.putAll(replacement.jobsByName);
+        clearPositions();
+        reindexAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        rebuildQueues();
     }
 
     /**
@@ -67,36 +220,45 @@ public class UniqueJobList {
      */
     public void setJobs(List<Job> jobs) {
         requireAllNonNull(jobs);
-        if (!jobsAreUnique(jobs)) {
-            throw new DuplicateJobException();
+        if (snapshots.isCurrent(jobs)) {
+            return;
+        }
+
+        Map<JobName, Job> replacementIndex = new HashMap<>();
+        for (Job job : jobs) {
+            if (replacementIndex.put(job.getJobName(), job) != null) {
+                throw new DuplicateJobException();
+            }
         }
 
+        jobsByName.clear();
+        jobsByName.putAll(replacementIndex);
+        clearPositions();
+        reindexAll(jobs);
         internalList.setAll(jobs);
+        rebuildQueues();
     }
 
     /**
-     * Returns a job by name
+     * Returns a copy of the job with the given name, or null if there is no such job.
      */
-
     public Job get(String jobName) {
         requireNonNull(jobName);
-        logger.info("Jobs size : " + Integer.toString(internalList.size()));
-        logger.info("Doing for loop for jobs");
-        for (Job j : internalList) {
-            logger.info(j.getJobName().fullName);
-            if (j.getJobName().fullName.equals(jobName)) {
-                logger.info("Job name matches!!");
-                Job changedJob = new Job(j.getJobName(),
-                                        j.getMachine(),
-                                        j.getOwner(),
-                                        j.getPriority(),
-                                        j.getDuration(),
-                                        j.getJobNote(),
-                                        j.getTags());
-                return changedJob;
-            }
+        if (!JobName.isValidJobName(jobName)) {
+            return null;
         }
-        return null;
+
+        Job j = jobsByName.get(new JobName(jobName));
+        if (j == null) {
+            return null;
+        }
+        return new Job(j.getJobName(),
+                j.getMachine(),
+                j.getOwner(),
+                j.getPriority(),
+                j.getDuration(),
+                j.getJobNote(),
+                j.getTags());
     }
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -106,26 +268,103 @@ public class UniqueJobList {
     }
 
     /**
-     * Returns a sorted list based on custom comparator
+     * Returns an unmodifiable copy of the list.
+     * Snapshots taken while the list is unchanged are the same instance, so they can be kept cheaply.
      */
+    public ObservableList<Job> snapshot() {
+        return snapshots.get();
+    }
 
+    /**
+     * Returns the jobs in queue order as an unmodifiable {@code ObservableList}.
+     * The list is kept in order as jobs are added and removed, rather than sorted each time it is read.
+     */
     public ObservableList<Job> asUnmodifiableObservableSortedList() {
-        FXCollections.sort(internalList, new JobComparator());
-        return FXCollections.unmodifiableObservableList(internalList);
+        if (sortedJobs == null) {
+            sortedJobs = internalList.sorted(getQueueOrder());
+            unmodifiableSortedJobs = FXCollections.unmodifiableObservableList(sortedJobs);
+        }
+        return unmodifiableSortedJobs;
     }
 
     /**
-     * Returns true if the list has no repetition
+     * Queues jobs under {@code agingPolicy} from now on, and puts the queues and the sorted view of the list
+     * in their new order.
      */
-    public boolean jobsAreUnique(List<Job> jobs) {
-        for (int i = 0; i < jobs.size() - 1; i++) {
-            for (int j = i + 1; j < jobs.size(); j++) {
-                if (jobs.get(i).isSameJob(jobs.get(j))) {
-                    return false;
-                }
+    public void setAgingPolicy(AgingPolicy agingPolicy) {
+        requireNonNull(agingPolicy);
+        if (agingPolicy.equals(this.agingPolicy)) {
+            return;
+        }
+
+        this.agingPolicy = agingPolicy;
+        if (sortedJobs != null) {
+            sortedJobs.setComparator(getQueueOrder());
+        }
+        if (queues != null) {
+            queues.values().forEach(queue -> queue.setAgingPolicy(agingPolicy));
+        }
+    }
+
+    public AgingPolicy getAgingPolicy() {
+        return agingPolicy;
+    }
+
+    /**
+     * Returns the order in which jobs are queued under the aging policy of this list.
+     */
+    public Comparator<Job> getQueueOrder() {
+        return JobQueue.getQueueOrder(agingPolicy);
+    }
+
+    /**
+     * Returns the statistics of how long the jobs in the list waited to start, as of {@code now}, in milliseconds
+     * since the epoch.
+     */
+    public QueueWaitStatistics getQueueWaitStatistics(long now) {
+        return QueueWaitStatistics.of(internalList, now);
+    }
+
+    /**
+     * Returns the queued jobs of the machine named {@code machineName}, in the order they are to be printed,
+     * as an unmodifiable {@code ObservableList} that stays in step with this list.
+     */
+    public ObservableList<Job> getQueue(MachineName machineName) {
+        requireNonNull(machineName);
+        ensureQueuesKept();
+        return queueOf(machineName).asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the jobs of the machine named {@code machineName}, in list order, found through the index of jobs
+     * by machine.
+     */
+    public List<Job> getJobsOf(MachineName machineName) {
+        requireNonNull(machineName);
+        List<Job> jobs = new ArrayList<>();
+        for (Job job : jobsByMachine.find(JobCondition.getMachineNameKey(machineName))) {
+            if (job.getMachine().getName().equals(machineName)) {
+                jobs.add(job);
             }
         }
-        return true;
+        jobs.sort(Comparator.comparingInt(this::positionOf));
+        return jobs;
+    }
+
+    /**
+     * Returns the total duration, in hours, of the queued and ongoing jobs of each machine that has had any,
+     * as an unmodifiable {@code ObservableMap} that stays in step with this list.
+     */
+    public ObservableMap<MachineName, Double> getRemainingWork() {
+        ensureQueuesKept();
+        return FXCollections.unmodifiableObservableMap(remainingWork);
+    }
+
+    /**
+     * Returns true if the list has no repetition
+     */
+    public boolean jobsAreUnique(List<Job> jobs) {
+        return CollectionUtil.elementsAreUnique(jobs, Job::getJobName, Job::isSameJob);
     }
 
     /**
@@ -135,18 +374,21 @@ public class UniqueJobList {
         return internalList.size();
     }
 
+    /**
+     * Returns the names of the jobs added, changed or removed since the changes were last taken, and starts
+     * collecting them anew.
+     */
+    public ChangeTracker.Changes<JobName> takeChanges() {
+        return changes.take();
+    }
+
     /**
      * Returns the job, given the jobName
      * @param jobName
-     * @return
+     * @return the job with that name, or null if there is no such job
      */
     public Job findJob(JobName jobName) {
-        for (Job job: internalList) {
-            if (job.getJobName().equals(jobName)) {
-                return job;
-            }
-        }
-        return null;
+        return jobsByName.get(jobName);
     }
 
     /**
@@ -157,8 +399,8 @@ public class UniqueJobList {
     public void updateJob(Job target, Job editedJob) {
         requireAllNonNull(target, editedJob);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Job current = jobsByName.get(target.getJobName());
+        if (current == null || !current.equals(target)) {
             throw new JobNotFoundException();
         }
 
@@ -166,7 +408,21 @@ public class UniqueJobList {
             throw new DuplicateJobException();
         }
 
-        internalList.set(index, editedJob);
+        boolean isRenamed = !target.getJobName().equals(editedJob.getJobName());
+        if (isRenamed && jobsByName.containsKey(editedJob.getJobName())) {
+            throw new DuplicateJobException();
+        }
+
+        int position = positionOf(current);
+        jobsByName.remove(target.getJobName());
+        jobsByName.put(editedJob.getJobName(), editedJob);
+        positions.remove(target.getJobName());
+        positions.put(editedJob.getJobName(), position);
+        unindex(current);
+        index(editedJob);
+        internalList.set(position, editedJob);
+        dequeue(current);
+        enqueue(editedJob);
     }
 
     /**
@@ -174,7 +430,9 @@ public class UniqueJobList {
      */
     public void startJob(JobName name) {
         requireAllNonNull();
-        findJob(name).startJob();
+        Job job = findJob(name);
+        job.startJob();
+        statusChanged(job);
     }
 
     /**
@@ -182,7 +440,9 @@ public class UniqueJobList {
      */
     public void cancelJob(JobName name) {
         requireAllNonNull();
-        findJob(name).cancelJob();;
+        Job job = findJob(name);
+        job.cancelJob();
+        statusChanged(job);
     }
 
     /**
@@ -190,14 +450,83 @@ public class UniqueJobList {
      */
     public void restartJob(JobName name) {
         requireAllNonNull();
-        findJob(name).restartJob();
+        Job job = findJob(name);
+        job.restartJob();
+        statusChanged(job);
     }
 
+    /**
+     * Pauses the Job
+     */
+    public void pauseJob(JobName name) {
+        Job job = findJob(name);
+        job.pauseJob();
+        statusChanged(job);
+    }
+
+    /**
+     * Marks the Job as waiting to be deleted
+     */
     public void requestDeletion(JobName name) {
-        findJob(name).setStatus(Status.DELETING);
+        Job job = findJob(name);
+        job.setStatus(Status.DELETING);
+        statusChanged(job);
+    }
+
+    /**
+     * Sets the status of {@code job} to {@code status}.
+     * If {@code job} is in this list, its machine's queue is updated to match.
+     */
+    public void setJobStatus(Job job, Status status) {
+        requireAllNonNull(job, status);
+        job.setStatus(status);
+        if (jobsByName.get(job.getJobName()) == job) {
+            statusChanged(job);
+        }
+    }
+
+
+
+    /**
+     * Returns the jobs in the list with the status {@code status}, as an unmodifiable set that follows the list.
+     */
+    public Set<Job> getJobs(Status status) {
+        requireNonNull(status);
+        return jobsByStatus.find(status);
     }
 
+    /**
+     * Returns the number of jobs in the list with the status {@code status}.
+     */
+    public int countJobs(Status status) {
+        requireNonNull(status);
+        return jobsByStatus.count(status);
+    }
 
+    /**
+     * Returns the jobs in the list meeting {@code condition}, as an unmodifiable set that follows the list,
+     * or null if jobs are not indexed by the field of {@code condition}.
+     */
+    public Set<Job> findIndexedJobs(JobCondition condition) {
+        requireNonNull(condition);
+        JobCondition.Field field = condition.getField();
+        if (field == JobCondition.Field.STATUS) {
+            return jobsByStatus.find((Status) condition.getKey());
+        } else if (field == JobCondition.Field.PRIORITY) {
+            return jobsByPriority.find((Priority) condition.getKey());
+        } else if (field == JobCondition.Field.MACHINE) {
+            return jobsByMachine.find((String) condition.getKey());
+        } else if (field == JobCondition.Field.OWNER) {
+            return jobsByOwner.find((String) condition.getKey());
+        } else if (field == JobCondition.Field.ADDED) {
+            return jobsByAddedTime.findBetween(condition.getFrom(), condition.getTo());
+        } else if (field == JobCondition.Field.STARTED) {
+            return jobsByStartedTime.findBetween(condition.getFrom(), condition.getTo());
+        } else if (field == JobCondition.Field.FINISHED) {
+            return jobsByFinishedTime.findBetween(condition.getFrom(), condition.getTo());
+        }
+        return null;
+    }
 
     //============================= swap queue number operations =======================================//
 
@@ -209,10 +538,7 @@ public class UniqueJobList {
         Job job1 = findJob(jobname1);
         Job job2 = findJob(jobname2);
 
-        int index1 = internalList.indexOf(job1);
-        int index2 = internalList.indexOf(job2);
-
-        if (index1 == -1 || index2 == -1) {
+        if (job1 == null || job2 == null) {
             throw new JobNotFoundException();
         }
 
@@ -220,24 +546,213 @@ public class UniqueJobList {
             throw new DuplicateJobException();
         }
 
+        int index1 = positionOf(job1);
+        int index2 = positionOf(job2);
+        positions.put(jobname1, index2);
+        positions.put(jobname2, index1);
         Collections.swap(internalList, index1, index2);
 
+        if (queues != null && job1.getMachine().getName().equals(job2.getMachine().getName())) {
+            JobQueue queue = queueOf(job1.getMachine().getName());
+            if (queue.contains(jobname1) && queue.contains(jobname2)) {
+                queue.swap(jobname1, jobname2);
+            }
+        }
     }
 
+    /**
+     * Finishes the Job
+     */
     public void finishJob(Job job) {
         job.finishJob();
+        if (jobsByName.get(job.getJobName()) == job) {
+            statusChanged(job);
+        }
+    }
+
+    //============================= position operations =======================================//
+
+    /**
+     * Returns the position in {@code internalList} of {@code job}, which must be in the list,
+     * renumbering the positions that are out of date first if it is one of them.
+     */
+    private int positionOf(Job job) {
+        Integer position = positions.get(job.getJobName());
+        if (position != null && position < validPositions) {
+            return position;
+        }
+
+        for (int i = validPositions; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getJobName(), i);
+        }
+        validPositions = internalList.size();
+        return positions.get(job.getJobName());
+    }
+
+    /**
+     * Records the position of {@code job}, which is about to be added to the end of {@code internalList}.
+     */
+    private void appendPosition(Job job) {
+        positions.put(job.getJobName(), internalList.size());
+        if (validPositions == internalList.size()) {
+            validPositions++;
+        }
+    }
+
+    /**
+     * Marks the positions of the jobs from {@code position} on as out of date, as jobs are about to be put in or
+     * taken out of {@code internalList} there.
+     */
+    private void invalidatePositionsFrom(int position) {
+        validPositions = Math.min(validPositions, position);
+    }
+
+    /**
+     * Forgets every position, as {@code internalList} is about to be replaced.
+     */
+    private void clearPositions() {
+        positions.clear();
+        validPositions = 0;
+    }
+
+    //============================= index operations =======================================//
+
+    /**
+     * Adds {@code job} to the secondary indexes.
+     */
+    private void index(Job job) {
+        jobsByStatus.add(job);
+        jobsByPriority.add(job);
+        jobsByMachine.add(job);
+        jobsByOwner.add(job);
+        jobsByAddedTime.add(job);
+        jobsByStartedTime.add(job);
+        jobsByFinishedTime.add(job);
+    }
+
+    /**
+     * Takes {@code job} out of the secondary indexes.
+     */
+    private void unindex(Job job) {
+        jobsByStatus.remove(job);
+        jobsByPriority.remove(job);
+        jobsByMachine.remove(job);
+        jobsByOwner.remove(job);
+        jobsByAddedTime.remove(job);
+        jobsByStartedTime.remove(job);
+        jobsByFinishedTime.remove(job);
+    }
+
+    /**
+     * Replaces the contents of the secondary indexes with {@code jobs}.
+     */
+    private void reindexAll(List<Job> jobs) {
+        jobsByStatus.setAll(jobs);
+        jobsByPriority.setAll(jobs);
+        jobsByMachine.setAll(jobs);
+        jobsByOwner.setAll(jobs);
+        jobsByAddedTime.setAll(jobs);
+        jobsByStartedTime.setAll(jobs);
+        jobsByFinishedTime.setAll(jobs);
+    }
+
+    /**
+     * Moves {@code job} in the status and time indexes and its machine's queue after its status has changed
+     * in place.
+     */
+    private void statusChanged(Job job) {
+        changes.markChanged(job.getJobName());
+        jobsByStatus.reindex(job);
+        jobsByStartedTime.reindex(job);
+        jobsByFinishedTime.reindex(job);
+        requeue(job);
     }
 
     //============================= queue operations =======================================//
 
     /**
-     * Queue comparator for job
+     * Starts keeping the queues, unless they are being kept already.
+     */
+    private void ensureQueuesKept() {
+        if (queues == null) {
+            queues = new HashMap<>();
+            rebuildQueues();
+        }
+    }
+
+    /**
+     * Returns the queue of the machine named {@code machineName}, creating an empty one if it has none yet.
      */
-    class JobComparator implements Comparator<Job> {
+    private JobQueue queueOf(MachineName machineName) {
+        return queues.computeIfAbsent(machineName, name -> new JobQueue(agingPolicy));
+    }
 
-        @Override
-        public int compare(Job j1, Job j2) {
-            return j2.hasHigherPriority(j1);
+    /**
+     * Puts {@code job} in its machine's queue, if it is queued and the queues are being kept.
+     */
+    private void enqueue(Job job) {
+        if (queues != null && JobQueue.isQueued(job)) {
+            queueOf(job.getMachine().getName()).add(job);
+            publishRemainingWork(job.getMachine().getName());
+        }
+    }
+
+    /**
+     * Takes {@code job} out of its machine's queue, if it is there.
+     */
+    private void dequeue(Job job) {
+        if (queues != null && queueOf(job.getMachine().getName()).remove(job.getJobName())) {
+            publishRemainingWork(job.getMachine().getName());
+        }
+    }
+
+    /**
+     * Puts {@code job} in or takes it out of its machine's queue after its status has changed.
+     * A job that stays in the queue keeps its place, but its work is counted again.
+     */
+    private void requeue(Job job) {
+        if (queues == null) {
+            return;
+        }
+
+        JobQueue queue = queueOf(job.getMachine().getName());
+        boolean isInQueue = queue.contains(job.getJobName());
+        if (JobQueue.isQueued(job) && !isInQueue) {
+            queue.add(job);
+        } else if (!JobQueue.isQueued(job) && isInQueue) {
+            queue.remove(job.getJobName());
+        } else if (isInQueue) {
+            queue.recount(job);
+        }
+        publishRemainingWork(job.getMachine().getName());
+    }
+
+    /**
+     * Puts the remaining work of the queue of the machine named {@code machineName} in {@code remainingWork}.
+     */
+    private void publishRemainingWork(MachineName machineName) {
+        remainingWork.put(machineName, queueOf(machineName).getRemainingWork());
+    }
+
+    /**
+     * Refills the queues from the whole list, keeping the queue objects that machines may already be showing.
+     * Places given by swapping jobs are forgotten.
+     */
+    private void rebuildQueues() {
+        if (queues == null) {
+            return;
+        }
+
+        Map<MachineName, List<Job>> queuedJobs = new HashMap<>();
+        for (Job job : internalList) {
+            if (JobQueue.isQueued(job)) {
+                queuedJobs.computeIfAbsent(job.getMachine().getName(), name -> new ArrayList<>()).add(job);
+            }
+        }
+        queuedJobs.keySet().forEach(this::queueOf);
+        for (Map.Entry<MachineName, JobQueue> queue : queues.entrySet()) {
+            queue.getValue().setJobs(queuedJobs.getOrDefault(queue.getKey(), Collections.emptyList()));
+            publishRemainingWork(queue.getKey());
         }
     }
 }
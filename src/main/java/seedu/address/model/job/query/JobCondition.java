@@ -0,0 +1,244 @@
+package seedu.address.model.job.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * A single condition of a {@code JobQuery}, such as a job having a given status or being added before a date.
+ * Machine names, owner names, tags and keywords are matched ignoring case.
+ * A job has a start time only once it has started printing, and a finish time only once it has finished.
+ */
+public class JobCondition implements Predicate<Job> {
+
+    /**
+     * The attributes of a job that a condition can be on.
+     */
+    public enum Field {
+        STATUS,
+        PRIORITY,
+        MACHINE,
+        OWNER,
+        TAG,
+        ADDED,
+        STARTED,
+        FINISHED,
+        KEYWORD
+    }
+
+    private final Field field;
+    private final Object key;
+    private final long from;
+    private final long to;
+
+    private JobCondition(Field field, Object key, long from, long to) {
+        this.field = field;
+        this.key = key;
+        this.from = from;
+        this.to = to;
+    }
+
+    private static JobCondition equalTo(Field field, Object key) {
+        requireNonNull(key);
+        return new JobCondition(field, key, 0, 0);
+    }
+
+    public static JobCondition status(Status status) {
+        return equalTo(Field.STATUS, status);
+    }
+
+    public static JobCondition priority(Priority priority) {
+        return equalTo(Field.PRIORITY, priority);
+    }
+
+    public static JobCondition machine(String machineName) {
+        return equalTo(Field.MACHINE, normalize(machineName));
+    }
+
+    public static JobCondition owner(String ownerName) {
+        return equalTo(Field.OWNER, normalize(ownerName));
+    }
+
+    public static JobCondition tag(String tagName) {
+        return equalTo(Field.TAG, normalize(tagName));
+    }
+
+    /**
+     * Returns a condition that a job's name, note or one of its tags contains {@code keyword} as a word.
+     */
+    public static JobCondition keyword(String keyword) {
+        return equalTo(Field.KEYWORD, normalize(keyword));
+    }
+
+    /**
+     * Returns a condition that a job was added at or after {@code from} and before {@code to},
+     * both in milliseconds since the epoch.
+     */
+    public static JobCondition addedBetween(long from, long to) {
+        return new JobCondition(Field.ADDED, null, from, to);
+    }
+
+    /**
+     * Returns a condition that a job started printing at or after {@code from} and before {@code to}.
+     */
+    public static JobCondition startedBetween(long from, long to) {
+        return new JobCondition(Field.STARTED, null, from, to);
+    }
+
+    /**
+     * Returns a condition that a job finished at or after {@code from} and before {@code to}.
+     */
+    public static JobCondition finishedBetween(long from, long to) {
+        return new JobCondition(Field.FINISHED, null, from, to);
+    }
+
+    /**
+     * Returns a condition that the time {@code field} of a job is at or after {@code from} and before {@code to}.
+     * {@code field} must be {@code ADDED}, {@code STARTED} or {@code FINISHED}.
+     */
+    public static JobCondition between(Field field, long from, long to) {
+        if (!isTimeField(field)) {
+            throw new IllegalArgumentException(field + " is not a time");
+        }
+        return new JobCondition(field, null, from, to);
+    }
+
+    /**
+     * Returns true if {@code field} is the time of an event in the life of a job.
+     */
+    public static boolean isTimeField(Field field) {
+        return field == Field.ADDED || field == Field.STARTED || field == Field.FINISHED;
+    }
+
+    /**
+     * Returns the time {@code job} started printing, in milliseconds since the epoch, or null if it has not started.
+     * Cancelled jobs are counted as not started, as it is not known whether they started before being cancelled.
+     */
+    public static Long getStartedTime(Job job) {
+        Status status = job.getStatus();
+        boolean hasStarted = status == Status.ONGOING || status == Status.PAUSED || status == Status.FINISHED;
+        return hasStarted ? job.getStartTime().getTimeInMillis() : null;
+    }
+
+    /**
+     * Returns the time {@code job} finished, in milliseconds since the epoch, or null if it has not finished.
+     */
+    public static Long getFinishedTime(Job job) {
+        return job.getFinishTime() == null ? null : job.getFinishTime().getTimeInMillis();
+    }
+
+    /**
+     * Returns the key {@code job} is indexed under for conditions on its machine.
+     */
+    public static String getMachineKey(Job job) {
+        return getMachineNameKey(job.getMachine().getName());
+    }
+
+    /**
+     * Returns the key the jobs of the machine named {@code machineName} are indexed under.
+     */
+    public static String getMachineNameKey(MachineName machineName) {
+        return normalize(machineName.fullName);
+    }
+
+    /**
+     * Returns the key {@code job} is indexed under for conditions on its owner.
+     */
+    public static String getOwnerKey(Job job) {
+        return normalize(job.getOwner().getName().fullName);
+    }
+
+    private static String normalize(String value) {
+        requireNonNull(value);
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the value a job's attribute must be equal to, or null for a condition on a range of times.
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean test(Job job) {
+        if (field == Field.STATUS) {
+            return job.getStatus() == key;
+        } else if (field == Field.PRIORITY) {
+            return job.getPriority() == key;
+        } else if (field == Field.MACHINE) {
+            return getMachineKey(job).equals(key);
+        } else if (field == Field.OWNER) {
+            return getOwnerKey(job).equals(key);
+        } else if (field == Field.TAG) {
+            return job.getTags().stream().map(tag -> tag.tagName).map(JobCondition::normalize).anyMatch(key::equals);
+        } else if (isTimeField(field)) {
+            Long time = getTime(job);
+            return time != null && from <= time && time < to;
+        } else {
+            return JobNameContainsKeywordsPredicate.getSearchedText(job).stream()
+                    .anyMatch(text -> StringUtil.containsWordIgnoreCase(text, (String) key));
+        }
+    }
+
+    /**
+     * Returns the time of {@code job} this condition is on, or null if the job has no such time yet.
+     */
+    private Long getTime(Job job) {
+        if (field == Field.ADDED) {
+            return job.getAddedTime().getTimeInMillis();
+        } else if (field == Field.STARTED) {
+            return getStartedTime(job);
+        } else {
+            return getFinishedTime(job);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof JobCondition)) {
+            return false;
+        }
+
+        JobCondition otherCondition = (JobCondition) other;
+        return field == otherCondition.field
+                && Objects.equals(key, otherCondition.key)
+                && from == otherCondition.from
+                && to == otherCondition.to;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, key, from, to);
+    }
+
+    @Override
+    public String toString() {
+        String name = field.name().toLowerCase(Locale.ROOT);
+        return isTimeField(field) ? name + " in [" + from + ", " + to + ")" : name + "/" + key;
+    }
+}
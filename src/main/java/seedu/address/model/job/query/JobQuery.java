@@ -0,0 +1,127 @@
+package seedu.address.model.job.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.job.Job;
+
+/**
+ * A structured filter of jobs, such as {@code status/QUEUED priority/URGENT OR owner/alice}.
+ *
+ * A query is a list of alternatives joined by OR, each of which is a list of conditions joined by AND, so AND binds
+ * tighter than OR. Testing a query against a job checks its conditions one by one, but a query can also be
+ * {@link #plan planned} against indexes of the jobs, so that only the jobs under one indexed condition of each
+ * alternative are checked against the rest.
+ */
+public class JobQuery implements Predicate<Job> {
+
+    private final List<List<JobCondition>> alternatives;
+
+    /**
+     * Creates a query that matches a job meeting all the conditions of any of {@code alternatives}.
+     * Every alternative must have at least one condition.
+     */
+    public JobQuery(List<List<JobCondition>> alternatives) {
+        requireNonNull(alternatives);
+        List<List<JobCondition>> copy = new ArrayList<>();
+        for (List<JobCondition> alternative : alternatives) {
+            if (alternative.isEmpty()) {
+                throw new IllegalArgumentException("Every alternative of a query must have a condition");
+            }
+            copy.add(Collections.unmodifiableList(new ArrayList<>(alternative)));
+        }
+        this.alternatives = Collections.unmodifiableList(copy);
+    }
+
+    public List<List<JobCondition>> getAlternatives() {
+        return alternatives;
+    }
+
+    @Override
+    public boolean test(Job job) {
+        return alternatives.stream().anyMatch(alternative -> matchesAll(alternative, job));
+    }
+
+    /**
+     * Returns a predicate equivalent to this query that reads the jobs under each condition from {@code index}.
+     * {@code index} returns the set of jobs meeting a condition, or null if the condition is not indexed.
+     * The sets must follow the jobs as they change, so that the predicate also holds for jobs added after it was
+     * made.
+     *
+     * Each alternative is planned on its own: the jobs in the smallest set of its indexed conditions are the only
+     * ones checked against its other conditions, so a check costs one hash lookup for most jobs. An alternative with
+     * no indexed condition checks all its conditions against every job.
+     */
+    public Predicate<Job> plan(Function<JobCondition, Set<Job>> index) {
+        requireNonNull(index);
+        List<Predicate<Job>> plans = new ArrayList<>();
+        for (List<JobCondition> alternative : alternatives) {
+            plans.add(planAlternative(alternative, index));
+        }
+        return job -> plans.stream().anyMatch(plan -> plan.test(job));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code alternative} that reads the jobs under its most selective indexed
+     * condition from {@code index}.
+     */
+    private static Predicate<Job> planAlternative(List<JobCondition> alternative,
+                                                  Function<JobCondition, Set<Job>> index) {
+        JobCondition driving = null;
+        Set<Job> candidates = null;
+        for (JobCondition condition : alternative) {
+            Set<Job> jobs = index.apply(condition);
+            if (jobs != null && (candidates == null || jobs.size() < candidates.size())) {
+                driving = condition;
+                candidates = jobs;
+            }
+        }
+
+        if (candidates == null) {
+            return job -> matchesAll(alternative, job);
+        }
+        List<JobCondition> rest = new ArrayList<>(alternative);
+        rest.remove(driving);
+        Set<Job> drivingJobs = candidates;
+        return job -> drivingJobs.contains(job) && matchesAll(rest, job);
+    }
+
+    /**
+     * Returns true if {@code job} meets every one of {@code conditions}.
+     */
+    private static boolean matchesAll(List<JobCondition> conditions, Job job) {
+        for (JobCondition condition : conditions) {
+            if (!condition.test(job)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JobQuery // instanceof handles nulls
+                && alternatives.equals(((JobQuery) other).alternatives)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return alternatives.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return alternatives.stream()
+                .map(alternative -> alternative.stream().map(JobCondition::toString)
+                        .collect(Collectors.joining(" AND ")))
+                .collect(Collectors.joining(" OR "));
+    }
+}
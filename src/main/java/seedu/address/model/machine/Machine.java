@@ -7,9 +7,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQueue;
 import seedu.address.model.job.Status;
 import seedu.address.model.job.UniqueJobList;
 import seedu.address.model.machine.exceptions.InvalidMachineStatusException;
@@ -18,6 +22,11 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Machine in the lab. Morphed from Persons.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A machine in an {@code AddressBook} does not keep jobs of its own: its jobs are looked up in the address book's
+ * job list, which indexes its jobs by machine, each time they are read, and its queue is the queue the job list
+ * keeps for it. A machine created elsewhere, such as by a parser or from storage, holds the jobs it was created
+ * with, and sorts them into a queue the first time its queue is read.
  */
 public class Machine {
 
@@ -30,15 +39,23 @@ public class Machine {
         "Names should only contain alphanumeric characters and spaces, " + "and it should not be blank";
     public static final String MESSAGE_WRONG_STATUS =
         "Status can only contain 'ENABLED' or 'DISABLED'" + "and should not be blank";
+    /** The machine name that asks for a job to be put on the most free machine, reserved for that use */
+    public static final String AUTO_ASSIGN_NAME = "AUTO";
     // Identity fields
     private MachineName machineName;
     //TODO make status be more diverse, like enum
     private MachineStatus status;
 
     // Data fields
-    //Name is a placeholder. To be replaced by Job class in the future
-    private final UniqueJobList jobs = new UniqueJobList();
+    /** The jobs the machine holds, or null if its jobs are looked up in a job list */
+    private final ObservableList<Job> jobs;
     private final Set<Tag> tags = new HashSet<>();
+    /** The job list the jobs of the machine are looked up in, or null if the machine holds its own jobs */
+    private final Object jobStore;
+    /** Looks up the jobs of the machine in {@code jobStore}, in list order */
+    private final Function<MachineName, List<Job>> jobsInStore;
+    /** The queued jobs in queue order, or null if they have not been sorted out of {@code jobs} yet */
+    private ObservableList<Job> queue;
 
 
     /**
@@ -47,14 +64,63 @@ public class Machine {
     public Machine(MachineName name, List<Job> jobs, Set<Tag> tags, MachineStatus status) {
         requireAllNonNull(name, jobs, tags);
         this.machineName = name;
-        this.jobs.setJobs(jobs);
+        UniqueJobList ownJobs = new UniqueJobList();
+        ownJobs.setJobs(jobs);
+        this.jobs = ownJobs.asUnmodifiableObservableList();
         this.tags.addAll(tags);
         this.status = status;
+        this.jobStore = null;
+        this.jobsInStore = null;
     }
 
     public Machine(String machineName) {
         this.machineName = new MachineName(machineName);
         this.status = MachineStatus.ENABLED;
+        this.jobs = FXCollections.emptyObservableList();
+        this.jobStore = null;
+        this.jobsInStore = null;
+    }
+
+    /**
+     * Creates a copy of {@code source} whose jobs are looked up in {@code jobStore} by {@code jobsInStore},
+     * and whose queue is {@code queue}, or is sorted out of its jobs each time it is read if {@code queue} is null.
+     */
+    private Machine(Machine source, Object jobStore, Function<MachineName, List<Job>> jobsInStore,
+                    ObservableList<Job> queue) {
+        this.machineName = source.machineName;
+        this.status = source.status;
+        this.tags.addAll(source.tags);
+        this.jobs = null;
+        this.jobStore = jobStore;
+        this.jobsInStore = jobsInStore;
+        this.queue = queue;
+    }
+
+    /**
+     * Returns this machine with its jobs read from {@code jobStore}, a list of jobs that does not change.
+     * Its jobs are found by going through {@code jobStore} each time they are read.
+     */
+    Machine withJobsFrom(ObservableList<Job> jobStore) {
+        requireAllNonNull(jobStore);
+        if (jobStore == this.jobStore) {
+            return this;
+        }
+        return new Machine(this, jobStore, name -> jobStore.stream()
+                .filter(job -> job.getMachine().getName().equals(name))
+                .collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns this machine with its jobs read from {@code jobStore}, the canonical list of jobs,
+     * and its queue read from the queue {@code jobStore} keeps for it.
+     * Jobs added to, removed from or changed in {@code jobStore} are seen by the returned machine straight away.
+     */
+    Machine withJobsFrom(UniqueJobList jobStore) {
+        requireAllNonNull(jobStore);
+        if (jobStore == this.jobStore) {
+            return this;
+        }
+        return new Machine(this, jobStore, jobStore::getJobsOf, jobStore.getQueue(machineName));
     }
 
     /**
@@ -73,7 +139,7 @@ public class Machine {
      * if modification is attempted.
      */
     public List<Job> getJobs() {
-        return Collections.unmodifiableList(jobs.asUnmodifiableObservableList());
+        return Collections.unmodifiableList(jobs == null ? jobsInStore.apply(machineName) : jobs);
     }
 
     /**
@@ -84,12 +150,30 @@ public class Machine {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the jobs of this machine that are waiting or being printed, in the order they are to be printed,
+     * as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Job> getJobQueue() {
+        if (queue != null) {
+            return queue;
+        }
+        if (jobs == null) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getJobs())
+                    .filtered(JobQueue::isQueued).sorted(JobQueue.QUEUE_ORDER));
+        }
+        queue = FXCollections.unmodifiableObservableList(
+                jobs.filtered(JobQueue::isQueued).sorted(JobQueue.QUEUE_ORDER));
+        return queue;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public ObservableList<Job> getJobsAsObeservableList() {
-        return jobs.asUnmodifiableObservableList();
+        return jobs == null ? FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getJobs()))
+                : jobs;
     }
 
     /**
@@ -97,15 +181,7 @@ public class Machine {
      * {@code job} in its list;
      */
     public boolean hasJob(Job job) {
-        return jobs.contains(job);
-    }
-
-    /**
-     * Adds a job to the machine job list
-     */
-
-    public void addJob(Job job) {
-        jobs.add(job);
+        return getJobs().contains(job);
     }
 
 
@@ -160,8 +236,8 @@ public class Machine {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(machineName, jobs, tags);
+        // jobs are left out: they hold jobs that refer back to their machine, and are slow to hash
+        return Objects.hash(machineName, tags);
     }
 
     @Override
@@ -189,10 +265,14 @@ public class Machine {
         return status;
     }
 
+    /**
+     * Returns the total duration, in hours, of the queued and ongoing jobs of this machine.
+     * Only the jobs in its queue are looked at, rather than every job it has printed.
+     */
     public float getTotalDuration() {
         float duration = 0;
 
-        for (Job job : jobs.asUnmodifiableObservableList()) {
+        for (Job job : getJobQueue()) {
             if (job.getStatus() == Status.ONGOING || job.getStatus() == Status.QUEUED) {
                 duration += job.getDuration();
             }
@@ -0,0 +1,158 @@
+package seedu.address.model.machine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An indexed min-heap of machines keyed by the hours of work waiting on them.
+ *
+ * The least loaded machine is at the top, so finding it takes constant time, and adding, removing or
+ * changing the load of a machine takes O(log m) for m machines. Machines with the same load come out
+ * in the order they were added.
+ */
+class MachineLoadIndex {
+
+    private final List<Entry> heap = new ArrayList<>();
+    private final Map<MachineName, Entry> entries = new HashMap<>();
+    private long nextSequence = 0;
+
+    /**
+     * Returns true if the machine with the given name is in the index.
+     */
+    boolean contains(MachineName name) {
+        requireNonNull(name);
+        return entries.containsKey(name);
+    }
+
+    /**
+     * Adds the machine with the given name and {@code load}.
+     * The machine must not already be in the index.
+     */
+    void add(MachineName name, double load) {
+        requireNonNull(name);
+        assert !contains(name);
+
+        Entry entry = new Entry(name, load, nextSequence++);
+        entry.index = heap.size();
+        heap.add(entry);
+        entries.put(name, entry);
+        siftUp(entry.index);
+    }
+
+    /**
+     * Removes the machine with the given name, if it is in the index.
+     */
+    void remove(MachineName name) {
+        requireNonNull(name);
+        Entry entry = entries.remove(name);
+        if (entry == null) {
+            return;
+        }
+
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            last.index = entry.index;
+            heap.set(last.index, last);
+            siftDown(siftUp(last.index));
+        }
+    }
+
+    /**
+     * Sets the load of the machine with the given name, if it is in the index.
+     */
+    void setLoad(MachineName name, double load) {
+        requireNonNull(name);
+        Entry entry = entries.get(name);
+        if (entry == null || entry.load == load) {
+            return;
+        }
+
+        entry.load = load;
+        siftDown(siftUp(entry.index));
+    }
+
+    /**
+     * Returns the name of the machine with the least load, or null if the index is empty.
+     */
+    MachineName peek() {
+        return heap.isEmpty() ? null : heap.get(0).name;
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    /**
+     * Moves the entry at {@code index} up until its parent is not after it, and returns its new index.
+     */
+    private int siftUp(int index) {
+        Entry entry = heap.get(index);
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            Entry parent = heap.get(parentIndex);
+            if (!entry.isBefore(parent)) {
+                break;
+            }
+            place(parent, index);
+            index = parentIndex;
+        }
+        place(entry, index);
+        return index;
+    }
+
+    /**
+     * Moves the entry at {@code index} down until neither of its children is before it.
+     */
+    private void siftDown(int index) {
+        Entry entry = heap.get(index);
+        int size = heap.size();
+        while (true) {
+            int childIndex = 2 * index + 1;
+            if (childIndex >= size) {
+                break;
+            }
+            if (childIndex + 1 < size && heap.get(childIndex + 1).isBefore(heap.get(childIndex))) {
+                childIndex++;
+            }
+            Entry child = heap.get(childIndex);
+            if (!child.isBefore(entry)) {
+                break;
+            }
+            place(child, index);
+            index = childIndex;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap.set(index, entry);
+        entry.index = index;
+    }
+
+    /**
+     * A machine in the heap, with its load and the position it was added in.
+     */
+    private static class Entry {
+        private final MachineName name;
+        private final long sequence;
+        private double load;
+        private int index;
+
+        private Entry(MachineName name, double load, long sequence) {
+            this.name = name;
+            this.load = load;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Returns true if this entry should come out of the heap before {@code other}.
+         */
+        private boolean isBefore(Entry other) {
+            return load < other.load || (load == other.load && sequence < other.sequence);
+        }
+    }
+}
@@ -1,24 +1,44 @@
 package seedu.address.model.machine;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordsPredicate;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
 
 /**
- * Tests that a {@code Machines}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Machines}'s {@code Name} or one of its tags matches any of the keywords given.
  */
-public class MachineNameContainsKeywordsPredicate implements Predicate<Machine> {
+public class MachineNameContainsKeywordsPredicate implements KeywordsPredicate<Machine> {
     private final List<String> keywords;
 
     public MachineNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of {@code machine} that keywords are matched against: its name and its tags.
+     */
+    public static List<String> getSearchedText(Machine machine) {
+        List<String> text = new ArrayList<>();
+        text.add(machine.getName().fullName);
+        for (Tag tag : machine.getTags()) {
+            text.add(tag.tagName);
+        }
+        return text;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Machine machine) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(machine.getName().fullName, keyword));
+        List<String> text = getSearchedText(machine);
+        return keywords.stream().anyMatch(keyword -> text.stream()
+                .anyMatch(sentence -> StringUtil.containsWordIgnoreCase(sentence, keyword)));
     }
 
     @Override
@@ -3,26 +3,129 @@ package seedu.address.model.machine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 
-import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ChangeTracker;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ObservableListSnapshot;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQueue;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.UniqueJobList;
 import seedu.address.model.machine.exceptions.DuplicateMachineException;
 import seedu.address.model.machine.exceptions.MachineNotFoundException;
+import seedu.address.model.machine.placement.PlacementContext;
 
 
 
 
 /**
  * A list of machines that ensures uniqueness in Machine names
+ *
+ * If the list is given a job store, every machine put in the list is replaced by one whose jobs and queue are
+ * read from the store, so that the jobs of the machines are never out of step with the store.
+ *
+ * The list keeps an index of its machines by name, and a {@code MachineLoadIndex} of its enabled machines by
+ * the hours of work waiting on them, so that the most free machine is found without going through every machine.
+ * With a job store, the loads follow the remaining work the store publishes for each machine; without one,
+ * a machine's load is its total duration when it was put in the list.
  */
-public class UniqueMachineList {
-    private static final Logger logger = LogsCenter.getLogger(UniqueMachineList.class);
+public class UniqueMachineList implements PlacementContext {
     private final ObservableList<Machine> internalList = FXCollections.observableArrayList();
+    private final ObservableListSnapshot<Machine> snapshots = new ObservableListSnapshot<>(internalList);
+    private final UniqueJobList jobStore;
+    private final ObservableList<Job> storedJobs;
+    private final ObservableMap<MachineName, Double> remainingWork;
+    private final Map<MachineName, Machine> machinesByName = new HashMap<>();
+    private final MachineLoadIndex loads = new MachineLoadIndex();
+    private final ChangeTracker<MachineName> changes = new ChangeTracker<>();
+
+    private ObservableList<Machine> lastSnapshot;
+    private ObservableList<Job> lastJobStoreSnapshot;
+    private ObservableList<Machine> lastStoreBoundSnapshot;
+
+    /**
+     * Creates a list of machines that hold their own jobs.
+     */
+    public UniqueMachineList() {
+        this.jobStore = null;
+        this.storedJobs = null;
+        this.remainingWork = null;
+        internalList.addListener(this::updateIndexes);
+        internalList.addListener((ListChangeListener<Machine>) change -> changes.markChanged(change, Machine::getName));
+    }
+
+    /**
+     * Creates a list of machines whose jobs are the jobs in {@code jobStore} that are assigned to them,
+     * and whose queues are the ones {@code jobStore} keeps for them.
+     */
+    public UniqueMachineList(UniqueJobList jobStore) {
+        requireNonNull(jobStore);
+        this.jobStore = jobStore;
+        this.storedJobs = jobStore.asUnmodifiableObservableList();
+        this.remainingWork = jobStore.getRemainingWork();
+        internalList.addListener(this::updateIndexes);
+        internalList.addListener((ListChangeListener<Machine>) change -> changes.markChanged(change, Machine::getName));
+        storedJobs.addListener(this::markMachinesOfJobsChanged);
+        remainingWork.addListener((MapChangeListener<MachineName, Double>) change -> {
+            if (change.wasAdded()) {
+                loads.setLoad(change.getKey(), change.getValueAdded());
+            }
+        });
+    }
+
+    /**
+     * Updates the index by name and the load index for the machines taken out of and put in the list by
+     * {@code change}.
+     */
+    private void updateIndexes(ListChangeListener.Change<? extends Machine> change) {
+        while (change.next()) {
+            for (Machine removed : change.getRemoved()) {
+                machinesByName.remove(removed.getName());
+                loads.remove(removed.getName());
+            }
+            for (Machine added : change.getAddedSubList()) {
+                machinesByName.put(added.getName(), added);
+                if (added.getStatus() == MachineStatus.ENABLED) {
+                    loads.add(added.getName(), remainingWork == null
+                            ? added.getTotalDuration()
+                            : remainingWork.getOrDefault(added.getName(), 0.0));
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the machines of the jobs taken out of and put in the job store by {@code change} as changed,
+     * as the jobs of a machine are saved with it.
+     */
+    private void markMachinesOfJobsChanged(ListChangeListener.Change<? extends Job> change) {
+        while (change.next()) {
+            List<? extends Job> changedJobs = change.wasPermutated()
+                    ? change.getList().subList(change.getFrom(), change.getTo())
+                    : change.getRemoved();
+            changedJobs.forEach(job -> changes.markChanged(job.getMachine().getName()));
+            change.getAddedSubList().forEach(job -> changes.markChanged(job.getMachine().getName()));
+        }
+    }
+
+    /**
+     * Returns the names of the machines added, changed or removed since the changes were last taken, and starts
+     * collecting them anew. A machine counts as changed when its jobs do.
+     */
+    public ChangeTracker.Changes<MachineName> takeChanges() {
+        return changes.take();
+    }
 
     /**
      * Returns true if the list contains an equivalent machine
@@ -38,11 +141,22 @@ public class UniqueMachineList {
      */
     public void setMachines(List<Machine> machines) {
         requireNonNull(machines);
+        if (snapshots.isCurrent(machines)) {
+            return;
+        }
         if (!machinesAreUnique(machines)) {
             throw new DuplicateMachineException();
         }
 
-        internalList.setAll(machines);
+        if (jobStore == null) {
+            internalList.setAll(machines);
+            return;
+        }
+        List<Machine> storeBoundMachines = new ArrayList<>(machines.size());
+        for (Machine machine : machines) {
+            storeBoundMachines.add(withStoreJobs(machine));
+        }
+        internalList.setAll(storeBoundMachines);
     }
 
     /**
@@ -62,7 +176,7 @@ public class UniqueMachineList {
             throw new DuplicateMachineException();
         }
 
-        internalList.set(index, editedMachine);
+        internalList.set(index, withStoreJobs(editedMachine));
     }
 
     /**
@@ -71,31 +185,40 @@ public class UniqueMachineList {
      * @return
      */
     public Machine findMachine(MachineName machineName) {
-        for (Machine machine: internalList) {
-            if (machine.getName().equals(machineName)) {
-                return machine;
-            }
-        }
-        return null;
+        return machinesByName.get(machineName);
     }
 
     /**
      * Adds a job the machine {@code target} jobs list
+     * A machine's jobs already follow the job store, so this only tells the listeners of this list
+     * that {@code target} has changed.
      */
     public void addJobToMachineList(Machine target, Job job) {
         requireAllNonNull(target, job);
+        refresh(target);
+    }
+
+    /**
+     * Removes a job from the machine {@code target} jobs list
+     * A machine's jobs already follow the job store, so this only tells the listeners of this list
+     * that {@code target} has changed.
+     */
+    public void removeJobFromMachineList(Machine target, Job job) {
+        requireAllNonNull(target, job);
+        refresh(target);
+    }
 
+    /**
+     * Sets {@code target} in its place again, so that listeners of this list update their view of it.
+     */
+    public void refresh(Machine target) {
+        requireNonNull(target);
         int index = internalList.indexOf(target);
         if (index == -1) {
             throw new MachineNotFoundException();
         }
 
-        Machine updatedMachine = internalList.get(index);
-        updatedMachine.addJob(job);
-
-        internalList.set(index, updatedMachine);
-
-
+        internalList.set(index, internalList.get(index));
     }
 
     /**
@@ -109,7 +232,27 @@ public class UniqueMachineList {
             throw new DuplicateMachineException();
         }
 
-        internalList.add(toAdd);
+        internalList.add(withStoreJobs(toAdd));
+    }
+
+    /**
+     * Adds the Machine to the list at {@code index}
+     * The Machine must not exist in the list
+     */
+    public void add(int index, Machine toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateMachineException();
+        }
+
+        internalList.add(index, withStoreJobs(toAdd));
+    }
+
+    /**
+     * Returns {@code machine} with its jobs read from the job store, if this list has one.
+     */
+    private Machine withStoreJobs(Machine machine) {
+        return jobStore == null ? machine : machine.withJobsFrom(jobStore);
     }
 
     /**
@@ -126,11 +269,8 @@ public class UniqueMachineList {
     public Machine get(String machineName) {
         requireNonNull(machineName);
 
-        logger.info("Doing for loop");
         for (Machine m : internalList) {
-            logger.info(m.getName().fullName);
             if (m.getName().fullName.equals(machineName)) {
-                logger.info("Machine name matches!!");
                 Machine changedMachine = new Machine(m.getName(),
                                                     m.getJobs(),
                                                     m.getTags(),
@@ -150,32 +290,83 @@ public class UniqueMachineList {
     }
 
     /**
-     * Returns true if {@code machines} contains only unique machines
+     * Returns an unmodifiable copy of the list.
+     * Snapshots taken while the list is unchanged are the same instance, so they can be kept cheaply.
      */
-    private boolean machinesAreUnique(List<Machine> machines) {
-        for (int i = 0; i < machines.size() - 1; i++) {
-            for (int j = i + 1; j < machines.size(); j++) {
-                if (machines.get(i).isSameMachine(machines.get(j))) {
-                    return false;
-                }
+    public ObservableList<Machine> snapshot() {
+        return snapshots.get();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the list whose machines read their jobs from {@code jobStoreSnapshot},
+     * an unchanging copy of the job store, rather than from the job store itself.
+     * Snapshots taken while neither list has changed are the same instance, so they can be kept cheaply.
+     */
+    public ObservableList<Machine> snapshot(ObservableList<Job> jobStoreSnapshot) {
+        requireNonNull(jobStoreSnapshot);
+        if (jobStore == null) {
+            return snapshots.get();
+        }
+
+        ObservableList<Machine> current = snapshots.get();
+        if (current != lastSnapshot || jobStoreSnapshot != lastJobStoreSnapshot) {
+            List<Machine> machines = new ArrayList<>(current.size());
+            for (Machine machine : current) {
+                machines.add(machine.withJobsFrom(jobStoreSnapshot));
             }
+            lastStoreBoundSnapshot = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(machines));
+            lastSnapshot = current;
+            lastJobStoreSnapshot = jobStoreSnapshot;
         }
-        return true;
+        return lastStoreBoundSnapshot;
+    }
+
+    /**
+     * Returns true if {@code machines} contains only unique machines
+     */
+    private boolean machinesAreUnique(List<Machine> machines) {
+        return CollectionUtil.elementsAreUnique(machines, Machine::getName, Machine::isSameMachine);
     }
 
 
+    /**
+     * Returns the enabled machine with the least work waiting on it, or null if no machine is enabled.
+     * Of machines with the same amount of work, the one that has been in the list the longest is returned.
+     */
+    @Override
     public Machine getMostFreeMachine() {
-        float minimumTime = 999999;
-        Machine mostFreeMachine = null;
+        MachineName mostFree = loads.peek();
+        return mostFree == null ? null : machinesByName.get(mostFree);
+    }
 
-        for (Machine machine : internalList) {
-            if (machine.getTotalDuration() < minimumTime) {
-                minimumTime = machine.getTotalDuration();
-                mostFreeMachine = machine;
-            }
+    @Override
+    public List<Machine> getMachines() {
+        return asUnmodifiableObservableList();
+    }
+
+    @Override
+    public double getRemainingWork(Machine machine) {
+        requireNonNull(machine);
+        if (remainingWork == null) {
+            return machine.getTotalDuration();
         }
+        return remainingWork.getOrDefault(machine.getName(), 0.0);
+    }
 
-        return mostFreeMachine;
+    @Override
+    public double getWorkAhead(Machine machine, Job job) {
+        requireAllNonNull(machine, job);
+        Comparator<Job> queueOrder = jobStore == null ? JobQueue.QUEUE_ORDER : jobStore.getQueueOrder();
+        double workAhead = 0;
+        for (Job queued : machine.getJobQueue()) {
+            boolean isCounted = queued.getStatus() == Status.QUEUED || queued.getStatus() == Status.ONGOING;
+            boolean isAhead = queued.getStatus() == Status.ONGOING || queueOrder.compare(queued, job) < 0;
+            if (isCounted && isAhead) {
+                workAhead += queued.getDuration();
+            }
+        }
+        return workAhead;
     }
 
 }
@@ -0,0 +1,101 @@
+package seedu.address.model.machine.placement;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * A {@code PlacementContext} that adds the work of jobs planned for machines to the work already on them.
+ *
+ * The jobs of a batch can thus each be placed seeing the work of the jobs placed before them, and the whole batch
+ * can be checked before any of its jobs is added.
+ */
+public class BatchPlacementContext implements PlacementContext {
+
+    private final PlacementContext base;
+    private final Comparator<Job> queueOrder;
+    private final Map<MachineName, List<Job>> plannedJobs = new HashMap<>();
+
+    /**
+     * Creates a context with no planned jobs over {@code base}, whose queues follow {@code queueOrder}.
+     */
+    public BatchPlacementContext(PlacementContext base, Comparator<Job> queueOrder) {
+        requireAllNonNull(base, queueOrder);
+        this.base = base;
+        this.queueOrder = queueOrder;
+    }
+
+    /**
+     * Counts {@code job} as put on {@code machine} from now on.
+     */
+    public void plan(Machine machine, Job job) {
+        requireAllNonNull(machine, job);
+        plannedJobs.computeIfAbsent(machine.getName(), name -> new ArrayList<>()).add(job);
+    }
+
+    @Override
+    public List<Machine> getMachines() {
+        return base.getMachines();
+    }
+
+    @Override
+    public double getRemainingWork(Machine machine) {
+        requireNonNull(machine);
+        double remainingWork = base.getRemainingWork(machine);
+        for (Job planned : plannedJobs.getOrDefault(machine.getName(), List.of())) {
+            if (isCounted(planned)) {
+                remainingWork += planned.getDuration();
+            }
+        }
+        return remainingWork;
+    }
+
+    @Override
+    public double getWorkAhead(Machine machine, Job job) {
+        requireAllNonNull(machine, job);
+        double workAhead = base.getWorkAhead(machine, job);
+        for (Job planned : plannedJobs.getOrDefault(machine.getName(), List.of())) {
+            boolean isAhead = planned.getStatus() == Status.ONGOING || queueOrder.compare(planned, job) < 0;
+            if (isCounted(planned) && isAhead) {
+                workAhead += planned.getDuration();
+            }
+        }
+        return workAhead;
+    }
+
+    @Override
+    public Machine getMostFreeMachine() {
+        if (plannedJobs.isEmpty()) {
+            return base.getMostFreeMachine();
+        }
+
+        Machine mostFree = null;
+        double leastWork = Double.MAX_VALUE;
+        for (Machine machine : getMachines()) {
+            double work = getRemainingWork(machine);
+            if (machine.getStatus() == MachineStatus.ENABLED && work < leastWork) {
+                mostFree = machine;
+                leastWork = work;
+            }
+        }
+        return mostFree;
+    }
+
+    /**
+     * Returns true if {@code job} is work waiting on its machine, as counted by the machine list.
+     */
+    private static boolean isCounted(Job job) {
+        return job.getStatus() == Status.QUEUED || job.getStatus() == Status.ONGOING;
+    }
+}
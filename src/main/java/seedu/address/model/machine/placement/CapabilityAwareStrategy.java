@@ -0,0 +1,40 @@
+package seedu.address.model.machine.placement;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * Puts each job on the enabled machine with the least remaining work among those tagged with every tag
+ * of the job, such as a material or a nozzle size.
+ * If no enabled machine has all of the job's tags, the job goes to the most free enabled machine.
+ */
+public class CapabilityAwareStrategy implements PlacementStrategy {
+
+    public static final String NAME = "capability aware";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Machine choose(Job job, PlacementContext context) {
+        requireAllNonNull(job, context);
+        Machine mostFreeCapable = null;
+        double leastWork = Double.MAX_VALUE;
+        for (Machine machine : context.getMachines()) {
+            if (machine.getStatus() != MachineStatus.ENABLED || !machine.getTags().containsAll(job.getTags())) {
+                continue;
+            }
+            double work = context.getRemainingWork(machine);
+            if (work < leastWork) {
+                mostFreeCapable = machine;
+                leastWork = work;
+            }
+        }
+        return mostFreeCapable == null ? context.getMostFreeMachine() : mostFreeCapable;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.machine.placement;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * Puts each job on the enabled machine where it would finish first.
+ * Unlike {@code LeastRemainingWorkStrategy}, this only counts the work that would be printed before the job,
+ * so an urgent job can go to a busy machine whose queue holds only less urgent jobs.
+ */
+public class EarliestCompletionStrategy implements PlacementStrategy {
+
+    public static final String NAME = "earliest completion";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Machine choose(Job job, PlacementContext context) {
+        requireAllNonNull(job, context);
+        Machine earliest = null;
+        double earliestWorkAhead = Double.MAX_VALUE;
+        for (Machine machine : context.getMachines()) {
+            if (machine.getStatus() != MachineStatus.ENABLED) {
+                continue;
+            }
+            double workAhead = context.getWorkAhead(machine, job);
+            if (workAhead < earliestWorkAhead) {
+                earliest = machine;
+                earliestWorkAhead = workAhead;
+            }
+        }
+        return earliest;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.machine.placement;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+
+/**
+ * Puts each job on the enabled machine with the fewest hours of queued and ongoing work.
+ */
+public class LeastRemainingWorkStrategy implements PlacementStrategy {
+
+    public static final String NAME = "least remaining work";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Machine choose(Job job, PlacementContext context) {
+        requireAllNonNull(job, context);
+        return context.getMostFreeMachine();
+    }
+}
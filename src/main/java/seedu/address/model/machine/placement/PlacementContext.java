@@ -0,0 +1,33 @@
+package seedu.address.model.machine.placement;
+
+import java.util.List;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+
+/**
+ * The machines a {@code PlacementStrategy} chooses from, with the work waiting on each of them.
+ * Work is measured in hours.
+ */
+public interface PlacementContext {
+
+    /**
+     * Returns every machine, enabled or not, in list order.
+     */
+    List<Machine> getMachines();
+
+    /**
+     * Returns the hours of queued and ongoing work on {@code machine}.
+     */
+    double getRemainingWork(Machine machine);
+
+    /**
+     * Returns the hours of work on {@code machine} that would be printed before {@code job} if it were put there.
+     */
+    double getWorkAhead(Machine machine, Job job);
+
+    /**
+     * Returns the enabled machine with the least remaining work, or null if no machine is enabled.
+     */
+    Machine getMostFreeMachine();
+}
@@ -0,0 +1,306 @@
+package seedu.address.model.machine.placement;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.job.AgingPolicy;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNote;
+import seedu.address.model.job.JobQueue;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Replays a trace of jobs against a set of machines with a {@code PlacementStrategy}, without touching any
+ * address book, to compare strategies before one is used for real.
+ *
+ * The simulation is driven by events: each job arrives at its added time and is put on the machine the strategy
+ * chooses, and each machine prints one job at a time from its queue, in queue order, for the job's duration.
+ * Queues follow the {@code AgingPolicy} of the simulator, so the effect of aging on queue waits can be tried too.
+ * A trace can be recorded, such as the job list of an address book, or made up with {@link #createTrace}.
+ */
+public class PlacementSimulator {
+
+    private static final double MILLIS_PER_HOUR = 60 * 60 * 1000;
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final List<Machine> machines;
+    private final Comparator<Job> queueOrder;
+
+    public PlacementSimulator(List<Machine> machines) {
+        this(machines, AgingPolicy.NONE);
+    }
+
+    public PlacementSimulator(List<Machine> machines, AgingPolicy agingPolicy) {
+        requireAllNonNull(machines, agingPolicy);
+        this.machines = Collections.unmodifiableList(new ArrayList<>(machines));
+        this.queueOrder = JobQueue.getQueueOrder(agingPolicy);
+    }
+
+    /**
+     * Replays {@code trace} with {@code strategy}, and returns how well the machines kept up.
+     * The jobs in {@code trace} are not changed.
+     */
+    public SimulationReport run(List<Job> trace, PlacementStrategy strategy) {
+        requireAllNonNull(trace, strategy);
+        return new Simulation(trace).run(strategy);
+    }
+
+    /**
+     * Replays {@code trace} with each of {@code strategies} in turn, and returns a report for each.
+     */
+    public List<SimulationReport> compare(List<Job> trace, List<PlacementStrategy> strategies) {
+        requireAllNonNull(trace, strategies);
+        List<SimulationReport> reports = new ArrayList<>();
+        for (PlacementStrategy strategy : strategies) {
+            reports.add(run(trace, strategy));
+        }
+        return reports;
+    }
+
+    /**
+     * Returns a made-up trace of {@code count} jobs, arriving on average {@code meanArrivalGap} hours apart.
+     * Each job has a random priority, a duration of half an hour to eight hours, and either no tags or one
+     * of {@code capabilities}. The same {@code seed} always gives the same trace.
+     */
+    public static List<Job> createTrace(int count, double meanArrivalGap, Set<Tag> capabilities, long seed) {
+        requireNonNull(capabilities);
+        Random random = new Random(seed);
+        List<Tag> tags = new ArrayList<>(capabilities);
+        Person owner = new Person(new Name("Simulated Owner"), new Phone("99999999"),
+                new Email("simulated@example.com"), new Address("Simulated lab"), Collections.emptySet());
+        Machine anyMachine = new Machine(Machine.AUTO_ASSIGN_NAME);
+
+        List<Job> trace = new ArrayList<>(count);
+        double arrival = 0;
+        for (int i = 0; i < count; i++) {
+            arrival += -Math.log(1 - random.nextDouble()) * meanArrivalGap;
+            int tagIndex = random.nextInt(tags.size() + 1);
+            Set<Tag> jobTags = tagIndex == tags.size() ? Collections.emptySet()
+                    : Collections.singleton(tags.get(tagIndex));
+            float duration = 0.5f + random.nextInt(16) / 2f;
+            TimeStamp addedTime = new TimeStamp((long) (arrival * MILLIS_PER_HOUR));
+            trace.add(new Job(new JobName("SimulatedJob" + i), anyMachine, owner, addedTime, addedTime,
+                    PRIORITIES[random.nextInt(PRIORITIES.length)], Status.QUEUED, duration,
+                    new JobNote("Simulated job " + i), jobTags));
+        }
+        return trace;
+    }
+
+    /**
+     * One replay of a trace. Times are in hours from the arrival of the first job.
+     */
+    private class Simulation implements PlacementContext {
+
+        private final List<Job> trace;
+        private final Map<MachineName, SimulatedMachine> simulatedMachines = new LinkedHashMap<>();
+        private final Map<Job, Double> arrivals = new IdentityHashMap<>();
+        private final PriorityQueue<Event> events = new PriorityQueue<>();
+        private long nextSequence = 0;
+        private double now = 0;
+
+        Simulation(List<Job> trace) {
+            this.trace = new ArrayList<>(trace);
+            this.trace.sort(Comparator.comparingLong(job -> job.getAddedTime().getTimeInMillis()));
+            for (Machine machine : machines) {
+                simulatedMachines.put(machine.getName(), new SimulatedMachine(machine));
+            }
+        }
+
+        /**
+         * Runs every event in time order, and reports on the result.
+         */
+        SimulationReport run(PlacementStrategy strategy) {
+            if (!trace.isEmpty()) {
+                long firstArrival = trace.get(0).getAddedTime().getTimeInMillis();
+                for (Job job : trace) {
+                    double arrival = (job.getAddedTime().getTimeInMillis() - firstArrival) / MILLIS_PER_HOUR;
+                    arrivals.put(job, arrival);
+                    events.add(new Event(arrival, nextSequence++, job, null));
+                }
+            }
+
+            int placed = 0;
+            int unplaced = 0;
+            List<Double> waits = new ArrayList<>();
+            double lastFinish = 0;
+            while (!events.isEmpty()) {
+                Event event = events.poll();
+                now = event.time;
+                SimulatedMachine machine;
+                if (event.isArrival()) {
+                    machine = findEnabled(strategy.choose(event.job, this));
+                    if (machine == null) {
+                        unplaced++;
+                        continue;
+                    }
+                    placed++;
+                    machine.waiting.add(event.job);
+                    machine.waitingWork += event.job.getDuration();
+                } else {
+                    machine = event.machine;
+                    machine.running = null;
+                    lastFinish = now;
+                }
+
+                if (machine.running == null && !machine.waiting.isEmpty()) {
+                    waits.add(startNext(machine));
+                }
+            }
+
+            Map<MachineName, Double> utilization = new LinkedHashMap<>();
+            for (SimulatedMachine machine : simulatedMachines.values()) {
+                if (machine.machine.getStatus() == MachineStatus.ENABLED) {
+                    utilization.put(machine.machine.getName(), lastFinish == 0 ? 0 : machine.busyTime / lastFinish);
+                }
+            }
+            return new SimulationReport(strategy.getName(), placed, unplaced, lastFinish,
+                    waits.stream().mapToDouble(Double::doubleValue).toArray(), utilization);
+        }
+
+        /**
+         * Starts printing the first job in the queue of {@code machine}, and returns how long the job waited.
+         */
+        private double startNext(SimulatedMachine machine) {
+            Job job = machine.waiting.poll();
+            machine.waitingWork -= job.getDuration();
+            machine.running = job;
+            machine.runningFinish = now + job.getDuration();
+            machine.busyTime += job.getDuration();
+            events.add(new Event(machine.runningFinish, nextSequence++, job, machine));
+            return now - arrivals.get(job);
+        }
+
+        /**
+         * Returns the simulated machine for {@code machine}, or null if it is not an enabled machine of the
+         * simulation.
+         */
+        private SimulatedMachine findEnabled(Machine machine) {
+            if (machine == null) {
+                return null;
+            }
+            SimulatedMachine simulatedMachine = simulatedMachines.get(machine.getName());
+            return simulatedMachine == null || simulatedMachine.machine.getStatus() != MachineStatus.ENABLED
+                    ? null : simulatedMachine;
+        }
+
+        @Override
+        public List<Machine> getMachines() {
+            return machines;
+        }
+
+        @Override
+        public double getRemainingWork(Machine machine) {
+            SimulatedMachine simulatedMachine = simulatedMachines.get(machine.getName());
+            return simulatedMachine == null ? 0 : simulatedMachine.getRunningWork() + simulatedMachine.waitingWork;
+        }
+
+        @Override
+        public double getWorkAhead(Machine machine, Job job) {
+            SimulatedMachine simulatedMachine = simulatedMachines.get(machine.getName());
+            if (simulatedMachine == null) {
+                return 0;
+            }
+
+            double workAhead = simulatedMachine.getRunningWork();
+            for (Job waiting : simulatedMachine.waiting) {
+                if (queueOrder.compare(waiting, job) < 0) {
+                    workAhead += waiting.getDuration();
+                }
+            }
+            return workAhead;
+        }
+
+        @Override
+        public Machine getMostFreeMachine() {
+            Machine mostFree = null;
+            double leastWork = Double.MAX_VALUE;
+            for (SimulatedMachine simulatedMachine : simulatedMachines.values()) {
+                double work = simulatedMachine.getRunningWork() + simulatedMachine.waitingWork;
+                if (simulatedMachine.machine.getStatus() == MachineStatus.ENABLED && work < leastWork) {
+                    mostFree = simulatedMachine.machine;
+                    leastWork = work;
+                }
+            }
+            return mostFree;
+        }
+
+        /**
+         * A machine in the simulation, with the job it is printing and the jobs waiting for it.
+         */
+        private class SimulatedMachine {
+            private final Machine machine;
+            private final PriorityQueue<Job> waiting = new PriorityQueue<>(queueOrder);
+            private double waitingWork = 0;
+            private Job running;
+            private double runningFinish;
+            private double busyTime = 0;
+
+            SimulatedMachine(Machine machine) {
+                this.machine = machine;
+            }
+
+            /**
+             * Returns the time left on the job being printed, or 0 if the machine is idle.
+             */
+            double getRunningWork() {
+                return running == null ? 0 : runningFinish - now;
+            }
+        }
+    }
+
+    /**
+     * A job arriving, or a job finishing on {@code machine}.
+     * Jobs finishing at a time are handled before jobs arriving at that time, so that the freed machines are seen.
+     */
+    private static class Event implements Comparable<Event> {
+        private final double time;
+        private final long sequence;
+        private final Job job;
+        private final Simulation.SimulatedMachine machine;
+
+        Event(double time, long sequence, Job job, Simulation.SimulatedMachine machine) {
+            this.time = time;
+            this.sequence = sequence;
+            this.job = job;
+            this.machine = machine;
+        }
+
+        boolean isArrival() {
+            return machine == null;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            if (time != other.time) {
+                return Double.compare(time, other.time);
+            }
+            if (isArrival() != other.isArrival()) {
+                return isArrival() ? 1 : -1;
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
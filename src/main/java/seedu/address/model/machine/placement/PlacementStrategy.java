@@ -0,0 +1,23 @@
+package seedu.address.model.machine.placement;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+
+/**
+ * Chooses the machine a job asking for {@code AUTO} is put on.
+ *
+ * A strategy only reads the machines and their work through a {@code PlacementContext}, so the same strategy
+ * can place jobs in the address book and in a {@code PlacementSimulator}.
+ */
+public interface PlacementStrategy {
+
+    /**
+     * Returns the name of the strategy, as shown in simulation reports.
+     */
+    String getName();
+
+    /**
+     * Returns the enabled machine of {@code context} to put {@code job} on, or null if there is none.
+     */
+    Machine choose(Job job, PlacementContext context);
+}
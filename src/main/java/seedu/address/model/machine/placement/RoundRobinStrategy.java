@@ -0,0 +1,48 @@
+package seedu.address.model.machine.placement;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * Puts jobs on the enabled machines in turn, in list order, regardless of the work waiting on them.
+ */
+public class RoundRobinStrategy implements PlacementStrategy {
+
+    public static final String NAME = "round robin";
+
+    /** The machine chosen last, or null if none has been chosen yet */
+    private MachineName lastChosen;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public Machine choose(Job job, PlacementContext context) {
+        requireAllNonNull(job, context);
+        List<Machine> machines = context.getMachines();
+        int start = 0;
+        for (int i = 0; i < machines.size(); i++) {
+            if (machines.get(i).getName().equals(lastChosen)) {
+                start = i + 1;
+                break;
+            }
+        }
+
+        for (int i = 0; i < machines.size(); i++) {
+            Machine machine = machines.get((start + i) % machines.size());
+            if (machine.getStatus() == MachineStatus.ENABLED) {
+                lastChosen = machine.getName();
+                return machine;
+            }
+        }
+        return null;
+    }
+}
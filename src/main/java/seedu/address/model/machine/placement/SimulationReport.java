@@ -0,0 +1,95 @@
+package seedu.address.model.machine.placement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import seedu.address.model.job.QueueWaitStatistics;
+import seedu.address.model.machine.MachineName;
+
+/**
+ * The outcome of replaying a job trace with one {@code PlacementStrategy} in a {@code PlacementSimulator}.
+ * Times are in hours from the arrival of the first job.
+ */
+public class SimulationReport {
+
+    private final String strategyName;
+    private final int jobsPlaced;
+    private final int jobsUnplaced;
+    private final double makespan;
+    private final double meanQueueWait;
+    private final QueueWaitStatistics queueWait;
+    private final Map<MachineName, Double> utilization;
+
+    /**
+     * Creates a report with {@code queueWaits}, the time each placed job waited between arriving and starting.
+     */
+    public SimulationReport(String strategyName, int jobsPlaced, int jobsUnplaced, double makespan,
+                            double[] queueWaits, Map<MachineName, Double> utilization) {
+        this.strategyName = strategyName;
+        this.jobsPlaced = jobsPlaced;
+        this.jobsUnplaced = jobsUnplaced;
+        this.makespan = makespan;
+        this.meanQueueWait = Arrays.stream(queueWaits).average().orElse(0);
+        this.queueWait = QueueWaitStatistics.of(queueWaits);
+        this.utilization = Collections.unmodifiableMap(utilization);
+    }
+
+    public String getStrategyName() {
+        return strategyName;
+    }
+
+    public int getJobsPlaced() {
+        return jobsPlaced;
+    }
+
+    /**
+     * Returns the number of jobs for which the strategy found no machine.
+     */
+    public int getJobsUnplaced() {
+        return jobsUnplaced;
+    }
+
+    /**
+     * Returns the time at which the last job finished.
+     */
+    public double getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Returns the mean time between a job arriving and it starting to print.
+     */
+    public double getMeanQueueWait() {
+        return meanQueueWait;
+    }
+
+    /**
+     * Returns the median, 95th percentile and longest time between a job arriving and it starting to print.
+     */
+    public QueueWaitStatistics getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * Returns the fraction of the makespan each enabled machine spent printing, in list order.
+     */
+    public Map<MachineName, Double> getUtilization() {
+        return utilization;
+    }
+
+    /**
+     * Returns the mean utilization of the enabled machines.
+     */
+    public double getMeanUtilization() {
+        return utilization.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-22s placed %5d  unplaced %4d  makespan %8.2f h  mean wait %7.2f h  "
+                + "p95 wait %7.2f h  max wait %7.2f h  mean utilization %5.1f%%", strategyName, jobsPlaced,
+                jobsUnplaced, makespan, meanQueueWait, queueWait.getPercentile95(), queueWait.getMax(),
+                getMeanUtilization() * 100);
+    }
+}
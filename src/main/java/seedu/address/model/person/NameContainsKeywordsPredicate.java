@@ -1,20 +1,33 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.KeywordsPredicate;
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements KeywordsPredicate<Person> {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the text of {@code person} that keywords are matched against.
+     */
+    public static List<String> getSearchedText(Person person) {
+        return Collections.singletonList(person.getName().fullName);
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
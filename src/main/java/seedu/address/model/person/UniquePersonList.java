@@ -8,6 +8,8 @@ import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.ObservableListSnapshot;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -25,6 +27,7 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservableListSnapshot<Person> snapshots = new ObservableListSnapshot<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +49,18 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a person to the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -88,6 +103,9 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
+        if (snapshots.isCurrent(persons)) {
+            return;
+        }
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
@@ -102,6 +120,14 @@ public class UniquePersonList implements Iterable<Person> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
+    /**
+     * Returns an unmodifiable copy of the list.
+     * Snapshots taken while the list is unchanged are the same instance, so they can be kept cheaply.
+     */
+    public ObservableList<Person> snapshot() {
+        return snapshots.get();
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -123,13 +149,6 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return CollectionUtil.elementsAreUnique(persons, Person::getName, Person::isSamePerson);
     }
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.WriteBehindSaver.PreparedSave;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -54,6 +55,14 @@ public interface AddressBookStorage {
 
     void saveAddressBook(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) throws IOException;
 
+    /**
+     * Converts the data of {@code addressBook} kept in {@code filePath} to the form it is stored in, and returns
+     * the save of its changes since the last save. The save may be written on another thread while
+     * {@code addressBook} keeps changing. The changes may be appended to a journal instead of rewriting the file.
+     * @see #saveAddressBook(ReadOnlyAddressBook, Path)
+     */
+    PreparedSave prepareChanges(ReadOnlyAddressBook addressBook, Path filePath);
+
     UserPrefs getUserPrefs();
 
 }
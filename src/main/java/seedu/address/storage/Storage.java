@@ -61,4 +61,14 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleJobListChangedEvent(JobListChangedEvent event);
+
+    /**
+     * Writes out all changes that are still waiting to be saved, and blocks until they are on the hard disk.
+     */
+    void flush();
+
+    /**
+     * Writes out all changes that are still waiting to be saved, then stops saving in the background.
+     */
+    void shutdown();
 }
@@ -7,19 +7,31 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.AdminListChangedEvent;
 import seedu.address.commons.events.model.JobListChangedEvent;
 import seedu.address.commons.events.model.MachineListChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.events.storage.SaveRequestedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.storage.WriteBehindSaver.PreparedSave;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Change events are saved behind the app by a {@code WriteBehindSaver}, so a burst of changes to one file
+ * within the debounce window set in the user prefs is written once. Call {@link #flush()} to wait for them.
+ *
+ * Change events are handled on the thread that changed the data, where the changes are converted to the form they
+ * are stored in, as the data may change again right after. The converted data is then handed over as a
+ * {@code SaveRequestedEvent} to the saver, which is registered for background dispatch, so the posting thread does
+ * no file I/O.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -27,6 +39,7 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private UserPrefs userPrefs;
+    private final WriteBehindSaver saver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -34,6 +47,8 @@ public class StorageManager extends ComponentManager implements Storage {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.userPrefs = addressBookStorage.getUserPrefs();
+        this.saver = new WriteBehindSaver(this::handleSaveFailure, Math.max(0, userPrefs.getSaveDebounceMillis()));
+        eventsCenter.registerHandler(saver, EventsCenter.Dispatch.BACKGROUND);
     }
 
     // ================ UserPrefs methods ==============================
@@ -110,53 +125,69 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, userPrefs);
     }
 
+    @Override
+    public PreparedSave prepareChanges(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBookStorage.prepareChanges(addressBook, filePath);
+    }
+
+
+    @Override
+    public void flush() {
+        eventsCenter.flush();
+        saver.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        eventsCenter.flush();
+        saver.shutdown();
+    }
+
+    public WriteBehindSaver getSaver() {
+        return saver;
+    }
+
+    /**
+     * Converts {@code data} to the form it is stored in on the calling thread, and hands the result to the saver
+     * on the background thread, to be written to {@code filePath}.
+     */
+    private void saveBehind(ReadOnlyAddressBook data, Path filePath) {
+        raise(new SaveRequestedEvent(prepareChanges(data, filePath), filePath));
+    }
+
+    /**
+     * Reports a failed background save on the FX thread, where the failure is shown to the user.
+     */
+    private void handleSaveFailure(IOException e) {
+        Platform.runLater(() -> raise(new DataSavingExceptionEvent(e)));
+    }
 
     //----------------------------Events---------------------------------//
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        logger.info("PersonsListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getAddressBookFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+        saveBehind(event.data, userPrefs.getAddressBookFilePath());
     }
 
     @Override
     @Subscribe
     public void handleAdminListChangedEvent(AdminListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        logger.info("AdminListChangedEvent triggered");
-        try {
-            saveAddressBook(event.data, userPrefs.getMakerManagerAdminsFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+        saveBehind(event.data, userPrefs.getMakerManagerAdminsFilePath());
     }
 
     @Override
     @Subscribe
     public void handleMachineListChangedEvent(MachineListChangedEvent event) {
-        try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("MachineListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerMachinesFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+        saveBehind(event.data, userPrefs.getMakerManagerMachinesFilePath());
     }
 
     @Override
     @Subscribe
     public void handleJobListChangedEvent(JobListChangedEvent event) {
-        try {
-            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-            logger.info("JobsListChangedEvent triggered");
-            saveAddressBook(event.data, userPrefs.getMakerManagerJobsFilePath());
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queueing save to file"));
+        saveBehind(event.data, userPrefs.getMakerManagerJobsFilePath());
     }
 }
@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.storage.SaveRequestedEvent;
+
+/**
+ * Saves address book data to files on a background thread.
+ *
+ * A save request for a file is held back for the debounce window. Requests for the same file that arrive
+ * within the window replace the held data, so a burst of changes results in a single write of the latest data.
+ * Writes happen one at a time, in the order their windows close.
+ *
+ * The app keeps changing its data while it is being written, so each request carries the data already converted,
+ * on the thread that made the request, to the form it is stored in. The background thread only writes it out.
+ * Requests arrive either directly through {@link #save}, or as {@code SaveRequestedEvent}s when the saver is
+ * registered with the {@code EventsCenter}.
+ */
+public class WriteBehindSaver {
+
+    /**
+     * Writes data that was converted to the form it is stored in when the save was requested.
+     */
+    @FunctionalInterface
+    public interface PreparedSave {
+        void write() throws IOException;
+    }
+
+    public static final String THREAD_NAME = "storage-writer";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Path, PreparedSave> pendingSaves = new ConcurrentHashMap<>();
+    private final Consumer<IOException> onSaveFailed;
+    private final long debounceMillis;
+
+    private final LatencyHistogram saveLatency = new LatencyHistogram("save latency");
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+
+    /**
+     * Creates a saver that writes at most once per {@code debounceMillis} for each file,
+     * and reports failed writes to {@code onSaveFailed} on the background thread.
+     */
+    public WriteBehindSaver(Consumer<IOException> onSaveFailed, long debounceMillis) {
+        requireNonNull(onSaveFailed);
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("The debounce window cannot be negative");
+        }
+        this.onSaveFailed = onSaveFailed;
+        this.debounceMillis = debounceMillis;
+
+        executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Requests {@code save} to be written to {@code file} once the debounce window of {@code file} closes.
+     * The data held by {@code save} must not change after it is handed over.
+     */
+    public void save(PreparedSave save, Path file) {
+        requireNonNull(save);
+        requireNonNull(file);
+        requestCount.incrementAndGet();
+        if (pendingSaves.put(file, save) != null) {
+            return;
+        }
+
+        try {
+            executor.schedule(() -> write(file), debounceMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shut down: nothing will flush this request later, so write it on the calling thread.
+            write(file);
+        }
+    }
+
+    @Subscribe
+    public void handleSaveRequestedEvent(SaveRequestedEvent event) {
+        save(event.save, event.file);
+    }
+
+    /**
+     * Writes the data held for {@code file}, if it has not been written yet.
+     */
+    private void write(Path file) {
+        PreparedSave save = pendingSaves.remove(file);
+        if (save == null) {
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            save.write();
+            writeCount.incrementAndGet();
+        } catch (IOException e) {
+            logger.warning("Failed to save " + file + ": " + e.getMessage());
+            onSaveFailed.accept(e);
+        } finally {
+            saveLatency.recordSince(startNanos);
+        }
+    }
+
+    /**
+     * Writes all held data without waiting for the debounce windows to close, and blocks until it is written.
+     */
+    public void flush() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        try {
+            executor.submit(() -> new ArrayList<>(pendingSaves.keySet()).forEach(this::write)).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the background thread, then writes all held data on the calling thread.
+     * Later save requests are written immediately on the calling thread.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Storage writer did not stop in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        new ArrayList<>(pendingSaves.keySet()).forEach(this::write);
+        logger.info(getSummary());
+    }
+
+    /**
+     * Returns the time taken by each write, measured on the background thread.
+     */
+    public LatencyHistogram getSaveLatency() {
+        return saveLatency;
+    }
+
+    /**
+     * Returns the number of save requests received.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of files written.
+     */
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public String getSummary() {
+        return String.format("%s, requests=%d, writes=%d", saveLatency.getSummary(), getRequestCount(),
+                getWriteCount());
+    }
+}
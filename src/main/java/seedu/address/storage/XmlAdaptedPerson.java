@@ -70,6 +70,17 @@ public class XmlAdaptedPerson {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Constructs a copy of {@code source}.
+     */
+    public XmlAdaptedPerson(XmlAdaptedPerson source) {
+        name = source.name;
+        phone = source.phone;
+        email = source.email;
+        address = source.address;
+        tagged = new ArrayList<>(source.tagged);
+    }
+
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
      *
@@ -134,4 +145,9 @@ public class XmlAdaptedPerson {
                 && Objects.equals(address, otherPerson.address)
                 && tagged.equals(otherPerson.tagged);
     }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, phone, email, address, tagged);
+    }
 }
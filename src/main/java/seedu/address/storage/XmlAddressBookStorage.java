@@ -6,13 +6,18 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ChangeTracker;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -21,8 +26,17 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Password;
 import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.storage.WriteBehindSaver.PreparedSave;
 import seedu.address.storage.admin.XmlSerializableMakerManagerAdmins;
+import seedu.address.storage.job.XmlAdaptedJob;
 import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+import seedu.address.storage.journal.EntityChanges;
+import seedu.address.storage.journal.MakerManagerJournal;
+import seedu.address.storage.machine.XmlAdaptedMachine;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
 
 /**
@@ -39,6 +53,7 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
     private String makerManagerAdminsFilePath;
     private String makerManagerMachinesFilePath;
     private String makerManagerJobsFilePath;
+    private MakerManagerJournal journal;
 
     public XmlAddressBookStorage(UserPrefs userPrefs) {
         this.userPrefs = userPrefs;
@@ -47,6 +62,23 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
         this.makerManagerAdminsFilePath = userPrefs.getMakerManagerAdminsFilePath().getFileName().toString();
         this.makerManagerMachinesFilePath = userPrefs.getMakerManagerMachinesFilePath().getFileName().toString();
         this.makerManagerJobsFilePath = userPrefs.getMakerManagerJobsFilePath().getFileName().toString();
+        this.journal = createJournal(userPrefs);
+    }
+
+    private static MakerManagerJournal createJournal(UserPrefs userPrefs) {
+        return new MakerManagerJournal(userPrefs.getMakerManagerJournalFilePath(),
+                userPrefs.getMakerManagerJobsFilePath(), userPrefs.getMakerManagerMachinesFilePath());
+    }
+
+    /**
+     * Returns the journal of the jobs and machines files named in {@code userPrefs}.
+     */
+    private MakerManagerJournal getJournal(UserPrefs userPrefs) {
+        if (userPrefs.getMakerManagerJobsFilePath().equals(journal.getJobsFilePath())
+                && userPrefs.getMakerManagerMachinesFilePath().equals(journal.getMachinesFilePath())) {
+            return journal;
+        }
+        return createJournal(userPrefs);
     }
 
     public Path getAddressBookFilePath() {
@@ -152,27 +184,29 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             e.printStackTrace();
         }
 
+        /*
+         * Machines and jobs are read through the journal, which replays the changes saved since the files
+         * were last written. Jobs are read first, so that machines get the same job objects as the jobs list.
+         */
+        MakerManagerJournal userPrefsJournal = getJournal(userPrefs);
+        XmlIdentityMap identityMap = new XmlIdentityMap();
         try {
-            XmlSerializableMakerManagerMachines xmlMakerManagerMachines =
-                    XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(makerManagerMachinesFile);
-            AddressBook machinesAddressBookData = xmlMakerManagerMachines.toModelType();
-            fullAddressBookData.setMachines(machinesAddressBookData.getMachineList());
-        } catch (DataConversionException dce) {
-            logger.info("Machine conversion error");
+            AddressBook jobsAddressBookData = userPrefsJournal.readJobs().toModelType(identityMap);
+            fullAddressBookData.setJobs(jobsAddressBookData.getJobList());
+            logger.info("Full addressbook data jobs size : " + fullAddressBookData.getJobList().size());
+        } catch (IOException e) {
+            logger.info("Jobs reading error");
         } catch (IllegalValueException e) {
             e.printStackTrace();
         }
 
         try {
-            XmlSerializableMakerManagerJobs xmlMakerManagerJobs =
-                    XmlFileStorage.loadMakerManagerJobDataFromSaveFile(makerManagerJobsFile);
-            AddressBook jobsAddressBookData = xmlMakerManagerJobs.toModelType();
-            fullAddressBookData.setJobs(jobsAddressBookData.getJobList());
-            logger.info("Full addressbook data jobs size : " + fullAddressBookData.getJobList().size());
+            AddressBook machinesAddressBookData = userPrefsJournal.readMachines().toModelType(identityMap);
+            fullAddressBookData.setMachines(machinesAddressBookData.getMachineList());
+        } catch (IOException e) {
+            logger.info("Machine reading error");
         } catch (IllegalValueException e) {
             e.printStackTrace();
-        } catch (DataConversionException dce) {
-            logger.info("Jobs conversion error");
         }
 
         try {
@@ -197,17 +231,6 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
             e.printStackTrace();
         }
 
-        try {
-            XmlSerializableMakerManagerJobs xmlMakerManagerJobs =
-                    XmlFileStorage.loadMakerManagerJobDataFromSaveFile(makerManagerJobsFile);
-            AddressBook jobsAddressBookData = xmlMakerManagerJobs.toModelType();
-            fullAddressBookData.setJobs(jobsAddressBookData.getJobList());
-        } catch (DataConversionException dce) {
-            logger.info("Job conversion error");
-        } catch (IllegalValueException e) {
-            e.printStackTrace();
-        }
-
 
         return Optional.of(fullAddressBookData);
 
@@ -229,6 +252,14 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        if (filePath.equals(journal.getJobsFilePath())) {
+            journal.saveJobs(addressBook);
+            return;
+        } else if (filePath.equals(journal.getMachinesFilePath())) {
+            journal.saveMachines(addressBook);
+            return;
+        }
+
         FileUtil.createIfMissing(filePath);
         if (filePath.getFileName().toString().equals(addressBookFilePath)) {
             XmlFileStorage.saveDataToFile(filePath, new XmlSerializableAddressBook(addressBook));
@@ -268,12 +299,107 @@ public class XmlAddressBookStorage extends ComponentManager implements AddressBo
          * and not just one file
          */
         XmlFileStorage.saveDataToFile(mainAddressBookFile, new XmlSerializableAddressBook(addressBook));
-        XmlFileStorage.saveDataToFile(makerManagerMachinesFile, new XmlSerializableMakerManagerMachines(addressBook));
         XmlFileStorage.saveDataToFile(makerManagerAdminsFile, new XmlSerializableMakerManagerAdmins(addressBook));
-        XmlFileStorage.saveDataToFile(makerManagerJobsFile, new XmlSerializableMakerManagerJobs(addressBook));
+        MakerManagerJournal userPrefsJournal = getJournal(userPrefs);
+        userPrefsJournal.saveMachines(addressBook);
+        userPrefsJournal.saveJobs(addressBook);
 
     }
 
+    /**
+     * Prepares the changes to the jobs or machines to be appended to the journal when {@code filePath} is the jobs
+     * or machines file, or the whole file to be saved otherwise.
+     */
+    @Override
+    public PreparedSave prepareChanges(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (filePath.equals(journal.getJobsFilePath())) {
+            journal.stageJobChanges(adaptJobChanges(addressBook));
+            return journal::saveStagedJobChanges;
+        } else if (filePath.equals(journal.getMachinesFilePath())) {
+            journal.stageMachineChanges(adaptMachineChanges(addressBook));
+            return journal::saveStagedMachineChanges;
+        }
+
+        String fileName = filePath.getFileName().toString();
+        if (fileName.equals(addressBookFilePath)) {
+            XmlSerializableAddressBook persons = new XmlSerializableAddressBook(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, persons);
+            };
+        } else if (fileName.equals(makerManagerMachinesFilePath)) {
+            XmlSerializableMakerManagerMachines machines = new XmlSerializableMakerManagerMachines(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, machines);
+            };
+        } else if (fileName.equals(makerManagerAdminsFilePath)) {
+            XmlSerializableMakerManagerAdmins admins = new XmlSerializableMakerManagerAdmins(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, admins);
+            };
+        } else if (fileName.equals(makerManagerJobsFilePath)) {
+            XmlSerializableMakerManagerJobs jobs = new XmlSerializableMakerManagerJobs(addressBook);
+            return () -> {
+                FileUtil.createIfMissing(filePath);
+                XmlFileStorage.saveDataToFile(filePath, jobs);
+            };
+        }
+        return () -> logger.info("No such file path available to save data in");
+    }
+
+    /**
+     * Returns the changes to the jobs of {@code addressBook} since they were last taken, in the form they are
+     * saved in. Every job is given unless {@code addressBook} keeps track of its changes.
+     */
+    private static EntityChanges<XmlAdaptedJob> adaptJobChanges(ReadOnlyAddressBook addressBook) {
+        if (!(addressBook instanceof AddressBook)) {
+            return EntityChanges.all(MakerManagerJournal.adaptJobs(addressBook));
+        }
+
+        AddressBook trackedAddressBook = (AddressBook) addressBook;
+        ChangeTracker.Changes<JobName> changes = trackedAddressBook.takeJobChanges();
+        if (changes.isAllChanged()) {
+            return EntityChanges.all(MakerManagerJournal.adaptJobs(addressBook));
+        }
+        Map<String, XmlAdaptedJob> changedJobs = new LinkedHashMap<>();
+        for (JobName name : changes.getChangedKeys()) {
+            Job job = trackedAddressBook.findJob(name);
+            changedJobs.put(name.fullName, job == null ? null : new XmlAdaptedJob(job));
+        }
+        List<String> order = !changes.isReordered() ? null : addressBook.getJobList().stream()
+                .map(job -> job.getJobName().fullName).collect(Collectors.toList());
+        return EntityChanges.of(changedJobs, order);
+    }
+
+    /**
+     * Returns the changes to the machines of {@code addressBook} since they were last taken, in the form they are
+     * saved in. Every machine is given unless {@code addressBook} keeps track of its changes.
+     */
+    private static EntityChanges<XmlAdaptedMachine> adaptMachineChanges(ReadOnlyAddressBook addressBook) {
+        if (!(addressBook instanceof AddressBook)) {
+            return EntityChanges.all(MakerManagerJournal.adaptMachines(addressBook));
+        }
+
+        AddressBook trackedAddressBook = (AddressBook) addressBook;
+        ChangeTracker.Changes<MachineName> changes = trackedAddressBook.takeMachineChanges();
+        if (changes.isAllChanged()) {
+            return EntityChanges.all(MakerManagerJournal.adaptMachines(addressBook));
+        }
+        Map<String, XmlAdaptedMachine> changedMachines = new LinkedHashMap<>();
+        for (MachineName name : changes.getChangedKeys()) {
+            Machine machine = trackedAddressBook.findMachine(name);
+            changedMachines.put(name.fullName, machine == null ? null : new XmlAdaptedMachine(machine));
+        }
+        List<String> order = !changes.isReordered() ? null : addressBook.getMachineList().stream()
+                .map(machine -> machine.getName().fullName).collect(Collectors.toList());
+        return EntityChanges.of(changedMachines, order);
+    }
+
     @Override
     public UserPrefs getUserPrefs() {
         return userPrefs;
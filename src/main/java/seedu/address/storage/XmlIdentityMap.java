@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.person.Person;
+
+/**
+ * Resolves the machine names, owners and job names that the data files refer to while they are being loaded,
+ * so that every reference to the same key becomes the same model object.
+ */
+public class XmlIdentityMap {
+
+    private final Map<String, Machine> machines = new HashMap<>();
+    private final Map<XmlAdaptedPerson, Person> owners = new HashMap<>();
+    private final Map<String, Job> jobs = new HashMap<>();
+
+    /**
+     * Returns the machine a job refers to by {@code machineName}.
+     * Like the machine given to a new job by the parser, it only carries the name; the machine in the machines
+     * list is the one that holds the job.
+     *
+     * @throws IllegalValueException if {@code machineName} is not a valid machine name
+     */
+    public Machine getMachine(String machineName) throws IllegalValueException {
+        requireNonNull(machineName);
+        Machine machine = machines.get(machineName);
+        if (machine == null) {
+            if (!Machine.isValidName(machineName)) {
+                throw new IllegalValueException(Machine.MESSAGE_NAME_CONSTRAINTS);
+            }
+            machine = new Machine(new MachineName(machineName), new ArrayList<>(), new HashSet<>(),
+                    MachineStatus.ENABLED);
+            machines.put(machineName, machine);
+        }
+        return machine;
+    }
+
+    /**
+     * Returns the person for {@code owner}, converting it only the first time it is seen.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code owner}
+     */
+    public Person getOwner(XmlAdaptedPerson owner) throws IllegalValueException {
+        requireNonNull(owner);
+        Person person = owners.get(owner);
+        if (person == null) {
+            person = owner.toModelType();
+            owners.put(owner, person);
+        }
+        return person;
+    }
+
+    /**
+     * Records {@code job} as the one that machines listing its name refer to.
+     */
+    public void addJob(Job job) {
+        requireNonNull(job);
+        jobs.put(job.getJobName().fullName, job);
+    }
+
+    /**
+     * Returns the job named {@code jobName}, or null if no job of that name has been loaded.
+     */
+    public Job getJob(String jobName) {
+        return jobs.get(jobName);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage.job;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -23,6 +24,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.XmlAdaptedPerson;
 import seedu.address.storage.XmlAdaptedTag;
+import seedu.address.storage.XmlIdentityMap;
 import seedu.address.storage.machine.XmlAdaptedMachine;
 
 /**
@@ -36,14 +38,20 @@ public class XmlAdaptedJob {
 
     @XmlElement(required = true)
     private String name;
-    @XmlElement(required = true)
+    @XmlElement
+    private String machineName;
+    @XmlElement
     private XmlAdaptedMachine machine;
-    @XmlElement(required = true)
+    @XmlElement
+    private Integer ownerId;
+    @XmlElement
     private XmlAdaptedPerson owner;
     @XmlElement(required = true)
     private XmlAdaptedTimeStamp addedTime;
     @XmlElement
     private XmlAdaptedTimeStamp startTime;
+    @XmlElement
+    private XmlAdaptedTimeStamp finishTime;
     @XmlElement(required = true)
     private Priority priority;
     @XmlElement(required = true)
@@ -65,7 +73,8 @@ public class XmlAdaptedJob {
     }
 
     /**
-     * Constructs an {@code XmlAdaptedJob} with the given job details.
+     * Constructs an {@code XmlAdaptedJob} with the given job details, embedding the whole machine as
+     * files written before jobs referred to their machine by name did.
      */
     public XmlAdaptedJob(String name, XmlAdaptedMachine machine, XmlAdaptedPerson owner, XmlAdaptedTimeStamp addedTime,
                          XmlAdaptedTimeStamp startTime, Priority priority, float duration,
@@ -91,10 +100,13 @@ public class XmlAdaptedJob {
      */
     public XmlAdaptedJob(Job source) {
         name = source.getJobName().fullName;
-        machine = new XmlAdaptedMachine(source.getMachine());
+        machineName = source.getMachine().getName().fullName;
         owner = new XmlAdaptedPerson(source.getOwner());
         addedTime = new XmlAdaptedTimeStamp(source.getAddedTime());
         startTime = new XmlAdaptedTimeStamp(source.getStartTime());
+        if (source.getFinishTime() != null) {
+            finishTime = new XmlAdaptedTimeStamp(source.getFinishTime());
+        }
         priority = source.getPriority();
         duration = source.getDuration();
         status = source.getStatus();
@@ -104,12 +116,88 @@ public class XmlAdaptedJob {
         note = source.getJobNote().toString();
     }
 
+    /**
+     * Constructs a copy of {@code source}.
+     */
+    private XmlAdaptedJob(XmlAdaptedJob source) {
+        name = source.name;
+        machineName = source.machineName;
+        machine = source.machine;
+        ownerId = source.ownerId;
+        owner = source.owner;
+        addedTime = source.addedTime;
+        startTime = source.startTime;
+        finishTime = source.finishTime;
+        priority = source.priority;
+        duration = source.duration;
+        status = source.status;
+        tagged = new ArrayList<>(source.tagged);
+        note = source.note;
+        requestDeletion = source.requestDeletion;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    XmlAdaptedPerson getOwner() {
+        return owner;
+    }
+
+    Integer getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * Returns a copy of this job that refers to its machine by name, converting a machine embedded by
+     * an older version of the jobs file.
+     */
+    XmlAdaptedJob withMachineReference() {
+        if (machine == null) {
+            return this;
+        }
+        XmlAdaptedJob copy = new XmlAdaptedJob(this);
+        copy.machineName = machine.getMachineName();
+        copy.machine = null;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this job that refers to its owner by {@code ownerId} instead of embedding them.
+     */
+    XmlAdaptedJob withOwnerReference(int ownerId) {
+        XmlAdaptedJob copy = new XmlAdaptedJob(this);
+        copy.ownerId = ownerId;
+        copy.owner = null;
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this job that embeds {@code owner} instead of referring to them by id.
+     */
+    XmlAdaptedJob withOwner(XmlAdaptedPerson owner) {
+        XmlAdaptedJob copy = new XmlAdaptedJob(this);
+        copy.ownerId = null;
+        copy.owner = owner;
+        return copy;
+    }
+
     /**
      * Converts this jaxb-friendly adapted job object into the model's Job object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted job
      */
     public Job toModelType() throws IllegalValueException {
+        return toModelType(new XmlIdentityMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted job object into the model's Job object, sharing the machine and owner
+     * objects of {@code identityMap} with the other jobs that refer to them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted job
+     */
+    public Job toModelType(XmlIdentityMap identityMap) throws IllegalValueException {
         //TODO handle exceptions properly here
 
         if (name == null) {
@@ -119,17 +207,18 @@ public class XmlAdaptedJob {
 
         JobName modelJobName = new JobName(name);
 
-        if (machine == null) {
+        String jobMachineName = machine == null ? machineName : machine.getMachineName();
+        if (jobMachineName == null) {
             throw new NullPointerException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Machine.class.getSimpleName()));
         }
 
-        Machine modelJobMachine = machine.toModelType();
+        Machine modelJobMachine = identityMap.getMachine(jobMachineName);
 
         if (owner == null) {
             throw new NullPointerException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
         }
 
-        Person modelJobOwner = owner.toModelType();
+        Person modelJobOwner = identityMap.getOwner(owner);
         TimeStamp modelAddedTime = addedTime.toModelType();
 
         if (priority == null) {
@@ -151,6 +240,8 @@ public class XmlAdaptedJob {
         JobNote modelJobNote = new JobNote(note);
 
         TimeStamp modelStartTime = startTime.toModelType();
+        // files written before finish times were recorded have none
+        TimeStamp modelFinishTime = finishTime == null ? null : finishTime.toModelType();
         Status modelStatus = status;
         Set<Tag> modelTags = new HashSet<>();
         for (XmlAdaptedTag tag : tagged) {
@@ -163,6 +254,7 @@ public class XmlAdaptedJob {
                 modelJobOwner,
                 modelAddedTime,
                 modelStartTime,
+                modelFinishTime,
                 modelPriority,
                 modelStatus,
                 modelDuration,
@@ -172,6 +264,38 @@ public class XmlAdaptedJob {
 
         return job;
     }
-}
 
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
 
+        if (!(other instanceof XmlAdaptedJob)) {
+            return false;
+        }
+
+        XmlAdaptedJob otherJob = (XmlAdaptedJob) other;
+        return Objects.equals(name, otherJob.name)
+                && Objects.equals(machineName, otherJob.machineName)
+                && Objects.equals(machine, otherJob.machine)
+                && Objects.equals(ownerId, otherJob.ownerId)
+                && Objects.equals(owner, otherJob.owner)
+                && Objects.equals(addedTime, otherJob.addedTime)
+                && Objects.equals(startTime, otherJob.startTime)
+                && Objects.equals(finishTime, otherJob.finishTime)
+                && priority == otherJob.priority
+                && duration == otherJob.duration
+                && status == otherJob.status
+                && tagged.equals(otherJob.tagged)
+                && Objects.equals(note, otherJob.note)
+                && Objects.equals(requestDeletion, otherJob.requestDeletion);
+    }
+
+    @Override
+    public int hashCode() {
+        // the machine is left out as XmlAdaptedMachine has no hashCode of its own; jobs are told apart by name anyway
+        return Objects.hash(name, machineName, ownerId, owner, addedTime, startTime, finishTime, priority, duration,
+                status, tagged, note, requestDeletion);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.storage.job;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlTransient;
+
+import seedu.address.storage.XmlAdaptedPerson;
+
+/**
+ * JAXB-friendly version of a job owner, written once in the jobs file and referred to by id from each of their jobs.
+ */
+public class XmlAdaptedOwner extends XmlAdaptedPerson {
+
+    @XmlAttribute(required = true)
+    private int id;
+
+    /**
+     * Constructs an XmlAdaptedOwner.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedOwner() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedOwner} with the given id for the person {@code owner}.
+     */
+    public XmlAdaptedOwner(int id, XmlAdaptedPerson owner) {
+        super(owner);
+        this.id = id;
+    }
+
+    @XmlTransient
+    public int getId() {
+        return id;
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage.job;
 
+import java.util.Objects;
+
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -25,7 +27,7 @@ public class XmlAdaptedTimeStamp {
      * @param source future changes to this will not affect the created XmlAdaptedTimeStamp
      */
     public XmlAdaptedTimeStamp(TimeStamp source) {
-        this.timeStamp = Long.toString(source.getDate().getTime());
+        this.timeStamp = Long.toString(source.getTimeInMillis());
     }
 
     /**
@@ -36,4 +38,22 @@ public class XmlAdaptedTimeStamp {
     public TimeStamp toModelType() throws IllegalValueException {
         return new TimeStamp(Long.parseLong(timeStamp));
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedTimeStamp)) {
+            return false;
+        }
+
+        return Objects.equals(timeStamp, ((XmlAdaptedTimeStamp) other).timeStamp);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(timeStamp);
+    }
 }
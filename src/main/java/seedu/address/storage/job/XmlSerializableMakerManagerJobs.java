@@ -1,33 +1,53 @@
 package seedu.address.storage.job;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.job.Job;
+import seedu.address.storage.XmlAdaptedPerson;
+import seedu.address.storage.XmlIdentityMap;
 
 /**
  * An Immutable MakerManager AddressBook that is serializable to XML format
+ *
+ * Each owner is written once, and jobs refer to their owner by id and to their machine by name.
+ * Files written before this format embedded both in every job; they are still read.
  */
 @XmlRootElement(name = "MakerManagerJobs")
 public class XmlSerializableMakerManagerJobs {
 
     public static final String MESSAGE_DUPLICATE_JOB = "Jobs list contains duplicate job(s)";
+    public static final String MESSAGE_UNKNOWN_OWNER = "Job refers to an owner that is not in the file";
 
+    /** Version of the format in which jobs refer to their owner and machine instead of embedding them */
+    public static final int NORMALIZED_FORMAT_VERSION = 2;
+
+    @XmlAttribute
+    private Integer version;
+    @XmlElement(name = "owner")
+    private List<XmlAdaptedOwner> owners;
     @XmlElement
     private List<XmlAdaptedJob> jobs;
+    @XmlAttribute
+    private Long journalSequence;
 
     /**
      * Creates an empty XmlSerializableMakerManagerJobs.
      * This empty constructor is required for marshalling
      */
     public XmlSerializableMakerManagerJobs() {
+        owners = new ArrayList<>();
         jobs = new ArrayList<>();
     }
     /**
@@ -35,7 +55,67 @@ public class XmlSerializableMakerManagerJobs {
      */
     public XmlSerializableMakerManagerJobs(ReadOnlyAddressBook src) {
         this();
-        jobs.addAll(src.getJobList().stream().map(XmlAdaptedJob::new).collect(Collectors.toList()));
+        normalize(src.getJobList().stream().map(XmlAdaptedJob::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates a snapshot of {@code jobs} that includes every journal batch up to {@code journalSequence}.
+     */
+    public XmlSerializableMakerManagerJobs(List<XmlAdaptedJob> jobs, long journalSequence) {
+        this();
+        normalize(jobs);
+        this.journalSequence = journalSequence;
+    }
+
+    /**
+     * Stores {@code adaptedJobs} in the normalized format, adding each distinct owner to the owners once.
+     */
+    private void normalize(List<XmlAdaptedJob> adaptedJobs) {
+        Map<XmlAdaptedPerson, Integer> ownerIds = new HashMap<>();
+        for (XmlAdaptedJob job : adaptedJobs) {
+            XmlAdaptedJob normalizedJob = job.withMachineReference();
+            if (job.getOwner() != null) {
+                Integer ownerId = ownerIds.get(job.getOwner());
+                if (ownerId == null) {
+                    ownerId = owners.size();
+                    ownerIds.put(job.getOwner(), ownerId);
+                    owners.add(new XmlAdaptedOwner(ownerId, job.getOwner()));
+                }
+                normalizedJob = normalizedJob.withOwnerReference(ownerId);
+            }
+            jobs.add(normalizedJob);
+        }
+        version = NORMALIZED_FORMAT_VERSION;
+    }
+
+    /**
+     * Returns the jobs, each embedding its owner and referring to its machine by name whichever format
+     * they were read from.
+     */
+    @XmlTransient
+    public List<XmlAdaptedJob> getAdaptedJobs() {
+        Map<Integer, XmlAdaptedPerson> ownersById = getOwnersById();
+        List<XmlAdaptedJob> adaptedJobs = new ArrayList<>();
+        for (XmlAdaptedJob job : jobs) {
+            adaptedJobs.add(withOwnerResolved(job.withMachineReference(), ownersById));
+        }
+        return adaptedJobs;
+    }
+
+    /**
+     * Returns true if this was read from a file that embeds owners and machines in each job.
+     */
+    @XmlTransient
+    public boolean isLegacyFormat() {
+        return version == null && !jobs.isEmpty();
+    }
+
+    /**
+     * Returns the sequence number of the last journal batch included in this snapshot, or 0 if there is none.
+     */
+    @XmlTransient
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -46,17 +126,52 @@ public class XmlSerializableMakerManagerJobs {
      * {@code XmlAdaptedJob}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(new XmlIdentityMap());
+    }
+
+    /**
+     * Converts this addressbook in the model's {@code Addressbook} object, resolving owners and machines
+     * through {@code identityMap} and recording each job in it.
+     *
+     * @throws IllegalValueException if there were any data constraints violations, duplicates or
+     * references to missing owners in the {@code XmlAdaptedJob}.
+     */
+    public AddressBook toModelType(XmlIdentityMap identityMap) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        Map<Integer, XmlAdaptedPerson> ownersById = getOwnersById();
         for (XmlAdaptedJob m : jobs) {
-            Job job = m.toModelType();
-            if (addressBook.hasJob(job)) {
+            if (m.getOwnerId() != null && !ownersById.containsKey(m.getOwnerId())) {
+                throw new IllegalValueException(MESSAGE_UNKNOWN_OWNER);
+            }
+            Job job = withOwnerResolved(m, ownersById).toModelType(identityMap);
+            if (addressBook.findJob(job.getJobName()) != null) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_JOB);
             }
             addressBook.addJob(job);
+            identityMap.addJob(job);
         }
         return addressBook;
     }
 
+    /**
+     * Returns the owners keyed by id.
+     */
+    private Map<Integer, XmlAdaptedPerson> getOwnersById() {
+        Map<Integer, XmlAdaptedPerson> ownersById = new HashMap<>();
+        for (XmlAdaptedOwner owner : owners) {
+            ownersById.put(owner.getId(), new XmlAdaptedPerson(owner));
+        }
+        return ownersById;
+    }
+
+    /**
+     * Returns {@code job} embedding the owner it refers to, if it refers to one in {@code ownersById}.
+     */
+    private static XmlAdaptedJob withOwnerResolved(XmlAdaptedJob job, Map<Integer, XmlAdaptedPerson> ownersById) {
+        XmlAdaptedPerson owner = job.getOwnerId() == null ? null : ownersById.get(job.getOwnerId());
+        return owner == null ? job : job.withOwner(owner);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -67,7 +182,7 @@ public class XmlSerializableMakerManagerJobs {
             return false;
         }
 
-        return jobs.equals(((seedu.address.storage.job.XmlSerializableMakerManagerJobs) other).jobs);
+        return getAdaptedJobs().equals(((seedu.address.storage.job.XmlSerializableMakerManagerJobs) other)
+                .getAdaptedJobs());
     }
 }
-
@@ -0,0 +1,72 @@
+package seedu.address.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes to the jobs or machines since they were last saved, in the form they are saved in.
+ *
+ * Either every entity is given, in list order, or only the entities that changed, keyed by name, with null for
+ * those removed. Entities added are given in list order, after the others, and the order of all entities is given
+ * as well if they were moved around.
+ */
+public class EntityChanges<T> {
+
+    private final List<T> allEntities;
+    private final Map<String, T> changedEntities;
+    private final List<String> order;
+
+    private EntityChanges(List<T> allEntities, Map<String, T> changedEntities, List<String> order) {
+        this.allEntities = allEntities;
+        this.changedEntities = changedEntities;
+        this.order = order;
+    }
+
+    /**
+     * Returns the changes that make the entities {@code entities}, in that order.
+     */
+    public static <T> EntityChanges<T> all(List<T> entities) {
+        requireNonNull(entities);
+        return new EntityChanges<>(Collections.unmodifiableList(new ArrayList<>(entities)), null, null);
+    }
+
+    /**
+     * Returns the changes that put or remove {@code changedEntities}, then put all entities in {@code order}
+     * unless it is null.
+     */
+    public static <T> EntityChanges<T> of(Map<String, T> changedEntities, List<String> order) {
+        requireNonNull(changedEntities);
+        return new EntityChanges<>(null, Collections.unmodifiableMap(new LinkedHashMap<>(changedEntities)),
+                order == null ? null : Collections.unmodifiableList(new ArrayList<>(order)));
+    }
+
+    public boolean isAll() {
+        return allEntities != null;
+    }
+
+    /**
+     * Returns every entity, if every entity is given.
+     */
+    public List<T> getAllEntities() {
+        return allEntities;
+    }
+
+    /**
+     * Returns the changed entities keyed by name, with null for those removed, if only those are given.
+     */
+    public Map<String, T> getChangedEntities() {
+        return changedEntities;
+    }
+
+    /**
+     * Returns the names of all entities in list order, or null if the entities were not moved around.
+     */
+    public List<String> getOrder() {
+        return order;
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.storage.journal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.storage.journal.XmlJournalEntry.Kind;
+
+/**
+ * The saved contents of one data file, as adapted entities in file order keyed by name.
+ */
+class JournaledList<T> {
+
+    private final Kind kind;
+    private final Function<T, String> nameOf;
+    private final Function<T, XmlJournalEntry> toPutEntry;
+    private final Function<XmlJournalEntry, T> entityOf;
+
+    private Map<String, T> entities = new LinkedHashMap<>();
+    private long snapshotSequence;
+
+    JournaledList(Kind kind, Function<T, String> nameOf, Function<T, XmlJournalEntry> toPutEntry,
+                  Function<XmlJournalEntry, T> entityOf) {
+        this.kind = kind;
+        this.nameOf = nameOf;
+        this.toPutEntry = toPutEntry;
+        this.entityOf = entityOf;
+    }
+
+    /**
+     * Replaces the contents with {@code items}, as found in a snapshot that includes every journal batch
+     * up to {@code snapshotSequence}.
+     */
+    void reset(List<T> items, long snapshotSequence) {
+        entities = toMap(items);
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    List<T> asList() {
+        return new ArrayList<>(entities.values());
+    }
+
+    /**
+     * Returns the sequence number of the last batch included in the snapshot file.
+     */
+    long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    void setSnapshotSequence(long snapshotSequence) {
+        this.snapshotSequence = snapshotSequence;
+    }
+
+    /**
+     * Replaces the contents with {@code items}, and returns the entries that make the same change.
+     * Only entities that were added, changed or removed get an entry, plus one listing the new order
+     * if the entities were moved around.
+     */
+    List<XmlJournalEntry> update(List<T> items) {
+        Map<String, T> next = toMap(items);
+        List<XmlJournalEntry> entries = new ArrayList<>();
+
+        List<String> orderAfterEntries = new ArrayList<>();
+        for (String name : entities.keySet()) {
+            if (next.containsKey(name)) {
+                orderAfterEntries.add(name);
+            } else {
+                entries.add(XmlJournalEntry.remove(kind, name));
+            }
+        }
+        for (Map.Entry<String, T> item : next.entrySet()) {
+            T previous = entities.get(item.getKey());
+            if (previous == null) {
+                orderAfterEntries.add(item.getKey());
+            }
+            if (!item.getValue().equals(previous)) {
+                entries.add(toPutEntry.apply(item.getValue()));
+            }
+        }
+
+        List<String> order = new ArrayList<>(next.keySet());
+        if (!order.equals(orderAfterEntries)) {
+            entries.add(XmlJournalEntry.order(kind, order));
+        }
+
+        entities = next;
+        return entries;
+    }
+
+    /**
+     * Applies {@code changes}, and returns the entries that make the same change.
+     * Unless every entity is given, only the entities named in {@code changes} are looked at, and the order
+     * only if it is given.
+     */
+    List<XmlJournalEntry> update(EntityChanges<T> changes) {
+        if (changes.isAll()) {
+            return update(changes.getAllEntities());
+        }
+
+        List<XmlJournalEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, T> changed : changes.getChangedEntities().entrySet()) {
+            String name = changed.getKey();
+            T entity = changed.getValue();
+            if (entity == null) {
+                if (entities.remove(name) != null) {
+                    entries.add(XmlJournalEntry.remove(kind, name));
+                }
+            } else if (!entity.equals(entities.put(name, entity))) {
+                entries.add(toPutEntry.apply(entity));
+            }
+        }
+
+        List<String> order = changes.getOrder();
+        if (order != null && !order.equals(new ArrayList<>(entities.keySet()))) {
+            XmlJournalEntry orderEntry = XmlJournalEntry.order(kind, order);
+            apply(orderEntry);
+            entries.add(orderEntry);
+        }
+        return entries;
+    }
+
+    /**
+     * Applies {@code entry} if it is about this kind of entity.
+     */
+    void apply(XmlJournalEntry entry) {
+        if (entry.getKind() != kind) {
+            return;
+        }
+
+        switch (entry.getOperation()) {
+        case PUT:
+            entities.put(entry.getName(), entityOf.apply(entry));
+            break;
+        case REMOVE:
+            entities.remove(entry.getName());
+            break;
+        case ORDER:
+            Map<String, T> reordered = new LinkedHashMap<>();
+            for (String name : entry.getOrder()) {
+                if (entities.containsKey(name)) {
+                    reordered.put(name, entities.get(name));
+                }
+            }
+            entities.forEach(reordered::putIfAbsent);
+            entities = reordered;
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation " + entry.getOperation());
+        }
+    }
+
+    /**
+     * Returns {@code items} keyed by name, in the same order.
+     */
+    private Map<String, T> toMap(List<T> items) {
+        Map<String, T> map = new LinkedHashMap<>();
+        for (T item : items) {
+            map.put(nameOf.apply(item), item);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,328 @@
+package seedu.address.storage.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.XmlFileStorage;
+import seedu.address.storage.job.XmlAdaptedJob;
+import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+import seedu.address.storage.journal.XmlJournalEntry.Kind;
+import seedu.address.storage.machine.XmlAdaptedMachine;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+
+/**
+ * Keeps the jobs and machines files up to date by appending each save's changes to a journal,
+ * instead of rewriting the files.
+ *
+ * The jobs and machines files hold snapshots, each stamped with the sequence number of the last journal batch
+ * it includes. Reading loads the snapshots and replays the later batches of the journal. Once the journal holds
+ * enough entries, it is compacted: fresh snapshots are written and the journal is emptied.
+ * A save costs time in proportion to the changes it writes rather than to the size of the data,
+ * and a crash loses at most the batch that was being written.
+ *
+ * Changes can be staged, already in the form they are saved in, and appended later on another thread.
+ * When only the changed jobs and machines are staged, a save does not look at the others at all.
+ */
+public class MakerManagerJournal {
+
+    /** Number of journal entries after which the journal is compacted */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(MakerManagerJournal.class);
+
+    private final XmlJournalFile journalFile;
+    private final Path jobsFile;
+    private final Path machinesFile;
+    private final int compactionThreshold;
+
+    private final JournaledList<XmlAdaptedJob> jobs = new JournaledList<>(Kind.JOB, XmlAdaptedJob::getName,
+            XmlJournalEntry::putJob, XmlJournalEntry::getJob);
+    private final JournaledList<XmlAdaptedMachine> machines = new JournaledList<>(Kind.MACHINE,
+            XmlAdaptedMachine::getMachineName, XmlJournalEntry::putMachine, XmlJournalEntry::getMachine);
+
+    private final List<EntityChanges<XmlAdaptedJob>> stagedJobChanges = new ArrayList<>();
+    private final List<EntityChanges<XmlAdaptedMachine>> stagedMachineChanges = new ArrayList<>();
+
+    private boolean isLoaded = false;
+    private long lastSequence = 0;
+    private int entriesSinceCompaction = 0;
+
+    public MakerManagerJournal(Path journalFile, Path jobsFile, Path machinesFile) {
+        this(journalFile, jobsFile, machinesFile, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public MakerManagerJournal(Path journalFile, Path jobsFile, Path machinesFile, int compactionThreshold) {
+        requireNonNull(journalFile);
+        requireNonNull(jobsFile);
+        requireNonNull(machinesFile);
+        this.journalFile = new XmlJournalFile(journalFile);
+        this.jobsFile = jobsFile;
+        this.machinesFile = machinesFile;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJobsFilePath() {
+        return jobsFile;
+    }
+
+    public Path getMachinesFilePath() {
+        return machinesFile;
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Returns the saved jobs: the jobs file with the journal replayed on top of it.
+     */
+    public synchronized XmlSerializableMakerManagerJobs readJobs() throws IOException {
+        ensureLoaded();
+        return new XmlSerializableMakerManagerJobs(jobs.asList(), lastSequence);
+    }
+
+    /**
+     * Returns the saved machines: the machines file with the journal replayed on top of it.
+     */
+    public synchronized XmlSerializableMakerManagerMachines readMachines() throws IOException {
+        ensureLoaded();
+        return new XmlSerializableMakerManagerMachines(machines.asList(), lastSequence);
+    }
+
+    /**
+     * Loads the snapshots and replays the journal, unless that has been done already.
+     */
+    private void ensureLoaded() throws IOException {
+        if (isLoaded) {
+            return;
+        }
+
+        XmlSerializableMakerManagerJobs jobsSnapshot = loadJobsSnapshot();
+        XmlSerializableMakerManagerMachines machinesSnapshot = loadMachinesSnapshot();
+        jobs.reset(jobsSnapshot.getAdaptedJobs(), jobsSnapshot.getJournalSequence());
+        machines.reset(machinesSnapshot.getAdaptedMachines(), machinesSnapshot.getJournalSequence());
+        lastSequence = Math.max(jobs.getSnapshotSequence(), machines.getSnapshotSequence());
+
+        List<XmlJournalBatch> batches = journalFile.readAll();
+        for (XmlJournalBatch batch : batches) {
+            for (XmlJournalEntry entry : batch.getEntries()) {
+                if (batch.getSequence() > jobs.getSnapshotSequence()) {
+                    jobs.apply(entry);
+                }
+                if (batch.getSequence() > machines.getSnapshotSequence()) {
+                    machines.apply(entry);
+                }
+            }
+            entriesSinceCompaction += batch.getEntries().size();
+            lastSequence = Math.max(lastSequence, batch.getSequence());
+        }
+        logger.info("Replayed " + batches.size() + " journal batches on top of " + jobsFile + " and " + machinesFile);
+        isLoaded = true;
+
+        if (jobsSnapshot.isLegacyFormat() || machinesSnapshot.isLegacyFormat()) {
+            migrate();
+        }
+    }
+
+    /**
+     * Rewrites files that embed owners, machines and jobs in each other into the format that refers to them
+     * instead. The old files can still be read, so a failure only leaves the migration for the next start.
+     */
+    private void migrate() {
+        logger.info("Migrating " + jobsFile + " and " + machinesFile + " to the format that refers to owners, "
+                + "machines and jobs instead of embedding them");
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Could not migrate " + jobsFile + " and " + machinesFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the snapshot in the jobs file, or an empty one if the file is missing, empty or unreadable.
+     */
+    private XmlSerializableMakerManagerJobs loadJobsSnapshot() {
+        try {
+            if (Files.exists(jobsFile) && Files.size(jobsFile) > 0) {
+                return XmlFileStorage.loadMakerManagerJobDataFromSaveFile(jobsFile);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Jobs file " + jobsFile + " could not be read, starting from no jobs: " + e.getMessage());
+        }
+        return new XmlSerializableMakerManagerJobs();
+    }
+
+    /**
+     * Returns the snapshot in the machines file, or an empty one if the file is missing, empty or unreadable.
+     */
+    private XmlSerializableMakerManagerMachines loadMachinesSnapshot() {
+        try {
+            if (Files.exists(machinesFile) && Files.size(machinesFile) > 0) {
+                return XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(machinesFile);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Machines file " + machinesFile + " could not be read, starting from no machines: "
+                    + e.getMessage());
+        }
+        return new XmlSerializableMakerManagerMachines();
+    }
+
+    // ================ Saving ==============================
+
+    /**
+     * Appends the changes to the jobs of {@code addressBook} since the last save to the journal.
+     */
+    public synchronized void saveJobChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ensureLoaded();
+        append(jobs.update(adaptJobs(addressBook)));
+    }
+
+    /**
+     * Appends the changes to the machines of {@code addressBook} since the last save to the journal.
+     */
+    public synchronized void saveMachineChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ensureLoaded();
+        append(machines.update(adaptMachines(addressBook)));
+    }
+
+    /**
+     * Holds {@code changes} to the jobs to be appended to the journal by {@link #saveStagedJobChanges}, after the
+     * changes held already.
+     */
+    public synchronized void stageJobChanges(EntityChanges<XmlAdaptedJob> changes) {
+        requireNonNull(changes);
+        if (changes.isAll()) {
+            stagedJobChanges.clear();
+        }
+        stagedJobChanges.add(changes);
+    }
+
+    /**
+     * Holds {@code changes} to the machines to be appended to the journal by {@link #saveStagedMachineChanges},
+     * after the changes held already.
+     */
+    public synchronized void stageMachineChanges(EntityChanges<XmlAdaptedMachine> changes) {
+        requireNonNull(changes);
+        if (changes.isAll()) {
+            stagedMachineChanges.clear();
+        }
+        stagedMachineChanges.add(changes);
+    }
+
+    /**
+     * Appends the held changes to the jobs to the journal as a single batch.
+     */
+    public synchronized void saveStagedJobChanges() throws IOException {
+        ensureLoaded();
+        List<XmlJournalEntry> entries = new ArrayList<>();
+        stagedJobChanges.forEach(changes -> entries.addAll(jobs.update(changes)));
+        stagedJobChanges.clear();
+        append(entries);
+    }
+
+    /**
+     * Appends the held changes to the machines to the journal as a single batch.
+     */
+    public synchronized void saveStagedMachineChanges() throws IOException {
+        ensureLoaded();
+        List<XmlJournalEntry> entries = new ArrayList<>();
+        stagedMachineChanges.forEach(changes -> entries.addAll(machines.update(changes)));
+        stagedMachineChanges.clear();
+        append(entries);
+    }
+
+    /**
+     * Rewrites the jobs file with the jobs of {@code addressBook}. Batches already in the journal are not
+     * replayed on top of it.
+     */
+    public synchronized void saveJobs(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ensureLoaded();
+        jobs.update(adaptJobs(addressBook));
+        writeJobsSnapshot();
+    }
+
+    /**
+     * Rewrites the machines file with the machines of {@code addressBook}. Batches already in the journal are not
+     * replayed on top of it.
+     */
+    public synchronized void saveMachines(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ensureLoaded();
+        machines.update(adaptMachines(addressBook));
+        writeMachinesSnapshot();
+    }
+
+    /**
+     * Writes both files with everything in the journal, then empties the journal.
+     */
+    public synchronized void compact() throws IOException {
+        ensureLoaded();
+        writeJobsSnapshot();
+        writeMachinesSnapshot();
+        // Batches left behind by a crash before this point are older than the snapshots, and are skipped on reading.
+        journalFile.clear();
+        entriesSinceCompaction = 0;
+        logger.info("Compacted journal " + journalFile.getFilePath());
+    }
+
+    /**
+     * Appends {@code entries} as a single batch, then compacts the journal if it has grown large enough.
+     */
+    private void append(List<XmlJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        journalFile.append(new XmlJournalBatch(lastSequence + 1, entries));
+        lastSequence++;
+        entriesSinceCompaction += entries.size();
+        if (entriesSinceCompaction >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the jobs file with the saved jobs, stamped with the latest journal batch.
+     */
+    private void writeJobsSnapshot() throws IOException {
+        FileUtil.createIfMissing(jobsFile);
+        XmlFileStorage.saveDataToFile(jobsFile, new XmlSerializableMakerManagerJobs(jobs.asList(), lastSequence));
+        jobs.setSnapshotSequence(lastSequence);
+    }
+
+    /**
+     * Rewrites the machines file with the saved machines, stamped with the latest journal batch.
+     */
+    private void writeMachinesSnapshot() throws IOException {
+        FileUtil.createIfMissing(machinesFile);
+        XmlFileStorage.saveDataToFile(machinesFile,
+                new XmlSerializableMakerManagerMachines(machines.asList(), lastSequence));
+        machines.setSnapshotSequence(lastSequence);
+    }
+
+    /**
+     * Returns the jobs of {@code addressBook} in the form they are saved in, which does not change with them.
+     */
+    public static List<XmlAdaptedJob> adaptJobs(ReadOnlyAddressBook addressBook) {
+        return addressBook.getJobList().stream().map(XmlAdaptedJob::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the machines of {@code addressBook} in the form they are saved in, which does not change with them.
+     */
+    public static List<XmlAdaptedMachine> adaptMachines(ReadOnlyAddressBook addressBook) {
+        return addressBook.getMachineList().stream().map(XmlAdaptedMachine::new).collect(Collectors.toList());
+    }
+}
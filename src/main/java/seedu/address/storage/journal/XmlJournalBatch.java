@@ -0,0 +1,40 @@
+package seedu.address.storage.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The changes made by one save, appended to the journal as a single element.
+ * A batch that was cut short by a crash cannot be read back, so a save is either replayed completely or not at all.
+ */
+@XmlRootElement(name = "batch")
+public class XmlJournalBatch {
+
+    @XmlAttribute(required = true)
+    private long sequence;
+    @XmlElement(name = "entry")
+    private List<XmlJournalEntry> entries = new ArrayList<>();
+
+    /**
+     * Constructs an XmlJournalBatch.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlJournalBatch() {}
+
+    public XmlJournalBatch(long sequence, List<XmlJournalEntry> entries) {
+        this.sequence = sequence;
+        this.entries = new ArrayList<>(entries);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public List<XmlJournalEntry> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.storage.job.XmlAdaptedJob;
+import seedu.address.storage.machine.XmlAdaptedMachine;
+
+/**
+ * JAXB-friendly record of one change to the jobs or machines file.
+ */
+public class XmlJournalEntry {
+
+    /**
+     * The data file that an entry changes.
+     */
+    public enum Kind { JOB, MACHINE }
+
+    /**
+     * What an entry does to the entity it names.
+     */
+    public enum Operation {
+        /** Adds the entity, or replaces the entity with the same name in place */
+        PUT,
+        /** Removes the entity */
+        REMOVE,
+        /** Puts all entities in the given order */
+        ORDER
+    }
+
+    @XmlAttribute(required = true)
+    private Kind kind;
+    @XmlAttribute(required = true)
+    private Operation operation;
+    @XmlAttribute
+    private String name;
+    @XmlElement
+    private XmlAdaptedJob job;
+    @XmlElement
+    private XmlAdaptedMachine machine;
+    @XmlElement(name = "position")
+    private List<String> order;
+
+    /**
+     * Constructs an XmlJournalEntry.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlJournalEntry() {}
+
+    private XmlJournalEntry(Kind kind, Operation operation, String name) {
+        this.kind = kind;
+        this.operation = operation;
+        this.name = name;
+    }
+
+    /**
+     * Returns an entry that adds or replaces {@code job}.
+     */
+    public static XmlJournalEntry putJob(XmlAdaptedJob job) {
+        XmlJournalEntry entry = new XmlJournalEntry(Kind.JOB, Operation.PUT, job.getName());
+        entry.job = job;
+        return entry;
+    }
+
+    /**
+     * Returns an entry that adds or replaces {@code machine}.
+     */
+    public static XmlJournalEntry putMachine(XmlAdaptedMachine machine) {
+        XmlJournalEntry entry = new XmlJournalEntry(Kind.MACHINE, Operation.PUT, machine.getMachineName());
+        entry.machine = machine;
+        return entry;
+    }
+
+    public static XmlJournalEntry remove(Kind kind, String name) {
+        return new XmlJournalEntry(kind, Operation.REMOVE, name);
+    }
+
+    /**
+     * Returns an entry that puts the entities of {@code kind} in the order of {@code names}.
+     */
+    public static XmlJournalEntry order(Kind kind, List<String> names) {
+        XmlJournalEntry entry = new XmlJournalEntry(kind, Operation.ORDER, null);
+        entry.order = new ArrayList<>(names);
+        return entry;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public XmlAdaptedJob getJob() {
+        return job;
+    }
+
+    public XmlAdaptedMachine getMachine() {
+        return machine;
+    }
+
+    public List<String> getOrder() {
+        return order == null ? new ArrayList<>() : order;
+    }
+}
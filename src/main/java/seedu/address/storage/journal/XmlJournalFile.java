@@ -0,0 +1,115 @@
+package seedu.address.storage.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+
+/**
+ * An append-only file of {@code XmlJournalBatch} elements, one per line.
+ */
+public class XmlJournalFile {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlJournalFile.class);
+    private static final String BATCH_ELEMENT = "batch";
+
+    private final Path file;
+
+    public XmlJournalFile(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    public Path getFilePath() {
+        return file;
+    }
+
+    /**
+     * Appends {@code batch} to the file, and returns once it is on the disk.
+     */
+    public void append(XmlJournalBatch batch) throws IOException {
+        requireNonNull(batch);
+        byte[] bytes;
+        try {
+            bytes = (XmlUtil.toXmlFragment(batch) + "\n").getBytes(UTF_8);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+
+        FileUtil.createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns all complete batches in the file, oldest first.
+     * Reading stops at the first batch that cannot be read, which is the one being written if the app crashed.
+     */
+    public List<XmlJournalBatch> readAll() throws IOException {
+        List<XmlJournalBatch> batches = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return batches;
+        }
+
+        // The file is a sequence of elements without a root, so read it inside a made-up one.
+        List<InputStream> parts = Arrays.asList(new ByteArrayInputStream("<journal>".getBytes(UTF_8)),
+                Files.newInputStream(file), new ByteArrayInputStream("</journal>".getBytes(UTF_8)));
+        try (InputStream in = new SequenceInputStream(Collections.enumeration(parts))) {
+            XMLStreamReader reader = XMLInputFactory.newFactory().createXMLStreamReader(in, UTF_8.name());
+            while (reader.hasNext()) {
+                if (reader.getEventType() == XMLStreamConstants.START_ELEMENT
+                        && BATCH_ELEMENT.equals(reader.getLocalName())) {
+                    batches.add(XmlUtil.getDataFromReader(reader, XmlJournalBatch.class));
+                } else {
+                    reader.next();
+                }
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            logger.warning("Ignoring the unreadable end of journal " + file + " after " + batches.size()
+                    + " batches: " + e.getMessage());
+        }
+        return batches;
+    }
+
+    /**
+     * Removes all batches from the file.
+     */
+    public void clear() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+            channel.force(false);
+        }
+    }
+}
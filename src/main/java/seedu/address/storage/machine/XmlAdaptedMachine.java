@@ -16,6 +16,7 @@ import seedu.address.model.machine.MachineName;
 import seedu.address.model.machine.MachineStatus;
 import seedu.address.model.tag.Tag;
 import seedu.address.storage.XmlAdaptedTag;
+import seedu.address.storage.XmlIdentityMap;
 import seedu.address.storage.job.XmlAdaptedJob;
 
 /**
@@ -31,6 +32,8 @@ public class XmlAdaptedMachine {
     @XmlElement(required = true)
     private MachineStatus status;
 
+    @XmlElement(name = "jobName")
+    private List<String> jobNames = new ArrayList<>();
     @XmlElement
     private List<XmlAdaptedJob> jobs = new ArrayList<>();
     @XmlElement
@@ -43,7 +46,8 @@ public class XmlAdaptedMachine {
     public XmlAdaptedMachine() {}
 
     /**
-     * Constructs an {@code XmlAdaptedMachine} with the given machine details.
+     * Constructs an {@code XmlAdaptedMachine} with the given machine details, embedding the whole jobs as
+     * files written before machines referred to their jobs by name did.
      */
     public XmlAdaptedMachine(String machineName,
                              MachineStatus status,
@@ -63,20 +67,70 @@ public class XmlAdaptedMachine {
     public XmlAdaptedMachine(Machine source) {
         machineName = source.getName().fullName;
         status = source.getStatus();
-        jobs = source.getJobs().stream()
-                .map(XmlAdaptedJob::new)
+        jobNames = source.getJobs().stream()
+                .map(job -> job.getJobName().fullName)
                 .collect(Collectors.toList());
         tags = source.getTags().stream()
                 .map(XmlAdaptedTag::new)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Constructs a copy of {@code source}.
+     */
+    private XmlAdaptedMachine(XmlAdaptedMachine source) {
+        machineName = source.machineName;
+        status = source.status;
+        jobNames = new ArrayList<>(source.jobNames);
+        jobs = new ArrayList<>(source.jobs);
+        tags = new HashSet<>(source.tags);
+    }
+
+    public String getMachineName() {
+        return machineName;
+    }
+
+    /**
+     * Returns a copy of this machine that refers to its jobs by name, converting jobs embedded by
+     * an older version of the machines file.
+     */
+    XmlAdaptedMachine withJobReferences() {
+        if (jobs.isEmpty()) {
+            return this;
+        }
+        XmlAdaptedMachine copy = new XmlAdaptedMachine(this);
+        for (XmlAdaptedJob job : jobs) {
+            copy.jobNames.add(job.getName());
+        }
+        copy.jobs = new ArrayList<>();
+        return copy;
+    }
+
+    /**
+     * Returns true if this machine embeds its jobs, as machines files written before jobs were referred to
+     * by name did.
+     */
+    boolean hasEmbeddedJobs() {
+        return !jobs.isEmpty();
+    }
+
     /**
      * Converts this jaxb-friendly adapted machine object into the model's Machine object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted machine
      */
     public Machine toModelType() throws IllegalValueException {
+        return toModelType(new XmlIdentityMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted machine object into the model's Machine object, whose jobs are
+     * the ones of the same name in {@code identityMap}.
+     * Jobs that are not in {@code identityMap} are left out, unless they are embedded in this machine.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted machine
+     */
+    public Machine toModelType(XmlIdentityMap identityMap) throws IllegalValueException {
         if (machineName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Machine.class.getSimpleName()));
         }
@@ -93,8 +147,15 @@ public class XmlAdaptedMachine {
         }
 
         final List<Job> finalJobs = new ArrayList<>();
+        for (String jobName : jobNames) {
+            Job job = identityMap.getJob(jobName);
+            if (job != null) {
+                finalJobs.add(job);
+            }
+        }
         for (XmlAdaptedJob job : jobs) {
-            finalJobs.add(job.toModelType());
+            Job loadedJob = identityMap.getJob(job.getName());
+            finalJobs.add(loadedJob != null ? loadedJob : job.toModelType(identityMap));
         }
 
         final List<Tag> modelTags = new ArrayList<>();
@@ -119,6 +180,7 @@ public class XmlAdaptedMachine {
         XmlAdaptedMachine otherMachine = (XmlAdaptedMachine) other;
         return Objects.equals(machineName, otherMachine.machineName)
                 && Objects.equals(status, otherMachine.status)
+                && jobNames.equals(otherMachine.jobNames)
                 && jobs.equals(otherMachine.jobs)
                 && tags.equals(otherMachine.tags);
     }
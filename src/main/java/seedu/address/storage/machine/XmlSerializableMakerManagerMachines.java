@@ -3,26 +3,38 @@ package seedu.address.storage.machine;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.machine.Machine;
+import seedu.address.storage.XmlIdentityMap;
 
 
 /**
  * An Immutable MakerManager AddressBook that is serializable to XML format
  * mean specifically for machines
+ *
+ * Machines refer to their jobs by name; files written before this format embedded the jobs, and are still read.
  */
 @XmlRootElement(name = "MakerManagerMachines")
 public class XmlSerializableMakerManagerMachines {
 
     public static final String MESSAGE_DUPLICATE_MACHINE = "Machines list contains duplicate machine(s)";
 
+    /** Version of the format in which machines refer to their jobs instead of embedding them */
+    public static final int NORMALIZED_FORMAT_VERSION = 2;
+
+    @XmlAttribute
+    private Integer version;
     @XmlElement
     private List<XmlAdaptedMachine> machines;
+    @XmlAttribute
+    private Long journalSequence;
 
     /**
      * Creates an empty XmlSerializableMakerManagerMachines.
@@ -37,6 +49,40 @@ public class XmlSerializableMakerManagerMachines {
     public XmlSerializableMakerManagerMachines(ReadOnlyAddressBook src) {
         this();
         machines.addAll(src.getMachineList().stream().map(XmlAdaptedMachine::new).collect(Collectors.toList()));
+        version = NORMALIZED_FORMAT_VERSION;
+    }
+
+    /**
+     * Creates a snapshot of {@code machines} that includes every journal batch up to {@code journalSequence}.
+     */
+    public XmlSerializableMakerManagerMachines(List<XmlAdaptedMachine> machines, long journalSequence) {
+        this.machines = machines.stream().map(XmlAdaptedMachine::withJobReferences).collect(Collectors.toList());
+        this.journalSequence = journalSequence;
+        version = NORMALIZED_FORMAT_VERSION;
+    }
+
+    /**
+     * Returns the machines, each referring to its jobs by name whichever format they were read from.
+     */
+    @XmlTransient
+    public List<XmlAdaptedMachine> getAdaptedMachines() {
+        return machines.stream().map(XmlAdaptedMachine::withJobReferences).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns true if this was read from a file that embeds jobs in the machines.
+     */
+    @XmlTransient
+    public boolean isLegacyFormat() {
+        return version == null && machines.stream().anyMatch(XmlAdaptedMachine::hasEmbeddedJobs);
+    }
+
+    /**
+     * Returns the sequence number of the last journal batch included in this snapshot, or 0 if there is none.
+     */
+    @XmlTransient
+    public long getJournalSequence() {
+        return journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -47,9 +93,20 @@ public class XmlSerializableMakerManagerMachines {
      * {@code XmlAdaptedMachine}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(new XmlIdentityMap());
+    }
+
+    /**
+     * Converts this addressbook in the model's {@code Addressbook} object, giving each machine the jobs
+     * of {@code identityMap} it refers to.
+     *
+     * @throws IllegalValueException if there were any data constraints violations or duplicates in the
+     * {@code XmlAdaptedMachine}.
+     */
+    public AddressBook toModelType(XmlIdentityMap identityMap) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (XmlAdaptedMachine m : machines) {
-            Machine machine = m.toModelType();
+            Machine machine = m.toModelType(identityMap);
             if (addressBook.hasMachine(machine)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_MACHINE);
             }
@@ -68,6 +125,6 @@ public class XmlSerializableMakerManagerMachines {
             return false;
         }
 
-        return machines.equals(((XmlSerializableMakerManagerMachines) other).machines);
+        return getAdaptedMachines().equals(((XmlSerializableMakerManagerMachines) other).getAdaptedMachines());
     }
 }
@@ -66,7 +66,7 @@ public class BrowserPanel extends UiPart<Region> {
 
     @Subscribe
     private void handleMachinePanelSelectionChangedEvent(MachinePanelSelectiononChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
 
     }
 }
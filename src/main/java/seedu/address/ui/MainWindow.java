@@ -18,6 +18,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ModelThread;
 import seedu.address.model.UserPrefs;
 //import seedu.address.model.machine.Machine;
 import seedu.address.ui.job.JobListPanel;
@@ -130,7 +131,7 @@ public class MainWindow extends UiPart<Stage> {
         //viewInfoPanel = new ViewInfoPanel();
         //displayMachineDetailsPlaceholder.getChildren().add(viewInfoPanel.getRoot());
 
-        machineListPanel = new MachineListPanel(logic.getFilteredMachineList(), logic.getFilteredJobList());
+        machineListPanel = new MachineListPanel(logic.getFilteredMachineList(), logic::getJobQueue);
         machineListPanelPlaceholder.getChildren().add(machineListPanel.getRoot());
 
         //jobListPanel = new JobListPanel(logic.getFilteredJobList());
@@ -203,7 +204,7 @@ public class MainWindow extends UiPart<Stage> {
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
+        ModelThread.runOnFxThread(this::handleHelp);
     }
 }
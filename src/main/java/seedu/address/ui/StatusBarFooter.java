@@ -13,6 +13,7 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.ui.AdminLoginEvent;
@@ -28,16 +29,6 @@ public class StatusBarFooter extends UiPart<Region> {
     public static final String SET_ADMIN_LOGIN = "[ADMIN_MODE]";
     public static final String CLEAR_ADMIN_LOGIN = " ";
 
-    /**
-     * Used to generate time stamps.
-     *
-     * TODO: change clock to an instance variable.
-     * We leave it as a static variable because manual dependency injection
-     * will require passing down the clock reference all the way from MainApp,
-     * but it should be easier once we have factories/DI frameworks.
-     */
-    private static Clock clock = Clock.systemDefaultZone();
-
     private static final Logger logger = LogsCenter.getLogger(StatusBarFooter.class);
 
     private static final String FXML = "StatusBarFooter.fxml";
@@ -60,16 +51,17 @@ public class StatusBarFooter extends UiPart<Region> {
 
     /**
      * Sets the clock used to determine the current time.
+     * The clock is the {@code AppClock}, so it also sets the time at which jobs are stamped.
      */
     public static void setClock(Clock clock) {
-        StatusBarFooter.clock = clock;
+        AppClock.set(clock);
     }
 
     /**
      * Returns the clock currently in use.
      */
     public static Clock getClock() {
-        return clock;
+        return AppClock.get();
     }
 
     private void setSaveLocation(String location) {
@@ -87,21 +79,21 @@ public class StatusBarFooter extends UiPart<Region> {
     //TODO: Are these bypassing UIManager?
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
-        long now = clock.millis();
+        long now = AppClock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
     @Subscribe
     public void handleAdminLoginEvent(AdminLoginEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Setting Login"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Setting Login"));
         changeAdminLoginStatus(SET_ADMIN_LOGIN);
     }
 
     @Subscribe
     public void handleAdminLogoutEvent(AdminLogoutEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Clearing Login"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Clearing Login"));
         changeAdminLoginStatus(CLEAR_ADMIN_LOGIN);
     }
 
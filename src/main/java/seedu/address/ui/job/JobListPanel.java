@@ -1,5 +1,7 @@
 package seedu.address.ui.job;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,6 +13,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
 import seedu.address.commons.events.ui.JobPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.model.job.Job;
@@ -26,6 +29,9 @@ public class JobListPanel extends UiPart<Region> {
     @FXML
     private ListView<Job> jobListView;
 
+    /** The cells made by the list view, which it reuses for whichever jobs are visible */
+    private final List<JobListViewCell> cells = new ArrayList<>();
+
     public JobListPanel(ObservableList<Job> jobList) {
         super(FXML);
         setConnections(jobList);
@@ -34,7 +40,11 @@ public class JobListPanel extends UiPart<Region> {
 
     private void setConnections(ObservableList<Job> jobList) {
         jobListView.setItems(jobList);
-        jobListView.setCellFactory(listView -> new JobListPanel.JobListViewCell());
+        jobListView.setCellFactory(listView -> {
+            JobListViewCell cell = new JobListViewCell();
+            cells.add(cell);
+            return cell;
+        });
         setEventHandlerForSelectionChangeEvent();
     }
 
@@ -60,10 +70,32 @@ public class JobListPanel extends UiPart<Region> {
 
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
     }
 
+    /**
+     * Redraws the cells showing the job whose status changed. A job's status is changed in place, so the list
+     * view does not see the change, and the rest of the list is left alone.
+     * UI parts handle events on the FX thread, so the cells can be redrawn at once.
+     */
+    @Subscribe
+    private void handleJobStatusChangedEvent(JobStatusChangedEvent event) {
+        logger.fine(() -> LogsCenter.getEventHandlingLogMessage(event));
+        for (JobListViewCell cell : cells) {
+            if (cell.getItem() == event.job) {
+                cell.redraw();
+            }
+        }
+    }
+
+    /**
+     * Stops this panel from handling events, once it is no longer shown.
+     */
+    public void dispose() {
+        unregisterAsAnEventHandler(this);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Job} using a {@code JobCard}.
      */
@@ -79,5 +111,12 @@ public class JobListPanel extends UiPart<Region> {
                 setGraphic(new JobCard(job, getIndex() + 1).getRoot());
             }
         }
+
+        /**
+         * Draws the job in this cell again, after it has changed in place.
+         */
+        void redraw() {
+            updateItem(getItem(), isEmpty());
+        }
     }
 }
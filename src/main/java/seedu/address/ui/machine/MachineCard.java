@@ -51,7 +51,10 @@ public class MachineCard extends UiPart<Region> {
     @FXML
     private StackPane jobsListPlaceHolder;
 
-    public MachineCard(Machine machine, int displayIndex, ObservableList<Job> jobList) {
+    /**
+     * Creates a card for {@code machine} that shows {@code jobQueue}, the machine's queue as read by the UI.
+     */
+    public MachineCard(Machine machine, int displayIndex, ObservableList<Job> jobQueue) {
         super(FXML);
         this.machine = machine;
         id.setText(displayIndex + ". ");
@@ -87,10 +90,17 @@ public class MachineCard extends UiPart<Region> {
         machineStatus.setHgap(4);
         totalDuration.getChildren().add(durationLabel);
 
-        jobListPanel = new JobListPanel(jobList.filtered(job -> job.getMachine().getName().equals(machine.getName())));
+        jobListPanel = new JobListPanel(jobQueue);
         jobsListPlaceHolder.getChildren().add(jobListPanel.getRoot());
     }
 
+    /**
+     * Stops the job list on this card from handling events, once the card is no longer shown.
+     */
+    public void dispose() {
+        jobListPanel.dispose();
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
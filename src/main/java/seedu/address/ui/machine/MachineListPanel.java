@@ -1,5 +1,6 @@
 package seedu.address.ui.machine;
 
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,6 +16,7 @@ import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.commons.events.ui.MachinePanelSelectiononChangedEvent;
 import seedu.address.model.job.Job;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
 import seedu.address.ui.UiPart;
 
 
@@ -25,20 +27,23 @@ public class MachineListPanel extends UiPart<Region> {
     private static final String FXML = "MachineListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(MachineListPanel.class);
 
-    private ObservableList<Job> jobList;
+    /** Gives the job queue shown on the card of each machine */
+    private Function<MachineName, ObservableList<Job>> jobQueues;
     @FXML
     private ListView<Machine> machineListView;
 
-    public MachineListPanel(ObservableList<Machine> machineList, ObservableList<Job> jobList) {
+    public MachineListPanel(ObservableList<Machine> machineList,
+                            Function<MachineName, ObservableList<Job>> jobQueues) {
         super(FXML);
-        setConnections(machineList, jobList);
+        setConnections(machineList, jobQueues);
         registerAsAnEventHandler(this);
     }
 
-    private void setConnections(ObservableList<Machine> machineList, ObservableList<Job> jobList) {
-        this.jobList = jobList;
+    private void setConnections(ObservableList<Machine> machineList,
+                                Function<MachineName, ObservableList<Job>> jobQueues) {
+        this.jobQueues = jobQueues;
         machineListView.setItems(machineList);
-        machineListView.setCellFactory(listView -> new MachineListViewCell(jobList));
+        machineListView.setCellFactory(listView -> new MachineListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
 
@@ -63,7 +68,7 @@ public class MachineListPanel extends UiPart<Region> {
 
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event));
         scrollTo(event.targetIndex);
     }
 
@@ -71,26 +76,23 @@ public class MachineListPanel extends UiPart<Region> {
      * Custom {@code ListCell} that displays the graphics of a {@code Machine} using a {@code MachineCard}
      */
     class MachineListViewCell extends ListCell<Machine> {
-        private ObservableList<Job> jobList;
-
-        public MachineListViewCell(ObservableList<Job> jobList) {
-            super();
-            this.jobList = jobList;
-        }
-
-        public ObservableList<Job> getJobList() {
-            return jobList;
-        }
+        /** The card shown in this cell, which is replaced whenever the cell is updated */
+        private MachineCard card;
 
         @Override
         protected void updateItem(Machine machine, boolean empty) {
             super.updateItem(machine, empty);
 
+            if (card != null) {
+                card.dispose();
+                card = null;
+            }
             if (empty || machine == null) {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MachineCard(machine, getIndex() + 1, this.getJobList()).getRoot());
+                card = new MachineCard(machine, getIndex() + 1, jobQueues.apply(machine.getName()));
+                setGraphic(card.getRoot());
             }
         }
     }
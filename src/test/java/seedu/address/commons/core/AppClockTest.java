@@ -0,0 +1,42 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AppClockTest {
+
+    private static final Clock originalClock = AppClock.get();
+
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
+    @Test
+    public void set_fixedClock_timeOfFixedClock() {
+        Clock fixedClock = Clock.fixed(Instant.ofEpochMilli(42), ZoneOffset.UTC);
+        AppClock.set(fixedClock);
+
+        assertSame(fixedClock, AppClock.get());
+        assertEquals(42, AppClock.millis());
+    }
+
+    @Test
+    public void current_clockReplaced_readsNewClock() {
+        Clock current = AppClock.current();
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(1), ZoneOffset.UTC));
+        assertEquals(1, current.millis());
+
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(2), ZoneOffset.ofHours(1)));
+        assertEquals(2, current.millis());
+        assertEquals(Instant.ofEpochMilli(2), current.instant());
+        assertEquals(ZoneOffset.ofHours(1), current.getZone());
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AsyncLogHandlerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void constructor_emptyBuffer_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AsyncLogHandler(0, AsyncLogHandler.OverflowPolicy.DROP, target);
+    }
+
+    @Test
+    public void publish_records_writtenInOrderOnWriterThread() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), target.messages.get(i));
+        }
+        assertEquals(Collections.singleton(AsyncLogHandler.THREAD_NAME), target.threadNames);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.DROP, target);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(Collections.singletonList("info"), target.messages);
+    }
+
+    @Test
+    public void publish_fullBufferWithDropPolicy_droppedAndReported() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.DROP, target);
+        handler.publish(new LogRecord(Level.INFO, "held"));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+        // the writer is stuck on the first record, so the buffer fills up after two more
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        assertEquals(2, handler.getBufferedCount());
+        assertEquals(3, handler.getDroppedCount());
+
+        target.release.countDown();
+        handler.flush();
+        assertEquals("held", target.messages.get(0));
+        assertEquals("3 log records were dropped as the log buffer was full", target.messages.get(1));
+        assertEquals(List.of("record 0", "record 1"), target.messages.subList(2, 4));
+    }
+
+    @Test
+    public void flush_writerReleasedWhileWaiting_returnsOnceRecordsWritten() throws Exception {
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.BLOCK, target);
+        handler.publish(new LogRecord(Level.INFO, "held"));
+        handler.publish(new LogRecord(Level.INFO, "next"));
+        assertTrue(target.started.await(5, TimeUnit.SECONDS));
+
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.release.countDown();
+        });
+        releaser.start();
+        handler.flush();
+
+        assertEquals(List.of("held", "next"), target.messages);
+        releaser.join();
+    }
+
+    @Test
+    public void close_recordsBuffered_writtenAndTargetClosed() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.DROP, target);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        handler.publish(new LogRecord(Level.WARNING, "second"));
+        handler.close();
+
+        assertEquals(List.of("first", "second"), target.messages);
+        assertTrue(target.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        assertEquals(2, target.messages.size());
+    }
+
+    /**
+     * Records the messages it is given, and the threads it is given them on. Waits for {@code release} before
+     * recording its first message.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isClosed = false;
+
+        @Override
+        public void publish(LogRecord record) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
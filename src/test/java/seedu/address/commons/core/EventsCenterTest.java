@@ -0,0 +1,211 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = EventsCenter.getInstance();
+    private final List<String> handled = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_postingThreadHandler_handledBeforePostReturns() {
+        RecordingHandler handler = new RecordingHandler("handler");
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new TestEvent("first"));
+        assertEquals(Collections.singletonList("handler first " + Thread.currentThread().getName()), handled);
+        assertEquals(1, eventsCenter.getHandlerLatency(handler).getCount());
+        assertEquals(1, eventsCenter.getEventLatency(TestEvent.class).getCount());
+    }
+
+    @Test
+    public void post_backgroundHandler_handledInOrderOnBackgroundThread() {
+        eventsCenter.registerHandler(new RecordingHandler("handler"), EventsCenter.Dispatch.BACKGROUND);
+
+        for (int i = 0; i < 10; i++) {
+            eventsCenter.post(new TestEvent(String.valueOf(i)));
+        }
+        eventsCenter.flush();
+
+        assertEquals(10, handled.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("handler " + i + " " + EventsCenter.BACKGROUND_THREAD_NAME, handled.get(i));
+        }
+        assertEquals(0, eventsCenter.getQueueDepth());
+        assertEquals(10, eventsCenter.getBackgroundQueueWait().getCount());
+    }
+
+    @Test
+    public void post_slowBackgroundHandler_returnsBeforeHandlerFinishes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleTestEvent(TestEvent event) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                finished.countDown();
+            }
+        }, EventsCenter.Dispatch.BACKGROUND);
+
+        eventsCenter.post(new TestEvent("slow"));
+        assertEquals(1, finished.getCount());
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void post_slowBackgroundHandler_queueDepthRecorded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleTestEvent(TestEvent event) throws InterruptedException {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+        }, EventsCenter.Dispatch.BACKGROUND);
+
+        eventsCenter.post(new TestEvent("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        eventsCenter.post(new TestEvent("second"));
+        eventsCenter.post(new TestEvent("third"));
+        assertEquals(2, eventsCenter.getQueueDepth());
+
+        release.countDown();
+        eventsCenter.flush();
+        assertEquals(0, eventsCenter.getQueueDepth());
+        assertEquals(2, eventsCenter.getMaxQueueDepth());
+    }
+
+    @Test
+    public void post_handlerOfOtherEvent_notCalled() {
+        RecordingHandler handler = new RecordingHandler("handler");
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new OtherEvent());
+        assertTrue(handled.isEmpty());
+        assertEquals(0, eventsCenter.getHandlerLatency(handler).getCount());
+    }
+
+    @Test
+    public void post_handlerRegisteredAfterEarlierPost_called() {
+        eventsCenter.registerHandler(new RecordingHandler("first"));
+        eventsCenter.post(new TestEvent("before"));
+        eventsCenter.registerHandler(new RecordingHandler("second"));
+
+        eventsCenter.post(new TestEvent("after"));
+        String thread = Thread.currentThread().getName();
+        assertEquals(List.of("first before " + thread, "first after " + thread, "second after " + thread), handled);
+    }
+
+    @Test
+    public void unregisterHandler_registeredHandler_noLongerCalled() {
+        RecordingHandler removed = new RecordingHandler("removed");
+        eventsCenter.registerHandler(removed);
+        eventsCenter.registerHandler(new RecordingHandler("kept"));
+        eventsCenter.post(new TestEvent("before"));
+        handled.clear();
+
+        eventsCenter.unregisterHandler(removed);
+        eventsCenter.post(new TestEvent("after"));
+        assertEquals(Collections.singletonList("kept after " + Thread.currentThread().getName()), handled);
+        assertNull(eventsCenter.getHandlerLatency(removed));
+    }
+
+    @Test
+    public void post_eventPostedByHandler_dispatchedAfterEventReachesEveryHandler() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleTestEvent(TestEvent event) {
+                handled.add("poster " + event.name);
+                if (event.name.equals("outer")) {
+                    eventsCenter.post(new TestEvent("inner"));
+                }
+            }
+        });
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleTestEvent(TestEvent event) {
+                handled.add("listener " + event.name);
+            }
+        });
+
+        eventsCenter.post(new TestEvent("outer"));
+        assertEquals(List.of("poster outer", "listener outer", "poster inner", "listener inner"), handled);
+    }
+
+    @Test
+    public void post_handlerOfSupertype_receivesSubtypes() {
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handleAnyEvent(BaseEvent event) {
+                handled.add(event.toString());
+            }
+        });
+
+        eventsCenter.post(new TestEvent("first"));
+        assertEquals(Collections.singletonList("first"), handled);
+    }
+
+    @Test
+    public void getHandlerLatency_unregisteredHandler_returnsNull() {
+        assertNull(eventsCenter.getHandlerLatency(new Object()));
+    }
+
+    /**
+     * Records each event it handles, with its name and the thread it was handled on.
+     */
+    private class RecordingHandler {
+        private final String name;
+
+        RecordingHandler(String name) {
+            this.name = name;
+        }
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            handled.add(name + " " + event.name + " " + Thread.currentThread().getName());
+        }
+    }
+
+    private static class OtherEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "other";
+        }
+    }
+
+    private static class TestEvent extends BaseEvent {
+        private final String name;
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LatencyHistogramTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LatencyHistogram histogram = new LatencyHistogram("test");
+
+    @Test
+    public void getPercentileMillis_empty_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(99), 0);
+        assertEquals(0, histogram.getMeanMillis(), 0);
+    }
+
+    @Test
+    public void getPercentileMillis_invalidPercentile_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        histogram.getPercentileMillis(101);
+    }
+
+    @Test
+    public void record_variousDurations_statisticsWithinBucketPrecision() {
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMeanMillis(), 1e-9);
+        assertEquals(100, histogram.getMaxMillis(), 1e-9);
+        assertWithinPrecision(50, histogram.getPercentileMillis(50));
+        assertWithinPrecision(99, histogram.getPercentileMillis(99));
+        assertEquals(100, histogram.getPercentileMillis(100), 1e-9);
+    }
+
+    @Test
+    public void record_negativeDuration_countedAsZero() {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis(), 0);
+    }
+
+    @Test
+    public void getSummary_containsName() {
+        histogram.record(1_000_000L);
+        assertTrue(histogram.getSummary().startsWith("test: count=1"));
+    }
+
+    /**
+     * Asserts that {@code actual} is an upper bound of {@code expected} that is at most 12.5% too high.
+     */
+    private void assertWithinPrecision(double expected, double actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class AttributeIndexTest {
+
+    private final AttributeIndex<Integer, StringBuilder> index = new AttributeIndex<>(StringBuilder::length);
+
+    @Test
+    public void find_itemsGroupedByKey() {
+        StringBuilder ab = new StringBuilder("ab");
+        StringBuilder cd = new StringBuilder("cd");
+        StringBuilder e = new StringBuilder("e");
+        index.add(ab);
+        index.add(cd);
+        index.add(e);
+
+        assertEquals(new HashSet<>(Arrays.asList(ab, cd)), new HashSet<>(index.find(2)));
+        assertEquals(Collections.singleton(e), new HashSet<>(index.find(1)));
+        assertTrue(index.find(5).isEmpty());
+        assertEquals(2, index.count(2));
+        assertEquals(0, index.count(5));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void reindex_itemChangedInPlace_movedToNewKey() {
+        StringBuilder item = new StringBuilder("ab");
+        index.add(item);
+        Set<StringBuilder> lengthThree = index.find(3);
+
+        item.append("c");
+        index.reindex(item);
+        assertEquals(0, index.count(2));
+        // views of a key follow the index
+        assertEquals(Collections.singleton(item), new HashSet<>(lengthThree));
+    }
+
+    @Test
+    public void remove_itemChangedInPlace_removedFromIndexedKey() {
+        StringBuilder item = new StringBuilder("ab");
+        index.add(item);
+        item.append("c");
+
+        index.remove(item);
+        index.remove(new StringBuilder("never added"));
+        assertEquals(0, index.count(2));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void add_itemsEqualButNotSame_bothIndexed() {
+        index.add(new StringBuilder("ab"));
+        index.add(new StringBuilder("ab"));
+        assertEquals(2, index.count(2));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        index.add(new StringBuilder("ab"));
+        StringBuilder e = new StringBuilder("e");
+        index.setAll(Arrays.asList(e));
+
+        assertEquals(0, index.count(2));
+        assertEquals(Collections.singleton(e), new HashSet<>(index.find(1)));
+    }
+}
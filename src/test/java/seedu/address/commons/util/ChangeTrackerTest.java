@@ -0,0 +1,86 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ChangeTrackerTest {
+
+    private final ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c");
+    private final ChangeTracker<String> tracker = new ChangeTracker<>();
+
+    @Before
+    public void setUp() {
+        list.addListener((ListChangeListener<String>) change -> tracker.markChanged(change, Function.identity()));
+    }
+
+    @Test
+    public void take_neverTaken_allChanged() {
+        list.add("d");
+        ChangeTracker.Changes<String> changes = tracker.take();
+        assertTrue(changes.isAllChanged());
+        assertTrue(changes.getChangedKeys().isEmpty());
+
+        assertFalse(tracker.take().isAllChanged());
+    }
+
+    @Test
+    public void markChanged_addedAtEndAndChangedInPlace_notReordered() {
+        tracker.take();
+        list.add("d");
+        list.add("e");
+        tracker.markChanged("a");
+        list.set(1, "b");
+
+        ChangeTracker.Changes<String> changes = tracker.take();
+        assertEquals(Arrays.asList("d", "e", "a", "b"), Arrays.asList(changes.getChangedKeys().toArray()));
+        assertFalse(changes.isReordered());
+        assertTrue(tracker.take().getChangedKeys().isEmpty());
+    }
+
+    @Test
+    public void markChanged_removed_notReordered() {
+        tracker.take();
+        list.remove("b");
+
+        ChangeTracker.Changes<String> changes = tracker.take();
+        assertEquals(Collections.singleton("b"), changes.getChangedKeys());
+        assertFalse(changes.isReordered());
+    }
+
+    @Test
+    public void markChanged_addedInMiddle_reordered() {
+        tracker.take();
+        list.add(1, "d");
+        assertTrue(tracker.take().isReordered());
+    }
+
+    @Test
+    public void markChanged_removedThenAddedAtEnd_reordered() {
+        tracker.take();
+        list.remove("a");
+        list.add("a");
+        assertTrue(tracker.take().isReordered());
+    }
+
+    @Test
+    public void markChanged_swapped_reordered() {
+        tracker.take();
+        Collections.swap(list, 0, 2);
+
+        ChangeTracker.Changes<String> changes = tracker.take();
+        assertEquals(2, changes.getChangedKeys().size());
+        assertTrue(changes.isReordered());
+    }
+}
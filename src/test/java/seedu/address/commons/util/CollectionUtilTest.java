@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiPredicate;
 
 import org.junit.Test;
 
@@ -81,6 +82,25 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void elementsAreUnique() {
+        // no elements
+        assertTrue(CollectionUtil.elementsAreUnique(Collections.<String>emptyList(), String::length, String::equals));
+
+        // distinct keys are never compared
+        BiPredicate<String, String> alwaysSame = (first, second) -> true;
+        assertTrue(CollectionUtil.elementsAreUnique(Arrays.asList("a", "bb", "ccc"), String::length, alwaysSame));
+
+        // same key but not the same element
+        assertTrue(CollectionUtil.elementsAreUnique(Arrays.asList("ab", "cd"), String::length, String::equals));
+
+        // same key and the same element
+        assertFalse(CollectionUtil.elementsAreUnique(Arrays.asList("ab", "cd", "ab"), String::length,
+            String::equals));
+        assertFalse(CollectionUtil.elementsAreUnique(Arrays.asList("ab", "AB"), String::length,
+            String::equalsIgnoreCase));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
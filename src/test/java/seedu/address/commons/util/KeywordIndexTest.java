@@ -0,0 +1,134 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex<String> index = new KeywordIndex<>(Collections::singletonList);
+
+    @Test
+    public void find_wordsMatchedIgnoringCase() {
+        index.add("Alice Bob");
+        index.add("bob  carol");
+
+        assertEquals(new HashSet<>(Arrays.asList("Alice Bob", "bob  carol")), index.find("BOB"));
+        assertEquals(Collections.singleton("Alice Bob"), index.find("alice"));
+        // not a full word match
+        assertTrue(index.find("ali").isEmpty());
+    }
+
+    @Test
+    public void findAny_unionOfPostings() {
+        index.add("Alice Bob");
+        index.add("Carol Dan");
+        index.add("Erin");
+
+        assertEquals(new HashSet<>(Arrays.asList("Alice Bob", "Carol Dan")),
+                index.findAny(Arrays.asList("bob", "carol", "zed")));
+    }
+
+    @Test
+    public void findAll_intersectionOfPostings() {
+        index.add("Alice Bob Carol");
+        index.add("Alice Bob");
+        index.add("Alice");
+
+        assertEquals(new HashSet<>(Arrays.asList("Alice Bob Carol", "Alice Bob")),
+                index.findAll(Arrays.asList("alice", "bob")));
+        assertTrue(index.findAll(Arrays.asList("alice", "zed")).isEmpty());
+        assertTrue(index.findAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void remove_itemNoLongerFound() {
+        index.add("Alice Bob");
+        index.remove("Alice Bob");
+        index.remove("never added");
+
+        assertTrue(index.find("alice").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void track_listChanges_indexKeptInStep() {
+        ObservableList<String> list = FXCollections.observableArrayList("Alice Bob", "Carol");
+        index.track(list);
+        assertEquals(2, index.size());
+
+        list.add("Dan Bob");
+        list.remove("Alice Bob");
+        list.set(0, "Erin");
+        assertEquals(new HashSet<>(Arrays.asList("Dan Bob", "Erin")), index.findAny(Arrays.asList("bob", "erin")));
+        assertTrue(index.find("carol").isEmpty());
+
+        list.setAll("Frank");
+        assertEquals(1, index.size());
+        assertEquals(Collections.singleton("Frank"), index.find("frank"));
+    }
+
+    @Test
+    public void matchingAny_itemsIndexedLater_matched() {
+        Predicate<String> predicate = index.matchingAny(Arrays.asList("bob", "carol"));
+        String bob = "Alice Bob";
+        assertFalse(predicate.test(bob));
+
+        index.add(bob);
+        assertTrue(predicate.test(bob));
+        index.remove(bob);
+        assertFalse(predicate.test(bob));
+    }
+
+    @Test
+    public void matchingAny_wordsNotIndexed_noPostingsMade() {
+        Predicate<String> predicate = index.matchingAny(Arrays.asList("zed", "yak"));
+        index.find("absent");
+        index.findAny(Arrays.asList("absent", "missing"));
+        assertEquals(0, index.wordCount());
+
+        index.add("Zed");
+        assertTrue(predicate.test("Zed"));
+        assertEquals(1, index.wordCount());
+    }
+
+    @Test
+    public void remove_lastItemWithWord_postingPruned() {
+        Set<String> bobs = index.find("bob");
+        index.add("Alice Bob");
+        index.add("Bob");
+        assertEquals(2, index.wordCount());
+
+        index.remove("Alice Bob");
+        assertEquals(1, index.wordCount());
+        index.remove("Bob");
+        assertEquals(0, index.wordCount());
+        assertTrue(bobs.isEmpty());
+
+        // the view follows the word's posting set once it is made again
+        index.add("Bob Carol");
+        assertEquals(Collections.singleton("Bob Carol"), bobs);
+    }
+
+    @Test
+    public void add_severalTexts_allWordsIndexed() {
+        KeywordIndex<List<String>> multiTextIndex = new KeywordIndex<>(texts -> texts);
+        List<String> item = Arrays.asList("Printer", "resin large", null);
+        multiTextIndex.add(item);
+
+        assertEquals(Collections.singleton(item), multiTextIndex.find("LARGE"));
+        assertEquals(Collections.singleton(item), multiTextIndex.find("printer"));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ObservableListSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+    private final ObservableListSnapshot<String> snapshots = new ObservableListSnapshot<>(source);
+
+    @Test
+    public void get_sourceUnchanged_returnsSameInstance() {
+        ObservableList<String> first = snapshots.get();
+        assertSame(first, snapshots.get());
+        assertTrue(snapshots.isCurrent(first));
+    }
+
+    @Test
+    public void get_sourceChanged_returnsNewCopy() {
+        ObservableList<String> first = snapshots.get();
+        source.add("c");
+        ObservableList<String> second = snapshots.get();
+
+        assertNotSame(first, second);
+        assertFalse(snapshots.isCurrent(first));
+        assertEquals(Arrays.asList("a", "b"), first);
+        assertEquals(Arrays.asList("a", "b", "c"), second);
+    }
+
+    @Test
+    public void isCurrent_equalButDifferentList_returnsFalse() {
+        snapshots.get();
+        assertFalse(snapshots.isCurrent(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void get_modifySnapshot_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        snapshots.get().add("c");
+    }
+}
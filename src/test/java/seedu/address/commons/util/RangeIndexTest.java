@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class RangeIndexTest {
+
+    private final RangeIndex<long[]> index = new RangeIndex<>(item -> item[0] < 0 ? null : item[0]);
+
+    @Test
+    public void findBetween_halfOpenRangeInOrder() {
+        long[] thirty = {30};
+        long[] ten = {10};
+        long[] twenty = {20};
+        index.setAll(Arrays.asList(thirty, ten, twenty));
+
+        assertEquals(Arrays.asList(ten, twenty), new ArrayList<>(index.findBetween(10, 30)));
+        assertEquals(Arrays.asList(ten, twenty, thirty), new ArrayList<>(index.findBetween(Long.MIN_VALUE,
+                Long.MAX_VALUE)));
+        assertTrue(index.findBetween(30, 10).isEmpty());
+        assertEquals(2, index.findBetween(15, 31).size());
+        assertTrue(index.findBetween(15, 31).contains(thirty));
+        assertFalse(index.findBetween(15, 31).contains(ten));
+    }
+
+    @Test
+    public void reindex_valueChangedInPlace_rangeFollows() {
+        long[] item = {10};
+        index.add(item);
+        Set<long[]> later = index.findBetween(100, 200);
+        assertTrue(later.isEmpty());
+
+        item[0] = 150;
+        index.reindex(item);
+        assertEquals(Collections.singletonList(item), new ArrayList<>(later));
+        assertTrue(index.findBetween(0, 100).isEmpty());
+    }
+
+    @Test
+    public void nullValue_inNoRangeUntilSet() {
+        long[] unfinished = {-1};
+        index.add(unfinished);
+        assertTrue(index.findBetween(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+
+        unfinished[0] = 5;
+        index.reindex(unfinished);
+        assertTrue(index.findBetween(0, 10).contains(unfinished));
+
+        // items that were never added are not brought in by reindexing
+        long[] outsider = {5};
+        index.reindex(outsider);
+        assertEquals(1, index.findBetween(0, 10).size());
+    }
+
+    @Test
+    public void remove_itemsWithSameValue_othersKept() {
+        long[] first = {10};
+        long[] second = {10};
+        index.add(first);
+        index.add(second);
+        index.remove(first);
+        index.remove(new long[] {10});
+
+        List<long[]> found = new ArrayList<>(index.findBetween(0, 100));
+        assertEquals(Collections.singletonList(second), found);
+    }
+}
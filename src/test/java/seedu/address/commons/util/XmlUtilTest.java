@@ -5,8 +5,12 @@ import static org.junit.Assert.assertEquals;
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -138,6 +142,35 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void getDataFromFile_concurrentReads_sameData() throws Exception {
+        XmlSerializableAddressBook expected = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<XmlSerializableAddressBook>> reads = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                reads.add(executor.submit(() -> XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class)));
+            }
+            for (Future<XmlSerializableAddressBook> read : reads) {
+                assertEquals(expected, read.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getDataFromFile_afterFailedRead_validFileStillRead() throws Exception {
+        try {
+            XmlUtil.getDataFromFile(EMPTY_FILE, XmlSerializableAddressBook.class);
+            throw new AssertionError("The expected JAXBException was not thrown.");
+        } catch (JAXBException e) {
+            // expected
+        }
+        assertEquals(9, XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class)
+                .toModelType().getPersonList().size());
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
@@ -0,0 +1,61 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListMirrorTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b");
+    private final Queue<Runnable> uiQueue = new ArrayDeque<>();
+    private final ObservableList<String> mirror = new ListMirror<>(source, uiQueue::add).asUnmodifiableObservableList();
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(Arrays.asList("a", "b"), mirror);
+    }
+
+    @Test
+    public void sourceChanged_appliedOnlyByUiExecutor() {
+        source.add("c");
+        assertEquals(Arrays.asList("a", "b"), mirror);
+
+        runUiQueue();
+        assertEquals(Arrays.asList("a", "b", "c"), mirror);
+    }
+
+    @Test
+    public void sourceChangedRepeatedly_changesCoalesced() {
+        source.add("c");
+        source.remove("a");
+        source.add("d");
+        assertEquals(1, uiQueue.size());
+
+        runUiQueue();
+        assertEquals(Arrays.asList("b", "c", "d"), mirror);
+    }
+
+    @Test
+    public void modifyMirror_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        mirror.remove(0);
+    }
+
+    private void runUiQueue() {
+        while (!uiQueue.isEmpty()) {
+            uiQueue.poll().run();
+        }
+    }
+}
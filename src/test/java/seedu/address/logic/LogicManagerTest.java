@@ -1,13 +1,19 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.JobAddedEvent;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
@@ -16,12 +22,21 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -46,12 +61,65 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_commandChangingSeveralLists_eachChangedListRaisedOnce() throws Exception {
+        model.addMachine(new MachineBuilder().withMachineName("TYPrinter").build());
+        eventsCollectorRule.eventsCollector.reset();
+
+        logic.execute("addJob n/iDCP m/TYPrinter on/TIAN YUAN pr/HIGH d/1.5 jn/For the iDCP project t/iDCP");
+        // the added job, then the job list and the machine list, which shows the jobs of each machine
+        assertEquals(3, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.get(0) instanceof JobAddedEvent);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         logic.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void execute_onModelThread_sameBehaviourAsCallingThread() {
+        ModelThread modelThread = new ModelThread();
+        logic = new LogicManager(model, modelThread, Runnable::run);
+        try {
+            assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+            assertCommandException("delete 9", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+            assertHistoryCorrect(ListCommand.COMMAND_WORD, "delete 9", "uicfhmowqewca");
+            assertEquals(model.getFilteredPersonList(), logic.getFilteredPersonList());
+        } finally {
+            modelThread.shutdown();
+        }
+    }
+
+    @Test
+    public void getJobQueue_onModelThread_mirroredOnUiThread() throws Exception {
+        ModelThread modelThread = new ModelThread();
+        List<Runnable> uiTasks = new ArrayList<>();
+        logic = new LogicManager(model, modelThread, uiTasks::add);
+        try {
+            modelThread.call(() -> {
+                model.addMachine(new MachineBuilder().withMachineName("TYPrinter").build());
+                return null;
+            });
+            MachineName machineName = new MachineName("TYPrinter");
+            List<Job> queue = logic.getJobQueue(machineName);
+            assertSame(queue, logic.getJobQueue(machineName));
+
+            modelThread.call(() -> {
+                model.addJob(new JobBuilder().withMachine(new Machine("TYPrinter")).build());
+                return null;
+            });
+            // the model thread's change reaches the queue only when the UI thread applies it
+            assertTrue(queue.isEmpty());
+            uiTasks.forEach(Runnable::run);
+            assertEquals(1, queue.size());
+        } finally {
+            modelThread.shutdown();
+        }
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
@@ -0,0 +1,77 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ModelThreadTest {
+
+    private final ModelThread modelThread = new ModelThread();
+
+    @After
+    public void tearDown() {
+        modelThread.shutdown();
+    }
+
+    @Test
+    public void call_returnsResultFromModelThread() throws Exception {
+        assertEquals(ModelThread.THREAD_NAME, modelThread.call(() -> Thread.currentThread().getName()));
+        assertTrue(modelThread.call(ModelThread::isModelThread));
+        assertFalse(ModelThread.isModelThread());
+    }
+
+    @Test
+    public void call_fromModelThread_runsDirectly() throws Exception {
+        assertEquals(Integer.valueOf(42), modelThread.call(() -> modelThread.call(() -> 42)));
+    }
+
+    @Test
+    public void call_taskThrows_causeIsTaskException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("failed");
+        try {
+            modelThread.call(() -> {
+                throw failure;
+            });
+            throw new AssertionError("The expected ExecutionException was not thrown.");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void execute_tasksRunInSubmissionOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int task = i;
+            modelThread.execute(() -> {
+                order.add(task);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+        assertEquals(100, modelThread.getQueueWait().getCount());
+    }
+
+    @Test
+    public void runOnFxThread_notOnModelThread_runsDirectly() {
+        List<String> ran = new ArrayList<>();
+        ModelThread.runOnFxThread(() -> ran.add("ran"));
+        assertEquals(Collections.singletonList("ran"), ran);
+    }
+}
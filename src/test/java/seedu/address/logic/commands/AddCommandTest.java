@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -18,6 +19,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.Username;
@@ -109,6 +111,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -135,6 +142,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addJobs(List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(JobName job) {
 
@@ -285,6 +297,11 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public ObservableList<Job> getJobQueue(MachineName machineName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredJobList(Predicate<Job> predicate) {
 
@@ -344,6 +361,11 @@ public class AddCommandTest {
         public boolean isUndoLogin() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void shutdown() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -15,6 +16,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
@@ -136,6 +138,11 @@ public class AddAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -161,6 +168,11 @@ public class AddAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addJobs(List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(JobName job) {
 
@@ -295,6 +307,11 @@ public class AddAdminCommandTest {
             return null;
         }
 
+        @Override
+        public ObservableList<Job> getJobQueue(MachineName machineName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredJobList(Predicate<Job> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -375,5 +392,10 @@ public class AddAdminCommandTest {
         public boolean isUndoLogin() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void shutdown() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
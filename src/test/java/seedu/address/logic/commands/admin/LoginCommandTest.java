@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.admin;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -10,6 +11,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
@@ -88,6 +90,11 @@ public class LoginCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -113,6 +120,11 @@ public class LoginCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addJobs(List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(JobName job) {
 
@@ -247,6 +259,11 @@ public class LoginCommandTest {
             return null;
         }
 
+        @Override
+        public ObservableList<Job> getJobQueue(MachineName machineName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredJobList(Predicate<Job> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -328,6 +345,11 @@ public class LoginCommandTest {
         public boolean isUndoLogin() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void shutdown() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
 
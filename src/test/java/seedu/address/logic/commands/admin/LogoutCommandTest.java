@@ -2,6 +2,7 @@ package seedu.address.logic.commands.admin;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -13,6 +14,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
@@ -75,6 +77,11 @@ public class LogoutCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -100,6 +107,11 @@ public class LogoutCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addJobs(List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(JobName job) {
 
@@ -229,6 +241,11 @@ public class LogoutCommandTest {
             return null;
         }
 
+        @Override
+        public ObservableList<Job> getJobQueue(MachineName machineName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredJobList(Predicate<Job> predicate) {
 
@@ -309,5 +326,10 @@ public class LogoutCommandTest {
         public boolean isUndoLogin() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void shutdown() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands.admin;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -14,6 +15,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
@@ -126,6 +128,11 @@ public class RemoveAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelTransaction beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -146,6 +153,11 @@ public class RemoveAdminCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addJobs(List<Job> jobs) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteJob(JobName job) {
 
@@ -286,6 +298,11 @@ public class RemoveAdminCommandTest {
             return null;
         }
 
+        @Override
+        public ObservableList<Job> getJobQueue(MachineName machineName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredJobList(Predicate<Job> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -366,5 +383,10 @@ public class RemoveAdminCommandTest {
         public boolean isUndoLogin() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void shutdown() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
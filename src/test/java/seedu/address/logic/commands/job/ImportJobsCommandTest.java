@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.job.JobName;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class ImportJobsCommandTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JobImportParserTest");
+    private static final Path VALID_JOBS_FILE = TEST_DATA_FOLDER.resolve("validJobs.csv");
+
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validFile_allJobsAddedInOneUndoableStep() throws CommandException {
+        Model model = createModel();
+
+        String feedback = new ImportJobsCommand(VALID_JOBS_FILE).execute(model, commandHistory).feedbackToUser;
+        assertTrue(feedback.startsWith("2 jobs imported from " + VALID_JOBS_FILE));
+        assertEquals(2, model.getFilteredJobList().size());
+
+        model.undoAddressBook();
+        assertTrue(model.getFilteredJobList().isEmpty());
+    }
+
+    @Test
+    public void execute_jobAlreadyExists_nothingImported() {
+        Model model = createModel();
+        model.addJob(new JobBuilder().withName("iDCP").withMachine(new MachineBuilder()
+                .withMachineName("TYPrinter").build()).build());
+        model.commitAddressBook();
+
+        assertCommandFailure(new ImportJobsCommand(VALID_JOBS_FILE), model, commandHistory,
+                String.format(ImportJobsCommand.MESSAGE_FAILURE, VALID_JOBS_FILE,
+                        String.format(ImportJobsCommand.MESSAGE_EXISTING_JOB, new JobName("iDCP"))));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = TEST_DATA_FOLDER.resolve("missing.csv");
+        assertCommandFailure(new ImportJobsCommand(missingFile), createModel(), commandHistory,
+                String.format(ImportJobsCommand.MESSAGE_CANNOT_READ, missingFile));
+    }
+
+    @Test
+    public void equals() {
+        ImportJobsCommand importValid = new ImportJobsCommand(VALID_JOBS_FILE);
+        ImportJobsCommand importValidCopy = new ImportJobsCommand(TEST_DATA_FOLDER.resolve("validJobs.csv"));
+
+        // same file -> returns true, with the same hash code
+        assertTrue(importValid.equals(importValidCopy));
+        assertEquals(importValid.hashCode(), importValidCopy.hashCode());
+
+        // different file -> returns false
+        assertFalse(importValid.equals(new ImportJobsCommand(TEST_DATA_FOLDER.resolve("missing.csv"))));
+
+        // null -> returns false
+        assertFalse(importValid.equals(null));
+    }
+
+    /**
+     * Returns a model with the machine named in the valid import files, committed so that imports can be undone.
+     */
+    private static Model createModel() {
+        Model model = new ModelManager();
+        model.addMachine(new MachineBuilder().withMachineName("TYPrinter").build());
+        model.commitAddressBook();
+        return model;
+    }
+}
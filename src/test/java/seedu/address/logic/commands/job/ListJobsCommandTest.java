@@ -0,0 +1,34 @@
+package seedu.address.logic.commands.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.model.job.query.JobCondition;
+
+public class ListJobsCommandTest {
+
+    @Test
+    public void equals() {
+        ListJobsCommand listAll = new ListJobsCommand();
+        ListJobsCommand listFirstSecond = new ListJobsCommand(JobCondition.addedBetween(0, 1000));
+        ListJobsCommand listFirstSecondCopy = new ListJobsCommand(JobCondition.addedBetween(0, 1000));
+
+        // same object -> returns true
+        assertTrue(listFirstSecond.equals(listFirstSecond));
+
+        // same range -> returns true, with the same hash code
+        assertTrue(listFirstSecond.equals(listFirstSecondCopy));
+        assertEquals(listFirstSecond.hashCode(), listFirstSecondCopy.hashCode());
+        assertEquals(new ListJobsCommand().hashCode(), listAll.hashCode());
+
+        // different range -> returns false
+        assertFalse(listFirstSecond.equals(listAll));
+        assertFalse(listFirstSecond.equals(new ListJobsCommand(JobCondition.startedBetween(0, 1000))));
+
+        // null -> returns false
+        assertFalse(listFirstSecond.equals(null));
+    }
+}
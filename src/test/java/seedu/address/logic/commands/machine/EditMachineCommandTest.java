@@ -0,0 +1,89 @@
+package seedu.address.logic.commands.machine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.machine.EditMachineCommand.EditMachineDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class EditMachineCommandTest {
+
+    private static final MachineName OLD_NAME = new MachineName("TYPrinter");
+    private static final MachineName NEW_NAME = new MachineName("NewPrinter");
+
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_renameMachineWithQueuedJobs_jobsMovedToNewName() throws CommandException {
+        Model model = createModelWithQueuedJobs();
+
+        new EditMachineCommand(OLD_NAME, renameTo(NEW_NAME)).execute(model, commandHistory);
+
+        assertNull(model.findMachine(OLD_NAME));
+        Machine renamed = model.findMachine(NEW_NAME);
+        assertEquals(Arrays.asList(new JobName("first"), new JobName("second")), jobNamesOf(renamed));
+        assertEquals(2, renamed.getJobQueue().size());
+        assertEquals(NEW_NAME, model.findJob(new JobName("first")).getMachine().getName());
+        assertEquals(NEW_NAME, model.findJob(new JobName("second")).getMachine().getName());
+    }
+
+    @Test
+    public void execute_renameMachineWithQueuedJobs_undoMovesJobsBack() throws CommandException {
+        Model model = createModelWithQueuedJobs();
+        new EditMachineCommand(OLD_NAME, renameTo(NEW_NAME)).execute(model, commandHistory);
+
+        model.undoAddressBook();
+        assertNull(model.findMachine(NEW_NAME));
+        Machine restored = model.findMachine(OLD_NAME);
+        assertEquals(Arrays.asList(new JobName("first"), new JobName("second")), jobNamesOf(restored));
+        assertEquals(2, restored.getJobQueue().size());
+        assertEquals(OLD_NAME, model.findJob(new JobName("first")).getMachine().getName());
+
+        model.redoAddressBook();
+        assertEquals(2, model.findMachine(NEW_NAME).getJobQueue().size());
+        assertEquals(NEW_NAME, model.findJob(new JobName("second")).getMachine().getName());
+    }
+
+    /**
+     * Returns a logged in model with a machine that has two queued jobs, committed so that edits can be undone.
+     */
+    private static Model createModelWithQueuedJobs() {
+        Model model = new ModelManager();
+        model.setLogin(new Admin(new Username("admin"), new Password("Password1!")));
+        model.addMachine(new MachineBuilder().withMachineName(OLD_NAME.fullName).build());
+        for (String name : Arrays.asList("first", "second")) {
+            model.addJob(new JobBuilder().withName(name)
+                    .withMachine(new MachineBuilder().withMachineName(OLD_NAME.fullName).build()).build());
+        }
+        model.commitAddressBook();
+        return model;
+    }
+
+    private static EditMachineDescriptor renameTo(MachineName name) {
+        EditMachineDescriptor descriptor = new EditMachineDescriptor();
+        descriptor.setName(name);
+        return descriptor;
+    }
+
+    private static List<JobName> jobNamesOf(Machine machine) {
+        return machine.getJobs().stream().map(Job::getJobName).collect(Collectors.toList());
+    }
+}
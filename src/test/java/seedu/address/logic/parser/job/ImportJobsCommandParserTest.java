@@ -0,0 +1,29 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.job.ImportJobsCommand;
+
+public class ImportJobsCommandParserTest {
+
+    private final ImportJobsCommandParser parser = new ImportJobsCommandParser();
+
+    @Test
+    public void parse_supportedFile_returnsImportJobsCommand() {
+        assertParseSuccess(parser, " data/jobs.csv ", new ImportJobsCommand(Paths.get("data", "jobs.csv")));
+        assertParseSuccess(parser, " jobs.JSON", new ImportJobsCommand(Paths.get("jobs.JSON")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                ImportJobsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " jobs.xml", JobImportParser.MESSAGE_UNSUPPORTED_FILE);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.parser.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Priority;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.tag.Tag;
+
+public class JobImportParserTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JobImportParserTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final JobImportParser parser = new JobImportParser();
+
+    @Test
+    public void parse_validCsv_jobsInFileOrder() throws Exception {
+        assertValidJobs(parser.parse(TEST_DATA_FOLDER.resolve("validJobs.csv")));
+    }
+
+    @Test
+    public void parse_validJson_jobsInFileOrder() throws Exception {
+        assertValidJobs(parser.parse(TEST_DATA_FOLDER.resolve("validJobs.json")));
+    }
+
+    /**
+     * Asserts that {@code jobs} are the jobs in the valid import files.
+     */
+    private void assertValidJobs(List<Job> jobs) {
+        assertEquals(2, jobs.size());
+        Job first = jobs.get(0);
+        assertEquals(new JobName("iDCP"), first.getJobName());
+        assertEquals(new MachineName("TYPrinter"), first.getMachine().getName());
+        assertEquals("TIAN YUAN", first.getOwner().getName().fullName);
+        assertEquals(Priority.HIGH, first.getPriority());
+        assertEquals(1.5f, first.getDuration(), 0);
+        assertEquals("For the iDCP project", first.getJobNote().toString());
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("iDCP"), new Tag("prototype"))), first.getTags());
+
+        Job second = jobs.get(1);
+        assertEquals(new MachineName(Machine.AUTO_ASSIGN_NAME), second.getMachine().getName());
+        assertTrue(second.getTags().isEmpty());
+    }
+
+    @Test
+    public void parse_invalidRows_everyRowReported() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.join("\n",
+                String.format(JobImportParser.MESSAGE_INVALID_ROW, 2, Job.MESSAGE_NAME_CONSTRAINTS),
+                String.format(JobImportParser.MESSAGE_INVALID_ROW, 3, JobImportParser.MESSAGE_INVALID_DURATION),
+                String.format(JobImportParser.MESSAGE_INVALID_ROW, 4,
+                        String.format(JobImportParser.MESSAGE_DUPLICATE_NAME, "good")),
+                String.format(JobImportParser.MESSAGE_INVALID_ROW, 5, JobImportParser.MESSAGE_UNTERMINATED_QUOTE)));
+        parser.parse(TEST_DATA_FOLDER.resolve("invalidJobs.csv"));
+    }
+
+    @Test
+    public void parse_missingColumn_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(JobImportParser.MESSAGE_MISSING_COLUMN, "duration"));
+        parser.parse(TEST_DATA_FOLDER.resolve("missingColumn.csv"));
+    }
+
+    @Test
+    public void parse_unsupportedFile_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(JobImportParser.MESSAGE_UNSUPPORTED_FILE);
+        parser.parse(TEST_DATA_FOLDER.resolve("validJobs.txt"));
+    }
+
+    @Test
+    public void splitCsvLine_quotedValues_unquoted() throws Exception {
+        assertEquals(Arrays.asList("a", "b, c", "say \"hi\"", ""),
+                JobImportParser.splitCsvLine("a,\"b, c\",\"say \"\"hi\"\"\","));
+        assertEquals(Collections.singletonList(""), JobImportParser.splitCsvLine(""));
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.parser.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.logic.commands.job.FindJobCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.job.query.JobQuery;
+
+public class JobQueryParserTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    private final JobQueryParser parser = new JobQueryParser();
+    private final FindJobCommandParser findJobCommandParser = new FindJobCommandParser();
+    private Clock originalClock;
+
+    @Before
+    public void setUp() {
+        originalClock = AppClock.get();
+        AppClock.set(Clock.fixed(Instant.EPOCH, ZONE));
+    }
+
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
+    @Test
+    public void isQuery() {
+        assertTrue(JobQueryParser.isQuery("status/QUEUED"));
+        assertTrue(JobQueryParser.isQuery("alice OR bob"));
+        assertTrue(JobQueryParser.isQuery("alice Machine/TYPrinter"));
+        assertFalse(JobQueryParser.isQuery("alice bob"));
+        assertFalse(JobQueryParser.isQuery("alice or bob"));
+    }
+
+    @Test
+    public void parse_andOr_alternativesOfConditions() throws Exception {
+        JobQuery expected = new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.ONGOING), JobCondition.priority(Priority.URGENT)),
+                Arrays.asList(JobCondition.machine("TYPrinter"), JobCondition.owner("Alice Pauline"),
+                        JobCondition.tag("iDCP"), JobCondition.keyword("resin"))));
+
+        assertEquals(expected, parser.parse("status/ongoing AND priority/URGENT OR machine/TYPrinter "
+                + "owner/\"Alice Pauline\" tag/iDCP resin"));
+    }
+
+    @Test
+    public void parse_addedDates_rangesOfWholeDays() throws Exception {
+        long dayStart = LocalDate.of(2018, 9, 1).atStartOfDay(ZONE).toInstant().toEpochMilli();
+        long dayEnd = LocalDate.of(2018, 9, 2).atStartOfDay(ZONE).toInstant().toEpochMilli();
+
+        assertEquals(single(JobCondition.addedBetween(dayStart, dayEnd)), parser.parse("added/2018-09-01"));
+        assertEquals(single(JobCondition.addedBetween(dayEnd, Long.MAX_VALUE)), parser.parse("added/>2018-09-01"));
+        assertEquals(single(JobCondition.addedBetween(dayStart, Long.MAX_VALUE)),
+                parser.parse("added/>=2018-09-01"));
+        assertEquals(single(JobCondition.addedBetween(Long.MIN_VALUE, dayStart)), parser.parse("added/<2018-09-01"));
+        assertEquals(single(JobCondition.addedBetween(Long.MIN_VALUE, dayEnd)), parser.parse("added/<=2018-09-01"));
+        assertEquals(single(JobCondition.startedBetween(dayStart, dayEnd)), parser.parse("started/2018-09-01"));
+        assertEquals(single(JobCondition.finishedBetween(dayEnd, Long.MAX_VALUE)),
+                parser.parse("finished/>2018-09-01"));
+    }
+
+    @Test
+    public void parse_invalidInput_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindJobCommand.MESSAGE_USAGE);
+        assertParseFailure("OR status/QUEUED", invalidFormat);
+        assertParseFailure("status/QUEUED OR", invalidFormat);
+        assertParseFailure("status/QUEUED AND OR priority/HIGH", invalidFormat);
+        assertParseFailure("status/WAITING", Status.MESSAGE_STATUS_CONSTRAINTS);
+        assertParseFailure("priority/LOW", Priority.MESSAGE_PRIORITY_CONSTRAINTS);
+        assertParseFailure("added/01-09-2018", JobQueryParser.MESSAGE_INVALID_DATE);
+        assertParseFailure("machine/", String.format(JobQueryParser.MESSAGE_EMPTY_VALUE, "machine/"));
+    }
+
+    @Test
+    public void findJobCommandParser_keywordsOrQuery() throws Exception {
+        assertEquals(new FindJobCommand(new JobNameContainsKeywordsPredicate(Arrays.asList("alice", "bob"))),
+                findJobCommandParser.parse(" alice  bob "));
+        assertEquals(new FindJobCommand(single(JobCondition.status(Status.QUEUED))),
+                findJobCommandParser.parse(" status/QUEUED "));
+    }
+
+    private static JobQuery single(JobCondition condition) {
+        return new JobQuery(Arrays.asList(Arrays.asList(condition)));
+    }
+
+    /**
+     * Asserts that parsing {@code userInput} fails with {@code expectedMessage}.
+     */
+    private void assertParseFailure(String userInput, String expectedMessage) {
+        try {
+            parser.parse(userInput);
+            throw new AssertionError("The expected ParseException was not thrown.");
+        } catch (ParseException pe) {
+            assertEquals(expectedMessage, pe.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser.job;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.logic.commands.job.ListJobsCommand;
+import seedu.address.model.job.query.JobCondition;
+
+public class ListJobsCommandParserTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+
+    private final ListJobsCommandParser parser = new ListJobsCommandParser();
+    private Clock originalClock;
+
+    @Before
+    public void setUp() {
+        originalClock = AppClock.get();
+        AppClock.set(Clock.fixed(Instant.EPOCH, ZONE));
+    }
+
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
+    @Test
+    public void parse_noArgs_listsAll() {
+        assertParseSuccess(parser, "  ", new ListJobsCommand());
+    }
+
+    @Test
+    public void parse_dateRange_bothDatesIncluded() {
+        long september = startOf(2018, 9, 1);
+        long october = startOf(2018, 10, 1);
+        assertParseSuccess(parser, " from/2018-09-01 to/2018-09-30",
+                new ListJobsCommand(JobCondition.addedBetween(september, october)));
+        assertParseSuccess(parser, " finished from/2018-09-01",
+                new ListJobsCommand(JobCondition.finishedBetween(september, Long.MAX_VALUE)));
+        assertParseSuccess(parser, " STARTED to/2018-09-30",
+                new ListJobsCommand(JobCondition.startedBetween(Long.MIN_VALUE, october)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " printed from/2018-09-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListJobsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/1 Sep 2018", JobQueryParser.MESSAGE_INVALID_DATE);
+    }
+
+    private static long startOf(int year, int month, int day) {
+        return LocalDate.of(year, month, day).atStartOfDay(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
+import static seedu.address.testutil.testdata.TypicalPersons.BENSON;
 import static seedu.address.testutil.testdata.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -22,9 +26,15 @@ import javafx.collections.ObservableList;
 import seedu.address.model.admin.Admin;
 import seedu.address.model.admin.AdminSession;
 import seedu.address.model.job.Job;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
 import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
 import seedu.address.testutil.builders.PersonBuilder;
 
 public class AddressBookTest {
@@ -95,6 +105,108 @@ public class AddressBookTest {
         addressBook.getPersonList().remove(0);
     }
 
+    @Test
+    public void snapshot_unchangedLists_sharedBetweenSnapshots() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook first = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+        ReadOnlyAddressBook second = addressBook.snapshot();
+
+        assertSame(first.getMachineList(), second.getMachineList());
+        assertSame(first.getJobList(), second.getJobList());
+        assertNotSame(first.getPersonList(), second.getPersonList());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        addressBook.resetData(snapshot);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void addJob_jobOfMachine_machineHoldsSameJob() {
+        addressBook.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().build();
+        addressBook.addJob(job);
+
+        assertSame(job, addressBook.getMachineList().get(0).getJobs().get(0));
+    }
+
+    @Test
+    public void removeJob_jobOfMachine_removedFromMachine() {
+        addressBook.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().build();
+        addressBook.addJob(job);
+        addressBook.removeJob(job.getJobName());
+
+        assertEquals(Collections.emptyList(), addressBook.getMachineList().get(0).getJobs());
+    }
+
+    @Test
+    public void cancelJob_jobOfMachine_machineTotalDurationUpdated() {
+        addressBook.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().withStatus(Status.QUEUED).build();
+        addressBook.addJob(job);
+        assertEquals(job.getDuration(), addressBook.getMachineList().get(0).getTotalDuration(), 0);
+
+        addressBook.cancelJob(job.getJobName());
+        assertEquals(0, addressBook.getMachineList().get(0).getTotalDuration(), 0);
+    }
+
+    @Test
+    public void swapJobs_jobsOfMachine_machineQueueUpdated() {
+        addressBook.addMachine(new MachineBuilder().build());
+        Job normal = new JobBuilder().withName("normal").withPriority(Priority.NORMAL).build();
+        Job urgent = new JobBuilder().withName("urgent").withPriority(Priority.URGENT).build();
+        addressBook.addJob(normal);
+        addressBook.addJob(urgent);
+        ObservableList<Job> queue = addressBook.getMachineList().get(0).getJobQueue();
+        assertEquals(Arrays.asList(urgent, normal), queue);
+
+        addressBook.swapJobs(urgent.getJobName(), normal.getJobName());
+        assertEquals(Arrays.asList(normal, urgent), queue);
+
+        addressBook.finishJob(normal);
+        assertEquals(Arrays.asList(urgent), queue);
+    }
+
+    @Test
+    public void getMostFreeMachine_jobsChange_followsRemainingWork() {
+        addressBook.addMachine(new MachineBuilder().withMachineName("printer1").build());
+        addressBook.addMachine(new MachineBuilder().withMachineName("printer2").build());
+        addressBook.addMachine(new MachineBuilder().withMachineName("printer3")
+                .withMachineStatus(MachineStatus.DISABLED).build());
+        assertEquals(new MachineName("printer1"), addressBook.getMostFreeMachine().getName());
+
+        Job job = new JobBuilder().withMachine(new Machine("printer1")).build();
+        addressBook.addJob(job);
+        assertEquals(new MachineName("printer2"), addressBook.getMostFreeMachine().getName());
+
+        addressBook.cancelJob(job.getJobName());
+        assertEquals(new MachineName("printer1"), addressBook.getMostFreeMachine().getName());
+    }
+
+    @Test
+    public void getMostFreeMachine_noEnabledMachine_returnsNull() {
+        addressBook.addMachine(new MachineBuilder().withMachineStatus(MachineStatus.DISABLED).build());
+        assertNull(addressBook.getMostFreeMachine());
+    }
+
+    @Test
+    public void snapshot_jobAddedLater_notReflectedInSnapshotMachines() {
+        addressBook.addMachine(new MachineBuilder().build());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.addJob(new JobBuilder().build());
+
+        assertEquals(Collections.emptyList(), snapshot.getMachineList().get(0).getJobs());
+        assertEquals(1, addressBook.getMachineList().get(0).getJobs().size());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
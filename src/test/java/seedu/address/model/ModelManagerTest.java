@@ -1,27 +1,74 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.testdata.TypicalPersons.ALICE;
 import static seedu.address.testutil.testdata.TypicalPersons.BENSON;
 
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.AppClock;
+import seedu.address.commons.events.model.JobAddedEvent;
+import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.model.JobRemovedEvent;
+import seedu.address.commons.events.model.JobStatusChangedEvent;
+import seedu.address.commons.events.model.JobUpdatedEvent;
+import seedu.address.commons.events.model.QueueReorderedEvent;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.JobNameContainsKeywordsPredicate;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.job.query.JobQuery;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.machine.exceptions.MachineNotFoundException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
+    private static final Clock originalClock = AppClock.get();
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -45,6 +92,312 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void addJob_autoMachine_jobPutOnMostFreeMachine() {
+        modelManager.addMachine(new MachineBuilder().withMachineName("printer1").build());
+        modelManager.addMachine(new MachineBuilder().withMachineName("printer2").build());
+        Job first = new JobBuilder().withName("first").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+        Job second = new JobBuilder().withName("second").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+
+        modelManager.addJob(first);
+        modelManager.addJob(second);
+        assertEquals(new MachineName("printer1"), first.getMachine().getName());
+        assertEquals(new MachineName("printer2"), second.getMachine().getName());
+        assertEquals(Arrays.asList(second), modelManager.findMachine(new MachineName("printer2")).getJobs());
+    }
+
+    @Test
+    public void addJob_autoMachineNoEnabledMachine_throwsMachineNotFoundException() {
+        modelManager.addMachine(new MachineBuilder().withMachineStatus(MachineStatus.DISABLED).build());
+        thrown.expect(MachineNotFoundException.class);
+        modelManager.addJob(new JobBuilder().withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build());
+    }
+
+    @Test
+    public void beginTransaction_nested_eventsRaisedOnceWhenOutermostCloses() {
+        modelManager.addMachine(new MachineBuilder().build());
+        EventsCollectorRule.EventsCollector events = eventsCollectorRule.eventsCollector;
+        events.reset();
+
+        ModelTransaction transaction = modelManager.beginTransaction();
+        ModelTransaction inner = modelManager.beginTransaction();
+        modelManager.addJob(new JobBuilder().withName("first").build());
+        inner.close();
+        modelManager.addJob(new JobBuilder().withName("second").build());
+        modelManager.deleteJob(new JobName("first"));
+        assertTrue(events.isEmpty());
+        transaction.close();
+        // the events on single jobs in order, then one event for the machine list and one for the job list
+        assertEquals(5, events.getSize());
+        assertEquals("first", ((JobAddedEvent) events.get(0)).job.getJobName().fullName);
+        assertEquals("second", ((JobAddedEvent) events.get(1)).job.getJobName().fullName);
+        assertEquals("first", ((JobRemovedEvent) events.get(2)).job.getJobName().fullName);
+        assertTrue(events.getMostRecent() instanceof JobListChangedEvent);
+
+        // outside a transaction, a change of the job list raises its events at once
+        events.reset();
+        modelManager.deleteJob(new JobName("second"));
+        assertEquals(3, events.getSize());
+        assertTrue(events.get(0) instanceof JobRemovedEvent);
+    }
+
+    @Test
+    public void startJob_statusChanged_oldAndNewStatusRaised() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().build();
+        modelManager.addJob(job);
+        EventsCollectorRule.EventsCollector events = eventsCollectorRule.eventsCollector;
+        events.reset();
+
+        modelManager.startJob(job.getJobName());
+        JobStatusChangedEvent event = (JobStatusChangedEvent) events.get(0);
+        assertSame(job, event.job);
+        assertEquals(Status.QUEUED, event.oldStatus);
+        assertEquals(Status.ONGOING, event.newStatus);
+
+        // a job that is already ongoing does not change status when started again
+        events.reset();
+        modelManager.startJob(job.getJobName());
+        assertFalse(events.get(0) instanceof JobStatusChangedEvent);
+    }
+
+    @Test
+    public void updateJob_singleUpdateEventRaised() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().withName("first").build();
+        modelManager.addJob(job);
+        EventsCollectorRule.EventsCollector events = eventsCollectorRule.eventsCollector;
+        events.reset();
+
+        Job edited = new JobBuilder().withName("edited").build();
+        modelManager.updateJob(job, edited);
+        JobUpdatedEvent event = (JobUpdatedEvent) events.get(0);
+        assertSame(job, event.oldJob);
+        assertSame(edited, event.newJob);
+        assertFalse(events.get(1) instanceof JobAddedEvent || events.get(1) instanceof JobRemovedEvent);
+    }
+
+    @Test
+    public void undoAddressBook_jobsChanged_deltasRaised() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job kept = new JobBuilder().withName("kept").build();
+        modelManager.addJob(kept);
+        modelManager.commitAddressBook();
+        Job added = new JobBuilder().withName("added").build();
+        modelManager.addJob(added);
+        modelManager.startJob(kept.getJobName());
+        modelManager.commitAddressBook();
+        EventsCollectorRule.EventsCollector events = eventsCollectorRule.eventsCollector;
+        events.reset();
+
+        modelManager.undoAddressBook();
+        JobStatusChangedEvent statusChanged = (JobStatusChangedEvent) events.get(0);
+        assertSame(kept, statusChanged.job);
+        assertEquals(Status.ONGOING, statusChanged.oldStatus);
+        assertEquals(Status.QUEUED, statusChanged.newStatus);
+        assertSame(added, ((JobRemovedEvent) events.get(1)).job);
+        // then the events of the address book, admin, job and machine lists
+        assertEquals(6, events.getSize());
+        assertTrue(events.get(4) instanceof JobListChangedEvent);
+
+        events.reset();
+        modelManager.redoAddressBook();
+        assertEquals(Status.ONGOING, ((JobStatusChangedEvent) events.get(0)).newStatus);
+        assertSame(added, ((JobAddedEvent) events.get(1)).job);
+    }
+
+    @Test
+    public void swapJobs_bothJobsRaised() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job first = new JobBuilder().withName("first").build();
+        Job second = new JobBuilder().withName("second").build();
+        modelManager.addJob(first);
+        modelManager.addJob(second);
+        EventsCollectorRule.EventsCollector events = eventsCollectorRule.eventsCollector;
+        events.reset();
+
+        modelManager.swapJobs(first.getJobName(), second.getJobName());
+        QueueReorderedEvent event = (QueueReorderedEvent) events.get(0);
+        assertSame(first, event.job1);
+        assertSame(second, event.job2);
+    }
+
+    @Test
+    public void swapJobs_commitByCaller_undoneInOneStep() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job first = new JobBuilder().withName("first").build();
+        Job second = new JobBuilder().withName("second").build();
+        modelManager.addJob(first);
+        modelManager.addJob(second);
+        modelManager.commitAddressBook();
+
+        modelManager.swapJobs(first.getJobName(), second.getJobName());
+        modelManager.commitAddressBook();
+        assertEquals(Arrays.asList(second, first), modelManager.getFilteredJobList());
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(first, second), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void addJobs_batch_addedAndUndoneInOneStep() {
+        modelManager.addMachine(new MachineBuilder().withMachineName("printer1").build());
+        modelManager.addMachine(new MachineBuilder().withMachineName("printer2").build());
+        modelManager.commitAddressBook();
+        Job named = new JobBuilder().withName("named").withMachine(new Machine("printer1")).build();
+        Job first = new JobBuilder().withName("first").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+        Job second = new JobBuilder().withName("second").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+
+        modelManager.addJobs(Arrays.asList(named, first, second));
+        modelManager.commitAddressBook();
+        assertEquals(Arrays.asList(named, first, second), modelManager.getFilteredJobList());
+        // auto assigned jobs see the work of the jobs added before them
+        assertEquals(new MachineName("printer2"), first.getMachine().getName());
+        assertEquals(new MachineName("printer1"), second.getMachine().getName());
+        assertEquals(Arrays.asList(named, second), modelManager.findMachine(new MachineName("printer1")).getJobs());
+
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getFilteredJobList().isEmpty());
+        assertEquals(2, modelManager.getFilteredMachineList().size());
+    }
+
+    @Test
+    public void addJobs_invalidJob_nothingAdded() {
+        modelManager.addMachine(new MachineBuilder().build());
+        modelManager.commitAddressBook();
+        Job existing = new JobBuilder().withName("existing").build();
+        modelManager.addJob(existing);
+        modelManager.commitAddressBook();
+
+        Job fresh = new JobBuilder().withName("fresh").build();
+        Job unknownMachine = new JobBuilder().withName("unknown").withMachine(new Machine("absent")).build();
+        assertAddJobsFails(Arrays.asList(fresh, new JobBuilder().withName("existing").build()));
+        assertAddJobsFails(Arrays.asList(fresh, unknownMachine));
+
+        Machine machine = modelManager.findMachine(new MachineName(MachineBuilder.DEFAULT_MACHINE_NAME));
+        modelManager.updateMachine(machine, new MachineBuilder().withMachineStatus(MachineStatus.DISABLED).build());
+        modelManager.commitAddressBook();
+        Job autoAssigned = new JobBuilder().withName("auto").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+        assertAddJobsFails(Arrays.asList(fresh, autoAssigned));
+    }
+
+    @Test
+    public void addJobs_autoAssignedJobCannotBePlaced_earlierUncommittedChangesKept() {
+        modelManager.addMachine(new MachineBuilder().withMachineStatus(MachineStatus.DISABLED).build());
+        Job uncommitted = new JobBuilder().withName("uncommitted").build();
+        modelManager.addJob(uncommitted);
+
+        Job fresh = new JobBuilder().withName("fresh").build();
+        Job autoAssigned = new JobBuilder().withName("auto").withMachine(new Machine(Machine.AUTO_ASSIGN_NAME)).build();
+        assertAddJobsFails(Arrays.asList(fresh, autoAssigned));
+        assertEquals(Collections.singletonList(uncommitted), modelManager.getFilteredJobList());
+        assertEquals(1, modelManager.getFilteredMachineList().size());
+    }
+
+    /**
+     * Asserts that adding {@code jobs} fails and leaves the job list as it was.
+     */
+    private void assertAddJobsFails(List<Job> jobs) {
+        List<Job> before = new ArrayList<>(modelManager.getFilteredJobList());
+        try {
+            modelManager.addJobs(jobs);
+            fail("Jobs should not be added");
+        } catch (DuplicateJobException | MachineNotFoundException e) {
+            assertEquals(before, modelManager.getFilteredJobList());
+        }
+    }
+
+    @Test
+    public void startJob_deadlineFiresBeforeDue_jobScheduledAgain() throws Exception {
+        BlockingQueue<Runnable> modelTasks = new LinkedBlockingQueue<>();
+        ModelManager model = new ModelManager(new AddressBook(), new UserPrefs(), modelTasks::add);
+        model.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().withDuration(0).build();
+        model.addJob(job);
+
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC));
+        model.startJob(job.getJobName());
+        Runnable firstDeadline = modelTasks.poll(5, TimeUnit.SECONDS);
+
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(999), ZoneOffset.UTC));
+        firstDeadline.run();
+        assertEquals(Status.ONGOING, job.getStatus());
+
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC));
+        Runnable secondDeadline = modelTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(secondDeadline);
+        secondDeadline.run();
+        assertEquals(Status.FINISHED, job.getStatus());
+    }
+
+    @Test
+    public void updateFilteredJobList_keywords_matchesNamesNotesAndTags() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job named = new JobBuilder().withName("resin").build();
+        Job noted = new JobBuilder().withName("noted").withJobNote("Uses RESIN").build();
+        Job other = new JobBuilder().withName("other").build();
+        modelManager.addJob(named);
+        modelManager.addJob(noted);
+        modelManager.addJob(other);
+
+        modelManager.updateFilteredJobList(new JobNameContainsKeywordsPredicate(Arrays.asList("resin", "absent")));
+        assertEquals(Arrays.asList(named, noted), modelManager.getFilteredJobList());
+
+        // jobs added while the list is filtered are matched too
+        Job tagged = new JobBuilder().withName("tagged").addTags(new Tag("Resin")).build();
+        modelManager.addJob(tagged);
+        assertEquals(Arrays.asList(named, noted, tagged), modelManager.getFilteredJobList());
+
+        modelManager.deleteJob(noted.getJobName());
+        assertEquals(Arrays.asList(named, tagged), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void updateFilteredJobList_query_plannedAgainstIndexes() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job urgent = new JobBuilder().withName("urgent").withPriority(Priority.URGENT).build();
+        Job normal = new JobBuilder().withName("normal").withPriority(Priority.NORMAL).build();
+        Job tagged = new JobBuilder().withName("tagged").withPriority(Priority.NORMAL)
+                .addTags(new Tag("resin")).build();
+        modelManager.addJob(urgent);
+        modelManager.addJob(normal);
+        modelManager.addJob(tagged);
+
+        // (queued and urgent) or (normal and tagged resin)
+        modelManager.updateFilteredJobList(new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.QUEUED), JobCondition.priority(Priority.URGENT)),
+                Arrays.asList(JobCondition.priority(Priority.NORMAL), JobCondition.keyword("RESIN")))));
+        assertEquals(Arrays.asList(urgent, tagged), modelManager.getFilteredJobList());
+
+        // jobs added while the list is filtered are matched too
+        Job newUrgent = new JobBuilder().withName("newUrgent").withPriority(Priority.URGENT).build();
+        modelManager.addJob(newUrgent);
+        assertEquals(Arrays.asList(urgent, tagged, newUrgent), modelManager.getFilteredJobList());
+
+        // the status index follows jobs as they change status
+        modelManager.startJob(urgent.getJobName());
+        modelManager.updateFilteredJobList(new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.QUEUED)))));
+        assertEquals(Arrays.asList(normal, tagged, newUrgent), modelManager.getFilteredJobList());
+    }
+
+    @Test
+    public void countJobs_undoRestoresStatus() {
+        modelManager.addMachine(new MachineBuilder().build());
+        Job job = new JobBuilder().withName("printing").build();
+        modelManager.addJob(job);
+        modelManager.commitAddressBook();
+
+        modelManager.startJob(job.getJobName());
+        modelManager.commitAddressBook();
+        assertEquals(1, modelManager.countJobs(Status.ONGOING));
+        assertEquals(Collections.singleton(job), modelManager.getJobs(Status.ONGOING));
+
+        modelManager.undoAddressBook();
+        assertEquals(0, modelManager.countJobs(Status.ONGOING));
+        assertEquals(1, modelManager.countJobs(Status.QUEUED));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
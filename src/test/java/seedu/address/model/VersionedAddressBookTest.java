@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.testdata.TypicalPersons.AMY;
@@ -14,7 +16,14 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.admin.Admin;
+import seedu.address.model.admin.Password;
+import seedu.address.model.admin.Username;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
 import seedu.address.testutil.builders.AddressBookBuilder;
+import seedu.address.testutil.builders.JobBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +216,147 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_removePerson_restoresOriginalPosition() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build());
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(AMY, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_startJob_restoresStatusAndStartTime() {
+        Job job = new JobBuilder().withStatus(Status.QUEUED).build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.addJob(job);
+        versionedAddressBook.commit();
+        TimeStamp queuedStartTime = job.getStartTime();
+
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+        TimeStamp startedStartTime = job.getStartTime();
+
+        versionedAddressBook.undo();
+        assertEquals(Status.QUEUED, job.getStatus());
+        assertSame(queuedStartTime, job.getStartTime());
+
+        versionedAddressBook.redo();
+        assertEquals(Status.ONGOING, job.getStatus());
+        assertSame(startedStartTime, job.getStartTime());
+    }
+
+    @Test
+    public void undo_startThenFinishJob_restoresEachStatusInTurn() {
+        Job job = new JobBuilder().build();
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.addJob(job);
+        versionedAddressBook.commit();
+        versionedAddressBook.startJob(job.getJobName());
+        versionedAddressBook.commit();
+        TimeStamp startedStartTime = job.getStartTime();
+        versionedAddressBook.finishJob(job);
+        versionedAddressBook.commit();
+        TimeStamp finishTime = job.getFinishTime();
+
+        versionedAddressBook.undo();
+        assertEquals(Status.ONGOING, job.getStatus());
+        assertSame(startedStartTime, job.getStartTime());
+        assertNull(job.getFinishTime());
+        assertEquals(Collections.singleton(job), versionedAddressBook.getJobs(Status.ONGOING));
+        assertTrue(versionedAddressBook.getJobs(Status.FINISHED).isEmpty());
+
+        versionedAddressBook.undo();
+        assertEquals(Status.QUEUED, job.getStatus());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(Status.FINISHED, job.getStatus());
+        assertSame(finishTime, job.getFinishTime());
+        assertEquals(Collections.singleton(job), versionedAddressBook.getJobs(Status.FINISHED));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardedWithPreviousState() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_loginAndLogout_restoresSession() {
+        Admin admin = new Admin(new Username("admin"), new Password("Password1!"));
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook);
+        versionedAddressBook.setLoggedInAdmin(admin);
+        versionedAddressBook.adminLoginCommit();
+        versionedAddressBook.clearLogin();
+        versionedAddressBook.adminLogoutCommit();
+
+        assertTrue(versionedAddressBook.isUndoLogout());
+        assertFalse(versionedAddressBook.isLoggedIn());
+
+        versionedAddressBook.clearLogin();
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.isUndoLogout());
+    }
+
+    @Test
+    public void commit_exceedsMaxDepth_oldestStatesEvicted() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 2,
+                VersionedAddressBook.DEFAULT_HISTORY_BUDGET_BYTES);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(Collections.singletonList(AMY), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_exceedsBudget_oldestStatesEvictedButLatestKept() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 100, 1);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+
+        assertTrue(versionedAddressBook.getHistorySize() > 1);
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(Collections.singletonList(AMY), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_loginEvicted_loginBoundaryCleared() {
+        Admin admin = new Admin(new Username("admin"), new Password("Password1!"));
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 1,
+                VersionedAddressBook.DEFAULT_HISTORY_BUDGET_BYTES);
+        versionedAddressBook.setLoggedInAdmin(admin);
+        versionedAddressBook.adminLoginCommit();
+        assertTrue(versionedAddressBook.isUndoLogin());
+
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.isUndoLogin());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -0,0 +1,60 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.builders.JobBuilder;
+
+public class AgingPolicyTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    private final AgingPolicy everyTwoHours = AgingPolicy.everyHours(2);
+
+    @Test
+    public void everyHours_notPositive_returnsNone() {
+        assertSame(AgingPolicy.NONE, AgingPolicy.everyHours(0));
+        assertSame(AgingPolicy.NONE, AgingPolicy.everyHours(-1));
+        assertFalse(AgingPolicy.NONE.isEnabled());
+        assertFalse(new AgingPolicy(-5).isEnabled());
+    }
+
+    @Test
+    public void everyHours_positive_intervalInMillis() {
+        assertTrue(everyTwoHours.isEnabled());
+        assertEquals(2 * HOUR, everyTwoHours.getAgingIntervalMillis());
+        assertEquals(new AgingPolicy(2 * HOUR), everyTwoHours);
+    }
+
+    @Test
+    public void getAgedTime_oneIntervalPerLevelBelowUrgent() {
+        assertEquals(1000, everyTwoHours.getAgedTime(createJob(Priority.URGENT, 1000)));
+        assertEquals(1000 + 2 * HOUR, everyTwoHours.getAgedTime(createJob(Priority.HIGH, 1000)));
+        assertEquals(1000 + 4 * HOUR, everyTwoHours.getAgedTime(createJob(Priority.NORMAL, 1000)));
+        assertEquals(1000, AgingPolicy.NONE.getAgedTime(createJob(Priority.NORMAL, 1000)));
+    }
+
+    @Test
+    public void getEffectivePriority_raisedOneLevelPerInterval() {
+        Job normal = createJob(Priority.NORMAL, 0);
+
+        assertEquals(Priority.NORMAL, everyTwoHours.getEffectivePriority(normal, 2 * HOUR - 1));
+        assertEquals(Priority.HIGH, everyTwoHours.getEffectivePriority(normal, 2 * HOUR));
+        assertEquals(Priority.URGENT, everyTwoHours.getEffectivePriority(normal, 4 * HOUR));
+        assertEquals(Priority.URGENT, everyTwoHours.getEffectivePriority(normal, 100 * HOUR));
+        assertEquals(Priority.NORMAL, AgingPolicy.NONE.getEffectivePriority(normal, 100 * HOUR));
+    }
+
+    /**
+     * Returns a queued job with the given priority, added at {@code addedTime}.
+     */
+    private static Job createJob(Priority priority, long addedTime) {
+        Job job = new JobBuilder().build();
+        return new Job(job.getJobName(), job.getMachine(), job.getOwner(), new TimeStamp(addedTime),
+                job.getStartTime(), priority, Status.QUEUED, job.getDuration(), job.getJobNote(), job.getTags());
+    }
+}
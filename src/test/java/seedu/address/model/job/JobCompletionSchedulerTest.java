@@ -0,0 +1,113 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JobCompletionSchedulerTest {
+
+    private final BlockingQueue<Job> finishedJobs = new LinkedBlockingQueue<>();
+    private final JobCompletionScheduler scheduler = new JobCompletionScheduler(finishedJobs::add);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void schedule_jobPastDeadline_reportedImmediately() throws Exception {
+        Job job = ongoingJob("IDCP", 0);
+        scheduler.schedule(job);
+
+        assertSame(job, finishedJobs.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void schedule_jobNotOngoing_notScheduled() {
+        scheduler.schedule(new JobBuilder().build());
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void schedule_jobNotDue_waitsForDeadline() throws Exception {
+        scheduler.schedule(ongoingJob("IDCP", 1));
+
+        assertEquals(1, scheduler.size());
+        assertEquals(null, finishedJobs.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void schedule_clockPastDeadline_reportedWithoutWaiting() throws Exception {
+        Job job = ongoingJob("IDCP", 2);
+        Clock threeHoursLater = Clock.offset(Clock.systemDefaultZone(), Duration.ofHours(3));
+        JobCompletionScheduler fastForwarded = new JobCompletionScheduler(finishedJobs::add, threeHoursLater);
+        try {
+            fastForwarded.schedule(job);
+            assertSame(job, finishedJobs.poll(5, TimeUnit.SECONDS));
+        } finally {
+            fastForwarded.shutdown();
+        }
+    }
+
+    @Test
+    public void schedule_cancelledJob_previousDeadlineRemoved() throws Exception {
+        Job job = ongoingJob("IDCP", 1);
+        scheduler.schedule(job);
+        job.cancelJob();
+        scheduler.schedule(job);
+
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void unschedule_pendingJob_neverReported() throws Exception {
+        Job job = ongoingJob("IDCP", 0.0001f);
+        scheduler.schedule(job);
+        scheduler.unschedule(job.getJobName());
+
+        assertEquals(null, finishedJobs.poll(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void rescheduleAll_replacesExistingDeadlines() throws Exception {
+        Job oldJob = ongoingJob("IDCP", 1);
+        Job dueJob = ongoingJob("bumblebee", 0);
+        scheduler.schedule(oldJob);
+        scheduler.rescheduleAll(Arrays.asList(dueJob, new JobBuilder().withName("queued").build()));
+
+        assertSame(dueJob, finishedJobs.poll(5, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void shutdown_pendingJobs_cleared() {
+        scheduler.schedule(ongoingJob("IDCP", 1));
+        scheduler.shutdown();
+        scheduler.schedule(ongoingJob("bumblebee", 1));
+
+        assertEquals(0, scheduler.size());
+        assertTrue(finishedJobs.isEmpty());
+    }
+
+    /**
+     * Returns a job named {@code name} that was started just now and takes {@code hours} to print.
+     */
+    private Job ongoingJob(String name, float hours) {
+        Job job = new JobBuilder().withName(name).withDuration(hours).build();
+        job.startJob();
+        return job;
+    }
+}
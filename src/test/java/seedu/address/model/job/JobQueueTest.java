@@ -0,0 +1,147 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JobQueueTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final JobQueue jobQueue = new JobQueue();
+
+    private final Job urgent = createJob("urgent", Priority.URGENT, 300);
+    private final Job high = createJob("high", Priority.HIGH, 200);
+    private final Job normalEarly = createJob("normalEarly", Priority.NORMAL, 100);
+    private final Job normalLate = createJob("normalLate", Priority.NORMAL, 400);
+    private final Job normalLateB = createJob("bNormalLate", Priority.NORMAL, 400);
+
+    @Test
+    public void add_jobsInAnyOrder_keptInQueueOrder() {
+        jobQueue.add(normalLate);
+        jobQueue.add(urgent);
+        jobQueue.add(normalEarly);
+        jobQueue.add(normalLateB);
+        jobQueue.add(high);
+
+        assertEquals(Arrays.asList(urgent, high, normalEarly, normalLateB, normalLate),
+                jobQueue.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_jobInQueue_removesOnlyThatJob() {
+        jobQueue.setJobs(Arrays.asList(normalEarly, high, urgent));
+
+        assertTrue(jobQueue.remove(high.getJobName()));
+        assertFalse(jobQueue.contains(high.getJobName()));
+        assertEquals(Arrays.asList(urgent, normalEarly), jobQueue.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_jobNotInQueue_returnsFalse() {
+        jobQueue.add(urgent);
+        assertFalse(jobQueue.remove(high.getJobName()));
+        assertEquals(1, jobQueue.size());
+    }
+
+    @Test
+    public void swap_twoJobs_exchangesPlaces() {
+        jobQueue.setJobs(Arrays.asList(urgent, high, normalEarly));
+        jobQueue.swap(urgent.getJobName(), normalEarly.getJobName());
+        assertEquals(Arrays.asList(normalEarly, high, urgent), jobQueue.asUnmodifiableObservableList());
+
+        // jobs added later are placed among the swapped jobs by their own priority
+        jobQueue.add(normalLate);
+        assertEquals(Arrays.asList(normalEarly, high, urgent, normalLate), jobQueue.asUnmodifiableObservableList());
+
+        jobQueue.remove(urgent.getJobName());
+        assertEquals(Arrays.asList(normalEarly, high, normalLate), jobQueue.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_afterJobReaddedIntoSwappedPlace_removesRightJob() {
+        jobQueue.setJobs(Arrays.asList(urgent, high));
+        jobQueue.swap(urgent.getJobName(), high.getJobName());
+        jobQueue.remove(urgent.getJobName());
+        Job readdedUrgent = createJob("urgent", Priority.URGENT, 300);
+        jobQueue.add(readdedUrgent);
+
+        // high holds the place made for the first urgent job, which is the same as the place of the readded one
+        jobQueue.remove(high.getJobName());
+        assertEquals(Arrays.asList(readdedUrgent), jobQueue.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_withAging_longWaitingJobAheadOfLaterUrgentJobs() {
+        JobQueue agingQueue = new JobQueue(new AgingPolicy(1000));
+        Job normal = createJob("normal", Priority.NORMAL, 0);
+        Job earlyUrgent = createJob("earlyUrgent", Priority.URGENT, 1500);
+        Job lateUrgent = createJob("lateUrgent", Priority.URGENT, 2500);
+
+        agingQueue.add(lateUrgent);
+        agingQueue.add(normal);
+        agingQueue.add(earlyUrgent);
+
+        // normal has waited two intervals by the time lateUrgent is added, so it is queued ahead of it
+        assertEquals(Arrays.asList(earlyUrgent, normal, lateUrgent), agingQueue.asUnmodifiableObservableList());
+
+        agingQueue.setAgingPolicy(AgingPolicy.NONE);
+        assertEquals(Arrays.asList(earlyUrgent, lateUrgent, normal), agingQueue.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getQueueOrder_withAging_matchesQueue() {
+        AgingPolicy agingPolicy = new AgingPolicy(50);
+        JobQueue agingQueue = new JobQueue(agingPolicy);
+        agingQueue.setJobs(Arrays.asList(urgent, high, normalEarly, normalLate, normalLateB));
+
+        Job[] sorted = {normalLate, normalEarly, urgent, high, normalLateB};
+        Arrays.sort(sorted, JobQueue.getQueueOrder(agingPolicy));
+        assertEquals(Arrays.asList(sorted), agingQueue.asUnmodifiableObservableList());
+        // normalEarly is aged to 200 and high to 250, both ahead of urgent at 300
+        assertEquals(Arrays.asList(normalEarly, high, urgent, normalLateB, normalLate), Arrays.asList(sorted));
+    }
+
+    @Test
+    public void isQueued() {
+        assertTrue(JobQueue.isQueued(createJob("queued", Status.QUEUED)));
+        assertTrue(JobQueue.isQueued(createJob("ongoing", Status.ONGOING)));
+        assertTrue(JobQueue.isQueued(createJob("paused", Status.PAUSED)));
+        assertFalse(JobQueue.isQueued(createJob("finished", Status.FINISHED)));
+        assertFalse(JobQueue.isQueued(createJob("cancelled", Status.CANCELLED)));
+        assertFalse(JobQueue.isQueued(createJob("deleting", Status.DELETING)));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        jobQueue.add(urgent);
+        thrown.expect(UnsupportedOperationException.class);
+        jobQueue.asUnmodifiableObservableList().remove(0);
+    }
+
+    /**
+     * Returns a queued job with the given name and priority, added at {@code addedTime}.
+     */
+    private static Job createJob(String name, Priority priority, long addedTime) {
+        Job job = new JobBuilder().withName(name).build();
+        return new Job(job.getJobName(), job.getMachine(), job.getOwner(), new TimeStamp(addedTime),
+                job.getStartTime(), priority, Status.QUEUED, job.getDuration(), job.getJobNote(), job.getTags());
+    }
+
+    /**
+     * Returns a job with the given name and status.
+     */
+    private static Job createJob(String name, Status status) {
+        Job job = new JobBuilder().withName(name).build();
+        job.setStatus(status);
+        return job;
+    }
+}
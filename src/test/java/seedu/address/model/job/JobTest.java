@@ -0,0 +1,44 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JobTest {
+
+    private static final Clock originalClock = AppClock.get();
+
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
+    @Test
+    public void getExpectedFinishTime_fractionalDuration_notTruncated() {
+        Job job = new JobBuilder().withDuration(0.5f).build();
+        long start = job.getStartTime().getTimeInMillis();
+
+        assertEquals(start + 30 * 60 * 1000, job.getExpectedFinishTime());
+    }
+
+    @Test
+    public void isFinished_clockMovedPastFinishTime_returnsTrue() throws Exception {
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(0), ZoneOffset.UTC));
+        Job job = new JobBuilder().withDuration(1).build();
+        job.startJob();
+        assertFalse(job.isFinished());
+
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(60 * 60 * 1000 + 1), ZoneOffset.UTC));
+        assertTrue(job.isFinished());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.testutil.builders.JobBuilder;
+
+public class QueueWaitStatisticsTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    @Test
+    public void of_noWaits_allZero() {
+        QueueWaitStatistics statistics = QueueWaitStatistics.of(new double[0]);
+        assertEquals(0, statistics.getCount());
+        assertEquals(0, statistics.getMedian(), 0);
+        assertEquals(0, statistics.getPercentile95(), 0);
+        assertEquals(0, statistics.getMax(), 0);
+    }
+
+    @Test
+    public void of_waits_nearestRankPercentiles() {
+        double[] waits = new double[20];
+        for (int i = 0; i < waits.length; i++) {
+            // 20, 19, ..., 1 hours
+            waits[i] = waits.length - i;
+        }
+
+        QueueWaitStatistics statistics = QueueWaitStatistics.of(waits);
+        assertEquals(20, statistics.getCount());
+        assertEquals(10, statistics.getMedian(), 0);
+        assertEquals(19, statistics.getPercentile95(), 0);
+        assertEquals(20, statistics.getMax(), 0);
+        // the waits given are left as they were
+        assertEquals(20, waits[0], 0);
+    }
+
+    @Test
+    public void of_jobs_startedAndQueuedJobsCounted() {
+        Job started = createJob("started", Status.ONGOING, 0, 3 * HOUR);
+        Job finished = createJob("finished", Status.FINISHED, HOUR, 2 * HOUR);
+        Job queued = createJob("queued", Status.QUEUED, 4 * HOUR, 0);
+        Job cancelled = createJob("cancelled", Status.CANCELLED, 0, 0);
+
+        QueueWaitStatistics statistics = QueueWaitStatistics.of(Arrays.asList(started, finished, queued, cancelled),
+                10 * HOUR);
+
+        // waits of 3, 1 and 6 hours
+        assertEquals(3, statistics.getCount());
+        assertEquals(3, statistics.getMedian(), 1e-9);
+        assertEquals(6, statistics.getMax(), 1e-9);
+    }
+
+    /**
+     * Returns a job with the given status, added at {@code addedTime} and started at {@code startTime}.
+     */
+    private static Job createJob(String name, Status status, long addedTime, long startTime) {
+        Job job = new JobBuilder().withName(name).build();
+        return new Job(job.getJobName(), job.getMachine(), job.getOwner(), new TimeStamp(addedTime),
+                new TimeStamp(startTime), job.getPriority(), status, job.getDuration(), job.getJobNote(),
+                job.getTags());
+    }
+}
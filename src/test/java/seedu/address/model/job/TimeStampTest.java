@@ -0,0 +1,64 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.AppClock;
+
+public class TimeStampTest {
+
+    private static final Clock originalClock = AppClock.get();
+
+    @After
+    public void tearDown() {
+        AppClock.set(originalClock);
+    }
+
+    @Test
+    public void constructor_noTime_timeOfAppClock() {
+        AppClock.set(Clock.fixed(Instant.ofEpochMilli(123456789), ZoneOffset.UTC));
+        assertEquals(123456789, new TimeStamp().getTimeInMillis());
+    }
+
+    @Test
+    public void compareTime() {
+        assertTrue(TimeStamp.compareTime(new TimeStamp(1), new TimeStamp(2)));
+        assertTrue(TimeStamp.compareTime(new TimeStamp(2), new TimeStamp(2)));
+        assertFalse(TimeStamp.compareTime(new TimeStamp(3), new TimeStamp(2)));
+    }
+
+    @Test
+    public void timeDifference() {
+        assertEquals(500, TimeStamp.timeDifference(new TimeStamp(1000), new TimeStamp(1500)));
+        assertEquals(-500, TimeStamp.timeDifference(new TimeStamp(1500), new TimeStamp(1000)));
+    }
+
+    @Test
+    public void showTime_zoneOfAppClock() {
+        AppClock.set(Clock.fixed(Instant.EPOCH, ZoneOffset.ofHours(8)));
+        // 14:05:09 on 3 February 1970 in UTC, 22:05:09 in the zone of the clock
+        long millis = ((33 * 24 + 14) * 60L + 5) * 60 * 1000 + 9000;
+        assertEquals("3/1 10:5:9", new TimeStamp(millis).showTime());
+        assertEquals(millis, new TimeStamp(millis).getCalendar().getTimeInMillis());
+    }
+
+    @Test
+    public void equals() {
+        TimeStamp timeStamp = new TimeStamp(1000);
+
+        assertTrue(timeStamp.equals(new TimeStamp(1000)));
+        assertEquals(timeStamp.hashCode(), new TimeStamp(1000).hashCode());
+        assertFalse(timeStamp.equals(null));
+        assertFalse(timeStamp.equals(1000L));
+        assertNotEquals(timeStamp, new TimeStamp(1001));
+    }
+}
@@ -0,0 +1,338 @@
+package seedu.address.model.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ObservableList;
+
+import seedu.address.model.job.exceptions.DuplicateJobException;
+import seedu.address.model.job.exceptions.JobNotFoundException;
+import seedu.address.model.job.query.JobCondition;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class UniqueJobListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueJobList uniqueJobList = new UniqueJobList();
+
+    private final Job idcp = new JobBuilder().withName("IDCP").build();
+    private final Job bumblebee = new JobBuilder().withName("bumblebee").build();
+
+    @Test
+    public void contains_nullJob_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueJobList.contains(null);
+    }
+
+    @Test
+    public void contains_jobNotInList_returnsFalse() {
+        assertFalse(uniqueJobList.contains(idcp));
+    }
+
+    @Test
+    public void contains_jobInList_returnsTrue() {
+        uniqueJobList.add(idcp);
+        assertTrue(uniqueJobList.contains(idcp));
+    }
+
+    @Test
+    public void add_jobWithSameName_throwsDuplicateJobException() {
+        uniqueJobList.add(idcp);
+        thrown.expect(DuplicateJobException.class);
+        uniqueJobList.add(new JobBuilder().withName("IDCP").withJobNote("another note").build());
+    }
+
+    @Test
+    public void findJob_jobInList_returnsSameInstance() {
+        uniqueJobList.add(idcp);
+        uniqueJobList.add(bumblebee);
+        assertSame(bumblebee, uniqueJobList.findJob(new JobName("bumblebee")));
+    }
+
+    @Test
+    public void findJob_jobNotInList_returnsNull() {
+        assertNull(uniqueJobList.findJob(new JobName("IDCP")));
+    }
+
+    @Test
+    public void remove_jobNotInList_throwsJobNotFoundException() {
+        thrown.expect(JobNotFoundException.class);
+        uniqueJobList.remove(new JobName("IDCP"));
+    }
+
+    @Test
+    public void remove_jobInList_removesFromIndexAndList() {
+        uniqueJobList.add(idcp);
+        uniqueJobList.add(bumblebee);
+        uniqueJobList.remove(new JobName("IDCP"));
+
+        assertNull(uniqueJobList.findJob(new JobName("IDCP")));
+        assertEquals(Arrays.asList(bumblebee), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setJobs_replacesIndex() {
+        uniqueJobList.add(idcp);
+        uniqueJobList.setJobs(Arrays.asList(bumblebee));
+
+        assertNull(uniqueJobList.findJob(new JobName("IDCP")));
+        assertSame(bumblebee, uniqueJobList.findJob(new JobName("bumblebee")));
+    }
+
+    @Test
+    public void setJobs_listWithDuplicateNames_throwsDuplicateJobException() {
+        Job otherIdcp = new JobBuilder().withName("IDCP").withJobNote("another note").build();
+        thrown.expect(DuplicateJobException.class);
+        uniqueJobList.setJobs(Arrays.asList(idcp, otherIdcp));
+    }
+
+    @Test
+    public void get_invalidName_returnsNull() {
+        assertNull(uniqueJobList.get("not a valid name"));
+    }
+
+    @Test
+    public void swapQueueNumber_swapsPositions() {
+        uniqueJobList.add(idcp);
+        uniqueJobList.add(bumblebee);
+        uniqueJobList.swapQueueNumber(new JobName("IDCP"), new JobName("bumblebee"));
+
+        assertEquals(Arrays.asList(bumblebee, idcp), uniqueJobList.asUnmodifiableObservableList());
+        assertSame(idcp, uniqueJobList.findJob(new JobName("IDCP")));
+    }
+
+    @Test
+    public void updateJobAndSwap_afterChangesInMiddle_jobsKeptInPlace() {
+        Job first = new JobBuilder().withName("first").build();
+        Job second = new JobBuilder().withName("second").build();
+        Job third = new JobBuilder().withName("third").build();
+        Job fourth = new JobBuilder().withName("fourth").build();
+        uniqueJobList.addAll(Arrays.asList(first, second, third));
+        uniqueJobList.add(0, fourth);
+        uniqueJobList.remove(second.getJobName());
+        uniqueJobList.removeAll(Collections.singletonList(first));
+
+        Job renamed = new JobBuilder().withName("renamed").build();
+        uniqueJobList.updateJob(third, renamed);
+        assertEquals(Arrays.asList(fourth, renamed), uniqueJobList.asUnmodifiableObservableList());
+
+        uniqueJobList.add(second);
+        uniqueJobList.swapQueueNumber(fourth.getJobName(), second.getJobName());
+        assertEquals(Arrays.asList(second, renamed, fourth), uniqueJobList.asUnmodifiableObservableList());
+        uniqueJobList.remove(renamed.getJobName());
+        uniqueJobList.swapQueueNumber(second.getJobName(), fourth.getJobName());
+        assertEquals(Arrays.asList(fourth, second), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableSortedList_doesNotReorderList() {
+        Job normal = new JobBuilder().withName("normal").withPriority(Priority.NORMAL).build();
+        uniqueJobList.add(normal);
+        uniqueJobList.add(idcp);
+
+        assertEquals(Arrays.asList(idcp, normal), uniqueJobList.asUnmodifiableObservableSortedList());
+        assertEquals(Arrays.asList(normal, idcp), uniqueJobList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getQueue_listChanges_queueKeptInStep() {
+        MachineName machineName = idcp.getMachine().getName();
+        Job normal = new JobBuilder().withName("normal").withPriority(Priority.NORMAL).build();
+        uniqueJobList.add(normal);
+        ObservableList<Job> queue = uniqueJobList.getQueue(machineName);
+        assertEquals(Arrays.asList(normal), queue);
+
+        uniqueJobList.add(idcp);
+        assertEquals(Arrays.asList(idcp, normal), queue);
+
+        uniqueJobList.cancelJob(idcp.getJobName());
+        assertEquals(Arrays.asList(normal), queue);
+
+        uniqueJobList.setJobStatus(idcp, Status.QUEUED);
+        assertEquals(Arrays.asList(idcp, normal), queue);
+
+        uniqueJobList.swapQueueNumber(idcp.getJobName(), normal.getJobName());
+        assertEquals(Arrays.asList(normal, idcp), queue);
+
+        uniqueJobList.remove(normal.getJobName());
+        assertEquals(Arrays.asList(idcp), queue);
+
+        uniqueJobList.setJobs(Arrays.asList(bumblebee));
+        assertEquals(Arrays.asList(bumblebee), queue);
+    }
+
+    @Test
+    public void setAgingPolicy_queuesAndSortedListReordered() {
+        long hour = 60 * 60 * 1000;
+        Job oldNormal = createJob("oldNormal", Priority.NORMAL, 0);
+        Job newUrgent = createJob("newUrgent", Priority.URGENT, 10 * hour);
+        uniqueJobList.setJobs(Arrays.asList(newUrgent, oldNormal));
+        ObservableList<Job> queue = uniqueJobList.getQueue(oldNormal.getMachine().getName());
+        ObservableList<Job> sortedJobs = uniqueJobList.asUnmodifiableObservableSortedList();
+        assertEquals(Arrays.asList(newUrgent, oldNormal), queue);
+
+        uniqueJobList.setAgingPolicy(AgingPolicy.everyHours(4));
+        assertEquals(Arrays.asList(oldNormal, newUrgent), queue);
+        assertEquals(Arrays.asList(oldNormal, newUrgent), sortedJobs);
+
+        // jobs added later are queued under the new policy
+        Job newHigh = createJob("newHigh", Priority.HIGH, 5 * hour);
+        uniqueJobList.add(newHigh);
+        assertEquals(Arrays.asList(oldNormal, newHigh, newUrgent), queue);
+    }
+
+    @Test
+    public void findIndexedJobs_followsList() {
+        JobCondition queued = JobCondition.status(Status.QUEUED);
+        Set<Job> queuedJobs = uniqueJobList.findIndexedJobs(queued);
+        uniqueJobList.add(idcp);
+        uniqueJobList.add(bumblebee);
+        assertEquals(new HashSet<>(Arrays.asList(idcp, bumblebee)), new HashSet<>(queuedJobs));
+
+        uniqueJobList.cancelJob(idcp.getJobName());
+        assertEquals(Collections.singleton(bumblebee), new HashSet<>(queuedJobs));
+        assertEquals(Collections.singleton(idcp),
+                new HashSet<>(uniqueJobList.findIndexedJobs(JobCondition.status(Status.CANCELLED))));
+
+        uniqueJobList.remove(bumblebee.getJobName());
+        assertTrue(queuedJobs.isEmpty());
+
+        uniqueJobList.setJobs(Arrays.asList(bumblebee));
+        assertEquals(Collections.singleton(bumblebee), new HashSet<>(queuedJobs));
+        assertEquals(Collections.singleton(bumblebee), new HashSet<>(uniqueJobList.findIndexedJobs(
+                JobCondition.machine(bumblebee.getMachine().getName().fullName))));
+
+        // conditions on fields that are not indexed
+        assertNull(uniqueJobList.findIndexedJobs(JobCondition.tag("resin")));
+    }
+
+    @Test
+    public void getJobs_statusChanges_countsAndSetsKeptInStep() {
+        Set<Job> ongoingJobs = uniqueJobList.getJobs(Status.ONGOING);
+        uniqueJobList.add(idcp);
+        uniqueJobList.add(bumblebee);
+        assertEquals(2, uniqueJobList.countJobs(Status.QUEUED));
+        assertEquals(0, uniqueJobList.countJobs(Status.ONGOING));
+
+        uniqueJobList.startJob(idcp.getJobName());
+        assertEquals(Collections.singleton(idcp), new HashSet<>(ongoingJobs));
+        assertEquals(1, uniqueJobList.countJobs(Status.QUEUED));
+
+        uniqueJobList.pauseJob(idcp.getJobName());
+        assertTrue(ongoingJobs.isEmpty());
+        assertEquals(1, uniqueJobList.countJobs(Status.PAUSED));
+
+        uniqueJobList.requestDeletion(bumblebee.getJobName());
+        uniqueJobList.finishJob(idcp);
+        assertEquals(Collections.singleton(bumblebee), new HashSet<>(uniqueJobList.getJobs(Status.DELETING)));
+        assertEquals(1, uniqueJobList.countJobs(Status.FINISHED));
+        assertEquals(0, uniqueJobList.countJobs(Status.QUEUED) + uniqueJobList.countJobs(Status.PAUSED));
+    }
+
+    @Test
+    public void addAll_duplicateName_nothingAdded() {
+        Job existing = createJob("existing", Priority.NORMAL, 0);
+        uniqueJobList.add(existing);
+        Job fresh = createJob("fresh", Priority.NORMAL, 0);
+
+        try {
+            uniqueJobList.addAll(Arrays.asList(fresh, createJob("existing", Priority.HIGH, 0)));
+            fail("Duplicate jobs should not be added");
+        } catch (DuplicateJobException dje) {
+            assertEquals(Collections.singletonList(existing), uniqueJobList.asUnmodifiableObservableList());
+        }
+
+        Job other = createJob("other", Priority.URGENT, 0);
+        uniqueJobList.addAll(Arrays.asList(fresh, other));
+        assertEquals(Arrays.asList(existing, fresh, other), uniqueJobList.asUnmodifiableObservableList());
+        assertEquals(Collections.singleton(other),
+                uniqueJobList.findIndexedJobs(JobCondition.priority(Priority.URGENT)));
+
+        uniqueJobList.removeAll(Arrays.asList(other, existing));
+        assertEquals(Collections.singletonList(fresh), uniqueJobList.asUnmodifiableObservableList());
+        assertTrue(uniqueJobList.findIndexedJobs(JobCondition.priority(Priority.URGENT)).isEmpty());
+    }
+
+    @Test
+    public void findIndexedJobs_timeRanges_followStartAndFinish() {
+        long hour = 60 * 60 * 1000;
+        Job early = createJob("early", Priority.NORMAL, 0);
+        Job late = createJob("late", Priority.NORMAL, 10 * hour);
+        uniqueJobList.setJobs(Arrays.asList(late, early));
+
+        Set<Job> addedFirstHours = uniqueJobList.findIndexedJobs(JobCondition.addedBetween(0, 5 * hour));
+        assertEquals(Arrays.asList(early), new ArrayList<>(addedFirstHours));
+        assertEquals(Arrays.asList(early, late), new ArrayList<>(uniqueJobList.findIndexedJobs(
+                JobCondition.addedBetween(Long.MIN_VALUE, Long.MAX_VALUE))));
+
+        // queued jobs have not started or finished
+        Set<Job> started = uniqueJobList.findIndexedJobs(JobCondition.startedBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        Set<Job> finished = uniqueJobList.findIndexedJobs(
+                JobCondition.finishedBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertTrue(started.isEmpty());
+
+        uniqueJobList.startJob(late.getJobName());
+        assertEquals(Collections.singleton(late), new HashSet<>(started));
+        uniqueJobList.finishJob(late);
+        assertEquals(Collections.singleton(late), new HashSet<>(finished));
+
+        // restarting a finished job takes it out of the finished jobs
+        uniqueJobList.restartJob(late.getJobName());
+        assertTrue(finished.isEmpty());
+        assertEquals(Collections.singleton(late), new HashSet<>(started));
+
+        uniqueJobList.remove(late.getJobName());
+        assertTrue(started.isEmpty());
+    }
+
+    @Test
+    public void getQueue_unknownMachine_returnsEmptyQueue() {
+        uniqueJobList.add(idcp);
+        assertTrue(uniqueJobList.getQueue(new MachineName("unknown")).isEmpty());
+    }
+
+    @Test
+    public void getJobsOf_jobsOfSeveralMachines_returnsJobsOfMachineInListOrder() {
+        Job first = new JobBuilder().withName("first").withMachine(new Machine("alpha")).build();
+        Job other = new JobBuilder().withName("other").withMachine(new Machine("beta")).build();
+        Job second = new JobBuilder().withName("second").withMachine(new Machine("alpha")).build();
+        uniqueJobList.setJobs(Arrays.asList(second, other, first));
+        uniqueJobList.swapQueueNumber(second.getJobName(), first.getJobName());
+
+        assertEquals(Arrays.asList(first, second), uniqueJobList.getJobsOf(new MachineName("alpha")));
+        assertEquals(Arrays.asList(other), uniqueJobList.getJobsOf(new MachineName("beta")));
+        assertTrue(uniqueJobList.getJobsOf(new MachineName("unknown")).isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueJobList.asUnmodifiableObservableList().remove(0);
+    }
+
+    /**
+     * Returns a queued job with the given name and priority, added at {@code addedTime}.
+     */
+    private static Job createJob(String name, Priority priority, long addedTime) {
+        Job job = new JobBuilder().withName(name).build();
+        return new Job(job.getJobName(), job.getMachine(), job.getOwner(), new TimeStamp(addedTime),
+                job.getStartTime(), priority, Status.QUEUED, job.getDuration(), job.getJobNote(), job.getTags());
+    }
+}
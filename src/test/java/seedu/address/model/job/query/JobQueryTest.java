@@ -0,0 +1,120 @@
+package seedu.address.model.job.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class JobQueryTest {
+
+    private final Job urgent = new JobBuilder().withName("urgent").withPriority(Priority.URGENT).build();
+    private final Job normal = new JobBuilder().withName("normal").withPriority(Priority.NORMAL)
+            .addTags(new Tag("Resin")).build();
+    private final Job high = new JobBuilder().withName("high").withPriority(Priority.HIGH).build();
+
+    @Test
+    public void test_andBindsTighterThanOr() {
+        // (status QUEUED and priority URGENT) or tag resin
+        JobQuery query = new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.QUEUED), JobCondition.priority(Priority.URGENT)),
+                Arrays.asList(JobCondition.tag("resin"))));
+
+        assertTrue(query.test(urgent));
+        assertTrue(query.test(normal));
+        assertFalse(query.test(high));
+    }
+
+    @Test
+    public void test_machineAndOwnerMatchedIgnoringCase() {
+        String machineName = urgent.getMachine().getName().fullName.toUpperCase();
+        String ownerName = urgent.getOwner().getName().fullName.toLowerCase();
+        assertTrue(JobCondition.machine(machineName).test(urgent));
+        assertTrue(JobCondition.owner(ownerName).test(urgent));
+        assertFalse(JobCondition.machine("other").test(urgent));
+    }
+
+    @Test
+    public void test_addedBetween_halfOpenRange() {
+        long addedTime = urgent.getAddedTime().getTimeInMillis();
+        assertTrue(JobCondition.addedBetween(addedTime, addedTime + 1).test(urgent));
+        assertFalse(JobCondition.addedBetween(addedTime + 1, Long.MAX_VALUE).test(urgent));
+        assertFalse(JobCondition.addedBetween(Long.MIN_VALUE, addedTime).test(urgent));
+    }
+
+    @Test
+    public void plan_matchesSameJobsAsTest() {
+        JobQuery query = new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.QUEUED), JobCondition.priority(Priority.URGENT)),
+                Arrays.asList(JobCondition.keyword("resin")),
+                Arrays.asList(JobCondition.priority(Priority.HIGH), JobCondition.status(Status.FINISHED))));
+        List<Job> jobs = Arrays.asList(urgent, normal, high);
+
+        Predicate<Job> plan = query.plan(condition -> indexOf(jobs, condition));
+        for (Job job : jobs) {
+            assertEquals(query.test(job), plan.test(job));
+        }
+    }
+
+    @Test
+    public void plan_onlySmallestIndexedSetRead() {
+        Set<Job> urgentJobs = new HashSet<>(Collections.singletonList(urgent));
+        JobQuery query = new JobQuery(Arrays.asList(
+                Arrays.asList(JobCondition.status(Status.QUEUED), JobCondition.priority(Priority.URGENT))));
+
+        // the status index claims every job is queued, but the smaller priority set drives the plan
+        Predicate<Job> plan = query.plan(condition -> condition.getField() == JobCondition.Field.PRIORITY
+                ? urgentJobs : new HashSet<>(Arrays.asList(urgent, normal, high)));
+        assertTrue(plan.test(urgent));
+        assertFalse(plan.test(high));
+
+        // jobs added to a set after planning are read as well
+        urgentJobs.add(high);
+        assertTrue(plan.test(high));
+    }
+
+    @Test
+    public void constructor_emptyAlternative_throwsIllegalArgumentException() {
+        try {
+            new JobQuery(Arrays.asList(Collections.emptyList()));
+            throw new AssertionError("The expected IllegalArgumentException was not thrown.");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void equals() {
+        JobQuery query = new JobQuery(Arrays.asList(Arrays.asList(JobCondition.machine("TYPrinter"))));
+        assertEquals(query, new JobQuery(Arrays.asList(Arrays.asList(JobCondition.machine("typrinter")))));
+        assertNotEquals(query, new JobQuery(Arrays.asList(Arrays.asList(JobCondition.owner("TYPrinter")))));
+        assertNotEquals(query, null);
+    }
+
+    /**
+     * Returns the jobs of {@code jobs} meeting {@code condition}, as an index would, or null for conditions
+     * on keywords, as if they were not indexed.
+     */
+    private static Set<Job> indexOf(List<Job> jobs, JobCondition condition) {
+        if (condition.getField() == JobCondition.Field.KEYWORD) {
+            return null;
+        }
+        Set<Job> found = new HashSet<>();
+        jobs.stream().filter(condition).forEach(found::add);
+        return found;
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.machine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MachineLoadIndexTest {
+
+    private final MachineLoadIndex loads = new MachineLoadIndex();
+
+    private final MachineName printer1 = new MachineName("printer1");
+    private final MachineName printer2 = new MachineName("printer2");
+    private final MachineName printer3 = new MachineName("printer3");
+
+    @Test
+    public void peek_emptyIndex_returnsNull() {
+        assertNull(loads.peek());
+    }
+
+    @Test
+    public void peek_returnsLeastLoaded() {
+        loads.add(printer1, 3);
+        loads.add(printer2, 1);
+        loads.add(printer3, 2);
+        assertEquals(printer2, loads.peek());
+    }
+
+    @Test
+    public void peek_sameLoad_returnsFirstAdded() {
+        loads.add(printer2, 1);
+        loads.add(printer1, 1);
+        assertEquals(printer2, loads.peek());
+    }
+
+    @Test
+    public void setLoad_movesMachine() {
+        loads.add(printer1, 1);
+        loads.add(printer2, 2);
+        loads.add(printer3, 3);
+
+        loads.setLoad(printer1, 4);
+        assertEquals(printer2, loads.peek());
+
+        loads.setLoad(printer3, 0);
+        assertEquals(printer3, loads.peek());
+    }
+
+    @Test
+    public void setLoad_machineNotInIndex_ignored() {
+        loads.add(printer1, 1);
+        loads.setLoad(printer2, 0);
+        assertFalse(loads.contains(printer2));
+        assertEquals(printer1, loads.peek());
+    }
+
+    @Test
+    public void remove_leastLoaded_nextLeastLoadedOnTop() {
+        loads.add(printer1, 1);
+        loads.add(printer2, 2);
+        loads.add(printer3, 3);
+
+        loads.remove(printer1);
+        assertFalse(loads.contains(printer1));
+        assertEquals(printer2, loads.peek());
+        assertEquals(2, loads.size());
+
+        loads.remove(printer2);
+        loads.remove(printer3);
+        assertNull(loads.peek());
+    }
+
+    @Test
+    public void peek_randomChanges_matchesLinearScan() {
+        Random random = new Random(13);
+        List<MachineName> names = new ArrayList<>();
+        double[] expectedLoads = new double[50];
+        for (int i = 0; i < expectedLoads.length; i++) {
+            names.add(new MachineName("printer" + i));
+            expectedLoads[i] = random.nextInt(100);
+            loads.add(names.get(i), expectedLoads[i]);
+        }
+
+        for (int change = 0; change < 1000; change++) {
+            int i = random.nextInt(expectedLoads.length);
+            if (expectedLoads[i] < 0) {
+                expectedLoads[i] = random.nextInt(100);
+                loads.add(names.get(i), expectedLoads[i]);
+            } else if (random.nextInt(10) == 0) {
+                expectedLoads[i] = -1;
+                loads.remove(names.get(i));
+            } else {
+                expectedLoads[i] = random.nextInt(100) + random.nextInt(1000) / 1000.0;
+                loads.setLoad(names.get(i), expectedLoads[i]);
+            }
+
+            double leastLoad = Double.MAX_VALUE;
+            for (double load : expectedLoads) {
+                if (load >= 0) {
+                    leastLoad = Math.min(leastLoad, load);
+                }
+            }
+            MachineName top = loads.peek();
+            assertTrue(top != null && expectedLoads[names.indexOf(top)] == leastLoad);
+        }
+    }
+}
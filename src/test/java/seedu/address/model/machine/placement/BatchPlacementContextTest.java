@@ -0,0 +1,56 @@
+package seedu.address.model.machine.placement;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobQueue;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.machine.Machine;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class BatchPlacementContextTest {
+
+    private final Machine first = new MachineBuilder().withMachineName("first").build();
+    private final Machine second = new MachineBuilder().withMachineName("second").build();
+    private final BatchPlacementContext context = new BatchPlacementContext(
+            new StubPlacementContext().withMachine(first, 1, 1).withMachine(second, 2, 0), JobQueue.QUEUE_ORDER);
+
+    @Test
+    public void getRemainingWork_jobsPlanned_plannedWorkAdded() {
+        context.plan(first, job("queued", Status.QUEUED, Priority.NORMAL, 3));
+        context.plan(first, job("finished", Status.FINISHED, Priority.NORMAL, 5));
+
+        assertEquals(4, context.getRemainingWork(first), 0);
+        assertEquals(2, context.getRemainingWork(second), 0);
+    }
+
+    @Test
+    public void getWorkAhead_jobsPlanned_onlyJobsAheadAdded() {
+        context.plan(second, job("urgent", Status.QUEUED, Priority.URGENT, 3));
+        context.plan(second, job("ongoing", Status.ONGOING, Priority.NORMAL, 1));
+        context.plan(second, job("normal", Status.QUEUED, Priority.NORMAL, 2));
+
+        assertEquals(4, context.getWorkAhead(second, job("high", Status.QUEUED, Priority.HIGH, 1)), 0);
+    }
+
+    @Test
+    public void getMostFreeMachine_jobsPlanned_followsPlannedWork() {
+        assertEquals(first, context.getMostFreeMachine());
+
+        context.plan(first, job("planned", Status.QUEUED, Priority.NORMAL, 2));
+        assertEquals(second, context.getMostFreeMachine());
+    }
+
+    /**
+     * Returns a job with the given name, status, priority and duration.
+     */
+    private static Job job(String name, Status status, Priority priority, float duration) {
+        Job job = new JobBuilder().withName(name).withPriority(priority).withDuration(duration).build();
+        job.setStatus(status);
+        return job;
+    }
+}
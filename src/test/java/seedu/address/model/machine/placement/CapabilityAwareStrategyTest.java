@@ -0,0 +1,41 @@
+package seedu.address.model.machine.placement;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class CapabilityAwareStrategyTest {
+
+    private final CapabilityAwareStrategy strategy = new CapabilityAwareStrategy();
+
+    private final Machine resinBusy = new MachineBuilder().withMachineName("resinBusy")
+            .withTags(SampleDataUtil.getTagSet("resin", "large")).build();
+    private final Machine resinFree = new MachineBuilder().withMachineName("resinFree")
+            .withTags(SampleDataUtil.getTagSet("resin")).build();
+    private final Machine plain = new MachineBuilder().withMachineName("plain").build();
+    private final StubPlacementContext context = new StubPlacementContext().withMachine(plain, 0, 0)
+            .withMachine(resinBusy, 6, 6).withMachine(resinFree, 3, 3);
+
+    @Test
+    public void choose_capableMachines_choosesMostFreeCapableMachine() {
+        Job resinJob = new JobBuilder().addTags(new Tag("resin")).build();
+        assertEquals(resinFree, strategy.choose(resinJob, context));
+
+        Job largeResinJob = new JobBuilder().addTags(new Tag("resin")).addTags(new Tag("large"))
+                .build();
+        assertEquals(resinBusy, strategy.choose(largeResinJob, context));
+    }
+
+    @Test
+    public void choose_noCapableMachine_choosesMostFreeMachine() {
+        Job nylonJob = new JobBuilder().addTags(new Tag("nylon")).build();
+        assertEquals(plain, strategy.choose(nylonJob, context));
+    }
+}
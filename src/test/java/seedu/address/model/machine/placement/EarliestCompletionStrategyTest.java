@@ -0,0 +1,28 @@
+package seedu.address.model.machine.placement;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class EarliestCompletionStrategyTest {
+
+    @Test
+    public void choose_busiestMachineHasLeastWorkAhead_choosesBusiestMachine() {
+        Machine busy = new MachineBuilder().withMachineName("busy").build();
+        Machine idle = new MachineBuilder().withMachineName("idle").build();
+        Machine disabled = new MachineBuilder().withMachineName("disabled")
+                .withMachineStatus(MachineStatus.DISABLED).build();
+        StubPlacementContext context = new StubPlacementContext().withMachine(disabled, 0, 0)
+                .withMachine(idle, 2, 2).withMachine(busy, 10, 1);
+        Job job = new JobBuilder().build();
+
+        assertEquals(busy, new EarliestCompletionStrategy().choose(job, context));
+        assertEquals(idle, new LeastRemainingWorkStrategy().choose(job, context));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.machine.placement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.job.AgingPolicy;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.JobName;
+import seedu.address.model.job.Priority;
+import seedu.address.model.job.Status;
+import seedu.address.model.job.TimeStamp;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class PlacementSimulatorTest {
+
+    private static final long HOUR = 60 * 60 * 1000;
+
+    private final Machine printer1 = new MachineBuilder().withMachineName("printer1").build();
+    private final Machine printer2 = new MachineBuilder().withMachineName("printer2").build();
+    private final Machine disabled = new MachineBuilder().withMachineName("disabled")
+            .withMachineStatus(MachineStatus.DISABLED).build();
+    private final PlacementSimulator simulator = new PlacementSimulator(Arrays.asList(printer1, printer2, disabled));
+
+    @Test
+    public void run_twoMachines_jobsSpreadOverBoth() {
+        // a 4 hour job and a 2 hour job at the start, then a 1 hour job an hour later
+        List<Job> trace = Arrays.asList(createJob("first", 0, 4, Priority.NORMAL),
+                createJob("second", 0, 2, Priority.NORMAL), createJob("third", HOUR, 1, Priority.NORMAL));
+
+        SimulationReport report = simulator.run(trace, new LeastRemainingWorkStrategy());
+
+        // the third job waits an hour for the second job to finish on printer2
+        assertEquals(3, report.getJobsPlaced());
+        assertEquals(0, report.getJobsUnplaced());
+        assertEquals(4, report.getMakespan(), 1e-9);
+        assertEquals(1.0 / 3, report.getMeanQueueWait(), 1e-9);
+        assertEquals(Arrays.asList(new MachineName("printer1"), new MachineName("printer2")),
+                new ArrayList<>(report.getUtilization().keySet()));
+        assertEquals(1, report.getUtilization().get(new MachineName("printer1")), 1e-9);
+        assertEquals(0.75, report.getUtilization().get(new MachineName("printer2")), 1e-9);
+    }
+
+    @Test
+    public void run_waitingJobs_printedInQueueOrder() {
+        PlacementSimulator oneMachine = new PlacementSimulator(Collections.singletonList(printer1));
+        List<Job> trace = Arrays.asList(createJob("running", 0, 2, Priority.NORMAL),
+                createJob("normal", HOUR, 1, Priority.NORMAL), createJob("urgent", HOUR, 1, Priority.URGENT));
+
+        SimulationReport report = oneMachine.run(trace, new LeastRemainingWorkStrategy());
+
+        // urgent starts at 2 hours and waits 1, normal starts at 3 hours and waits 2
+        assertEquals(4, report.getMakespan(), 1e-9);
+        assertEquals(1.0, report.getMeanQueueWait(), 1e-9);
+    }
+
+    @Test
+    public void run_withAging_normalJobNotStarvedByUrgentStream() {
+        // an hour long urgent job arrives every hour, half an hour out of step with the first one
+        List<Job> trace = new ArrayList<>();
+        trace.add(createJob("firstUrgent", 0, 1, Priority.URGENT));
+        trace.add(createJob("normal", 0, 1, Priority.NORMAL));
+        for (int i = 1; i < 10; i++) {
+            trace.add(createJob("urgent" + i, i * HOUR - HOUR / 2, 1, Priority.URGENT));
+        }
+
+        PlacementSimulator strict = new PlacementSimulator(Collections.singletonList(printer1));
+        PlacementSimulator aging = new PlacementSimulator(Collections.singletonList(printer1),
+                AgingPolicy.everyHours(2));
+
+        // without aging the normal job waits for every urgent job, and with it, it is ranked as urgent after 4 hours
+        assertEquals(10, strict.run(trace, new LeastRemainingWorkStrategy()).getQueueWait().getMax(), 1e-9);
+        assertEquals(5, aging.run(trace, new LeastRemainingWorkStrategy()).getQueueWait().getMax(), 1e-9);
+    }
+
+    @Test
+    public void run_noEnabledMachine_jobsUnplaced() {
+        PlacementSimulator noMachine = new PlacementSimulator(Collections.singletonList(disabled));
+        SimulationReport report = noMachine.run(Collections.singletonList(createJob("job", 0, 1, Priority.HIGH)),
+                new RoundRobinStrategy());
+
+        assertEquals(0, report.getJobsPlaced());
+        assertEquals(1, report.getJobsUnplaced());
+        assertEquals(0, report.getMakespan(), 0);
+    }
+
+    @Test
+    public void compare_syntheticTrace_reportForEachStrategy() {
+        List<Job> trace = PlacementSimulator.createTrace(200, 0.5, SampleDataUtil.getTagSet("resin"), 14);
+        List<PlacementStrategy> strategies = Arrays.asList(new LeastRemainingWorkStrategy(),
+                new EarliestCompletionStrategy(), new CapabilityAwareStrategy(), new RoundRobinStrategy());
+
+        List<SimulationReport> reports = simulator.compare(trace, strategies);
+
+        assertEquals(strategies.size(), reports.size());
+        for (int i = 0; i < reports.size(); i++) {
+            SimulationReport report = reports.get(i);
+            assertEquals(strategies.get(i).getName(), report.getStrategyName());
+            assertEquals(200, report.getJobsPlaced());
+            assertTrue(report.getMeanUtilization() > 0 && report.getMeanUtilization() <= 1);
+        }
+        // the jobs of the trace are left as they were
+        assertTrue(trace.stream().allMatch(job -> job.getStatus() == Status.QUEUED));
+    }
+
+    @Test
+    public void createTrace_sameSeed_sameTrace() {
+        List<Job> trace = PlacementSimulator.createTrace(20, 1, SampleDataUtil.getTagSet("resin"), 3);
+        List<Job> sameTrace = PlacementSimulator.createTrace(20, 1, SampleDataUtil.getTagSet("resin"), 3);
+
+        for (int i = 0; i < trace.size(); i++) {
+            assertEquals(trace.get(i).getAddedTime().getTimeInMillis(),
+                    sameTrace.get(i).getAddedTime().getTimeInMillis());
+            assertEquals(trace.get(i).getDuration(), sameTrace.get(i).getDuration(), 0);
+            assertEquals(trace.get(i).getPriority(), sameTrace.get(i).getPriority());
+        }
+    }
+
+    /**
+     * Returns a queued job added {@code addedTime} milliseconds after the epoch, lasting {@code duration} hours.
+     */
+    private static Job createJob(String name, long addedTime, float duration, Priority priority) {
+        Job job = new JobBuilder().withName(name).build();
+        return new Job(new JobName(name), job.getMachine(), job.getOwner(), new TimeStamp(addedTime),
+                job.getStartTime(), priority, Status.QUEUED, duration, job.getJobNote(), job.getTags());
+    }
+}
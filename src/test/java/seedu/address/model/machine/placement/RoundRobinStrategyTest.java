@@ -0,0 +1,38 @@
+package seedu.address.model.machine.placement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineStatus;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+
+public class RoundRobinStrategyTest {
+
+    private final RoundRobinStrategy strategy = new RoundRobinStrategy();
+    private final Job job = new JobBuilder().build();
+
+    @Test
+    public void choose_enabledMachinesInTurn_skipsDisabled() {
+        Machine printer1 = new MachineBuilder().withMachineName("printer1").build();
+        Machine printer2 = new MachineBuilder().withMachineName("printer2")
+                .withMachineStatus(MachineStatus.DISABLED).build();
+        Machine printer3 = new MachineBuilder().withMachineName("printer3").build();
+        StubPlacementContext context = new StubPlacementContext().withMachine(printer1, 5, 5)
+                .withMachine(printer2, 0, 0).withMachine(printer3, 9, 9);
+
+        assertEquals(printer1, strategy.choose(job, context));
+        assertEquals(printer3, strategy.choose(job, context));
+        assertEquals(printer1, strategy.choose(job, context));
+    }
+
+    @Test
+    public void choose_noEnabledMachine_returnsNull() {
+        Machine disabled = new MachineBuilder().withMachineStatus(MachineStatus.DISABLED).build();
+        assertNull(strategy.choose(job, new StubPlacementContext().withMachine(disabled, 0, 0)));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.machine.placement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.model.machine.MachineName;
+import seedu.address.model.machine.MachineStatus;
+
+/**
+ * A placement context with fixed machines, remaining work and work ahead.
+ */
+class StubPlacementContext implements PlacementContext {
+
+    private final List<Machine> machines = new ArrayList<>();
+    private final Map<MachineName, Double> remainingWork = new HashMap<>();
+    private final Map<MachineName, Double> workAhead = new HashMap<>();
+
+    /**
+     * Adds {@code machine} with the given remaining work and work ahead of any job.
+     */
+    StubPlacementContext withMachine(Machine machine, double remainingWork, double workAhead) {
+        machines.add(machine);
+        this.remainingWork.put(machine.getName(), remainingWork);
+        this.workAhead.put(machine.getName(), workAhead);
+        return this;
+    }
+
+    @Override
+    public List<Machine> getMachines() {
+        return machines;
+    }
+
+    @Override
+    public double getRemainingWork(Machine machine) {
+        return remainingWork.get(machine.getName());
+    }
+
+    @Override
+    public double getWorkAhead(Machine machine, Job job) {
+        return workAhead.get(machine.getName());
+    }
+
+    @Override
+    public Machine getMostFreeMachine() {
+        Machine mostFree = null;
+        for (Machine machine : machines) {
+            if (machine.getStatus() == MachineStatus.ENABLED
+                    && (mostFree == null || getRemainingWork(machine) < getRemainingWork(mostFree))) {
+                mostFree = machine;
+            }
+        }
+        return mostFree;
+    }
+}
@@ -2,20 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.model.AdminListChangedEvent;
+import seedu.address.commons.events.model.JobListChangedEvent;
+import seedu.address.commons.events.storage.SaveRequestedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Status;
+import seedu.address.testutil.builders.JobBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -41,12 +50,18 @@ public class StorageManagerTest {
         myTestUserPrefs.setMakerManagerAdminsFilePath(testMakerManagerAdminsFilePath);
         myTestUserPrefs.setMakerManagerJobsFilePath(testMakerManagerJobsFilePath);
         myTestUserPrefs.setMakerManagerMachinesFilePath(testMakerMangerMachinesFilePath);
+        myTestUserPrefs.setMakerManagerJournalFilePath(getTempFilePath("makerManagerJournal.xml"));
         XmlAddressBookStorage addressBookStorage = new XmlAddressBookStorage(myTestUserPrefs);
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
 
     }
 
+    @After
+    public void tearDown() {
+        storageManager.shutdown();
+    }
+
     private Path getTempFilePath(String fileName) {
         return testFolder.getRoot().toPath().resolve(fileName);
     }
@@ -106,6 +121,71 @@ public class StorageManagerTest {
         assertNotNull(storageManager.readAddressBook(testMakerMangerMachinesFilePath));
     }
 
+    @Test
+    public void handleJobListChangedEvent_burstOfEvents_savedOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addJob(new JobBuilder().build());
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        storageManager.flush();
+
+        assertEquals(2, storageManager.getSaver().getRequestCount());
+        assertEquals(1, storageManager.getSaver().getWriteCount());
+        ReadOnlyAddressBook saved = new XmlAddressBookStorage(myTestUserPrefs).readAddressBook(myTestUserPrefs).get();
+        assertEquals(1, saved.getJobList().size());
+    }
+
+    @Test
+    public void handleJobListChangedEvent_saveHandedToSaverInBackground() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addJob(new JobBuilder().build());
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof SaveRequestedEvent);
+
+        storageManager.flush();
+        assertEquals(1, EventsCenter.getInstance().getHandlerLatency(storageManager.getSaver()).getCount());
+        assertEquals(1, storageManager.getSaver().getWriteCount());
+    }
+
+    @Test
+    public void handleJobListChangedEvent_jobChangedBeforeWrite_savedAsAtEvent() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Job job = new JobBuilder().build();
+        addressBook.addJob(job);
+        Status statusAtEvent = job.getStatus();
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        addressBook.finishJob(job);
+        storageManager.flush();
+
+        ReadOnlyAddressBook saved = new XmlAddressBookStorage(myTestUserPrefs).readAddressBook(myTestUserPrefs).get();
+        assertEquals(statusAtEvent, saved.getJobList().get(0).getStatus());
+    }
+
+    @Test
+    public void handleJobListChangedEvent_changesSavedOneAtATime_savedAsInModel() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Job first = new JobBuilder().withName("first").build();
+        Job second = new JobBuilder().withName("second").build();
+        Job third = new JobBuilder().withName("third").build();
+        addressBook.addJob(first);
+        addressBook.addJob(second);
+        addressBook.addJob(third);
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        storageManager.flush();
+
+        addressBook.finishJob(second);
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        addressBook.swapJobs(first.getJobName(), third.getJobName());
+        addressBook.removeJob(second.getJobName());
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        addressBook.addJob(second);
+        storageManager.handleJobListChangedEvent(new JobListChangedEvent(addressBook));
+        storageManager.flush();
+
+        ReadOnlyAddressBook saved = new XmlAddressBookStorage(myTestUserPrefs).readAddressBook(myTestUserPrefs).get();
+        assertEquals(addressBook.getJobList(), saved.getJobList());
+    }
+
     @Test
     public void testHandLeAdminListChangedEvent() {
         storageManager.handleAdminListChangedEvent(new AdminListChangedEvent(new AddressBook()));
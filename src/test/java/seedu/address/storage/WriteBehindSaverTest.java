@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.storage.WriteBehindSaver.PreparedSave;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DEBOUNCE_MILLIS = 60_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Path jobsFile = Paths.get("jobs.xml");
+    private final Path machinesFile = Paths.get("machines.xml");
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<Path> writtenFiles = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    private WriteBehindSaver saver;
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.shutdown();
+        }
+    }
+
+    @Test
+    public void constructor_negativeDebounce_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new WriteBehindSaver(e -> { }, -1);
+    }
+
+    @Test
+    public void save_burstForOneFile_writesLatestDataOnce() {
+        saver = new WriteBehindSaver(failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.save(recording("first", jobsFile), jobsFile);
+        saver.save(recording("second", jobsFile), jobsFile);
+        saver.save(recording("latest", jobsFile), jobsFile);
+        assertEquals(0, saver.getWriteCount());
+
+        saver.flush();
+        assertEquals(Collections.singletonList(jobsFile), writtenFiles);
+        assertEquals(Collections.singletonList("latest"), written);
+        assertEquals(3, saver.getRequestCount());
+        assertEquals(1, saver.getWriteCount());
+        assertEquals(1, saver.getSaveLatency().getCount());
+    }
+
+    @Test
+    public void save_differentFiles_eachFileWritten() {
+        saver = new WriteBehindSaver(failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.save(recording("jobs", jobsFile), jobsFile);
+        saver.save(recording("machines", machinesFile), machinesFile);
+        saver.save(recording("jobs", jobsFile), jobsFile);
+
+        saver.flush();
+        assertEquals(2, writtenFiles.size());
+        assertEquals(2, saver.getWriteCount());
+    }
+
+    @Test
+    public void save_windowCloses_writtenWithoutFlush() throws Exception {
+        saver = new WriteBehindSaver(failures::add, 0);
+        saver.save(recording("jobs", jobsFile), jobsFile);
+
+        for (int i = 0; i < 500 && saver.getWriteCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, saver.getWriteCount());
+    }
+
+    @Test
+    public void save_writeFails_failureReported() {
+        IOException failure = new IOException("disk full");
+        saver = new WriteBehindSaver(failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.save(() -> {
+            throw failure;
+        }, jobsFile);
+
+        saver.flush();
+        assertEquals(Collections.singletonList(failure), failures);
+        assertEquals(0, saver.getWriteCount());
+    }
+
+    @Test
+    public void shutdown_pendingSaves_written() {
+        saver = new WriteBehindSaver(failures::add, LONG_DEBOUNCE_MILLIS);
+        saver.save(recording("jobs", jobsFile), jobsFile);
+
+        saver.shutdown();
+        assertEquals(Collections.singletonList(jobsFile), writtenFiles);
+
+        // saves after shutdown are written straight away
+        saver.save(recording("machines", machinesFile), machinesFile);
+        assertEquals(2, writtenFiles.size());
+    }
+
+    /**
+     * Returns a save that records {@code data} and {@code file} when it is written.
+     */
+    private PreparedSave recording(String data, Path file) {
+        return () -> {
+            written.add(data);
+            writtenFiles.add(file);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage.job;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.job.Job;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class XmlAdaptedJobTest {
+
+    @Test
+    public void hashCode_sameJobAdaptedTwice_sameHashCode() {
+        Job job = new JobBuilder().withName("IDCP").build();
+        XmlAdaptedJob adapted = new XmlAdaptedJob(job);
+        XmlAdaptedJob adaptedAgain = new XmlAdaptedJob(job);
+
+        assertEquals(adapted, adaptedAgain);
+        assertEquals(adapted.hashCode(), adaptedAgain.hashCode());
+
+        Set<XmlAdaptedJob> adaptedJobs = new HashSet<>();
+        adaptedJobs.add(adapted);
+        adaptedJobs.add(adaptedAgain);
+        assertEquals(1, adaptedJobs.size());
+    }
+
+    @Test
+    public void equals_differentJobs_returnsFalse() {
+        XmlAdaptedJob idcp = new XmlAdaptedJob(new JobBuilder().withName("IDCP").build());
+        XmlAdaptedJob iphone = new XmlAdaptedJob(new JobBuilder().withName("iPhone").build());
+        assertNotEquals(idcp, iphone);
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.storage.journal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.job.Priority;
+import seedu.address.storage.XmlFileStorage;
+import seedu.address.storage.XmlIdentityMap;
+import seedu.address.storage.job.XmlAdaptedJob;
+import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+import seedu.address.testutil.builders.JobBuilder;
+
+public class MakerManagerJournalTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "MakerManagerJournalTest");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path journalFile;
+    private Path jobsFile;
+    private Path machinesFile;
+
+    private final Job idcp = new JobBuilder().withName("IDCP").build();
+    private final Job bumblebee = new JobBuilder().withName("bumblebee").build();
+    private final Job iPhone = new JobBuilder().withName("iPhone").build();
+
+    @Before
+    public void setUp() {
+        journalFile = testFolder.getRoot().toPath().resolve("journal.xml");
+        jobsFile = testFolder.getRoot().toPath().resolve("jobs.xml");
+        machinesFile = testFolder.getRoot().toPath().resolve("machines.xml");
+    }
+
+    @Test
+    public void saveJobChanges_changesOnly_replayedByNewJournal() throws Exception {
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.saveJobChanges(addressBookWith(idcp, bumblebee, iPhone));
+
+        Job changedIdcp = new JobBuilder().withName("IDCP").withPriority(Priority.NORMAL).build();
+        journal.saveJobChanges(addressBookWith(iPhone, changedIdcp));
+
+        assertTrue(Files.notExists(jobsFile));
+        List<XmlAdaptedJob> replayed = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD)
+                .readJobs().getAdaptedJobs();
+        assertEquals(Arrays.asList("iPhone", "IDCP"), names(replayed));
+        assertEquals(new XmlAdaptedJob(changedIdcp), replayed.get(1));
+    }
+
+    @Test
+    public void saveJobChanges_nothingChanged_nothingAppended() throws Exception {
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.saveJobChanges(addressBookWith(idcp));
+        long journalSize = Files.size(journalFile);
+
+        journal.saveJobChanges(addressBookWith(idcp));
+        assertEquals(journalSize, Files.size(journalFile));
+    }
+
+    @Test
+    public void saveStagedJobChanges_changedJobsOnly_replayedByNewJournal() throws Exception {
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.stageJobChanges(EntityChanges.all(adapt(idcp, bumblebee)));
+        journal.saveStagedJobChanges();
+
+        Job changedIdcp = new JobBuilder().withName("IDCP").withPriority(Priority.NORMAL).build();
+        Map<String, XmlAdaptedJob> changed = new LinkedHashMap<>();
+        changed.put("IDCP", new XmlAdaptedJob(changedIdcp));
+        changed.put("iPhone", new XmlAdaptedJob(iPhone));
+        journal.stageJobChanges(EntityChanges.of(changed, null));
+        journal.stageJobChanges(EntityChanges.of(Collections.singletonMap("bumblebee", null),
+                Arrays.asList("iPhone", "IDCP")));
+        journal.saveStagedJobChanges();
+
+        List<XmlAdaptedJob> replayed = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD)
+                .readJobs().getAdaptedJobs();
+        assertEquals(Arrays.asList("iPhone", "IDCP"), names(replayed));
+        assertEquals(new XmlAdaptedJob(changedIdcp), replayed.get(1));
+    }
+
+    @Test
+    public void saveJobChanges_thresholdReached_compacted() throws Exception {
+        MakerManagerJournal journal = createJournal(2);
+        journal.saveJobChanges(addressBookWith(idcp, bumblebee));
+
+        assertEquals(0, Files.size(journalFile));
+        assertEquals(Arrays.asList("IDCP", "bumblebee"),
+                names(createJournal(2).readJobs().getAdaptedJobs()));
+    }
+
+    @Test
+    public void readJobs_journalOlderThanSnapshot_journalSkipped() throws Exception {
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.saveJobChanges(addressBookWith(idcp, bumblebee));
+        journal.saveJobs(addressBookWith(iPhone));
+
+        assertEquals(Arrays.asList("iPhone"),
+                names(createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD).readJobs().getAdaptedJobs()));
+    }
+
+    @Test
+    public void readJobs_incompleteLastBatch_earlierBatchesReplayed() throws Exception {
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        journal.saveJobChanges(addressBookWith(idcp));
+        Files.write(journalFile, "<batch sequence=\"2\"><entry kind=\"JOB\" operation=\"REM".getBytes(),
+                StandardOpenOption.APPEND);
+
+        assertEquals(Arrays.asList("IDCP"),
+                names(createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD).readJobs().getAdaptedJobs()));
+    }
+
+    @Test
+    public void readJobs_legacyFiles_rewrittenWithReferences() throws Exception {
+        Files.copy(TEST_DATA_FOLDER.resolve("legacyJobs.xml"), jobsFile);
+        Files.copy(TEST_DATA_FOLDER.resolve("legacyMachines.xml"), machinesFile);
+        XmlSerializableMakerManagerJobs legacyJobs = XmlFileStorage.loadMakerManagerJobDataFromSaveFile(jobsFile);
+        assertTrue(legacyJobs.isLegacyFormat());
+
+        MakerManagerJournal journal = createJournal(MakerManagerJournal.DEFAULT_COMPACTION_THRESHOLD);
+        assertEquals(legacyJobs.getAdaptedJobs(), journal.readJobs().getAdaptedJobs());
+
+        XmlSerializableMakerManagerJobs migratedJobs = XmlFileStorage.loadMakerManagerJobDataFromSaveFile(jobsFile);
+        XmlSerializableMakerManagerMachines migratedMachines =
+                XmlFileStorage.loadMakerManagerMachineDataFromSaveFile(machinesFile);
+        assertFalse(migratedJobs.isLegacyFormat());
+        assertFalse(migratedMachines.isLegacyFormat());
+        assertEquals(legacyJobs, migratedJobs);
+
+        XmlIdentityMap identityMap = new XmlIdentityMap();
+        List<Job> jobs = migratedJobs.toModelType(identityMap).getJobList();
+        assertEquals(jobs, migratedMachines.getAdaptedMachines().get(0).toModelType(identityMap).getJobs());
+    }
+
+    private MakerManagerJournal createJournal(int compactionThreshold) {
+        return new MakerManagerJournal(journalFile, jobsFile, machinesFile, compactionThreshold);
+    }
+
+    private static List<XmlAdaptedJob> adapt(Job... jobs) {
+        return Arrays.stream(jobs).map(XmlAdaptedJob::new).collect(Collectors.toList());
+    }
+
+    private static AddressBook addressBookWith(Job... jobs) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobs(FXCollections.observableArrayList(jobs));
+        return addressBook;
+    }
+
+    private static List<String> names(List<XmlAdaptedJob> jobs) {
+        return jobs.stream().map(XmlAdaptedJob::getName).collect(Collectors.toList());
+    }
+}
@@ -1,14 +1,26 @@
 package seedu.address.storage.serializable;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
 import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
+import seedu.address.testutil.builders.PersonBuilder;
 
 public class XmlSerializableMakerManagerJobsTest {
 
@@ -22,6 +34,9 @@ public class XmlSerializableMakerManagerJobsTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     /*
     @Test
     public void toModelType_validJobsFile_success() throws Exception {
@@ -33,6 +48,46 @@ public class XmlSerializableMakerManagerJobsTest {
     }
     */
 
+    @Test
+    public void toModelType_jobsOfSameOwnerAndMachine_ownerAndMachineShared() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addJob(new JobBuilder().withName("IDCP").withOwner(new PersonBuilder().build())
+                .withMachine(new MachineBuilder().build()).build());
+        addressBook.addJob(new JobBuilder().withName("bumblebee").withOwner(new PersonBuilder().build())
+                .withMachine(new MachineBuilder().build()).build());
+        Path file = testFolder.newFile("jobs.xml").toPath();
+        XmlUtil.saveDataToFile(file, new XmlSerializableMakerManagerJobs(addressBook));
+
+        String xml = FileUtil.readFromFile(file);
+        assertEquals(1, xml.split("<owner ", -1).length - 1);
+
+        XmlSerializableMakerManagerJobs dataFromFile =
+                XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerJobs.class);
+        assertEquals(new XmlSerializableMakerManagerJobs(addressBook), dataFromFile);
+
+        List<Job> jobs = dataFromFile.toModelType().getJobList();
+        assertSame(jobs.get(0).getOwner(), jobs.get(1).getOwner());
+        assertSame(jobs.get(0).getMachine(), jobs.get(1).getMachine());
+    }
+
+    @Test
+    public void toModelType_finishedJob_finishTimeKept() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        Job finished = new JobBuilder().withName("finished").build();
+        Job queued = new JobBuilder().withName("queued").build();
+        addressBook.addJob(finished);
+        addressBook.addJob(queued);
+        addressBook.startJob(finished.getJobName());
+        addressBook.finishJob(finished);
+        Path file = testFolder.newFile("jobs.xml").toPath();
+        XmlUtil.saveDataToFile(file, new XmlSerializableMakerManagerJobs(addressBook));
+
+        List<Job> jobs = XmlUtil.getDataFromFile(file, XmlSerializableMakerManagerJobs.class).toModelType()
+                .getJobList();
+        assertEquals(finished.getFinishTime(), jobs.get(0).getFinishTime());
+        assertNull(jobs.get(1).getFinishTime());
+    }
+
     @Test
     public void toModelType_invalidJobsFile_throwsNullPointerException() throws Exception {
         XmlSerializableMakerManagerJobs dataFromFile =
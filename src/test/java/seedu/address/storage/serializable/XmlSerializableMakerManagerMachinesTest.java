@@ -1,9 +1,12 @@
 package seedu.address.storage.serializable;
 
+import static org.junit.Assert.assertSame;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,7 +15,13 @@ import org.junit.rules.ExpectedException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.job.Job;
+import seedu.address.model.machine.Machine;
+import seedu.address.storage.XmlIdentityMap;
+import seedu.address.storage.job.XmlSerializableMakerManagerJobs;
 import seedu.address.storage.machine.XmlSerializableMakerManagerMachines;
+import seedu.address.testutil.builders.JobBuilder;
+import seedu.address.testutil.builders.MachineBuilder;
 import seedu.address.testutil.testdata.ValidMachines;
 
 public class XmlSerializableMakerManagerMachinesTest {
@@ -35,6 +44,21 @@ public class XmlSerializableMakerManagerMachinesTest {
         assertEquals(makerManagerMachinesFile, validMakerManagerMachines);
     }
 
+    @Test
+    public void toModelType_jobsLoadedFirst_adaptedMachineHoldsLoadedJobs() throws Exception {
+        Job job = new JobBuilder().withName("IDCP").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addJob(job);
+        addressBook.addMachine(new MachineBuilder().withJobs(new ArrayList<>(Arrays.asList(job))).build());
+
+        XmlIdentityMap identityMap = new XmlIdentityMap();
+        Job loadedJob = new XmlSerializableMakerManagerJobs(addressBook).toModelType(identityMap).getJobList().get(0);
+        Machine loadedMachine = new XmlSerializableMakerManagerMachines(addressBook).getAdaptedMachines().get(0)
+                .toModelType(identityMap);
+        assertEquals(job.getJobName(), loadedJob.getJobName());
+        assertSame(loadedJob, loadedMachine.getJobs().get(0));
+    }
+
     @Test
     public void toModelType_invalidMachinesFile_throwsNullPointerException () throws Exception {
         XmlSerializableMakerManagerMachines dataFromFile =